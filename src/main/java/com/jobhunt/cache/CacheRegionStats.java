@@ -0,0 +1,14 @@
+package com.jobhunt.cache;
+
+import lombok.Value;
+
+@Value
+public class CacheRegionStats {
+  String region;
+  long hitCount;
+  long missCount;
+  long putCount;
+  double hitRate;
+  // -1 when the provider does not report it
+  long elementCount;
+}
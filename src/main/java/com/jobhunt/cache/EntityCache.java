@@ -0,0 +1,65 @@
+package com.jobhunt.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Access to the Hibernate second-level cache for what Hibernate cannot see by itself.
+ * <p>
+ * Counter columns are moved with native UPDATEs that declare an unrelated query space, so Hibernate does not clear
+ * the whole entity region on every apply or review; the caller evicts the one changed row here instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCache {
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Drops the cached state of one entity now and again once the current transaction commits, so a copy loaded by a
+   * concurrent reader before the commit is not kept.
+   */
+  public void evict(Class<?> entityClass, Object id) {
+    entityManagerFactory.getCache().evict(entityClass, id);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          entityManagerFactory.getCache().evict(entityClass, id);
+        }
+      });
+    }
+  }
+
+  public List<CacheRegionStats> regionStats() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    List<CacheRegionStats> regions = new ArrayList<>();
+    for (String region : statistics.getSecondLevelCacheRegionNames()) {
+      CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+      if (regionStatistics == null) {
+        continue;
+      }
+      long hits = regionStatistics.getHitCount();
+      long misses = regionStatistics.getMissCount();
+      double hitRate = hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+      regions.add(new CacheRegionStats(region, hits, misses, regionStatistics.getPutCount(), hitRate,
+          regionStatistics.getElementCountInMemory()));
+    }
+    regions.sort(Comparator.comparing(CacheRegionStats::getRegion));
+    return regions;
+  }
+
+  public void clear() {
+    entityManagerFactory.getCache().evictAll();
+  }
+}
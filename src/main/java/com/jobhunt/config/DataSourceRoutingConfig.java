@@ -0,0 +1,85 @@
+package com.jobhunt.config;
+
+import com.jobhunt.datasource.ReadWriteRoutingDataSource;
+import com.jobhunt.datasource.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Splits the connections between the primary and a streaming replica when {@code app.datasource.replica.enabled} is
+ * set: read-only transactions read from the replica, everything else goes to the primary. Without it Spring Boot's
+ * single pool is used as before.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+  @Bean
+  @Primary
+  @ConfigurationProperties("spring.datasource")
+  public DataSourceProperties primaryDataSourceProperties() {
+    return new DataSourceProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties("app.datasource.replica")
+  public DataSourceProperties replicaDataSourceProperties() {
+    return new DataSourceProperties();
+  }
+
+  /**
+   * Also the pool migrations run on, so Flyway never goes through the router and never reaches the replica.
+   */
+  @Bean
+  @FlywayDataSource
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryPool(DataSourceProperties primaryDataSourceProperties) {
+    HikariDataSource pool = primaryDataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    pool.setPoolName("primary");
+    return pool;
+  }
+
+  @Bean
+  @ConfigurationProperties("app.datasource.replica.hikari")
+  public HikariDataSource replicaPool(
+      @Qualifier("replicaDataSourceProperties") DataSourceProperties replicaDataSourceProperties) {
+    HikariDataSource pool = replicaDataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    pool.setPoolName("replica");
+    pool.setReadOnly(true);
+    return pool;
+  }
+
+  @Bean
+  public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+      @Qualifier("primaryPool") DataSource primaryPool,
+      @Qualifier("replicaPool") DataSource replicaPool,
+      @Value("${app.datasource.replica.read-your-writes:PT5S}") Duration readYourWrites) {
+    return new ReadWriteRoutingDataSource(primaryPool, replicaPool, new ReadYourWritesTracker(readYourWrites));
+  }
+
+  /**
+   * The routing decision needs the transaction's read-only flag, which is only set after the transaction manager has
+   * begun; the proxy holds off fetching the physical connection until the first statement.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+  }
+}
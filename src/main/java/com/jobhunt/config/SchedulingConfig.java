@@ -0,0 +1,45 @@
+package com.jobhunt.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class SchedulingConfig implements AsyncConfigurer {
+
+  @Value("${app.async.pool-size:4}")
+  private int poolSize;
+
+  @Value("${app.async.queue-capacity:1000}")
+  private int queueCapacity;
+
+  /**
+   * Runs the {@code @Async} listeners. Once the queue is full the publishing thread runs the task itself, which slows
+   * a burst of events down instead of queueing it without bound or dropping it.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor asyncExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix("async-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    return executor;
+  }
+
+  @Override
+  public Executor getAsyncExecutor() {
+    return asyncExecutor();
+  }
+}
@@ -0,0 +1,52 @@
+package com.jobhunt.controller;
+
+import com.jobhunt.cache.EntityCache;
+import com.jobhunt.datasource.ReadWriteRoutingDataSource;
+import com.jobhunt.payload.Response;
+import com.jobhunt.service.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+
+  private final JobService jobService;
+  private final EntityCache entityCache;
+  private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+
+  @GetMapping("/search-cache")
+  public ResponseEntity<?> getSearchCacheStats() {
+    return ResponseEntity.ok(Response.ofSucceeded(jobService.getSearchCacheStats()));
+  }
+
+  @DeleteMapping("/search-cache")
+  public ResponseEntity<?> clearSearchCache() {
+    jobService.clearSearchCache();
+    return ResponseEntity.ok(Response.ofSucceeded());
+  }
+
+  @GetMapping("/entity-cache")
+  public ResponseEntity<?> getEntityCacheStats() {
+    return ResponseEntity.ok(Response.ofSucceeded(entityCache.regionStats()));
+  }
+
+  @DeleteMapping("/entity-cache")
+  public ResponseEntity<?> clearEntityCache() {
+    entityCache.clear();
+    return ResponseEntity.ok(Response.ofSucceeded());
+  }
+
+  @GetMapping("/datasource")
+  public ResponseEntity<?> getDataSourceStats() {
+    ReadWriteRoutingDataSource routing = routingDataSource.getIfAvailable();
+    return ResponseEntity.ok(Response.ofSucceeded(routing != null ? routing.stats() : List.of()));
+  }
+}
@@ -3,17 +3,22 @@ package com.jobhunt.controller;
 import com.jobhunt.model.entity.Application;
 import com.jobhunt.model.request.ApplicationRequest;
 import com.jobhunt.model.request.ApplicationUpdateRequest;
+import com.jobhunt.model.request.BulkStatusUpdateRequest;
+import com.jobhunt.payload.IdempotencyKey;
 import com.jobhunt.payload.Response;
 import com.jobhunt.service.ApplicationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/v1/applications")
 @RequiredArgsConstructor
@@ -25,8 +30,9 @@ public class ApplicationController {
   @PreAuthorize("isAuthenticated()")
   public ResponseEntity<?> apply(
       @Valid @RequestPart("application") ApplicationRequest request,
-      @RequestPart("cv") MultipartFile cv) {
-    return ResponseEntity.ok(Response.ofSucceeded(applicationService.apply(request, cv)));
+      @RequestPart("cv") MultipartFile cv,
+      @RequestHeader(name = IdempotencyKey.HEADER, required = false) String idempotencyKey) {
+    return ResponseEntity.ok(Response.ofSucceeded(applicationService.apply(request, cv, idempotencyKey)));
   }
 
   @GetMapping("/{id}")
@@ -47,6 +53,16 @@ public class ApplicationController {
     return ResponseEntity.ok(Response.ofSucceeded(applicationService.getJobApplications(jobId, pageable)));
   }
 
+  @GetMapping("/job/{jobId}/archived")
+  @PreAuthorize("hasRole('EMPLOYER')")
+  public ResponseEntity<?> getArchivedJobApplications(
+      @PathVariable Long jobId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      Pageable pageable) {
+    return ResponseEntity.ok(Response.ofSucceeded(
+        applicationService.getArchivedJobApplications(jobId, from, pageable)));
+  }
+
   @PatchMapping("/{id}/status")
   @PreAuthorize("hasRole('EMPLOYER')")
   public ResponseEntity<?> updateStatus(
@@ -55,6 +71,14 @@ public class ApplicationController {
     return ResponseEntity.ok(Response.ofSucceeded(applicationService.updateStatus(id, status)));
   }
 
+  @PatchMapping("/job/{jobId}/status")
+  @PreAuthorize("hasRole('EMPLOYER')")
+  public ResponseEntity<?> updateStatuses(
+      @PathVariable Long jobId,
+      @Valid @RequestBody BulkStatusUpdateRequest request) {
+    return ResponseEntity.ok(Response.ofSucceeded(applicationService.updateStatuses(jobId, request)));
+  }
+
   @DeleteMapping("/{id}")
   @PreAuthorize("isAuthenticated()")
   public ResponseEntity<?> withdrawApplication(@PathVariable Long id) {
@@ -48,6 +48,16 @@ public class CompanyController {
     return ResponseEntity.ok(Response.ofSucceeded(companyService.getAllCompanies(page, size)));
   }
 
+  @GetMapping("/nearby")
+  public ResponseEntity<?> getNearbyCompanies(
+      @RequestParam Double latitude,
+      @RequestParam Double longitude,
+      @RequestParam(defaultValue = "10") double radiusKm,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(Response.ofSucceeded(
+        companyService.getNearbyCompanies(latitude, longitude, radiusKm, size)));
+  }
+
   @GetMapping("/me")
   @PreAuthorize("hasRole('EMPLOYER')")
   public ResponseEntity<?> getCurrentUserCompany() {
@@ -1,20 +1,28 @@
 package com.jobhunt.controller;
 
 import com.jobhunt.model.request.JobRequest;
+import com.jobhunt.model.request.JobSearchRequest;
+import com.jobhunt.payload.IdempotencyKey;
 import com.jobhunt.payload.Response;
+import com.jobhunt.service.JobImportService;
 import com.jobhunt.service.JobService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
+
 @RestController
 @RequestMapping("/api/v1/jobs")
 @RequiredArgsConstructor
 public class JobController {
 
   private final JobService jobService;
+  private final JobImportService jobImportService;
 
   @PostMapping
   @PreAuthorize("hasRole('EMPLOYER')")
@@ -22,6 +30,15 @@ public class JobController {
     return ResponseEntity.ok(Response.ofSucceeded(jobService.createJob(request)));
   }
 
+  /**
+   * Bulk creates jobs from an NDJSON body, one {@code JobRequest} per line; the response lists the rows that failed.
+   */
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  @PreAuthorize("hasRole('EMPLOYER')")
+  public ResponseEntity<?> importJobs(InputStream body) {
+    return ResponseEntity.ok(Response.ofSucceeded(jobImportService.importJobs(body)));
+  }
+
   @PutMapping("/{id}")
   @PreAuthorize("hasRole('EMPLOYER')")
   public ResponseEntity<?> updateJob(@PathVariable Long id, @Valid @RequestBody JobRequest request) {
@@ -46,14 +63,68 @@ public class JobController {
   }
 
   @GetMapping
-  public ResponseEntity<?> searchJobs(
+  public ResponseEntity<?> searchJobs(@Valid JobSearchRequest request) {
+    if (request.isPaginated() || request.isNearby() || request.isRelevanceSorted()) {
+      return ResponseEntity.ok(Response.ofSucceeded(jobService.searchJobsPage(request)));
+    }
+    return ResponseEntity.ok(Response.ofSucceeded(jobService.searchJobs(request)));
+  }
+
+  @GetMapping("/browse")
+  public ResponseEntity<?> getAllJobs(
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size,
       @RequestParam(required = false) String keyword,
       @RequestParam(required = false) String location,
-      @RequestParam(required = false) String employmentType,
+      @RequestParam(required = false) String jobType,
       @RequestParam(required = false) String experienceLevel,
-      @RequestParam(required = false) Boolean isRemote) {
+      @RequestParam(required = false) String salaryRange,
+      @RequestParam(defaultValue = "true") boolean includeTotal) {
+    if (!includeTotal) {
+      return ResponseEntity.ok(Response.ofSucceeded(
+          jobService.getAllJobsSlice(page, size, keyword, location, jobType, experienceLevel, salaryRange)));
+    }
     return ResponseEntity.ok(Response.ofSucceeded(
-        jobService.searchJobs(keyword, location, employmentType, experienceLevel, isRemote)));
+        jobService.getAllJobs(page, size, keyword, location, jobType, experienceLevel, salaryRange)));
+  }
+
+  @GetMapping("/facets")
+  public ResponseEntity<?> getJobFacets(
+      @RequestParam(required = false) String employmentType,
+      @RequestParam(required = false) String experienceLevel,
+      @RequestParam(required = false) Boolean isRemote,
+      @RequestParam(required = false) String location,
+      @RequestParam(required = false) String salaryRange,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "10") int topLocations) {
+    return ResponseEntity.ok(Response.ofSucceeded(jobService.getJobFacets(employmentType, experienceLevel, isRemote,
+        location, salaryRange, page, size, topLocations)));
+  }
+
+  @GetMapping("/suggest")
+  public ResponseEntity<?> suggest(
+      @RequestParam("q") String prefix,
+      @RequestParam(defaultValue = "5") int limit) {
+    return ResponseEntity.ok(Response.ofSucceeded(jobService.suggest(prefix, limit)));
+  }
+
+  @GetMapping("/recommended")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<?> getRecommendedJobs(@RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(Response.ofSucceeded(jobService.getRecommendedJobs(size)));
+  }
+
+  @GetMapping("/salary-histogram")
+  public ResponseEntity<?> getSalaryHistogram(
+      @RequestParam(required = false) String employmentType,
+      @RequestParam(required = false) String experienceLevel,
+      @RequestParam(required = false) Boolean isRemote,
+      @RequestParam(required = false) String location,
+      @RequestParam(required = false) String salaryRange,
+      @RequestParam(defaultValue = "1000") BigDecimal bucketWidth) {
+    return ResponseEntity.ok(Response.ofSucceeded(jobService.getSalaryHistogram(employmentType, experienceLevel,
+        isRemote, location, salaryRange, bucketWidth)));
   }
 
   @GetMapping("/applied")
@@ -66,8 +137,10 @@ public class JobController {
 
   @PostMapping("/{id}/save")
   @PreAuthorize("hasRole('CANDIDATE')")
-  public ResponseEntity<?> saveJob(@PathVariable Long id) {
-    return ResponseEntity.ok(Response.ofSucceeded(jobService.saveJob(id)));
+  public ResponseEntity<?> saveJob(
+      @PathVariable Long id,
+      @RequestHeader(name = IdempotencyKey.HEADER, required = false) String idempotencyKey) {
+    return ResponseEntity.ok(Response.ofSucceeded(jobService.saveJob(id, idempotencyKey)));
   }
 
   @DeleteMapping("/{id}/save")
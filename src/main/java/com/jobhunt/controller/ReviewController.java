@@ -0,0 +1,53 @@
+package com.jobhunt.controller;
+
+import com.jobhunt.model.request.ReviewRequest;
+import com.jobhunt.payload.Response;
+import com.jobhunt.service.ReviewService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/reviews")
+@RequiredArgsConstructor
+public class ReviewController {
+
+  private final ReviewService reviewService;
+
+  @PostMapping
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<?> createReview(@Valid @RequestBody ReviewRequest request) {
+    return ResponseEntity.ok(Response.ofSucceeded(reviewService.createReview(request)));
+  }
+
+  @PutMapping("/{id}")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<?> updateReview(@PathVariable Long id, @Valid @RequestBody ReviewRequest request) {
+    return ResponseEntity.ok(Response.ofSucceeded(reviewService.updateReview(id, request)));
+  }
+
+  @DeleteMapping("/{id}")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<?> deleteReview(@PathVariable Long id) {
+    reviewService.deleteReview(id);
+    return ResponseEntity.ok(Response.ofSucceeded());
+  }
+
+  @GetMapping("/companies/{companyId}")
+  public ResponseEntity<?> getCompanyReviews(
+      @PathVariable Long companyId,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.ok(Response.ofSucceeded(reviewService.getCompanyReviews(companyId, page, size)));
+  }
+
+  @GetMapping("/users/{userId}")
+  public ResponseEntity<?> getUserReviews(
+      @PathVariable Long userId,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.ok(Response.ofSucceeded(reviewService.getUserReviews(userId, page, size)));
+  }
+}
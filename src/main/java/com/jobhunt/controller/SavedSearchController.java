@@ -0,0 +1,35 @@
+package com.jobhunt.controller;
+
+import com.jobhunt.model.request.SavedSearchRequest;
+import com.jobhunt.payload.Response;
+import com.jobhunt.service.SavedSearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/saved-searches")
+@RequiredArgsConstructor
+@PreAuthorize("isAuthenticated()")
+public class SavedSearchController {
+
+  private final SavedSearchService savedSearchService;
+
+  @PostMapping
+  public ResponseEntity<?> createSavedSearch(@Valid @RequestBody SavedSearchRequest request) {
+    return ResponseEntity.ok(Response.ofSucceeded(savedSearchService.createSavedSearch(request)));
+  }
+
+  @GetMapping
+  public ResponseEntity<?> getMySavedSearches() {
+    return ResponseEntity.ok(Response.ofSucceeded(savedSearchService.getMySavedSearches()));
+  }
+
+  @DeleteMapping("/{id}")
+  public ResponseEntity<?> deleteSavedSearch(@PathVariable Long id) {
+    savedSearchService.deleteSavedSearch(id);
+    return ResponseEntity.ok(Response.ofSucceeded());
+  }
+}
@@ -2,6 +2,7 @@ package com.jobhunt.controller;
 
 import com.jobhunt.model.entity.ServiceJob;
 import com.jobhunt.model.request.ServiceJobRequest;
+import com.jobhunt.model.request.ServiceJobSearchRequest;
 import com.jobhunt.payload.Response;
 import com.jobhunt.service.ServiceJobService;
 import jakarta.validation.Valid;
@@ -11,8 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.math.BigDecimal;
-
 @RestController
 @RequestMapping("/api/service-jobs")
 @RequiredArgsConstructor
@@ -35,45 +34,69 @@ public class ServiceJobController {
   }
 
   @GetMapping
-  public ResponseEntity<?> getAllServiceJobs() {
+  public ResponseEntity<?> getAllServiceJobs(@Valid ServiceJobSearchRequest request) {
+    if (request.isPaginated()) {
+      return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.searchServiceJobsPage(request)));
+    }
     return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.getAllServiceJobs()));
   }
 
   @GetMapping("/user/{userId}")
-  public ResponseEntity<?> getServiceJobsByUser(@PathVariable Long userId) {
+  public ResponseEntity<?> getServiceJobsByUser(@PathVariable Long userId, @Valid ServiceJobSearchRequest request) {
+    if (request.isPaginated()) {
+      return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.getServiceJobsByUserPage(userId, request)));
+    }
     return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.getServiceJobsByUser(userId)));
   }
 
   @GetMapping("/assigned/{userId}")
-  public ResponseEntity<?> getServiceJobsAssignedToUser(@PathVariable Long userId) {
+  public ResponseEntity<?> getServiceJobsAssignedToUser(@PathVariable Long userId,
+      @Valid ServiceJobSearchRequest request) {
+    if (request.isPaginated()) {
+      return ResponseEntity.ok(Response.ofSucceeded(
+          serviceJobService.getServiceJobsAssignedToUserPage(userId, request)));
+    }
     return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.getServiceJobsAssignedToUser(userId)));
   }
 
   @GetMapping("/type/{serviceType}")
   public ResponseEntity<?> getServiceJobsByType(
-      @PathVariable ServiceJob.ServiceType serviceType) {
+      @PathVariable ServiceJob.ServiceType serviceType,
+      @Valid ServiceJobSearchRequest request) {
+    if (request.isPaginated()) {
+      request.setServiceType(serviceType);
+      return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.searchServiceJobsPage(request)));
+    }
     return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.getServiceJobsByType(serviceType)));
   }
 
   @GetMapping("/status/{status}")
   public ResponseEntity<?> getServiceJobsByStatus(
-      @PathVariable ServiceJob.JobStatus status) {
+      @PathVariable ServiceJob.JobStatus status,
+      @Valid ServiceJobSearchRequest request) {
+    if (request.isPaginated()) {
+      request.setStatus(status);
+      return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.searchServiceJobsPage(request)));
+    }
     return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.getServiceJobsByStatus(status)));
   }
 
   @GetMapping("/urgent")
-  public ResponseEntity<?> getUrgentServiceJobs() {
+  public ResponseEntity<?> getUrgentServiceJobs(@Valid ServiceJobSearchRequest request) {
+    if (request.isPaginated()) {
+      request.setUrgent(true);
+      return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.searchServiceJobsPage(request)));
+    }
     return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.getUrgentServiceJobs()));
   }
 
   @GetMapping("/search")
-  public ResponseEntity<?> searchServiceJobs(
-      @RequestParam(required = false) String location,
-      @RequestParam(required = false) BigDecimal minBudget,
-      @RequestParam(required = false) BigDecimal maxBudget,
-      @RequestParam(required = false) ServiceJob.ServiceType serviceType) {
-    return ResponseEntity.ok(Response.ofSucceeded(
-        serviceJobService.searchServiceJobs(location, minBudget, maxBudget, serviceType)));
+  public ResponseEntity<?> searchServiceJobs(@Valid ServiceJobSearchRequest request) {
+    if (request.isPaginated()) {
+      return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.searchServiceJobsPage(request)));
+    }
+    return ResponseEntity.ok(Response.ofSucceeded(serviceJobService.searchServiceJobs(request.getLocation(),
+        request.getMinBudget(), request.getMaxBudget(), request.getServiceType())));
   }
 
   @PutMapping("/{id}")
@@ -46,7 +46,12 @@ public class UserController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int pageSize,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDir) {
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
+        if (fuzzy) {
+            return ResponseEntity.ok(Response.ofSucceeded(
+                    userService.fuzzySearchUsers(name, email, predicateType, page, pageSize)));
+        }
         return ResponseEntity.ok(Response.ofSucceeded(
                 userService.searchUsers(name, email, predicateType, page, pageSize, sortBy, sortDir)));
     }
@@ -0,0 +1,17 @@
+package com.jobhunt.datasource;
+
+import lombok.Value;
+
+@Value
+public class DataSourcePoolStats {
+  DataSourceRole role;
+  // Connections handed out through the router since startup
+  long routedConnections;
+  // Read-only transactions kept on this pool because their user wrote recently; only counted on the primary
+  long readYourWritesRoutings;
+  // Live pool state; -1 when the pool does not expose it
+  int activeConnections;
+  int idleConnections;
+  int totalConnections;
+  int threadsAwaitingConnection;
+}
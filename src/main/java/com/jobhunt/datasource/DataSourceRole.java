@@ -0,0 +1,6 @@
+package com.jobhunt.datasource;
+
+public enum DataSourceRole {
+  PRIMARY,
+  REPLICA
+}
@@ -0,0 +1,93 @@
+package com.jobhunt.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. A user who committed a write
+ * within the read-your-writes window keeps reading from the primary, so they never miss their own change while the
+ * replica lags.
+ * <p>
+ * The decision is made when the transaction first asks for a connection, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy}: the read-only flag of a transaction is only known after it has begun.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  private final Map<DataSourceRole, DataSource> pools = new EnumMap<>(DataSourceRole.class);
+  private final Map<DataSourceRole, LongAdder> routed = new EnumMap<>(DataSourceRole.class);
+  private final LongAdder readYourWritesRoutings = new LongAdder();
+  private final ReadYourWritesTracker readYourWrites;
+
+  public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWrites) {
+    this.readYourWrites = readYourWrites;
+    pools.put(DataSourceRole.PRIMARY, primary);
+    pools.put(DataSourceRole.REPLICA, replica);
+    for (DataSourceRole role : DataSourceRole.values()) {
+      routed.put(role, new LongAdder());
+    }
+    setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    DataSourceRole role = route();
+    routed.get(role).increment();
+    return role;
+  }
+
+  private DataSourceRole route() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      return DataSourceRole.PRIMARY;
+    }
+    String user = currentUser();
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (user != null && readYourWrites.wroteRecently(user)) {
+        readYourWritesRoutings.increment();
+        return DataSourceRole.PRIMARY;
+      }
+      return DataSourceRole.REPLICA;
+    }
+    if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          readYourWrites.recordWrite(user);
+        }
+      });
+    }
+    return DataSourceRole.PRIMARY;
+  }
+
+  public List<DataSourcePoolStats> stats() {
+    return pools.entrySet().stream()
+        .map(entry -> {
+          HikariPoolMXBean pool = entry.getValue() instanceof HikariDataSource hikari
+              ? hikari.getHikariPoolMXBean()
+              : null;
+          long ryw = entry.getKey() == DataSourceRole.PRIMARY ? readYourWritesRoutings.sum() : 0;
+          return pool == null
+              ? new DataSourcePoolStats(entry.getKey(), routed.get(entry.getKey()).sum(), ryw, -1, -1, -1, -1)
+              : new DataSourcePoolStats(entry.getKey(), routed.get(entry.getKey()).sum(), ryw,
+                  pool.getActiveConnections(), pool.getIdleConnections(), pool.getTotalConnections(),
+                  pool.getThreadsAwaitingConnection());
+        })
+        .toList();
+  }
+
+  private static String currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+  }
+}
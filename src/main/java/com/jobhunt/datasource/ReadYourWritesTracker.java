@@ -0,0 +1,32 @@
+package com.jobhunt.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Remembers which users committed a write within the last {@code window}, so their reads can be kept on the
+ * primary until the replica has caught up. A zero window turns this off.
+ */
+public class ReadYourWritesTracker {
+
+  private final Cache<String, Boolean> recentWriters;
+
+  public ReadYourWritesTracker(Duration window) {
+    this.recentWriters = window.isZero() ? null : Caffeine.newBuilder()
+        .expireAfterWrite(window)
+        .maximumSize(100_000)
+        .build();
+  }
+
+  public void recordWrite(String user) {
+    if (recentWriters != null) {
+      recentWriters.put(user, Boolean.TRUE);
+    }
+  }
+
+  public boolean wroteRecently(String user) {
+    return recentWriters != null && recentWriters.getIfPresent(user) != null;
+  }
+}
@@ -0,0 +1,17 @@
+package com.jobhunt.event;
+
+import com.jobhunt.model.entity.Application;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published once per request that moves applications of a job to a new status, listing the applications actually
+ * moved, and consumed after the transaction commits.
+ */
+@Value
+public class ApplicationStatusChangedEvent {
+  Long jobId;
+  Application.ApplicationStatus status;
+  List<Long> applicationIds;
+}
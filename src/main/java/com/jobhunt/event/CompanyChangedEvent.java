@@ -0,0 +1,12 @@
+package com.jobhunt.event;
+
+import com.jobhunt.model.entity.Company;
+import lombok.Value;
+
+/**
+ * Published whenever a company is created, updated or soft-deleted, and consumed after the transaction commits.
+ */
+@Value
+public class CompanyChangedEvent {
+  Company company;
+}
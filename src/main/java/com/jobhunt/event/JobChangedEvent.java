@@ -0,0 +1,15 @@
+package com.jobhunt.event;
+
+import com.jobhunt.model.entity.Job;
+import lombok.Value;
+
+/**
+ * Published whenever a job is created, updated or soft-deleted. In-memory search structures listen to it after
+ * the transaction commits; an inactive job means it must be dropped from them. {@code before} is the state prior to
+ * the change and null for a new job.
+ */
+@Value
+public class JobChangedEvent {
+  Job job;
+  JobSnapshot before;
+}
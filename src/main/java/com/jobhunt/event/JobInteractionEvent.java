@@ -0,0 +1,12 @@
+package com.jobhunt.event;
+
+import lombok.Value;
+
+/**
+ * Published when a user applies to, saves or unsaves a job, and consumed after the transaction commits.
+ */
+@Value
+public class JobInteractionEvent {
+  Long userId;
+  Long jobId;
+}
@@ -0,0 +1,37 @@
+package com.jobhunt.event;
+
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.search.facet.JobFacetDocument;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Detached copy of the searchable state of a job, taken before a change so listeners can tell which results the
+ * job used to appear in.
+ */
+@Value
+public class JobSnapshot {
+  Long id;
+  Long companyId;
+  boolean active;
+  String title;
+  String requirements;
+  String description;
+  Job.EmploymentType employmentType;
+  String experienceLevel;
+  boolean remote;
+  String location;
+  BigDecimal salaryMin;
+  BigDecimal salaryMax;
+
+  public static JobSnapshot of(Job job) {
+    return new JobSnapshot(job.getId(), job.getCompany() != null ? job.getCompany().getId() : null, job.isActive(),
+        job.getTitle(), job.getRequirements(), job.getDescription(), job.getEmploymentType(),
+        job.getExperienceLevel(), job.isRemote(), job.getLocation(), job.getSalaryMin(), job.getSalaryMax());
+  }
+
+  public JobFacetDocument toFacetDocument() {
+    return new JobFacetDocument(id, employmentType, experienceLevel, remote, location, salaryMin, salaryMax);
+  }
+}
@@ -0,0 +1,15 @@
+package com.jobhunt.event;
+
+import com.jobhunt.model.entity.Job;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published once per committed chunk of a bulk job import, in place of a {@link JobChangedEvent} per new job, so
+ * listeners can apply the whole chunk in one pass.
+ */
+@Value
+public class JobsImportedEvent {
+  List<Job> jobs;
+}
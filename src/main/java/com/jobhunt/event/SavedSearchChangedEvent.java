@@ -0,0 +1,12 @@
+package com.jobhunt.event;
+
+import com.jobhunt.model.entity.SavedSearch;
+import lombok.Value;
+
+/**
+ * Published whenever a saved search is created or deleted, and consumed after the transaction commits.
+ */
+@Value
+public class SavedSearchChangedEvent {
+  SavedSearch savedSearch;
+}
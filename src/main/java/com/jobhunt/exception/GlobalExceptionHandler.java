@@ -53,6 +53,20 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST, request.getDescription(false));
     }
 
+    /**
+     * Handle ResourceNotFoundException (404 Not Found). Declared here because the RuntimeException handler below
+     * would otherwise take precedence over its {@code @ResponseStatus}.
+     *
+     * @param e the exception
+     * @param request the web request
+     * @return a standardized error response
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<Response<Void>> handleResourceNotFoundException(ResourceNotFoundException e,
+                                                                          WebRequest request) {
+        return buildErrorResponse(e.getMessage(), HttpStatus.NOT_FOUND, request.getDescription(false));
+    }
+
     /**
      * Handle RuntimeException (400 Bad Request).
      *
@@ -0,0 +1,90 @@
+package com.jobhunt.maintenance;
+
+import com.jobhunt.model.entity.Application;
+import com.jobhunt.model.entity.ServiceJobApplication;
+import com.jobhunt.repository.ApplicationRepository;
+import com.jobhunt.repository.ServiceJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodically moves rejected and withdrawn applications, of jobs and of service jobs, that have been closed for
+ * longer than {@code app.applications.archive.after} into the yearly partitioned archive tables. Rows are moved in
+ * batches of their own transaction, so live tables are never locked for long. Archiving does not change the
+ * application counters, which count archived applications too.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationArchiver {
+
+  private static final Logger log = LoggerFactory.getLogger(ApplicationArchiver.class);
+  private static final List<Application.ApplicationStatus> CLOSED = List.of(
+      Application.ApplicationStatus.REJECTED, Application.ApplicationStatus.WITHDRAWN);
+  private static final List<ServiceJobApplication.ApplicationStatus> CLOSED_SERVICE = List.of(
+      ServiceJobApplication.ApplicationStatus.REJECTED, ServiceJobApplication.ApplicationStatus.WITHDRAWN);
+
+  private final ApplicationRepository applicationRepository;
+  private final ServiceJobRepository serviceJobRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${app.applications.archive.after:P180D}")
+  private Duration archiveAfter;
+
+  @Value("${app.applications.archive.batch-size:1000}")
+  private int batchSize;
+
+  @Scheduled(cron = "${app.applications.archive.cron:0 0 4 * * *}")
+  public void archive() {
+    LocalDateTime closedBefore = LocalDateTime.now().minus(archiveAfter);
+    int applications = archiveApplications(closedBefore);
+    int serviceJobApplications = archiveServiceJobApplications(closedBefore);
+    log.info("Archived {} job applications and {} service job applications closed before {}", applications,
+        serviceJobApplications, closedBefore);
+  }
+
+  private int archiveApplications(LocalDateTime closedBefore) {
+    List<String> statuses = CLOSED.stream().map(Enum::name).toList();
+    int total = 0;
+    List<Long> jobIds;
+    do {
+      jobIds = transactionTemplate.execute(status -> {
+        LocalDateTime oldest = applicationRepository.findOldestClosedCreatedAt(CLOSED, closedBefore);
+        if (oldest == null) {
+          return List.of();
+        }
+        applicationRepository.ensureArchivePartitions(oldest, closedBefore);
+        return applicationRepository.archiveClosed(statuses, closedBefore, batchSize);
+      });
+      total += jobIds.size();
+    } while (jobIds.size() == batchSize);
+    return total;
+  }
+
+  private int archiveServiceJobApplications(LocalDateTime closedBefore) {
+    List<String> statuses = CLOSED_SERVICE.stream().map(Enum::name).toList();
+    int total = 0;
+    List<Long> serviceJobIds;
+    do {
+      serviceJobIds = transactionTemplate.execute(status -> {
+        LocalDateTime oldest = serviceJobRepository.findOldestClosedApplicationCreatedAt(CLOSED_SERVICE,
+            closedBefore);
+        if (oldest == null) {
+          return List.of();
+        }
+        serviceJobRepository.ensureApplicationArchivePartitions(oldest, closedBefore);
+        return serviceJobRepository.archiveClosedApplications(statuses, closedBefore, batchSize);
+      });
+      total += serviceJobIds.size();
+    } while (serviceJobIds.size() == batchSize);
+    return total;
+  }
+}
@@ -0,0 +1,37 @@
+package com.jobhunt.maintenance;
+
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.repository.ServiceJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Periodically recounts the applications of every job and service job and fixes the denormalised
+ * {@code application_count} columns that drifted, e.g. after rows were deleted outside the application flows. A
+ * counter covers every application the job received, so archived applications are counted along with live ones.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationCountReconciler {
+
+  private static final Logger log = LoggerFactory.getLogger(ApplicationCountReconciler.class);
+
+  private final JobRepository jobRepository;
+  private final ServiceJobRepository serviceJobRepository;
+
+  @Scheduled(cron = "${app.applications.reconcile-cron:0 30 3 * * *}")
+  @Transactional
+  public void reconcile() {
+    int jobs = jobRepository.reconcileApplicationCounts();
+    int serviceJobs = serviceJobRepository.reconcileApplicationCounts();
+    if (jobs > 0 || serviceJobs > 0) {
+      log.warn("Corrected application counts of {} jobs and {} service jobs", jobs, serviceJobs);
+    } else {
+      log.debug("Application counts are consistent");
+    }
+  }
+}
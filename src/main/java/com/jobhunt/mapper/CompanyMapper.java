@@ -1,9 +1,9 @@
 package com.jobhunt.mapper;
 
 import com.jobhunt.model.entity.Company;
-import com.jobhunt.model.entity.Review;
 import com.jobhunt.model.request.CompanyRequest;
 import com.jobhunt.model.response.CompanyResponse;
+import com.jobhunt.readmodel.CompanyView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -17,12 +17,22 @@ public interface CompanyMapper {
   @Mapping(target = "user", ignore = true)
   @Mapping(target = "jobs", ignore = true)
   @Mapping(target = "reviews", ignore = true)
+  @Mapping(target = "ratingSum", ignore = true)
+  @Mapping(target = "ratingCount", ignore = true)
   Company toEntity(CompanyRequest request);
 
-  @Mapping(target = "averageRating", expression = "java(calculateAverageRating(company))")
-  @Mapping(target = "totalReviews", expression = "java(company.getReviews() != null ? (long)company.getReviews().size() : 0L)")
+  @Mapping(target = "averageRating",
+      expression = "java(ReviewMapper.averageRating(company.getRatingSum(), company.getRatingCount()))")
+  @Mapping(target = "totalReviews", source = "ratingCount")
+  @Mapping(target = "distanceKm", ignore = true)
   CompanyResponse toResponse(Company company);
 
+  @Mapping(target = "averageRating",
+      expression = "java(ReviewMapper.averageRating(view.getRatingSum(), view.getRatingCount()))")
+  @Mapping(target = "totalReviews", source = "ratingCount")
+  @Mapping(target = "distanceKm", ignore = true)
+  CompanyResponse toResponse(CompanyView view);
+
   @Mapping(target = "id", ignore = true)
   @Mapping(target = "active", ignore = true)
   @Mapping(target = "createdAt", ignore = true)
@@ -30,15 +40,7 @@ public interface CompanyMapper {
   @Mapping(target = "user", ignore = true)
   @Mapping(target = "jobs", ignore = true)
   @Mapping(target = "reviews", ignore = true)
+  @Mapping(target = "ratingSum", ignore = true)
+  @Mapping(target = "ratingCount", ignore = true)
   void updateCompanyFromDto(CompanyRequest request, @MappingTarget Company company);
-
-  default Double calculateAverageRating(Company company) {
-    if (company.getReviews() == null || company.getReviews().isEmpty()) {
-      return 0.0;
-    }
-    return company.getReviews().stream()
-        .mapToInt(Review::getRating)
-        .average()
-        .orElse(0.0);
-  }
 }
\ No newline at end of file
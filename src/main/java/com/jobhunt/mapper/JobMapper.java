@@ -3,6 +3,7 @@ package com.jobhunt.mapper;
 import com.jobhunt.model.entity.Job;
 import com.jobhunt.model.request.JobRequest;
 import com.jobhunt.model.response.JobResponse;
+import com.jobhunt.readmodel.JobView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -17,19 +18,30 @@ public interface JobMapper {
   @Mapping(target = "updatedAt", ignore = true)
   @Mapping(target = "company", ignore = true)
   @Mapping(target = "applications", ignore = true)
+  @Mapping(target = "applicationCount", ignore = true)
   @Mapping(target = "savedByUsers", ignore = true)
   @Mapping(target = "active", constant = "true")
   Job toEntity(JobRequest request);
 
-  @Mapping(target = "numberOfApplications", expression = "java(job.getApplications() != null ? job.getApplications().size() : 0L)")
+  @Mapping(target = "numberOfApplications", source = "applicationCount")
   @Mapping(target = "company", source = "company")
+  @Mapping(target = "distanceKm", ignore = true)
   JobResponse toResponse(Job job);
 
+  /**
+   * Everything but the company, which the caller fills in from the page's {@code CompanyView}s.
+   */
+  @Mapping(target = "numberOfApplications", source = "applicationCount")
+  @Mapping(target = "company", ignore = true)
+  @Mapping(target = "distanceKm", ignore = true)
+  JobResponse toResponse(JobView view);
+
   @Mapping(target = "id", ignore = true)
   @Mapping(target = "createdAt", ignore = true)
   @Mapping(target = "updatedAt", ignore = true)
   @Mapping(target = "company", ignore = true)
   @Mapping(target = "applications", ignore = true)
+  @Mapping(target = "applicationCount", ignore = true)
   @Mapping(target = "savedByUsers", ignore = true)
   @Mapping(target = "active", ignore = true)
   void updateJobFromDto(JobRequest request, @MappingTarget Job job);
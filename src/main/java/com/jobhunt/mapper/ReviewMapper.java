@@ -0,0 +1,23 @@
+package com.jobhunt.mapper;
+
+import com.jobhunt.model.entity.Review;
+import com.jobhunt.model.response.ReviewResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface ReviewMapper {
+  @Mapping(target = "reviewerId", source = "reviewer.id")
+  @Mapping(target = "reviewerName",
+      expression = "java(review.getReviewer().getFirstName() + \" \" + review.getReviewer().getLastName())")
+  @Mapping(target = "companyId", source = "company.id")
+  @Mapping(target = "reviewedUserId", source = "reviewedUser.id")
+  ReviewResponse toResponse(Review review);
+
+  /**
+   * Mean of {@code count} ratings adding up to {@code sum}, or 0 without any.
+   */
+  static Double averageRating(long sum, int count) {
+    return count == 0 ? 0.0 : (double) sum / count;
+  }
+}
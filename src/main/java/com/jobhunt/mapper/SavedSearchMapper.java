@@ -0,0 +1,20 @@
+package com.jobhunt.mapper;
+
+import com.jobhunt.model.entity.SavedSearch;
+import com.jobhunt.model.request.SavedSearchRequest;
+import com.jobhunt.model.response.SavedSearchResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface SavedSearchMapper {
+  @Mapping(target = "id", ignore = true)
+  @Mapping(target = "user", ignore = true)
+  @Mapping(target = "remote", source = "isRemote")
+  @Mapping(target = "active", constant = "true")
+  @Mapping(target = "createdAt", ignore = true)
+  SavedSearch toEntity(SavedSearchRequest request);
+
+  @Mapping(target = "isRemote", source = "remote")
+  SavedSearchResponse toResponse(SavedSearch savedSearch);
+}
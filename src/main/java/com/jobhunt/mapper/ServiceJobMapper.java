@@ -60,7 +60,7 @@ public class ServiceJobMapper {
     }
 
     response.setStatus(serviceJob.getStatus());
-    response.setApplicationsCount(serviceJob.getApplications().size());
+    response.setApplicationsCount(serviceJob.getApplicationCount());
     response.setCreatedAt(serviceJob.getCreatedAt());
     response.setUpdatedAt(serviceJob.getUpdatedAt());
 
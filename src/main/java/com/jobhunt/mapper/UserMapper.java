@@ -5,6 +5,7 @@ import com.jobhunt.model.request.SignUpRequest;
 import com.jobhunt.model.request.UserRequest;
 import com.jobhunt.model.response.SignUpResponse;
 import com.jobhunt.model.response.UserResponse;
+import com.jobhunt.readmodel.UserView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -23,14 +24,28 @@ public interface UserMapper {
     @Mapping(target = "savedJobs", ignore = true)
     @Mapping(target = "role", ignore = true)
     @Mapping(target = "reviewsReceived", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
+    @Mapping(target = "ratingCount", ignore = true)
     User toEntity(SignUpRequest signUpRequest);
 
     @Mapping(target = "firstname", source = "firstName")
     @Mapping(target = "lastname", source = "lastName")
     @Mapping(target = "status", constant = "ACTIVE")
     @Mapping(target = "role", expression = "java(user.getRole() != null ? user.getRole().name() : null)")
+    @Mapping(target = "averageRating",
+            expression = "java(ReviewMapper.averageRating(user.getRatingSum(), user.getRatingCount()))")
+    @Mapping(target = "totalReviews", source = "ratingCount")
     UserResponse toResponse(User user);
 
+    @Mapping(target = "firstname", source = "firstName")
+    @Mapping(target = "lastname", source = "lastName")
+    @Mapping(target = "status", constant = "ACTIVE")
+    @Mapping(target = "role", expression = "java(view.getRole() != null ? view.getRole().name() : null)")
+    @Mapping(target = "averageRating",
+            expression = "java(ReviewMapper.averageRating(view.getRatingSum(), view.getRatingCount()))")
+    @Mapping(target = "totalReviews", source = "ratingCount")
+    UserResponse toResponse(UserView view);
+
     @Mapping(target = "active", ignore = true)
     @Mapping(target = "applications", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
@@ -46,6 +61,8 @@ public interface UserMapper {
     @Mapping(target = "savedJobs", ignore = true)
     @Mapping(target = "role", ignore = true)
     @Mapping(target = "reviewsReceived", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
+    @Mapping(target = "ratingCount", ignore = true)
     void updateUserFromDto(UserRequest userRequest, @MappingTarget User user);
 
     @Mapping(target = "id", ignore = true)
@@ -6,6 +6,8 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "applications")
@@ -55,6 +57,38 @@ public class Application {
     OFFERED,
     REJECTED,
     WITHDRAWN,
-    ACCEPTED
+    ACCEPTED;
+
+    /**
+     * Statuses an employer may move an application in this status to. Rejected, withdrawn and accepted applications
+     * are closed and stay as they are.
+     */
+    public Set<ApplicationStatus> next() {
+      return switch (this) {
+        case PENDING -> EnumSet.of(REVIEWING, SHORTLISTED, REJECTED);
+        case REVIEWING -> EnumSet.of(SHORTLISTED, INTERVIEWED, REJECTED);
+        case SHORTLISTED -> EnumSet.of(INTERVIEWED, OFFERED, REJECTED);
+        case INTERVIEWED -> EnumSet.of(OFFERED, REJECTED);
+        case OFFERED -> EnumSet.of(ACCEPTED, REJECTED);
+        case REJECTED, WITHDRAWN, ACCEPTED -> EnumSet.noneOf(ApplicationStatus.class);
+      };
+    }
+
+    public boolean canMoveTo(ApplicationStatus target) {
+      return next().contains(target);
+    }
+
+    /**
+     * Statuses from which an application may be moved to {@code target}.
+     */
+    public static Set<ApplicationStatus> previousOf(ApplicationStatus target) {
+      Set<ApplicationStatus> previous = EnumSet.noneOf(ApplicationStatus.class);
+      for (ApplicationStatus status : values()) {
+        if (status.canMoveTo(target)) {
+          previous.add(status);
+        }
+      }
+      return previous;
+    }
   }
 }
\ No newline at end of file
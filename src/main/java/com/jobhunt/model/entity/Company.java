@@ -2,7 +2,10 @@ package com.jobhunt.model.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
@@ -11,8 +14,11 @@ import java.util.Set;
 
 @Entity
 @Table(name = "companies")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Filter(name = SoftDeletable.FILTER)
 @Data
-public class Company {
+public class Company implements SoftDeletable {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
@@ -81,6 +87,13 @@ public class Company {
   @OneToMany(mappedBy = "company", cascade = CascadeType.ALL)
   private Set<Review> reviews = new HashSet<>();
 
+  // Totals of the reviews received, only ever changed by CompanyRepository.adjustRating
+  @Column(name = "rating_sum", nullable = false, insertable = false, updatable = false)
+  private long ratingSum;
+
+  @Column(name = "rating_count", nullable = false, insertable = false, updatable = false)
+  private int ratingCount;
+
   @Column(nullable = false)
   private boolean active = true;
 
@@ -2,7 +2,10 @@ package com.jobhunt.model.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -13,10 +16,15 @@ import java.util.Set;
 
 @Entity
 @Table(name = "jobs")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Filter(name = SoftDeletable.FILTER)
 @Data
-public class Job {
+public class Job implements SoftDeletable {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  // Pooled sequence so inserts can be JDBC-batched; allocationSize must match the sequence increment
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+  @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -60,6 +68,12 @@ public class Job {
   @OneToMany(mappedBy = "job", cascade = CascadeType.ALL)
   private Set<Application> applications = new HashSet<>();
 
+  // Only ever changed by native SQL (JobRepository.adjustApplicationCount, ApplicationRepository.insertIfAbsent,
+  // JobRepository.reconcileApplicationCounts) and never written through the entity, so a stale copy cannot be
+  // flushed over it
+  @Column(name = "application_count", nullable = false, insertable = false, updatable = false)
+  private int applicationCount;
+
   @CreationTimestamp
   @Column(name = "created_at", nullable = false, updatable = false)
   private Instant createdAt;
@@ -0,0 +1,36 @@
+package com.jobhunt.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * A job that matched a saved search, queued until the next notification batch for its user.
+ */
+@Entity
+@Table(name = "job_alerts", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"saved_search_id", "job_id"})
+})
+@Data
+public class JobAlert {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "saved_search_id", nullable = false)
+  private SavedSearch savedSearch;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "job_id", nullable = false)
+  private Job job;
+
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(name = "sent_at")
+  private Instant sentAt;
+}
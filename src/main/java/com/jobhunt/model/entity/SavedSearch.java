@@ -0,0 +1,51 @@
+package com.jobhunt.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Entity
+@Table(name = "saved_searches")
+@Data
+public class SavedSearch {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  private User user;
+
+  @Column(nullable = false)
+  private String name;
+
+  private String keyword;
+
+  private String location;
+
+  @Column(name = "employment_type")
+  @Enumerated(EnumType.STRING)
+  private Job.EmploymentType employmentType;
+
+  @Column(name = "experience_level")
+  private String experienceLevel;
+
+  @Column(name = "is_remote")
+  private Boolean remote;
+
+  @Column(name = "salary_min")
+  private BigDecimal salaryMin;
+
+  @Column(name = "salary_max")
+  private BigDecimal salaryMax;
+
+  @Column(nullable = false)
+  private boolean active = true;
+
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+}
@@ -3,6 +3,7 @@ package com.jobhunt.model.entity;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -12,8 +13,9 @@ import java.util.Set;
 
 @Entity
 @Table(name = "service_jobs")
+@Filter(name = SoftDeletable.FILTER)
 @Data
-public class ServiceJob {
+public class ServiceJob implements SoftDeletable {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
@@ -58,6 +60,11 @@ public class ServiceJob {
   @OneToMany(mappedBy = "serviceJob")
   private Set<ServiceJobApplication> applications = new HashSet<>();
 
+  // Only ever changed by native SQL (ServiceJobRepository.adjustApplicationCount and reconcileApplicationCounts) and
+  // never written through the entity, so a stale copy cannot be flushed over it
+  @Column(name = "application_count", nullable = false, insertable = false, updatable = false)
+  private int applicationCount;
+
   @CreationTimestamp
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
@@ -0,0 +1,12 @@
+package com.jobhunt.model.entity;
+
+/**
+ * An entity deleted by clearing its {@code active} column rather than removing the row. Queries over these entities
+ * only see active rows while the {@link #FILTER} filter is enabled, which it is by default.
+ */
+public interface SoftDeletable {
+
+  String FILTER = "activeOnly";
+
+  boolean isActive();
+}
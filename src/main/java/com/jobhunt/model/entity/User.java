@@ -3,6 +3,8 @@ package com.jobhunt.model.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +14,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 public class User {
   @Id
@@ -63,6 +67,13 @@ public class User {
   @OneToMany(mappedBy = "reviewedUser")
   private Set<Review> reviewsReceived = new HashSet<>();
 
+  // Totals of the reviews received, only ever changed by UserRepository.adjustRating
+  @Column(name = "rating_sum", nullable = false, insertable = false, updatable = false)
+  private long ratingSum;
+
+  @Column(name = "rating_count", nullable = false, insertable = false, updatable = false)
+  private int ratingCount;
+
   @OneToMany(mappedBy = "user")
   private Set<Application> applications = new HashSet<>();
 
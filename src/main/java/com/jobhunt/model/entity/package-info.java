@@ -0,0 +1,9 @@
+/**
+ * Soft-deleted rows of the {@link com.jobhunt.model.entity.SoftDeletable} entities are hidden from every query by
+ * the {@value com.jobhunt.model.entity.SoftDeletable#FILTER} filter, enabled in every session; see
+ * {@link com.jobhunt.repository.SoftDeleteFilter} for reading them anyway.
+ */
+@FilterDef(name = SoftDeletable.FILTER, defaultCondition = "active = true", autoEnabled = true)
+package com.jobhunt.model.entity;
+
+import org.hibernate.annotations.FilterDef;
@@ -0,0 +1,23 @@
+package com.jobhunt.model.request;
+
+import com.jobhunt.model.entity.Application;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.Set;
+
+/**
+ * Moves applications of one job to {@code status}: either the listed {@code applicationIds}, or every application of
+ * the job currently in {@code currentStatus}.
+ */
+@Data
+public class BulkStatusUpdateRequest {
+  @NotNull(message = "Status is required")
+  private Application.ApplicationStatus status;
+
+  @Size(max = 1000, message = "At most 1000 applications can be updated at once")
+  private Set<Long> applicationIds;
+
+  private Application.ApplicationStatus currentStatus;
+}
@@ -11,6 +11,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
+@ValidSalaryRange
 public class JobRequest {
   @NotBlank(message = "Title must not be empty")
   private String title;
@@ -0,0 +1,64 @@
+package com.jobhunt.model.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class JobSearchRequest {
+  private String keyword;
+
+  private String location;
+
+  private String employmentType;
+
+  private String experienceLevel;
+
+  private Boolean isRemote;
+
+  @PositiveOrZero(message = "Minimum salary must not be negative")
+  private BigDecimal salaryMin;
+
+  @PositiveOrZero(message = "Maximum salary must not be negative")
+  private BigDecimal salaryMax;
+
+  // Nearby mode: jobs at companies within radiusKm of (latitude, longitude), nearest first; always cursor-paged
+  private Double latitude;
+
+  private Double longitude;
+
+  private Double radiusKm;
+
+  // Match the keyword against titles by trigram similarity, tolerating typos; returns the best matches only, so it
+  // takes a size but no cursor
+  private Boolean fuzzy;
+
+  // "newest" (default) or "relevance"; relevance needs a keyword and is always cursor-paged
+  private String sort;
+
+  // Cursor mode: set either of these to get one page plus a next cursor instead of every match
+  private String cursor;
+
+  @Min(value = 1, message = "Size must be at least 1")
+  @Max(value = 100, message = "Size must be at most 100")
+  private Integer size;
+
+  public boolean isPaginated() {
+    return cursor != null || size != null;
+  }
+
+  public boolean isFuzzyMatch() {
+    return Boolean.TRUE.equals(fuzzy);
+  }
+
+  public boolean isRelevanceSorted() {
+    return "relevance".equalsIgnoreCase(sort);
+  }
+
+  public boolean isNearby() {
+    return latitude != null || longitude != null || radiusKm != null;
+  }
+}
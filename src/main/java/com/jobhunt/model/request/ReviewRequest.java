@@ -0,0 +1,23 @@
+package com.jobhunt.model.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class ReviewRequest {
+  // Exactly one of the two is required on create; both are ignored on update
+  private Long companyId;
+
+  private Long reviewedUserId;
+
+  @NotNull(message = "Rating is required")
+  @Min(value = 1, message = "Rating must be between 1 and 5")
+  @Max(value = 5, message = "Rating must be between 1 and 5")
+  private Integer rating;
+
+  @NotBlank(message = "Comment is required")
+  private String comment;
+}
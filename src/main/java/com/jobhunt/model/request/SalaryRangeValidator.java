@@ -0,0 +1,20 @@
+package com.jobhunt.model.request;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class SalaryRangeValidator implements ConstraintValidator<ValidSalaryRange, JobRequest> {
+
+  @Override
+  public boolean isValid(JobRequest request, ConstraintValidatorContext context) {
+    if (request.getSalaryMin() == null || request.getSalaryMax() == null
+        || request.getSalaryMin().compareTo(request.getSalaryMax()) <= 0) {
+      return true;
+    }
+    context.disableDefaultConstraintViolation();
+    context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+        .addPropertyNode("salaryMax")
+        .addConstraintViolation();
+    return false;
+  }
+}
@@ -0,0 +1,33 @@
+package com.jobhunt.model.request;
+
+import com.jobhunt.model.entity.Job.EmploymentType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class SavedSearchRequest {
+  @NotBlank(message = "Name is required")
+  @Size(max = 255, message = "Name must be at most 255 characters")
+  private String name;
+
+  // Same filters as the job search; at least one of them is required
+  private String keyword;
+
+  private String location;
+
+  private EmploymentType employmentType;
+
+  private String experienceLevel;
+
+  private Boolean isRemote;
+
+  @PositiveOrZero(message = "Minimum salary must not be negative")
+  private BigDecimal salaryMin;
+
+  @PositiveOrZero(message = "Maximum salary must not be negative")
+  private BigDecimal salaryMax;
+}
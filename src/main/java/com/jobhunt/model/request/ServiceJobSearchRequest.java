@@ -0,0 +1,37 @@
+package com.jobhunt.model.request;
+
+import com.jobhunt.model.entity.ServiceJob;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class ServiceJobSearchRequest {
+  private String location;
+
+  @PositiveOrZero(message = "Minimum budget must not be negative")
+  private BigDecimal minBudget;
+
+  @PositiveOrZero(message = "Maximum budget must not be negative")
+  private BigDecimal maxBudget;
+
+  private ServiceJob.ServiceType serviceType;
+
+  private ServiceJob.JobStatus status;
+
+  private Boolean urgent;
+
+  // Cursor mode: set either of these to get one page, urgent and soonest due first, plus a next cursor
+  private String cursor;
+
+  @Min(value = 1, message = "Size must be at least 1")
+  @Max(value = 100, message = "Size must be at most 100")
+  private Integer size;
+
+  public boolean isPaginated() {
+    return cursor != null || size != null;
+  }
+}
@@ -0,0 +1,24 @@
+package com.jobhunt.model.request;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A job's minimum salary must not exceed its maximum. The violation is reported on {@code salaryMax} so it comes back
+ * as a field error like the other checks on the request.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = SalaryRangeValidator.class)
+public @interface ValidSalaryRange {
+  String message() default "Maximum salary must not be less than minimum salary";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,34 @@
+package com.jobhunt.model.response;
+
+import com.jobhunt.model.entity.Application;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BulkStatusUpdateResponse {
+  private Application.ApplicationStatus status;
+  private int updated;
+  private List<Result> results = new ArrayList<>();
+
+  public enum Outcome {
+    UPDATED,
+    // Already in the requested status
+    UNCHANGED,
+    // The state machine does not allow the move from previousStatus
+    INVALID_TRANSITION,
+    // Not an application to this job
+    NOT_FOUND
+  }
+
+  @Data
+  @AllArgsConstructor
+  public static class Result {
+    private Long applicationId;
+    private Outcome outcome;
+    // Null when the application was not found
+    private Application.ApplicationStatus previousStatus;
+  }
+}
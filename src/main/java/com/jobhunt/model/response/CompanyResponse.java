@@ -37,4 +37,6 @@ public class CompanyResponse {
   private Boolean active;
   private String createdAt;
   private String updatedAt;
+  // Only set by nearby searches
+  private Double distanceKm;
 }
\ No newline at end of file
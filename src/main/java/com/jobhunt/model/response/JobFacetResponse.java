@@ -0,0 +1,16 @@
+package com.jobhunt.model.response;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class JobFacetResponse {
+  private long total;
+  private List<JobResponse> results;
+  private Map<String, Long> employmentTypes;
+  private Map<String, Long> experienceLevels;
+  private Map<String, Long> remote;
+  private Map<String, Long> locations;
+}
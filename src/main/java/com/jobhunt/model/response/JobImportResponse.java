@@ -0,0 +1,26 @@
+package com.jobhunt.model.response;
+
+import com.jobhunt.payload.FieldViolation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class JobImportResponse {
+  private long imported;
+  private long failed;
+  // Only the first errors are listed; errorsTruncated tells whether more rows failed
+  private List<RowError> errors = new ArrayList<>();
+  private boolean errorsTruncated;
+
+  @Data
+  @AllArgsConstructor
+  public static class RowError {
+    // 1-based line of the row in the uploaded file
+    private long line;
+    private String message;
+    private List<FieldViolation> violations;
+  }
+}
@@ -25,4 +25,6 @@ public class JobResponse {
   private Instant createdAt;
   private Instant updatedAt;
   private long numberOfApplications;
+  // Only set by nearby searches
+  private Double distanceKm;
 }
\ No newline at end of file
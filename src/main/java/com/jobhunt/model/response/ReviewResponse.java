@@ -0,0 +1,20 @@
+package com.jobhunt.model.response;
+
+import com.jobhunt.model.entity.Review.ReviewType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ReviewResponse {
+  private Long id;
+  private Long reviewerId;
+  private String reviewerName;
+  private Long companyId;
+  private Long reviewedUserId;
+  private Integer rating;
+  private String comment;
+  private ReviewType reviewType;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.jobhunt.model.response;
+
+import com.jobhunt.model.entity.Job.EmploymentType;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Data
+public class SavedSearchResponse {
+  private Long id;
+  private String name;
+  private String keyword;
+  private String location;
+  private EmploymentType employmentType;
+  private String experienceLevel;
+  private Boolean isRemote;
+  private BigDecimal salaryMin;
+  private BigDecimal salaryMax;
+  private Instant createdAt;
+}
@@ -0,0 +1,13 @@
+package com.jobhunt.model.response;
+
+import com.jobhunt.search.suggest.Suggestion;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SuggestResponse {
+  private List<Suggestion> titles;
+  private List<Suggestion> locations;
+  private List<Suggestion> companies;
+}
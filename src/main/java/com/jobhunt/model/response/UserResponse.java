@@ -25,4 +25,8 @@ public class UserResponse {
 
     private String role;
 
+    private Double averageRating;
+
+    private Long totalReviews;
+
 }
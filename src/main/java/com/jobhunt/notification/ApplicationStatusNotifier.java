@@ -0,0 +1,89 @@
+package com.jobhunt.notification;
+
+import com.jobhunt.event.ApplicationStatusChangedEvent;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.ApplicationRepository;
+import com.jobhunt.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Mails applicants when their application moves to a new status. Runs off the request thread once the change is
+ * committed, so a bulk update of hundreds of applications returns without waiting for the mail server; the
+ * applicants are loaded and their mails sent in batches, one mail server connection per batch. The lookups run in a
+ * read-write transaction because a replica may not have the applications just committed. Without a configured mail
+ * server nothing is sent.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationStatusNotifier {
+
+  private static final Logger log = LoggerFactory.getLogger(ApplicationStatusNotifier.class);
+
+  private final ApplicationRepository applicationRepository;
+  private final JobRepository jobRepository;
+  private final ObjectProvider<JavaMailSender> mailSender;
+
+  @Value("${app.applications.notifications.batch-size:100}")
+  private int batchSize;
+
+  @Value("${app.applications.notifications.from:no-reply@jobhunt.local}")
+  private String from;
+
+  @Async
+  @TransactionalEventListener
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void onStatusChanged(ApplicationStatusChangedEvent event) {
+    JavaMailSender sender = mailSender.getIfAvailable();
+    if (sender == null) {
+      log.debug("No mail sender configured, not notifying {} applicants", event.getApplicationIds().size());
+      return;
+    }
+    Job job = jobRepository.findById(event.getJobId()).orElse(null);
+    if (job == null) {
+      return;
+    }
+
+    List<Long> applicationIds = event.getApplicationIds();
+    int sent = 0;
+    for (int start = 0; start < applicationIds.size(); start += batchSize) {
+      List<Long> batch = applicationIds.subList(start, Math.min(start + batchSize, applicationIds.size()));
+      SimpleMailMessage[] messages = applicationRepository.findApplicantEmails(batch).stream()
+          .map(email -> toMessage(email, job, event))
+          .toArray(SimpleMailMessage[]::new);
+      try {
+        sender.send(messages);
+        sent += messages.length;
+      } catch (MailException e) {
+        log.warn("Failed to notify {} applicants of job {} about their status", messages.length, job.getId(), e);
+      }
+    }
+    log.debug("Notified {} applicants of job {} that their application is {}", sent, job.getId(),
+        event.getStatus());
+  }
+
+  private SimpleMailMessage toMessage(String email, Job job, ApplicationStatusChangedEvent event) {
+    String status = event.getStatus().name().toLowerCase(Locale.ROOT);
+    SimpleMailMessage message = new SimpleMailMessage();
+    message.setFrom(from);
+    message.setTo(email);
+    message.setSubject("Your application for " + job.getTitle() + " is " + status);
+    message.setText("Your application for " + job.getTitle() + " at " + job.getCompany().getName()
+        + " has been moved to " + status + ".\n");
+    return message;
+  }
+}
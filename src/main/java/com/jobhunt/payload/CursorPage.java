@@ -0,0 +1,23 @@
+package com.jobhunt.payload;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is null on the last page.
+ *
+ * @param <T> element type
+ */
+@Value
+public class CursorPage<T> {
+    List<T> content;
+    int size;
+    String nextCursor;
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, size, nextCursor);
+    }
+}
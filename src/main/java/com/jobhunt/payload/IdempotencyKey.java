@@ -0,0 +1,29 @@
+package com.jobhunt.payload;
+
+import com.jobhunt.exception.BadRequestException;
+
+/**
+ * The optional {@value #HEADER} request header of create endpoints. A client that retries a request with the same key
+ * gets the original result back instead of a duplicate error.
+ */
+public final class IdempotencyKey {
+
+  public static final String HEADER = "Idempotency-Key";
+  public static final int MAX_LENGTH = 64;
+
+  private IdempotencyKey() {
+  }
+
+  /**
+   * The key to store, or null when the client sent none.
+   */
+  public static String of(String header) {
+    if (header == null || header.isBlank()) {
+      return null;
+    }
+    if (header.length() > MAX_LENGTH) {
+      throw new BadRequestException(HEADER + " must be at most " + MAX_LENGTH + " characters");
+    }
+    return header;
+  }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -51,6 +52,25 @@ public class Response<T> {
         return response;
     }
 
+    public static <T> Response<List<T>> ofSucceeded(Slice<T> data) {
+        Response<List<T>> response = new Response<>();
+        response.data = data.getContent();
+        response.meta.code = Metadata.OK_CODE;
+        response.meta.page = data.getNumber();
+        response.meta.size = data.getSize();
+        response.meta.hasNext = data.hasNext();
+        return response;
+    }
+
+    public static <T> Response<List<T>> ofSucceeded(CursorPage<T> data) {
+        Response<List<T>> response = new Response<>();
+        response.data = data.getContent();
+        response.meta.code = Metadata.OK_CODE;
+        response.meta.size = data.getSize();
+        response.meta.nextCursor = data.getNextCursor();
+        return response;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -62,17 +82,21 @@ public class Response<T> {
         Integer size;
         Integer pages;
         Long total;
+        Boolean hasNext;
+        String nextCursor;
         String message;
         List<FieldViolation> errors;
 
         @CompiledJson
-        public Metadata(String code, Integer page, Integer size, Integer pages, Long total, String message,
-                        List<FieldViolation> errors) {
+        public Metadata(String code, Integer page, Integer size, Integer pages, Long total, Boolean hasNext,
+                        String nextCursor, String message, List<FieldViolation> errors) {
             this.code = code;
             this.page = page;
             this.size = size;
             this.pages = pages;
             this.total = total;
+            this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
             this.message = message;
             this.errors = errors;
         }
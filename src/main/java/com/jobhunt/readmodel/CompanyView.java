@@ -0,0 +1,50 @@
+package com.jobhunt.readmodel;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * The columns of a company shown in listings, loaded by constructor projection without the owning user or the
+ * jobs and reviews collections.
+ */
+@Value
+public class CompanyView {
+  /**
+   * Select list for JPQL queries over a company aliased {@code c}.
+   */
+  public static final String SELECT = """
+      SELECT new com.jobhunt.readmodel.CompanyView(
+          c.id, c.logoUrl, c.coverUrl, c.name, c.email, c.phoneNumber, c.websiteUrl, c.establishmentYear,
+          c.teamSize, c.industryType, c.about, c.facebookUrl, c.twitterUrl, c.linkedinUrl, c.googlePlusUrl,
+          c.country, c.city, c.address, c.latitude, c.longitude, c.taxId, c.ratingSum, c.ratingCount, c.active,
+          c.createdAt, c.updatedAt)
+      """;
+
+  Long id;
+  String logoUrl;
+  String coverUrl;
+  String name;
+  String email;
+  String phoneNumber;
+  String websiteUrl;
+  Integer establishmentYear;
+  String teamSize;
+  String industryType;
+  String about;
+  String facebookUrl;
+  String twitterUrl;
+  String linkedinUrl;
+  String googlePlusUrl;
+  String country;
+  String city;
+  String address;
+  Double latitude;
+  Double longitude;
+  String taxId;
+  long ratingSum;
+  int ratingCount;
+  boolean active;
+  Instant createdAt;
+  Instant updatedAt;
+}
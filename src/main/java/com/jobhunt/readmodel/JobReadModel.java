@@ -0,0 +1,76 @@
+package com.jobhunt.readmodel;
+
+import com.jobhunt.mapper.CompanyMapper;
+import com.jobhunt.mapper.JobMapper;
+import com.jobhunt.model.response.CompanyResponse;
+import com.jobhunt.model.response.JobResponse;
+import com.jobhunt.repository.CompanyRepository;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.repository.SoftDeleteFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Read path of the job list endpoints. Jobs are loaded as {@link JobView}s and their companies as
+ * {@link CompanyView}s in one more query for the whole page, so a listing costs the same two queries (plus the
+ * count of a paged one) however many jobs it shows, and nothing is added to the persistence context.
+ * <p>
+ * Companies are loaded apart instead of joined because a page usually shows a few companies many times, and
+ * joining would repeat each company's columns, {@code about} included, on every one of its jobs.
+ * <p>
+ * A user's applied and saved jobs are history and keep showing jobs deleted since, and every job keeps showing its
+ * company after the company is deleted.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JobReadModel {
+
+  private final JobRepository jobRepository;
+  private final CompanyRepository companyRepository;
+  private final JobMapper jobMapper;
+  private final CompanyMapper companyMapper;
+  private final SoftDeleteFilter softDeleteFilter;
+
+  public List<JobResponse> companyJobs(Long companyId) {
+    return toResponses(jobRepository.findViewsByCompanyId(companyId));
+  }
+
+  public Page<JobResponse> appliedJobs(Long userId, Pageable pageable) {
+    return toPage(softDeleteFilter.includingInactive(() -> jobRepository.findAppliedViews(userId, pageable)));
+  }
+
+  public Page<JobResponse> savedJobs(Long userId, Pageable pageable) {
+    return toPage(softDeleteFilter.includingInactive(() -> jobRepository.findSavedViews(userId, pageable)));
+  }
+
+  private Page<JobResponse> toPage(Page<JobView> views) {
+    return new PageImpl<>(toResponses(views.getContent()), views.getPageable(), views.getTotalElements());
+  }
+
+  private List<JobResponse> toResponses(List<JobView> views) {
+    if (views.isEmpty()) {
+      return List.of();
+    }
+    Set<Long> companyIds = views.stream().map(JobView::getCompanyId).collect(Collectors.toSet());
+    Map<Long, CompanyResponse> companies = softDeleteFilter.includingInactive(
+            () -> companyRepository.findViewsByIdIn(companyIds)).stream()
+        .collect(Collectors.toMap(CompanyView::getId, companyMapper::toResponse));
+    return views.stream()
+        .map(view -> {
+          JobResponse response = jobMapper.toResponse(view);
+          response.setCompany(companies.get(view.getCompanyId()));
+          return response;
+        })
+        .toList();
+  }
+}
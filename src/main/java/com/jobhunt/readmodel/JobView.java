@@ -0,0 +1,42 @@
+package com.jobhunt.readmodel;
+
+import com.jobhunt.model.entity.Job;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a job shown in job listings, loaded by constructor projection so no entity is managed. The company
+ * is referenced by id and loaded separately as a {@link CompanyView}, once per page rather than once per row.
+ */
+@Value
+public class JobView {
+  /**
+   * Select list for JPQL queries over a job aliased {@code j}.
+   */
+  public static final String SELECT = """
+      SELECT new com.jobhunt.readmodel.JobView(
+          j.id, j.title, j.description, j.requirements, j.salaryMin, j.salaryMax, j.employmentType,
+          j.experienceLevel, j.location, j.isRemote, j.applicationDeadline, j.active, j.applicationCount,
+          j.company.id, j.createdAt, j.updatedAt)
+      """;
+
+  Long id;
+  String title;
+  String description;
+  String requirements;
+  BigDecimal salaryMin;
+  BigDecimal salaryMax;
+  Job.EmploymentType employmentType;
+  String experienceLevel;
+  String location;
+  boolean remote;
+  LocalDateTime applicationDeadline;
+  boolean active;
+  int applicationCount;
+  Long companyId;
+  Instant createdAt;
+  Instant updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.jobhunt.readmodel;
+
+import com.jobhunt.model.entity.User;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * The columns of a user shown in user listings, loaded by constructor projection without the token columns or any
+ * collection.
+ */
+@Value
+public class UserView {
+  /**
+   * Select list for JPQL queries over a user aliased {@code u}.
+   */
+  public static final String SELECT = """
+      SELECT new com.jobhunt.readmodel.UserView(
+          u.id, u.firstName, u.lastName, u.username, u.email, u.role, u.ratingSum, u.ratingCount, u.createdAt,
+          u.updatedAt)
+      """;
+
+  Long id;
+  String firstName;
+  String lastName;
+  String username;
+  String email;
+  User.UserRole role;
+  long ratingSum;
+  int ratingCount;
+  Instant createdAt;
+  Instant updatedAt;
+}
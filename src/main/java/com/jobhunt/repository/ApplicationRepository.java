@@ -6,13 +6,148 @@ import com.jobhunt.model.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
-  boolean existsByUserAndJob(User user, Job job);
+  /**
+   * Inserts a pending application and counts it on its job in one statement, unless the user has already applied to
+   * the job, whether that application is still live or was archived after it closed. Returns the new application, or
+   * empty if there is one already. The unique index on (user_id, job_id) decides, so of concurrent submissions
+   * exactly one gets in and the others come back empty.
+   */
+  @Query(value = """
+      WITH inserted AS (
+          INSERT INTO applications (user_id, job_id, cv_url, cover_letter, expected_salary, application_status,
+                                    idempotency_key)
+          SELECT :userId, :jobId, CAST(:cvUrl AS varchar), :coverLetter, CAST(:expectedSalary AS double precision),
+                 'PENDING', CAST(:idempotencyKey AS varchar)
+          WHERE NOT EXISTS (SELECT 1 FROM applications_archive aa WHERE aa.user_id = :userId AND aa.job_id = :jobId)
+          ON CONFLICT (user_id, job_id) DO NOTHING
+          RETURNING *),
+      counted AS (
+          UPDATE jobs j SET application_count = j.application_count + 1
+          FROM inserted i
+          WHERE i.job_id = j.id)
+      SELECT i.* FROM inserted i
+      """, nativeQuery = true)
+  Optional<Application> insertIfAbsent(Long userId, Long jobId, String cvUrl, String coverLetter,
+      Double expectedSalary, String idempotencyKey);
+
+  /**
+   * The user's application to the job if it was created with {@code idempotencyKey}.
+   */
+  @Query(value = """
+      SELECT a.* FROM applications a
+      WHERE a.user_id = :userId AND a.job_id = :jobId AND a.idempotency_key = :idempotencyKey
+      """, nativeQuery = true)
+  Optional<Application> findByIdempotencyKey(Long userId, Long jobId, String idempotencyKey);
 
   Page<Application> findByUser(User user, Pageable pageable);
 
   Page<Application> findByJob(Job job, Pageable pageable);
-}
\ No newline at end of file
+
+  @Query("""
+      SELECT a.id FROM Application a
+      WHERE a.job.id = :jobId AND a.status = :status AND a.id > :afterId
+      ORDER BY a.id
+      """)
+  List<Long> findIdsByJobAndStatus(Long jobId, Application.ApplicationStatus status, Long afterId,
+      Pageable pageable);
+
+  /**
+   * Moves those of {@code ids} that are applications to the job and in one of the {@code from} statuses to
+   * {@code target}, in one statement. Returns a row for every one of {@code ids} that is an application to the job,
+   * with its status before the statement and whether it was moved. The rows are locked before they are checked, so
+   * an application changed concurrently is validated against the status that committed.
+   */
+  @Query(value = """
+      WITH requested AS (
+          SELECT a.id, a.application_status FROM applications a
+          WHERE a.job_id = :jobId AND a.id IN (:ids)
+          FOR UPDATE),
+      updated AS (
+          UPDATE applications a SET application_status = :target, updated_at = :updatedAt
+          FROM requested r
+          WHERE r.id = a.id AND r.application_status IN (:from)
+          RETURNING a.id)
+      SELECT r.id AS "applicationId", r.application_status AS "previousStatus", u.id IS NOT NULL AS "updated"
+      FROM requested r
+      LEFT JOIN updated u ON u.id = r.id
+      """, nativeQuery = true)
+  List<StatusTransition> transitionStatus(Long jobId, Collection<Long> ids, Collection<String> from, String target,
+      LocalDateTime updatedAt);
+
+  @Query("SELECT a.user.email FROM Application a WHERE a.id IN :ids")
+  List<String> findApplicantEmails(Collection<Long> ids);
+
+  @Query("SELECT a.job.id FROM Application a WHERE a.user.id = :userId ORDER BY a.createdAt DESC")
+  List<Long> findRecentJobIds(Long userId, Pageable pageable);
+
+  /**
+   * Archived applications to the job created at or after {@code from}, newest first. The bound on created_at keeps
+   * the scan to the archive partitions of the years asked for.
+   */
+  @Query(value = """
+      SELECT a.* FROM applications_archive a
+      WHERE a.job_id = :jobId AND a.created_at >= :from
+      ORDER BY a.created_at DESC, a.id DESC
+      """,
+      countQuery = "SELECT count(*) FROM applications_archive a WHERE a.job_id = :jobId AND a.created_at >= :from",
+      nativeQuery = true)
+  Page<Application> findArchivedByJob(Long jobId, LocalDateTime from, Pageable pageable);
+
+  @Query("""
+      SELECT MIN(a.createdAt) FROM Application a
+      WHERE a.status IN :statuses AND COALESCE(a.updatedAt, a.createdAt) < :closedBefore
+      """)
+  LocalDateTime findOldestClosedCreatedAt(Collection<Application.ApplicationStatus> statuses,
+      LocalDateTime closedBefore);
+
+  @Query(value = "SELECT ensure_yearly_partitions('applications_archive', :from, :to)", nativeQuery = true)
+  int ensureArchivePartitions(LocalDateTime from, LocalDateTime to);
+
+  /**
+   * Moves up to {@code limit} applications closed with one of {@code statuses} before {@code closedBefore} into the
+   * archive in one statement. Returns the job id of every moved application, so callers know how many were moved.
+   * Application counters are left alone: they count every application a job received, archived ones included, and
+   * {@link #insertIfAbsent} keeps a user from applying again once theirs is archived. The archive partitions of the
+   * moved rows must exist already, see {@link #ensureArchivePartitions}.
+   */
+  @Query(value = """
+      WITH moved AS (
+          DELETE FROM applications
+          WHERE id IN (SELECT id FROM applications
+                       WHERE application_status IN (:statuses) AND coalesce(updated_at, created_at) < :closedBefore
+                       ORDER BY id
+                       LIMIT :limit
+                       FOR UPDATE SKIP LOCKED)
+          RETURNING *),
+      archived AS (
+          INSERT INTO applications_archive (id, user_id, job_id, cv_url, cover_letter, expected_salary,
+                                            application_status, employer_notes, created_at, updated_at)
+          SELECT id, user_id, job_id, cv_url, cover_letter, expected_salary,
+                 application_status, employer_notes, created_at, updated_at
+          FROM moved
+          RETURNING job_id)
+      SELECT job_id FROM archived
+      """, nativeQuery = true)
+  List<Long> archiveClosed(Collection<String> statuses, LocalDateTime closedBefore, int limit);
+
+  /**
+   * One application's outcome in {@link #transitionStatus}.
+   */
+  interface StatusTransition {
+    Long getApplicationId();
+
+    String getPreviousStatus();
+
+    boolean isUpdated();
+  }
+}
@@ -1,14 +1,57 @@
 package com.jobhunt.repository;
 
 import com.jobhunt.model.entity.Company;
+import com.jobhunt.readmodel.CompanyView;
+import com.jobhunt.search.geo.CompanyLocation;
+import com.jobhunt.search.suggest.CompanySuggestSource;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, Long> {
-  Optional<Company> findByUserIdAndActiveTrue(Long userId);
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  Optional<Company> findByUserId(Long userId);
 
   boolean existsByTaxId(String taxId);
-}
\ No newline at end of file
+
+  @Query(value = CompanyView.SELECT + "FROM Company c ORDER BY c.id", countQuery = "SELECT count(c) FROM Company c")
+  Page<CompanyView> findAllViews(Pageable pageable);
+
+  @Query(CompanyView.SELECT + "FROM Company c WHERE c.id IN :ids")
+  List<CompanyView> findViewsByIdIn(Collection<Long> ids);
+
+  @Query("""
+      SELECT new com.jobhunt.search.geo.CompanyLocation(c.id, c.latitude, c.longitude)
+      FROM Company c
+      WHERE c.latitude IS NOT NULL AND c.longitude IS NOT NULL
+      """)
+  List<CompanyLocation> findGeoLocations();
+
+  @Query("SELECT new com.jobhunt.search.suggest.CompanySuggestSource(c.id, c.name) FROM Company c")
+  List<CompanySuggestSource> findSuggestSources();
+
+  /**
+   * Atomically moves the company's rating totals by the given deltas.
+   * <p>
+   * Declares the reviews table as its query space so Hibernate keeps the Company cache region; callers
+   * evict the one company through {@code EntityCache} instead.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reviews"))
+  @Query(value = """
+      UPDATE companies SET rating_sum = rating_sum + :sumDelta, rating_count = rating_count + :countDelta
+      WHERE id = :id
+      """, nativeQuery = true)
+  int adjustRating(Long id, int sumDelta, int countDelta);
+}
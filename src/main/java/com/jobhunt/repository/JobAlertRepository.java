@@ -0,0 +1,72 @@
+package com.jobhunt.repository;
+
+import com.jobhunt.model.entity.JobAlert;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobAlertRepository extends JpaRepository<JobAlert, Long> {
+  /**
+   * Locks up to {@code limit} unsent alerts after {@code afterId} for the current transaction and returns their ids in
+   * order. Alerts another dispatcher has locked are skipped, so instances running at the same time never claim the
+   * same alert.
+   */
+  @Query(value = """
+      SELECT a.id FROM job_alerts a
+      WHERE a.sent_at IS NULL AND a.id > :afterId
+      ORDER BY a.id
+      LIMIT :limit
+      FOR UPDATE SKIP LOCKED
+      """, nativeQuery = true)
+  List<Long> claimPendingAfter(Long afterId, int limit);
+
+  @Query("""
+      SELECT a FROM JobAlert a
+      JOIN FETCH a.savedSearch s
+      JOIN FETCH s.user
+      JOIN FETCH a.job j
+      JOIN FETCH j.company
+      WHERE a.id IN :ids
+      ORDER BY a.id
+      """)
+  List<JobAlert> findWithDetailsByIdIn(Collection<Long> ids);
+
+  /**
+   * Deletes the unsent alerts of jobs that were deactivated, or whose company was, since they were queued; returns
+   * how many. Those jobs are hidden by the soft-delete filter, so their alerts could never be loaded and sent.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_alerts"))
+  @Query(value = """
+      DELETE FROM job_alerts a
+      USING jobs j JOIN companies c ON c.id = j.company_id
+      WHERE a.job_id = j.id AND a.sent_at IS NULL AND (j.active = false OR c.active = false)
+      """, nativeQuery = true)
+  int deletePendingOfInactiveJobs();
+
+  /**
+   * Queues an alert for every listed search that is still active, skipping the ones already queued for the job.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_alerts"))
+  @Query(value = """
+      INSERT INTO job_alerts (saved_search_id, job_id)
+      SELECT s.id, :jobId FROM saved_searches s
+      WHERE s.id IN (:savedSearchIds) AND s.active = true
+      ON CONFLICT (saved_search_id, job_id) DO NOTHING
+      """, nativeQuery = true)
+  int insertIgnoringDuplicates(Long jobId, Collection<Long> savedSearchIds);
+
+  @Modifying
+  @Query("UPDATE JobAlert a SET a.sentAt = :sentAt WHERE a.id IN :ids")
+  int markSent(Collection<Long> ids, Instant sentAt);
+}
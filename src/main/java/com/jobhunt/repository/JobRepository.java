@@ -1,25 +1,48 @@
 package com.jobhunt.repository;
 
 import com.jobhunt.model.entity.Job;
-import com.jobhunt.model.entity.User;
+import com.jobhunt.readmodel.JobView;
+import com.jobhunt.search.facet.JobFacetDocument;
+import com.jobhunt.search.suggest.JobSuggestSource;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
-    List<Job> findByCompanyIdAndActiveTrue(Long companyId);
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job>, JobRepositoryCustom {
+    String FULL_TEXT_FILTER = """
+            WHERE j.active = true
+            AND (CAST(:tsQuery AS text) IS NULL OR j.search_vector @@ to_tsquery('simple', CAST(:tsQuery AS text)))
+            AND (CAST(:location AS text) IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', CAST(:location AS text), '%')))
+            AND (CAST(:employmentType AS text) IS NULL OR j.employment_type = CAST(:employmentType AS text))
+            AND (CAST(:experienceLevel AS text) IS NULL OR j.experience_level = CAST(:experienceLevel AS text))
+            AND (CAST(:isRemote AS boolean) IS NULL OR j.is_remote = CAST(:isRemote AS boolean))
+            AND ((CAST(:salaryMin AS numeric) IS NULL AND CAST(:salaryMax AS numeric) IS NULL)
+                OR ((j.salary_min IS NOT NULL OR j.salary_max IS NOT NULL)
+                    AND numrange(coalesce(j.salary_min, j.salary_max), coalesce(j.salary_max, j.salary_min), '[]')
+                        && numrange(CAST(:salaryMin AS numeric), CAST(:salaryMax AS numeric), '[]')))
+            """;
+
+    List<Job> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
-    List<Job> findByActiveTrue();
+    @Query("SELECT j FROM Job j JOIN FETCH j.company WHERE j.id IN :ids")
+    List<Job> findWithCompanyByIdIn(Collection<Long> ids);
 
     @Query("""
             SELECT j FROM Job j
-            WHERE j.active = true
-            AND (:keyword IS NULL OR (
+            WHERE (:keyword IS NULL OR (
                 LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
                 OR LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%'))
                 OR LOWER(j.requirements) LIKE LOWER(CONCAT('%', :keyword, '%'))
@@ -28,9 +51,130 @@ public interface JobRepository extends JpaRepository<Job, Long> {
             AND (:employmentType IS NULL OR j.employmentType = :employmentType)
             AND (:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel)
             AND (:isRemote IS NULL OR j.isRemote = :isRemote)
+            AND (:salaryMin IS NULL OR j.salaryMax >= :salaryMin OR (j.salaryMax IS NULL AND j.salaryMin >= :salaryMin))
+            AND (:salaryMax IS NULL OR j.salaryMin <= :salaryMax OR (j.salaryMin IS NULL AND j.salaryMax <= :salaryMax))
             """)
     List<Job> searchJobs(String keyword, String location, String employmentType,
-            String experienceLevel, Boolean isRemote);
+            String experienceLevel, Boolean isRemote, BigDecimal salaryMin, BigDecimal salaryMax);
+
+    @Query("""
+            SELECT j FROM Job j
+            WHERE (:keyword IS NULL OR (
+                LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                OR LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                OR LOWER(j.requirements) LIKE LOWER(CONCAT('%', :keyword, '%'))
+            ))
+            AND (:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%')))
+            AND (:employmentType IS NULL OR j.employmentType = :employmentType)
+            AND (:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel)
+            AND (:isRemote IS NULL OR j.isRemote = :isRemote)
+            AND (:salaryMin IS NULL OR j.salaryMax >= :salaryMin OR (j.salaryMax IS NULL AND j.salaryMin >= :salaryMin))
+            AND (:salaryMax IS NULL OR j.salaryMin <= :salaryMax OR (j.salaryMin IS NULL AND j.salaryMax <= :salaryMax))
+            AND (:cursorCreatedAt IS NULL OR j.createdAt < :cursorCreatedAt
+                OR (j.createdAt = :cursorCreatedAt AND j.id < :cursorId))
+            ORDER BY j.createdAt DESC, j.id DESC
+            """)
+    List<Job> searchJobsAfter(String keyword, String location, String employmentType,
+            String experienceLevel, Boolean isRemote, BigDecimal salaryMin, BigDecimal salaryMax,
+            Instant cursorCreatedAt, Long cursorId, Pageable pageable);
+
+    @Query(value = "SELECT j.* FROM jobs j " + FULL_TEXT_FILTER, nativeQuery = true)
+    List<Job> fullTextSearchJobs(String tsQuery, String location, String employmentType,
+            String experienceLevel, Boolean isRemote, BigDecimal salaryMin, BigDecimal salaryMax);
+
+    @Query(value = "SELECT j.* FROM jobs j " + FULL_TEXT_FILTER + """
+            ORDER BY j.created_at DESC, j.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Job> fullTextSearchJobsFirstPage(String tsQuery, String location, String employmentType,
+            String experienceLevel, Boolean isRemote, BigDecimal salaryMin, BigDecimal salaryMax, int limit);
+
+    @Query(value = "SELECT j.* FROM jobs j " + FULL_TEXT_FILTER + """
+            AND (j.created_at, j.id) < (CAST(:cursorCreatedAt AS timestamptz), CAST(:cursorId AS bigint))
+            ORDER BY j.created_at DESC, j.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Job> fullTextSearchJobsAfter(String tsQuery, String location, String employmentType,
+            String experienceLevel, Boolean isRemote, BigDecimal salaryMin, BigDecimal salaryMax,
+            Instant cursorCreatedAt, Long cursorId, int limit);
+
+    /**
+     * Typo-tolerant title match, most similar first. Expects {@code tsQuery} to be null and the word similarity
+     * threshold to be set in the current transaction.
+     */
+    @Query(value = "SELECT j.* FROM jobs j " + FULL_TEXT_FILTER + """
+            AND lower(CAST(:keyword AS text)) <% lower(j.title)
+            ORDER BY word_similarity(lower(CAST(:keyword AS text)), lower(j.title)) DESC, j.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Job> fuzzySearchJobs(String keyword, String tsQuery, String location, String employmentType,
+            String experienceLevel, Boolean isRemote, BigDecimal salaryMin, BigDecimal salaryMax, int limit);
+
+    @Query(JobView.SELECT + "FROM Job j WHERE j.company.id = :companyId ORDER BY j.createdAt DESC")
+    List<JobView> findViewsByCompanyId(Long companyId);
+
+    /**
+     * Jobs the user applied to, most recent application first.
+     */
+    @Query(value = JobView.SELECT + """
+            FROM Application a JOIN a.job j
+            WHERE a.user.id = :userId
+            ORDER BY a.createdAt DESC, a.id DESC
+            """,
+            countQuery = "SELECT count(a) FROM Application a WHERE a.user.id = :userId")
+    Page<JobView> findAppliedViews(Long userId, Pageable pageable);
+
+    /**
+     * Jobs the user saved, most recently saved first.
+     */
+    @Query(value = JobView.SELECT + """
+            FROM SavedJob s JOIN s.job j
+            WHERE s.user.id = :userId
+            ORDER BY s.createdAt DESC, s.id DESC
+            """,
+            countQuery = "SELECT count(s) FROM SavedJob s WHERE s.user.id = :userId")
+    Page<JobView> findSavedViews(Long userId, Pageable pageable);
+
+    @Query("""
+            SELECT new com.jobhunt.search.facet.JobFacetDocument(
+                j.id, j.employmentType, j.experienceLevel, j.isRemote, j.location, j.salaryMin, j.salaryMax)
+            FROM Job j
+            ORDER BY j.createdAt, j.id
+            """)
+    List<JobFacetDocument> findFacetDocuments();
+
+    @Query("""
+            SELECT new com.jobhunt.search.suggest.JobSuggestSource(j.id, j.title, j.location, j.company.id)
+            FROM Job j
+            """)
+    List<JobSuggestSource> findSuggestSources();
+
+    /**
+     * Atomically moves the job's application counter by {@code delta}, never below zero.
+     * <p>
+     * Declares the applications table as its query space so Hibernate keeps the Job cache region; callers
+     * evict the one job through {@code EntityCache} instead.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "applications"))
+    @Query(value = "UPDATE jobs SET application_count = GREATEST(application_count + :delta, 0) WHERE id = :jobId",
+            nativeQuery = true)
+    int adjustApplicationCount(Long jobId, int delta);
 
-    Page<Job> findByApplicationsUser(User user, Pageable pageable);
-}
\ No newline at end of file
+    /**
+     * Resets every application counter that drifted from the actual number of applications, live and archived;
+     * returns how many.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "jobs"))
+    @Query(value = """
+            UPDATE jobs j SET application_count = c.total
+            FROM (SELECT j2.id, COUNT(a.job_id) AS total FROM jobs j2
+                  LEFT JOIN (SELECT job_id FROM applications
+                             UNION ALL
+                             SELECT job_id FROM applications_archive) a
+                  ON a.job_id = j2.id GROUP BY j2.id) c
+            WHERE c.id = j.id AND j.application_count <> c.total
+            """, nativeQuery = true)
+    int reconcileApplicationCounts();
+}
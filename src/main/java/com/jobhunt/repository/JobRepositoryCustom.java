@@ -0,0 +1,30 @@
+package com.jobhunt.repository;
+
+import com.jobhunt.model.entity.Job;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface JobRepositoryCustom {
+    /**
+     * Like {@code findAll(Specification, Pageable)} but without the {@code COUNT(*)} query: one extra row is read
+     * to tell whether a next page exists.
+     */
+    Slice<Job> findSlice(Specification<Job> spec, Pageable pageable);
+
+    /**
+     * The first {@code limit} jobs matching {@code spec} among those posted by the companies in {@code companyRanks},
+     * ordered by their company's rank and then by job id. Only ids are read. Jobs of the companies in
+     * {@code afterIdAt} count only when their id is above {@code afterId}, which continues a listing whose last row
+     * was a job of one of those companies.
+     */
+    List<JobAtCompany> findByCompanyRank(Specification<Job> spec, Map<Long, Integer> companyRanks,
+            Collection<Long> afterIdAt, Long afterId, int limit);
+
+    record JobAtCompany(Long jobId, Long companyId) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.jobhunt.repository;
+
+import com.jobhunt.model.entity.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Job> findSlice(Specification<Job> spec, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Job> query = builder.createQuery(Job.class);
+        Root<Job> root = query.from(Job.class);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, builder) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        List<Job> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<JobAtCompany> findByCompanyRank(Specification<Job> spec, Map<Long, Integer> companyRanks,
+            Collection<Long> afterIdAt, Long afterId, int limit) {
+        if (companyRanks.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Job> root = query.from(Job.class);
+        Path<Long> jobId = root.get("id");
+        Path<Long> companyId = root.get("company").get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, builder) : null;
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        predicates.add(companyId.in(companyRanks.keySet()));
+        if (!afterIdAt.isEmpty()) {
+            predicates.add(builder.or(builder.not(companyId.in(afterIdAt)), builder.gt(jobId, afterId)));
+        }
+        CriteriaBuilder.SimpleCase<Long, Integer> rank = builder.selectCase(companyId);
+        companyRanks.forEach((id, companyRank) -> rank.when(id, companyRank));
+
+        query.multiselect(jobId, companyId)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(rank.otherwise(Integer.MAX_VALUE)), builder.asc(jobId));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(tuple -> new JobAtCompany(tuple.get(0, Long.class), tuple.get(1, Long.class)))
+                .toList();
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobhunt.repository;
+
+import com.jobhunt.model.entity.Review;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+  Page<Review> findByCompanyIdOrderByCreatedAtDesc(Long companyId, Pageable pageable);
+
+  Page<Review> findByReviewedUserIdOrderByCreatedAtDesc(Long reviewedUserId, Pageable pageable);
+
+  boolean existsByReviewerIdAndCompanyId(Long reviewerId, Long companyId);
+
+  boolean existsByReviewerIdAndReviewedUserId(Long reviewerId, Long reviewedUserId);
+}
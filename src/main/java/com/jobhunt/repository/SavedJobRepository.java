@@ -3,16 +3,38 @@ package com.jobhunt.repository;
 import com.jobhunt.model.entity.Job;
 import com.jobhunt.model.entity.SavedJob;
 import com.jobhunt.model.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
-    boolean existsByUserAndJob(User user, Job job);
-    
-    Page<SavedJob> findByUser(User user, Pageable pageable);
-    
+    /**
+     * Saves the job for the user in one statement unless it is saved already. Returns the new row's id, or empty if
+     * the unique constraint on (user_id, job_id) turned the insert away.
+     */
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO saved_jobs (user_id, job_id, idempotency_key)
+                VALUES (:userId, :jobId, CAST(:idempotencyKey AS varchar))
+                ON CONFLICT (user_id, job_id) DO NOTHING
+                RETURNING id)
+            SELECT id FROM inserted
+            """, nativeQuery = true)
+    Optional<Long> insertIfAbsent(Long userId, Long jobId, String idempotencyKey);
+
+    @Query(value = """
+            SELECT EXISTS (SELECT 1 FROM saved_jobs s
+                           WHERE s.user_id = :userId AND s.job_id = :jobId AND s.idempotency_key = :idempotencyKey)
+            """, nativeQuery = true)
+    boolean existsByIdempotencyKey(Long userId, Long jobId, String idempotencyKey);
+
     void deleteByUserAndJob(User user, Job job);
+
+    @Query("SELECT s.job.id FROM SavedJob s WHERE s.user.id = :userId ORDER BY s.createdAt DESC")
+    List<Long> findRecentJobIds(Long userId, Pageable pageable);
 }
\ No newline at end of file
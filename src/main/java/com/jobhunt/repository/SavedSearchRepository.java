@@ -0,0 +1,26 @@
+package com.jobhunt.repository;
+
+import com.jobhunt.model.entity.SavedSearch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+  List<SavedSearch> findByUserIdAndActiveTrueOrderByCreatedAtDesc(Long userId);
+
+  Optional<SavedSearch> findByIdAndActiveTrue(Long id);
+
+  long countByUserIdAndActiveTrue(Long userId);
+
+  @Query("""
+      SELECT s FROM SavedSearch s JOIN FETCH s.user
+      WHERE s.active = true AND s.id > :afterId
+      ORDER BY s.id
+      """)
+  List<SavedSearch> findActiveAfter(Long afterId, Pageable pageable);
+}
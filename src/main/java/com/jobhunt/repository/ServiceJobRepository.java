@@ -1,14 +1,21 @@
 package com.jobhunt.repository;
 
 import com.jobhunt.model.entity.ServiceJob;
+import com.jobhunt.model.entity.ServiceJobApplication;
 import com.jobhunt.model.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,17 +30,75 @@ public interface ServiceJobRepository extends JpaRepository<ServiceJob, Long>, J
 
   List<ServiceJob> findByIsUrgent(boolean isUrgent);
 
-  List<ServiceJob> findByActiveTrue();
-
   @Query("SELECT sj FROM ServiceJob sj WHERE " +
       "(:location IS NULL OR sj.location LIKE %:location%) AND " +
       "(:minBudget IS NULL OR sj.estimatedBudget >= :minBudget) AND " +
       "(:maxBudget IS NULL OR sj.estimatedBudget <= :maxBudget) AND " +
-      "(:serviceType IS NULL OR sj.serviceType = :serviceType) AND " +
-      "sj.active = true")
+      "(:serviceType IS NULL OR sj.serviceType = :serviceType)")
   List<ServiceJob> searchServiceJobs(
       @Param("location") String location,
       @Param("minBudget") BigDecimal minBudget,
       @Param("maxBudget") BigDecimal maxBudget,
       @Param("serviceType") ServiceJob.ServiceType serviceType);
-}
\ No newline at end of file
+
+  /**
+   * Atomically moves the service job's application counter by {@code delta}, never below zero.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "service_jobs"))
+  @Query(value = "UPDATE service_jobs SET application_count = GREATEST(application_count + :delta, 0) WHERE id = :id",
+      nativeQuery = true)
+  int adjustApplicationCount(Long id, int delta);
+
+  /**
+   * Resets every application counter that drifted from the actual number of applications, live and archived;
+   * returns how many.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "service_jobs"))
+  @Query(value = """
+      UPDATE service_jobs sj SET application_count = c.total
+      FROM (SELECT sj2.id, COUNT(a.service_job_id) AS total FROM service_jobs sj2
+            LEFT JOIN (SELECT service_job_id FROM service_job_applications
+                       UNION ALL
+                       SELECT service_job_id FROM service_job_applications_archive) a
+            ON a.service_job_id = sj2.id GROUP BY sj2.id) c
+      WHERE c.id = sj.id AND sj.application_count <> c.total
+      """, nativeQuery = true)
+  int reconcileApplicationCounts();
+
+  @Query("""
+      SELECT MIN(a.createdAt) FROM ServiceJobApplication a
+      WHERE a.status IN :statuses AND COALESCE(a.updatedAt, a.createdAt) < :closedBefore
+      """)
+  LocalDateTime findOldestClosedApplicationCreatedAt(Collection<ServiceJobApplication.ApplicationStatus> statuses,
+      LocalDateTime closedBefore);
+
+  @Query(value = "SELECT ensure_yearly_partitions('service_job_applications_archive', :from, :to)", nativeQuery = true)
+  int ensureApplicationArchivePartitions(LocalDateTime from, LocalDateTime to);
+
+  /**
+   * Service job counterpart of {@code ApplicationRepository.archiveClosed}; returns the service job id of every
+   * moved application.
+   */
+  @Query(value = """
+      WITH moved AS (
+          DELETE FROM service_job_applications
+          WHERE id IN (SELECT id FROM service_job_applications
+                       WHERE application_status IN (:statuses) AND coalesce(updated_at, created_at) < :closedBefore
+                       ORDER BY id
+                       LIMIT :limit
+                       FOR UPDATE SKIP LOCKED)
+          RETURNING *),
+      archived AS (
+          INSERT INTO service_job_applications_archive (id, user_id, service_job_id, proposed_price, proposal,
+                                                        estimated_completion_time, application_status, owner_notes,
+                                                        created_at, updated_at)
+          SELECT id, user_id, service_job_id, proposed_price, proposal,
+                 estimated_completion_time, application_status, owner_notes, created_at, updated_at
+          FROM moved
+          RETURNING service_job_id)
+      SELECT service_job_id FROM archived
+      """, nativeQuery = true)
+  List<Long> archiveClosedApplications(Collection<String> statuses, LocalDateTime closedBefore, int limit);
+}
@@ -0,0 +1,80 @@
+package com.jobhunt.repository;
+
+import com.jobhunt.model.entity.SoftDeletable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Controls the {@link SoftDeletable#FILTER} filter that hides soft-deleted jobs, companies and service jobs from all
+ * queries. Loads by id ({@code findById}) are not filtered by Hibernate, so lookups of single entities go through
+ * {@link #visible} instead. Administrators see soft-deleted rows everywhere.
+ */
+@Component
+public class SoftDeleteFilter {
+
+  private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private final TransactionTemplate transactionTemplate;
+
+  public SoftDeleteFilter(PlatformTransactionManager transactionManager) {
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  /**
+   * Whether the current user may see soft-deleted rows.
+   */
+  public boolean bypassed() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication != null && authentication.getAuthorities().stream()
+        .map(GrantedAuthority::getAuthority)
+        .anyMatch(ADMIN_AUTHORITY::equals);
+  }
+
+  /**
+   * The entity, unless it is soft-deleted and the current user is not an administrator.
+   */
+  public <T extends SoftDeletable> Optional<T> visible(Optional<T> entity) {
+    return entity.filter(found -> found.isActive() || bypassed());
+  }
+
+  /**
+   * Runs the queries in {@code queries} with soft-deleted rows included if the current user is an administrator.
+   */
+  public <T> T forCurrentUser(Supplier<T> queries) {
+    return bypassed() ? includingInactive(queries) : queries.get();
+  }
+
+  /**
+   * Runs the queries in {@code queries} with soft-deleted rows included, for reads that must still show them such as
+   * a candidate's application history. Joins the current transaction, or starts a read-only one, so the queries run
+   * in the session the filter is lifted on.
+   */
+  public <T> T includingInactive(Supplier<T> queries) {
+    return transactionTemplate.execute(status -> {
+      Session session = entityManager.unwrap(Session.class);
+      boolean enabled = session.getEnabledFilter(SoftDeletable.FILTER) != null;
+      session.disableFilter(SoftDeletable.FILTER);
+      try {
+        return queries.get();
+      } finally {
+        if (enabled) {
+          session.enableFilter(SoftDeletable.FILTER);
+        }
+      }
+    });
+  }
+}
@@ -1,19 +1,72 @@
 package com.jobhunt.repository;
 
 import com.jobhunt.model.entity.User;
+import com.jobhunt.readmodel.UserView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+    String FUZZY_NAME_MATCH = "lower(CAST(:name AS text)) <% lower(u.first_name || ' ' || u.last_name)";
+    String FUZZY_EMAIL_MATCH = "lower(CAST(:email AS text)) <% lower(u.email)";
+    String FUZZY_ORDER = """
+            ORDER BY greatest(
+                coalesce(word_similarity(lower(CAST(:name AS text)), lower(u.first_name || ' ' || u.last_name)), 0),
+                coalesce(word_similarity(lower(CAST(:email AS text)), lower(u.email)), 0)) DESC, u.id
+            """;
+
     Optional<User> findByEmail(String username);
 
     Optional<User> findByRefreshTokenAndEmail(String refreshToken, String email);
 
     Optional<User> findByUsername(String username);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByKeycloakId(String keycloakId);
+
+    @Query(value = UserView.SELECT + "FROM User u ORDER BY u.id", countQuery = "SELECT count(u) FROM User u")
+    Page<UserView> findAllViews(Pageable pageable);
+
+    /**
+     * Users whose name and email are both similar to the given ones; a null argument matches everyone. Expects the
+     * word similarity threshold to be set in the current transaction.
+     */
+    @Query(value = "SELECT u.* FROM users u WHERE (CAST(:name AS text) IS NULL OR " + FUZZY_NAME_MATCH + ")"
+            + " AND (CAST(:email AS text) IS NULL OR " + FUZZY_EMAIL_MATCH + ") " + FUZZY_ORDER,
+            countQuery = "SELECT count(*) FROM users u WHERE (CAST(:name AS text) IS NULL OR " + FUZZY_NAME_MATCH + ")"
+                    + " AND (CAST(:email AS text) IS NULL OR " + FUZZY_EMAIL_MATCH + ")",
+            nativeQuery = true)
+    Page<User> fuzzySearchAll(String name, String email, Pageable pageable);
+
+    /**
+     * Users whose name or email is similar to the given one; null arguments never match.
+     */
+    @Query(value = "SELECT u.* FROM users u WHERE " + FUZZY_NAME_MATCH + " OR " + FUZZY_EMAIL_MATCH + " " + FUZZY_ORDER,
+            countQuery = "SELECT count(*) FROM users u WHERE " + FUZZY_NAME_MATCH + " OR " + FUZZY_EMAIL_MATCH,
+            nativeQuery = true)
+    Page<User> fuzzySearchAny(String name, String email, Pageable pageable);
+
+    /**
+     * Atomically moves the user's received rating totals by the given deltas.
+     * <p>
+     * Declares the reviews table as its query space so Hibernate keeps the User cache region; callers
+     * evict the one user through {@code EntityCache} instead.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reviews"))
+    @Query(value = """
+            UPDATE users SET rating_sum = rating_sum + :sumDelta, rating_count = rating_count + :countDelta
+            WHERE id = :id
+            """, nativeQuery = true)
+    int adjustRating(Long id, int sumDelta, int countDelta);
 }
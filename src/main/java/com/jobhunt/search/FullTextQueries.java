@@ -0,0 +1,30 @@
+package com.jobhunt.search;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Helpers for building Postgres full-text queries from user input.
+ */
+public final class FullTextQueries {
+
+  private FullTextQueries() {
+  }
+
+  /**
+   * Turns free text into a tsquery where every word must match as a prefix, e.g. {@code "java dev"} becomes
+   * {@code "java:* & dev:*"}. Only letters and digits are kept so user input can never break the tsquery syntax.
+   */
+  public static String toPrefixTsQuery(String keyword) {
+    if (keyword == null) {
+      return null;
+    }
+    StringJoiner tsQuery = new StringJoiner(" & ");
+    for (String token : keyword.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+      if (!token.isEmpty()) {
+        tsQuery.add(token + ":*");
+      }
+    }
+    return tsQuery.length() == 0 ? null : tsQuery.toString();
+  }
+}
@@ -0,0 +1,86 @@
+package com.jobhunt.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The current generation of an in-memory index, with the locking shared by every index kept in memory. Reads run
+ * under a read lock and changes under a write lock. A rebuild loads a new generation without holding the lock;
+ * changes that arrive meanwhile are applied to the current generation and replayed, in order, on top of the new one
+ * before it is published.
+ *
+ * @param <S> the mutable structure holding one generation; it is only touched under this index's lock
+ */
+public final class GenerationalIndex<S> {
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final List<Consumer<S>> pendingChanges = new ArrayList<>();
+  private S current;
+  private boolean rebuilding;
+
+  public GenerationalIndex(S initial) {
+    this.current = initial;
+  }
+
+  public <R> R read(Function<S, R> reader) {
+    lock.readLock().lock();
+    try {
+      return reader.apply(current);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void update(Consumer<S> change) {
+    lock.writeLock().lock();
+    try {
+      if (rebuilding) {
+        pendingChanges.add(change);
+      }
+      change.accept(current);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Loads a new generation and publishes it once the changes made while loading are replayed on it. If loading
+   * fails the current generation stays in place.
+   *
+   * @return the published generation
+   */
+  public S rebuild(Supplier<S> loader) {
+    lock.writeLock().lock();
+    try {
+      rebuilding = true;
+      pendingChanges.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    S rebuilt = null;
+    try {
+      rebuilt = loader.get();
+    } finally {
+      lock.writeLock().lock();
+      try {
+        if (rebuilt != null) {
+          for (Consumer<S> change : pendingChanges) {
+            change.accept(rebuilt);
+          }
+          current = rebuilt;
+        }
+        pendingChanges.clear();
+        rebuilding = false;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+    return rebuilt;
+  }
+}
@@ -0,0 +1,45 @@
+package com.jobhunt.search;
+
+import com.jobhunt.exception.BadRequestException;
+import com.jobhunt.model.entity.Job;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Keyset position in a {@code created_at DESC, id DESC} ordered job listing. Clients only ever see the encoded,
+ * opaque form.
+ */
+@Value
+public class JobCursor {
+  Instant createdAt;
+  Long id;
+
+  public static JobCursor of(Job job) {
+    return new JobCursor(job.getCreatedAt(), job.getId());
+  }
+
+  public String encode() {
+    String raw = createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static JobCursor decode(String cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+      if (parts.length != 3) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+      return new JobCursor(createdAt, Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.jobhunt.search;
+
+import com.jobhunt.event.JobSnapshot;
+import com.jobhunt.search.facet.JobFacetDocument;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates {@link JobSearchQuery} filters against one job in memory, for callers that need to know which queries a
+ * job belongs to rather than which jobs a query returns. Every filter but the keyword behaves as in SQL. The keyword
+ * is compared as the {@link KeywordMode} says and errs on the side of matching.
+ */
+public final class JobQueryMatcher {
+
+  /**
+   * How a keyword is compared with the job's title, requirements and description.
+   */
+  public enum KeywordMode {
+    /**
+     * Each word of the keyword must prefix one of the job's words after accent folding, which is looser than the
+     * full-text match; fuzzy keywords are not checked at all.
+     */
+    WORD_PREFIX,
+    /**
+     * The whole keyword must occur in one of the texts, ignoring case, as in {@link LikeJobSearchIndex}; fuzzy
+     * keywords are matched the same way, and keywords holding a LIKE wildcard always match.
+     */
+    SUBSTRING
+  }
+
+  private final JobSnapshot job;
+  private final JobFacetDocument document;
+  private final KeywordMode keywordMode;
+  private Set<String> words;
+  private List<String> lowerCaseTexts;
+
+  public JobQueryMatcher(JobSnapshot job) {
+    this(job, KeywordMode.WORD_PREFIX);
+  }
+
+  public JobQueryMatcher(JobSnapshot job, KeywordMode keywordMode) {
+    this.job = job;
+    this.document = job.toFacetDocument();
+    this.keywordMode = keywordMode;
+  }
+
+  public JobSnapshot getJob() {
+    return job;
+  }
+
+  public boolean matches(JobSearchQuery query) {
+    if (!job.isActive() || !query.matches(document)) {
+      return false;
+    }
+    if (query.getKeyword() == null) {
+      return true;
+    }
+    return switch (keywordMode) {
+      case WORD_PREFIX -> query.isFuzzy() || matchesKeyword(TextAnalyzer.tokens(query.getKeyword()));
+      case SUBSTRING -> containsKeyword(query.getKeyword());
+    };
+  }
+
+  public boolean matchesKeyword(List<String> tokens) {
+    Set<String> jobWords = words();
+    return tokens.stream().allMatch(token -> jobWords.stream().anyMatch(word -> word.startsWith(token)));
+  }
+
+  private boolean containsKeyword(String keyword) {
+    if (keyword.indexOf('%') >= 0 || keyword.indexOf('_') >= 0) {
+      return true;
+    }
+    if (lowerCaseTexts == null) {
+      lowerCaseTexts = Stream.of(job.getTitle(), job.getRequirements(), job.getDescription())
+          .filter(Objects::nonNull)
+          .map(text -> text.toLowerCase(Locale.ROOT))
+          .toList();
+    }
+    String needle = keyword.toLowerCase(Locale.ROOT);
+    return lowerCaseTexts.stream().anyMatch(text -> text.contains(needle));
+  }
+
+  /**
+   * Distinct folded words of the title, requirements and description.
+   */
+  public Set<String> words() {
+    if (words == null) {
+      words = new HashSet<>();
+      words.addAll(TextAnalyzer.tokens(job.getTitle()));
+      words.addAll(TextAnalyzer.tokens(job.getRequirements()));
+      words.addAll(TextAnalyzer.tokens(job.getDescription()));
+    }
+    return words;
+  }
+}
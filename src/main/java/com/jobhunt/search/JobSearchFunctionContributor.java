@@ -0,0 +1,38 @@
+package com.jobhunt.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers SQL functions that let criteria queries use the job search indexes without mapping the indexed
+ * expressions on {@link com.jobhunt.model.entity.Job}:
+ * <ul>
+ *   <li>{@code job_fts_match(jobId, tsQuery)} uses the {@code jobs.search_vector} GIN index</li>
+ *   <li>{@code job_salary_overlaps(jobId, min, max)} uses the GiST index on the job's salary range</li>
+ * </ul>
+ * Registered through {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class JobSearchFunctionContributor implements FunctionContributor {
+
+  public static final String JOB_FTS_MATCH = "job_fts_match";
+  public static final String JOB_SALARY_OVERLAPS = "job_salary_overlaps";
+
+  @Override
+  public void contributeFunctions(FunctionContributions functionContributions) {
+    BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+        .resolve(StandardBasicTypes.BOOLEAN);
+    functionContributions.getFunctionRegistry().registerPattern(
+        JOB_FTS_MATCH,
+        "(?1 in (select fts.id from jobs fts where fts.search_vector @@ to_tsquery('simple', ?2)))",
+        booleanType);
+    functionContributions.getFunctionRegistry().registerPattern(
+        JOB_SALARY_OVERLAPS,
+        "(?1 in (select sal.id from jobs sal where sal.active = true"
+            + " and (sal.salary_min is not null or sal.salary_max is not null)"
+            + " and numrange(coalesce(sal.salary_min, sal.salary_max), coalesce(sal.salary_max, sal.salary_min), '[]')"
+            + " && numrange(?2, ?3, '[]')))",
+        booleanType);
+  }
+}
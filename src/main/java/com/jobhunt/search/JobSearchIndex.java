@@ -0,0 +1,19 @@
+package com.jobhunt.search;
+
+import com.jobhunt.model.entity.Job;
+
+import java.util.List;
+
+/**
+ * Backend used by the public job search to find active jobs matching a {@link JobSearchQuery}.
+ */
+public interface JobSearchIndex {
+  List<Job> search(JobSearchQuery query);
+
+  /**
+   * How this backend matches keywords, so in-memory checks of which queries a job belongs to agree with it.
+   */
+  default JobQueryMatcher.KeywordMode keywordMode() {
+    return JobQueryMatcher.KeywordMode.WORD_PREFIX;
+  }
+}
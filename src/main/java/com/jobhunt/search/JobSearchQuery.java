@@ -0,0 +1,53 @@
+package com.jobhunt.search;
+
+import com.jobhunt.search.facet.JobFacetDocument;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Filters accepted by a {@link JobSearchIndex}. Every field is optional; a null field does not restrict the result.
+ * When {@code limit} is set the result is ordered newest first and starts right after {@code cursor}. A
+ * {@code fuzzy} query matches the keyword against titles by trigram similarity instead, most similar first and
+ * without a cursor.
+ */
+@Value
+@Builder(toBuilder = true)
+public class JobSearchQuery {
+  String keyword;
+  String location;
+  String employmentType;
+  String experienceLevel;
+  Boolean remote;
+  SalaryRange salaryRange;
+  boolean fuzzy;
+  JobCursor cursor;
+  Integer limit;
+
+  public BigDecimal getSalaryMin() {
+    return salaryRange != null ? salaryRange.getMin() : null;
+  }
+
+  public BigDecimal getSalaryMax() {
+    return salaryRange != null ? salaryRange.getMax() : null;
+  }
+
+  public boolean isPaginated() {
+    return limit != null;
+  }
+
+  /**
+   * Applies every filter except the keyword to an in-memory document, with the same semantics as the SQL filters.
+   */
+  public boolean matches(JobFacetDocument document) {
+    return (location == null || (document.getLocation() != null
+            && document.getLocation().toLowerCase(Locale.ROOT).contains(location.toLowerCase(Locale.ROOT))))
+        && (employmentType == null || (document.getEmploymentType() != null
+            && document.getEmploymentType().name().equals(employmentType)))
+        && (experienceLevel == null || experienceLevel.equals(document.getExperienceLevel()))
+        && (remote == null || remote.equals(document.getRemote()))
+        && (salaryRange == null || salaryRange.overlaps(document.getSalaryMin(), document.getSalaryMax()));
+  }
+}
@@ -0,0 +1,41 @@
+package com.jobhunt.search;
+
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Substring search over title, description and requirements. Every call scans the jobs table, so this is only
+ * meant for databases without the full-text column. Fuzzy queries fall back to the plain substring match, as
+ * pg_trgm is not assumed to be available either.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.job-index", havingValue = "like")
+@RequiredArgsConstructor
+public class LikeJobSearchIndex implements JobSearchIndex {
+
+  private final JobRepository jobRepository;
+
+  @Override
+  public List<Job> search(JobSearchQuery query) {
+    if (!query.isPaginated()) {
+      return jobRepository.searchJobs(query.getKeyword(), query.getLocation(), query.getEmploymentType(),
+          query.getExperienceLevel(), query.getRemote(), query.getSalaryMin(), query.getSalaryMax());
+    }
+    JobCursor cursor = query.getCursor();
+    return jobRepository.searchJobsAfter(query.getKeyword(), query.getLocation(), query.getEmploymentType(),
+        query.getExperienceLevel(), query.getRemote(), query.getSalaryMin(), query.getSalaryMax(),
+        cursor != null ? cursor.getCreatedAt() : null, cursor != null ? cursor.getId() : null,
+        PageRequest.of(0, query.getLimit()));
+  }
+
+  @Override
+  public JobQueryMatcher.KeywordMode keywordMode() {
+    return JobQueryMatcher.KeywordMode.SUBSTRING;
+  }
+}
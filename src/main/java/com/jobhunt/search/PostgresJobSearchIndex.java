@@ -0,0 +1,50 @@
+package com.jobhunt.search;
+
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Full-text search backed by the GIN-indexed {@code jobs.search_vector} column. Fuzzy queries go through the
+ * trigram index on {@code lower(title)} instead.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.job-index", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresJobSearchIndex implements JobSearchIndex {
+
+  private static final int MAX_FUZZY_RESULTS = 100;
+
+  private final JobRepository jobRepository;
+  private final TrigramSimilarity trigramSimilarity;
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Job> search(JobSearchQuery query) {
+    String tsQuery = FullTextQueries.toPrefixTsQuery(query.getKeyword());
+    if (query.isFuzzy() && tsQuery != null) {
+      trigramSimilarity.applyWordSimilarityThreshold();
+      return jobRepository.fuzzySearchJobs(query.getKeyword().trim(), null, query.getLocation(),
+          query.getEmploymentType(), query.getExperienceLevel(), query.getRemote(), query.getSalaryMin(),
+          query.getSalaryMax(), query.isPaginated() ? query.getLimit() : MAX_FUZZY_RESULTS);
+    }
+    if (!query.isPaginated()) {
+      return jobRepository.fullTextSearchJobs(tsQuery, query.getLocation(), query.getEmploymentType(),
+          query.getExperienceLevel(), query.getRemote(), query.getSalaryMin(), query.getSalaryMax());
+    }
+    JobCursor cursor = query.getCursor();
+    if (cursor == null) {
+      return jobRepository.fullTextSearchJobsFirstPage(tsQuery, query.getLocation(), query.getEmploymentType(),
+          query.getExperienceLevel(), query.getRemote(), query.getSalaryMin(), query.getSalaryMax(),
+          query.getLimit());
+    }
+    return jobRepository.fullTextSearchJobsAfter(tsQuery, query.getLocation(), query.getEmploymentType(),
+        query.getExperienceLevel(), query.getRemote(), query.getSalaryMin(), query.getSalaryMax(),
+        cursor.getCreatedAt(), cursor.getId(), query.getLimit());
+  }
+}
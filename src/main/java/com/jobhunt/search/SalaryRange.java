@@ -0,0 +1,59 @@
+package com.jobhunt.search;
+
+import com.jobhunt.exception.BadRequestException;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Inclusive salary bounds, either of which may be open. A job matches when its own {@code salaryMin..salaryMax}
+ * range overlaps this one; a job with only one bound set is treated as that single value.
+ */
+@Value
+public class SalaryRange {
+  BigDecimal min;
+  BigDecimal max;
+
+  public static SalaryRange of(BigDecimal min, BigDecimal max) {
+    if (min == null && max == null) {
+      return null;
+    }
+    if (min != null && max != null && min.compareTo(max) > 0) {
+      throw new BadRequestException("Minimum salary must not exceed maximum salary");
+    }
+    return new SalaryRange(min, max);
+  }
+
+  /**
+   * Parses {@code "1000-3000"}, {@code "1000-"}, {@code "1000+"} and {@code "-3000"}.
+   */
+  public static SalaryRange parse(String salaryRange) {
+    if (salaryRange == null || salaryRange.isBlank()) {
+      return null;
+    }
+    String value = salaryRange.trim();
+    try {
+      if (value.endsWith("+")) {
+        return of(new BigDecimal(value.substring(0, value.length() - 1).trim()), null);
+      }
+      int separator = value.indexOf('-');
+      if (separator < 0) {
+        throw new BadRequestException("Invalid salary range: " + salaryRange);
+      }
+      String min = value.substring(0, separator).trim();
+      String max = value.substring(separator + 1).trim();
+      return of(min.isEmpty() ? null : new BigDecimal(min), max.isEmpty() ? null : new BigDecimal(max));
+    } catch (NumberFormatException e) {
+      throw new BadRequestException("Invalid salary range: " + salaryRange);
+    }
+  }
+
+  public boolean overlaps(BigDecimal salaryMin, BigDecimal salaryMax) {
+    BigDecimal low = salaryMin != null ? salaryMin : salaryMax;
+    BigDecimal high = salaryMax != null ? salaryMax : salaryMin;
+    if (low == null) {
+      return false;
+    }
+    return (max == null || low.compareTo(max) <= 0) && (min == null || high.compareTo(min) >= 0);
+  }
+}
@@ -0,0 +1,60 @@
+package com.jobhunt.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Shared text analysis for the in-memory search structures. Text is folded to lower case with accents stripped, so
+ * "Hà Nội" and "ha noi" are the same key, and every run of non-alphanumerics becomes one space.
+ */
+public final class TextAnalyzer {
+
+  private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+  private TextAnalyzer() {
+  }
+
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+        .replace('đ', 'd')
+        .replace('Đ', 'D')
+        .toLowerCase(Locale.ROOT);
+
+    StringBuilder key = new StringBuilder(folded.length());
+    boolean pendingSpace = false;
+    for (int i = 0; i < folded.length(); i++) {
+      char c = folded.charAt(i);
+      if (Character.isLetterOrDigit(c)) {
+        if (pendingSpace && key.length() > 0) {
+          key.append(' ');
+        }
+        pendingSpace = false;
+        key.append(c);
+      } else {
+        pendingSpace = true;
+      }
+    }
+    return key.toString();
+  }
+
+  public static List<String> tokens(String text) {
+    String normalized = normalize(text);
+    List<String> tokens = new ArrayList<>();
+    int start = 0;
+    while (start < normalized.length()) {
+      int end = normalized.indexOf(' ', start);
+      if (end < 0) {
+        end = normalized.length();
+      }
+      tokens.add(normalized.substring(start, end));
+      start = end + 1;
+    }
+    return tokens;
+  }
+}
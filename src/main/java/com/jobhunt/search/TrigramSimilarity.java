@@ -0,0 +1,29 @@
+package com.jobhunt.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Sets the pg_trgm threshold used by the {@code <%} operator. The setting is transaction-local, so callers must run
+ * it and their fuzzy query inside the same transaction.
+ */
+@Component
+public class TrigramSimilarity {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Value("${app.search.fuzzy.word-similarity-threshold:0.5}")
+  private double wordSimilarityThreshold;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void applyWordSimilarityThreshold() {
+    entityManager.createNativeQuery("SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)")
+        .setParameter("threshold", String.valueOf(wordSimilarityThreshold))
+        .getSingleResult();
+  }
+}
@@ -0,0 +1,129 @@
+package com.jobhunt.search.alert;
+
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.model.entity.JobAlert;
+import com.jobhunt.model.entity.User;
+import com.jobhunt.repository.JobAlertRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delivers queued job alerts in batches: every run sends each user a single mail listing all of their new matches
+ * and marks those alerts as sent. Without a configured mail server the alerts simply stay queued.
+ * <p>
+ * Every batch is claimed with {@code FOR UPDATE SKIP LOCKED}, mailed and marked sent in a transaction of its own, so
+ * a failure later in the run does not resend the batches already delivered and instances running the schedule at the
+ * same time split the queue instead of each mailing all of it. A mail can still go out twice if the commit after it
+ * fails. Alerts of jobs deactivated since they were queued are dropped at the start of each run.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobAlertDispatcher {
+
+  private static final Logger log = LoggerFactory.getLogger(JobAlertDispatcher.class);
+
+  private final JobAlertRepository jobAlertRepository;
+  private final ObjectProvider<JavaMailSender> mailSender;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${app.alerts.batch-size:500}")
+  private int batchSize;
+
+  @Value("${app.alerts.from:no-reply@jobhunt.local}")
+  private String from;
+
+  @Scheduled(fixedDelayString = "${app.alerts.dispatch-interval:PT15M}",
+      initialDelayString = "${app.alerts.dispatch-interval:PT15M}")
+  public void dispatch() {
+    JavaMailSender sender = mailSender.getIfAvailable();
+    if (sender == null) {
+      log.debug("No mail sender configured, leaving job alerts queued");
+      return;
+    }
+
+    int dropped = transactionTemplate.execute(status -> jobAlertRepository.deletePendingOfInactiveJobs());
+    if (dropped > 0) {
+      log.info("Dropped {} job alerts of deactivated jobs", dropped);
+    }
+
+    int sent = 0;
+    Batch batch = new Batch(0, 0, 0);
+    do {
+      long afterId = batch.lastId();
+      batch = transactionTemplate.execute(status -> sendBatch(sender, afterId));
+      sent += batch.sent();
+    } while (batch.claimed() == batchSize);
+
+    if (sent > 0) {
+      log.info("Delivered {} job alerts", sent);
+    }
+  }
+
+  /**
+   * Claims the next batch after {@code afterId}, mails it and marks what was delivered as sent. Runs in its own
+   * transaction, which holds the claim until the batch is marked.
+   */
+  private Batch sendBatch(JavaMailSender sender, long afterId) {
+    List<Long> claimed = jobAlertRepository.claimPendingAfter(afterId, batchSize);
+    if (claimed.isEmpty()) {
+      return new Batch(0, afterId, 0);
+    }
+
+    // A user's alerts can straddle two batches, in which case they get two mails in this run
+    Map<Long, List<JobAlert>> byUser = new LinkedHashMap<>();
+    for (JobAlert alert : jobAlertRepository.findWithDetailsByIdIn(claimed)) {
+      byUser.computeIfAbsent(alert.getSavedSearch().getUser().getId(), userId -> new ArrayList<>()).add(alert);
+    }
+    List<Long> delivered = new ArrayList<>();
+    byUser.forEach((userId, alerts) -> {
+      User user = alerts.get(0).getSavedSearch().getUser();
+      try {
+        sender.send(toMessage(user, alerts));
+        alerts.forEach(alert -> delivered.add(alert.getId()));
+      } catch (MailException e) {
+        log.warn("Failed to send {} job alerts to user {}, retrying next run", alerts.size(), userId, e);
+      }
+    });
+    if (!delivered.isEmpty()) {
+      jobAlertRepository.markSent(delivered, Instant.now());
+    }
+    return new Batch(claimed.size(), claimed.get(claimed.size() - 1), delivered.size());
+  }
+
+  private SimpleMailMessage toMessage(User user, List<JobAlert> alerts) {
+    StringBuilder text = new StringBuilder("New jobs matching your saved searches:\n\n");
+    for (JobAlert alert : alerts) {
+      Job job = alert.getJob();
+      text.append("- ").append(job.getTitle())
+          .append(" at ").append(job.getCompany().getName())
+          .append(job.getLocation() != null ? " (" + job.getLocation() + ")" : "")
+          .append(" [").append(alert.getSavedSearch().getName()).append("]\n");
+    }
+
+    SimpleMailMessage message = new SimpleMailMessage();
+    message.setFrom(from);
+    message.setTo(user.getEmail());
+    message.setSubject(alerts.size() == 1 ? "1 new job matches your saved searches"
+        : alerts.size() + " new jobs match your saved searches");
+    message.setText(text.toString());
+    return message;
+  }
+
+  private record Batch(int claimed, long lastId, int sent) {
+  }
+}
@@ -0,0 +1,66 @@
+package com.jobhunt.search.alert;
+
+import com.jobhunt.event.JobChangedEvent;
+import com.jobhunt.event.JobSnapshot;
+import com.jobhunt.event.JobsImportedEvent;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.JobAlertRepository;
+import com.jobhunt.search.JobQueryMatcher;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Queues a {@link com.jobhunt.model.entity.JobAlert} for every saved search a created or updated job now matches.
+ * Runs off the request thread once the job is committed; matching is in memory and the alerts are written with one
+ * insert per batch of searches. A search is alerted at most once per job, so an update that keeps a job matching
+ * does not alert again.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobAlertMatcher {
+
+  private static final Logger log = LoggerFactory.getLogger(JobAlertMatcher.class);
+  private static final int INSERT_BATCH_SIZE = 1_000;
+
+  private final SavedSearchIndex savedSearchIndex;
+  private final JobAlertRepository jobAlertRepository;
+
+  @Async
+  @TransactionalEventListener
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void onJobChanged(JobChangedEvent event) {
+    queueAlerts(event.getJob());
+  }
+
+  /**
+   * Matches a whole import chunk in one task and one transaction rather than one of each per job.
+   */
+  @Async
+  @TransactionalEventListener
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void onJobsImported(JobsImportedEvent event) {
+    event.getJobs().forEach(this::queueAlerts);
+  }
+
+  private void queueAlerts(Job job) {
+    List<Long> savedSearchIds = savedSearchIndex.match(new JobQueryMatcher(JobSnapshot.of(job)));
+    if (savedSearchIds.isEmpty()) {
+      return;
+    }
+
+    int queued = 0;
+    for (int start = 0; start < savedSearchIds.size(); start += INSERT_BATCH_SIZE) {
+      List<Long> batch = savedSearchIds.subList(start, Math.min(start + INSERT_BATCH_SIZE, savedSearchIds.size()));
+      queued += jobAlertRepository.insertIgnoringDuplicates(job.getId(), batch);
+    }
+    log.debug("Job {} matched {} saved searches, {} new alerts queued", job.getId(), savedSearchIds.size(), queued);
+  }
+}
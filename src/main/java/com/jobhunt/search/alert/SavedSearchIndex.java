@@ -0,0 +1,256 @@
+package com.jobhunt.search.alert;
+
+import com.jobhunt.event.SavedSearchChangedEvent;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.model.entity.SavedSearch;
+import com.jobhunt.repository.SavedSearchRepository;
+import com.jobhunt.search.GenerationalIndex;
+import com.jobhunt.search.JobQueryMatcher;
+import com.jobhunt.search.JobSearchQuery;
+import com.jobhunt.search.SalaryRange;
+import com.jobhunt.search.TextAnalyzer;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Reverse index over the active saved searches: given a job, finds the searches it matches without evaluating all of
+ * them. Every search is filed under exactly one anchor, the most selective filter it has, in this order:
+ * <ol>
+ *   <li>its longest keyword word, looked up with every prefix of the job's words;</li>
+ *   <li>its location, looked up with every substring of the job's location of a length some anchor has;</li>
+ *   <li>its employment type, experience level or remote flag, looked up by the job's value;</li>
+ *   <li>nothing, for searches that only bound the salary, which are always candidates.</li>
+ * </ol>
+ * A job therefore only touches the searches whose anchor it satisfies, and each candidate is then checked against
+ * all of its filters with {@link JobQueryMatcher}. Rebuilt from the database on startup and kept current from
+ * {@link SavedSearchChangedEvent}s.
+ */
+@Component
+@RequiredArgsConstructor
+public class SavedSearchIndex {
+
+  private static final Logger log = LoggerFactory.getLogger(SavedSearchIndex.class);
+  private static final int LOAD_BATCH_SIZE = 1_000;
+
+  private final SavedSearchRepository savedSearchRepository;
+
+  private final GenerationalIndex<Segment> segments = new GenerationalIndex<>(new Segment());
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    Segment rebuilt = segments.rebuild(() -> {
+      Segment segment = new Segment();
+      long lastId = 0;
+      List<SavedSearch> batch;
+      do {
+        batch = savedSearchRepository.findActiveAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+        batch.forEach(savedSearch -> segment.put(StoredSearch.of(savedSearch)));
+        if (!batch.isEmpty()) {
+          lastId = batch.get(batch.size() - 1).getId();
+        }
+      } while (batch.size() == LOAD_BATCH_SIZE);
+      return segment;
+    });
+    log.info("Saved search index rebuilt with {} searches", rebuilt.searches.size());
+  }
+
+  @TransactionalEventListener
+  public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+    index(event.getSavedSearch());
+  }
+
+  public void index(SavedSearch savedSearch) {
+    StoredSearch search = savedSearch.isActive() ? StoredSearch.of(savedSearch) : null;
+    segments.update(segment -> {
+      if (search != null) {
+        segment.put(search);
+      } else {
+        segment.remove(savedSearch.getId());
+      }
+    });
+  }
+
+  /**
+   * Ids of the saved searches the job matches, in no particular order.
+   */
+  public List<Long> match(JobQueryMatcher job) {
+    if (!job.getJob().isActive()) {
+      return List.of();
+    }
+    return segments.read(segment -> {
+      List<Long> matches = new ArrayList<>();
+      segment.forEachCandidate(job, candidate -> {
+        if (job.matches(candidate.query())) {
+          matches.add(candidate.id());
+        }
+      });
+      return matches;
+    });
+  }
+
+  public int size() {
+    return segments.read(segment -> segment.searches.size());
+  }
+
+  static JobSearchQuery toQuery(SavedSearch savedSearch) {
+    return JobSearchQuery.builder()
+        .keyword(savedSearch.getKeyword())
+        .location(savedSearch.getLocation())
+        .employmentType(savedSearch.getEmploymentType() != null ? savedSearch.getEmploymentType().name() : null)
+        .experienceLevel(savedSearch.getExperienceLevel())
+        .remote(savedSearch.getRemote())
+        .salaryRange(SalaryRange.of(savedSearch.getSalaryMin(), savedSearch.getSalaryMax()))
+        .build();
+  }
+
+  private record StoredSearch(Long id, JobSearchQuery query, String keywordAnchor, String locationAnchor) {
+
+    static StoredSearch of(SavedSearch savedSearch) {
+      JobSearchQuery query = toQuery(savedSearch);
+      // The longest word is usually the rarest, so it admits the fewest jobs
+      String keywordAnchor = TextAnalyzer.tokens(query.getKeyword()).stream()
+          .max(Comparator.comparingInt(String::length))
+          .orElse(null);
+      String locationAnchor = query.getLocation() != null && !query.getLocation().isEmpty()
+          ? query.getLocation().toLowerCase(Locale.ROOT)
+          : null;
+      return new StoredSearch(savedSearch.getId(), query, keywordAnchor, locationAnchor);
+    }
+  }
+
+  private static final class Segment {
+    private final Map<Long, StoredSearch> searches = new HashMap<>();
+    private final Map<String, Map<Long, StoredSearch>> byKeyword = new HashMap<>();
+    private final Map<String, Map<Long, StoredSearch>> byLocation = new HashMap<>();
+    private final Map<Job.EmploymentType, Map<Long, StoredSearch>> byEmploymentType =
+        new EnumMap<>(Job.EmploymentType.class);
+    private final Map<String, Map<Long, StoredSearch>> byExperienceLevel = new HashMap<>();
+    private final Map<Boolean, Map<Long, StoredSearch>> byRemote = new HashMap<>();
+    private final Map<Long, StoredSearch> unanchored = new HashMap<>();
+    // Number of anchors per length, so lookups only try the prefix and substring lengths that can hit
+    private final TreeMap<Integer, Integer> keywordLengths = new TreeMap<>();
+    private final TreeMap<Integer, Integer> locationLengths = new TreeMap<>();
+
+    void put(StoredSearch search) {
+      remove(search.id());
+      searches.put(search.id(), search);
+      JobSearchQuery query = search.query();
+      if (search.keywordAnchor() != null) {
+        byKeyword.computeIfAbsent(search.keywordAnchor(), key -> new HashMap<>()).put(search.id(), search);
+        keywordLengths.merge(search.keywordAnchor().length(), 1, Integer::sum);
+      } else if (search.locationAnchor() != null) {
+        byLocation.computeIfAbsent(search.locationAnchor(), key -> new HashMap<>()).put(search.id(), search);
+        locationLengths.merge(search.locationAnchor().length(), 1, Integer::sum);
+      } else if (query.getEmploymentType() != null) {
+        byEmploymentType.computeIfAbsent(Job.EmploymentType.valueOf(query.getEmploymentType()),
+            key -> new HashMap<>()).put(search.id(), search);
+      } else if (query.getExperienceLevel() != null) {
+        byExperienceLevel.computeIfAbsent(query.getExperienceLevel(), key -> new HashMap<>()).put(search.id(), search);
+      } else if (query.getRemote() != null) {
+        byRemote.computeIfAbsent(query.getRemote(), key -> new HashMap<>()).put(search.id(), search);
+      } else {
+        unanchored.put(search.id(), search);
+      }
+    }
+
+    void remove(Long searchId) {
+      StoredSearch search = searches.remove(searchId);
+      if (search == null) {
+        return;
+      }
+      JobSearchQuery query = search.query();
+      if (search.keywordAnchor() != null) {
+        removeFrom(byKeyword, search.keywordAnchor(), search);
+        keywordLengths.computeIfPresent(search.keywordAnchor().length(),
+            (length, count) -> count > 1 ? count - 1 : null);
+      } else if (search.locationAnchor() != null) {
+        removeFrom(byLocation, search.locationAnchor(), search);
+        locationLengths.computeIfPresent(search.locationAnchor().length(),
+            (length, count) -> count > 1 ? count - 1 : null);
+      } else if (query.getEmploymentType() != null) {
+        removeFrom(byEmploymentType, Job.EmploymentType.valueOf(query.getEmploymentType()), search);
+      } else if (query.getExperienceLevel() != null) {
+        removeFrom(byExperienceLevel, query.getExperienceLevel(), search);
+      } else if (query.getRemote() != null) {
+        removeFrom(byRemote, query.getRemote(), search);
+      } else {
+        unanchored.remove(search.id());
+      }
+    }
+
+    /**
+     * Calls {@code action} once for every search whose anchor the job satisfies. Each search has a single anchor
+     * and each anchor key is visited once, so no search is reported twice.
+     */
+    void forEachCandidate(JobQueryMatcher job, Consumer<StoredSearch> action) {
+      if (!keywordLengths.isEmpty()) {
+        Set<String> visited = new HashSet<>();
+        for (String word : job.words()) {
+          for (int length : keywordLengths.headMap(word.length(), true).keySet()) {
+            String prefix = word.substring(0, length);
+            if (visited.add(prefix)) {
+              visit(byKeyword.get(prefix), action);
+            }
+          }
+        }
+      }
+
+      String location = job.getJob().getLocation();
+      if (location != null && !locationLengths.isEmpty()) {
+        String lowerCased = location.toLowerCase(Locale.ROOT);
+        Set<String> visited = new HashSet<>();
+        for (int length : locationLengths.headMap(lowerCased.length(), true).keySet()) {
+          for (int start = 0; start + length <= lowerCased.length(); start++) {
+            String substring = lowerCased.substring(start, start + length);
+            if (visited.add(substring)) {
+              visit(byLocation.get(substring), action);
+            }
+          }
+        }
+      }
+
+      if (job.getJob().getEmploymentType() != null) {
+        visit(byEmploymentType.get(job.getJob().getEmploymentType()), action);
+      }
+      if (job.getJob().getExperienceLevel() != null) {
+        visit(byExperienceLevel.get(job.getJob().getExperienceLevel()), action);
+      }
+      visit(byRemote.get(job.getJob().isRemote()), action);
+      visit(unanchored, action);
+    }
+
+    private static void visit(Map<Long, StoredSearch> searches, Consumer<StoredSearch> action) {
+      if (searches != null) {
+        searches.values().forEach(action);
+      }
+    }
+
+    private static <K> void removeFrom(Map<K, Map<Long, StoredSearch>> anchors, K key, StoredSearch search) {
+      Map<Long, StoredSearch> searches = anchors.get(key);
+      if (searches != null) {
+        searches.remove(search.id());
+        if (searches.isEmpty()) {
+          anchors.remove(key);
+        }
+      }
+    }
+  }
+}
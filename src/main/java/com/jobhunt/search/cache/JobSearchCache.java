@@ -0,0 +1,179 @@
+package com.jobhunt.search.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jobhunt.event.CompanyChangedEvent;
+import com.jobhunt.event.JobChangedEvent;
+import com.jobhunt.event.JobSnapshot;
+import com.jobhunt.event.JobsImportedEvent;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.model.response.JobResponse;
+import com.jobhunt.search.JobQueryMatcher;
+import com.jobhunt.search.JobSearchIndex;
+import com.jobhunt.search.JobSearchQuery;
+import com.jobhunt.search.SalaryRange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Result cache in front of the {@link com.jobhunt.search.JobSearchIndex}. Queries are normalised before they are
+ * used as keys and before they are executed, so equivalent spellings share one entry and a hit always returns what
+ * the normalised query would.
+ * <p>
+ * A job change only evicts the entries whose filters the job matched before or matches after the change, as judged
+ * by {@link JobQueryMatcher} with the keyword semantics of the search backend; a company change evicts the entries
+ * showing one of its jobs. Everything else, such as application counts, may lag by up to the TTL.
+ * <p>
+ * Invalidation cannot see entries still being loaded, so a search that read the database before a change committed
+ * could store a page the change had already invalidated. Every invalidation therefore bumps an epoch, and a load that
+ * sees the epoch move while it ran drops its entry again; the results are still returned to its caller.
+ */
+@Component
+public class JobSearchCache {
+
+  private static final long NOT_LOADED = -1;
+
+  private final Cache<JobSearchQuery, List<JobResponse>> cache;
+  private final AtomicLong invalidations = new AtomicLong();
+  private final AtomicLong epoch = new AtomicLong();
+  private final JobQueryMatcher.KeywordMode keywordMode;
+
+  public JobSearchCache(
+      JobSearchIndex jobSearchIndex,
+      @Value("${app.search.cache.maximum-jobs:20000}") long maximumJobs,
+      @Value("${app.search.cache.ttl:5m}") Duration ttl) {
+    this.keywordMode = jobSearchIndex.keywordMode();
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maximumJobs)
+        .weigher((JobSearchQuery query, List<JobResponse> jobs) -> jobs.size() + 1)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Cached results of {@code query}, loading them with {@code search} on a miss. {@code search} receives the
+   * normalised query.
+   */
+  public List<JobResponse> get(JobSearchQuery query, Function<JobSearchQuery, List<JobResponse>> search) {
+    JobSearchQuery key = normalize(query);
+    // Epoch the load started in; stays NOT_LOADED on a hit or when another thread loaded the entry
+    long[] loadedIn = {NOT_LOADED};
+    List<JobResponse> results = cache.get(key, normalized -> {
+      loadedIn[0] = epoch.get();
+      return search.apply(normalized);
+    });
+    if (loadedIn[0] != NOT_LOADED && loadedIn[0] != epoch.get()) {
+      cache.asMap().remove(key, results);
+    }
+    return results;
+  }
+
+  @TransactionalEventListener
+  public void onJobChanged(JobChangedEvent event) {
+    JobSnapshot before = event.getBefore();
+    JobSnapshot after = JobSnapshot.of(event.getJob());
+    JobQueryMatcher beforeMatcher = before != null && before.isActive()
+        ? new JobQueryMatcher(before, keywordMode)
+        : null;
+    JobQueryMatcher afterMatcher = after.isActive() ? new JobQueryMatcher(after, keywordMode) : null;
+    if (beforeMatcher == null && afterMatcher == null) {
+      return;
+    }
+    invalidateIf(query -> (beforeMatcher != null && beforeMatcher.matches(query))
+        || (afterMatcher != null && afterMatcher.matches(query)));
+  }
+
+  /**
+   * Evicts what any job of an import chunk matches in a single pass over the cache.
+   */
+  @TransactionalEventListener
+  public void onJobsImported(JobsImportedEvent event) {
+    List<JobQueryMatcher> matchers = event.getJobs().stream()
+        .filter(Job::isActive)
+        .map(job -> new JobQueryMatcher(JobSnapshot.of(job), keywordMode))
+        .toList();
+    if (matchers.isEmpty()) {
+      return;
+    }
+    invalidateIf(query -> matchers.stream().anyMatch(matcher -> matcher.matches(query)));
+  }
+
+  @TransactionalEventListener
+  public void onCompanyChanged(CompanyChangedEvent event) {
+    String companyId = String.valueOf(event.getCompany().getId());
+    epoch.incrementAndGet();
+    cache.asMap().entrySet().removeIf(entry -> {
+      boolean shown = entry.getValue().stream()
+          .anyMatch(job -> job.getCompany() != null && companyId.equals(job.getCompany().getId()));
+      if (shown) {
+        invalidations.incrementAndGet();
+      }
+      return shown;
+    });
+  }
+
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  public SearchCacheStats stats() {
+    CacheStats stats = cache.stats();
+    long cachedJobs = cache.asMap().values().stream().mapToLong(List::size).sum();
+    return new SearchCacheStats(cache.estimatedSize(), cachedJobs, stats.hitCount(), stats.missCount(),
+        stats.hitRate(), stats.evictionCount(), invalidations.get());
+  }
+
+  private void invalidateIf(Predicate<JobSearchQuery> affected) {
+    epoch.incrementAndGet();
+    cache.asMap().keySet().removeIf(query -> {
+      boolean hit = affected.test(query);
+      if (hit) {
+        invalidations.incrementAndGet();
+      }
+      return hit;
+    });
+  }
+
+  static JobSearchQuery normalize(JobSearchQuery query) {
+    SalaryRange salaryRange = query.getSalaryRange();
+    return query.toBuilder()
+        .keyword(collapse(query.getKeyword(), true))
+        .location(collapse(query.getLocation(), true))
+        .employmentType(upperCase(collapse(query.getEmploymentType(), false)))
+        .experienceLevel(collapse(query.getExperienceLevel(), false))
+        .salaryRange(salaryRange != null
+            ? SalaryRange.of(strip(salaryRange.getMin()), strip(salaryRange.getMax()))
+            : null)
+        .build();
+  }
+
+  private static String collapse(String value, boolean lowerCase) {
+    if (value == null) {
+      return null;
+    }
+    String collapsed = value.trim().replaceAll("\\s+", " ");
+    if (collapsed.isEmpty()) {
+      return null;
+    }
+    return lowerCase ? collapsed.toLowerCase(Locale.ROOT) : collapsed;
+  }
+
+  private static String upperCase(String value) {
+    return value != null ? value.toUpperCase(Locale.ROOT) : null;
+  }
+
+  private static BigDecimal strip(BigDecimal value) {
+    return value != null ? value.stripTrailingZeros() : null;
+  }
+}
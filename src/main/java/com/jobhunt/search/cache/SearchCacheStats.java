@@ -0,0 +1,16 @@
+package com.jobhunt.search.cache;
+
+import lombok.Value;
+
+@Value
+public class SearchCacheStats {
+  long entries;
+  long cachedJobs;
+  long hitCount;
+  long missCount;
+  double hitRate;
+  // Entries dropped for size or age
+  long evictionCount;
+  // Entries dropped because a changed job or company could affect them
+  long invalidationCount;
+}
@@ -0,0 +1,36 @@
+package com.jobhunt.search.facet;
+
+import com.jobhunt.model.entity.Job;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * The facet-relevant columns of one active job, loaded without the TEXT columns.
+ */
+@Value
+public class JobFacetDocument {
+  Long jobId;
+  Job.EmploymentType employmentType;
+  String experienceLevel;
+  Boolean remote;
+  String location;
+  BigDecimal salaryMin;
+  BigDecimal salaryMax;
+
+  public static JobFacetDocument of(Job job) {
+    return new JobFacetDocument(job.getId(), job.getEmploymentType(), job.getExperienceLevel(), job.isRemote(),
+        job.getLocation(), job.getSalaryMin(), job.getSalaryMax());
+  }
+
+  /**
+   * Lower end of the advertised salary, falling back to the upper end when only that one is set.
+   */
+  public BigDecimal getSalaryLow() {
+    return salaryMin != null ? salaryMin : salaryMax;
+  }
+
+  public BigDecimal getSalaryHigh() {
+    return salaryMax != null ? salaryMax : salaryMin;
+  }
+}
@@ -0,0 +1,401 @@
+package com.jobhunt.search.facet;
+
+import com.jobhunt.event.JobChangedEvent;
+import com.jobhunt.event.JobsImportedEvent;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.search.GenerationalIndex;
+import com.jobhunt.search.SalaryRange;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * In-memory faceted index over active jobs. Every facet value owns a compressed bitmap of internal document ids, so
+ * filters are bitmap intersections and facet counts are intersection cardinalities.
+ * <p>
+ * The index is rebuilt from the database on startup and kept current from {@link JobChangedEvent}s and
+ * {@link JobsImportedEvent}s.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobFacetIndex {
+
+  private static final Logger log = LoggerFactory.getLogger(JobFacetIndex.class);
+  private static final int[] PERCENTILES = {25, 50, 75, 90};
+  // Removed documents keep their slot until they outnumber the live ones
+  private static final int MIN_REMOVED_BEFORE_COMPACTION = 1_000;
+
+  private final JobRepository jobRepository;
+
+  private final GenerationalIndex<Segment> segments = new GenerationalIndex<>(new Segment());
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    Segment rebuilt = segments.rebuild(() -> {
+      Segment segment = new Segment();
+      jobRepository.findFacetDocuments().forEach(segment::put);
+      return segment;
+    });
+    log.info("Job facet index rebuilt with {} active jobs", rebuilt.live.getCardinality());
+  }
+
+  @TransactionalEventListener
+  public void onJobChanged(JobChangedEvent event) {
+    index(event.getJob());
+  }
+
+  @TransactionalEventListener
+  public void onJobsImported(JobsImportedEvent event) {
+    // Imported jobs are new, so an inactive one has nothing to remove
+    List<JobFacetDocument> documents = event.getJobs().stream()
+        .filter(Job::isActive)
+        .map(JobFacetDocument::of)
+        .toList();
+    segments.update(segment -> documents.forEach(segment::put));
+  }
+
+  public void index(Job job) {
+    JobFacetDocument document = job.isActive() ? JobFacetDocument.of(job) : null;
+    segments.update(segment -> {
+      if (document == null) {
+        segment.remove(job.getId());
+      } else {
+        segment.put(document);
+      }
+    });
+  }
+
+  public JobFacetResult search(JobFacetQuery query) {
+    return segments.read(current -> {
+      Selection selection = current.select(query);
+      RoaringBitmap matches = current.intersectLive(selection.byType, selection.byLevel, selection.byRemote,
+          selection.byLocation, selection.bySalary);
+
+      Map<String, Long> employmentTypes = new LinkedHashMap<>();
+      RoaringBitmap typeBase = current.intersectLive(selection.byLevel, selection.byRemote, selection.byLocation,
+          selection.bySalary);
+      for (Job.EmploymentType type : Job.EmploymentType.values()) {
+        RoaringBitmap postings = current.employmentTypes.get(type);
+        employmentTypes.put(type.name(), postings == null ? 0L : RoaringBitmap.andCardinality(typeBase, postings));
+      }
+
+      RoaringBitmap levelBase = current.intersectLive(selection.byType, selection.byRemote, selection.byLocation,
+          selection.bySalary);
+      Map<String, Long> experienceLevels = topCounts(levelBase, current.experienceLevels, Integer.MAX_VALUE, null);
+
+      RoaringBitmap remoteBase = current.intersectLive(selection.byType, selection.byLevel, selection.byLocation,
+          selection.bySalary);
+      long remoteCount = RoaringBitmap.andCardinality(remoteBase, current.remote);
+      Map<String, Long> remote = new LinkedHashMap<>();
+      remote.put("true", remoteCount);
+      remote.put("false", remoteBase.getLongCardinality() - remoteCount);
+
+      RoaringBitmap locationBase = current.intersectLive(selection.byType, selection.byLevel, selection.byRemote,
+          selection.bySalary);
+      Map<String, Long> locations = topCounts(locationBase, current.locations, query.getTopLocations(),
+          current.locationLabels);
+
+      return new JobFacetResult(matches.getLongCardinality(), current.page(matches, query.getOffset(),
+          query.getLimit()), employmentTypes, experienceLevels, remote, locations);
+    });
+  }
+
+  /**
+   * Salary distribution of the jobs matching every selection in {@code query}, computed in a single pass over the
+   * matching documents. Each job contributes the midpoint of its advertised range.
+   */
+  public SalaryHistogram salaryHistogram(JobFacetQuery query, BigDecimal bucketWidth) {
+    double[] midpoints = segments.read(current -> {
+      Selection selection = current.select(query);
+      RoaringBitmap matches = current.intersectLive(selection.byType, selection.byLevel, selection.byRemote,
+          selection.byLocation, selection.bySalary);
+      double[] values = new double[matches.getCardinality()];
+      int size = 0;
+      IntIterator iterator = matches.getIntIterator();
+      while (iterator.hasNext()) {
+        JobFacetDocument document = current.documents.get(iterator.next());
+        if (document.getSalaryLow() != null) {
+          values[size++] = (document.getSalaryLow().doubleValue() + document.getSalaryHigh().doubleValue()) / 2;
+        }
+      }
+      return Arrays.copyOf(values, size);
+    });
+
+    double width = bucketWidth.doubleValue();
+    Map<Long, Long> bucketCounts = new TreeMap<>();
+    long count = midpoints.length;
+    double min = Double.MAX_VALUE;
+    double max = -Double.MAX_VALUE;
+    double sum = 0;
+    for (double midpoint : midpoints) {
+      bucketCounts.merge((long) Math.floor(midpoint / width), 1L, Long::sum);
+      sum += midpoint;
+      min = Math.min(min, midpoint);
+      max = Math.max(max, midpoint);
+    }
+
+    List<SalaryHistogram.Bucket> buckets = new ArrayList<>(bucketCounts.size());
+    bucketCounts.forEach((bucket, bucketCount) -> buckets.add(new SalaryHistogram.Bucket(
+        amount(bucket * width), amount((bucket + 1) * width), bucketCount)));
+
+    Map<String, BigDecimal> percentiles = new LinkedHashMap<>();
+    if (count > 0) {
+      for (int percentile : PERCENTILES) {
+        percentiles.put("p" + percentile,
+            amount(Math.max(min, Math.min(max, percentile(bucketCounts, width, count, percentile)))));
+      }
+    }
+    return new SalaryHistogram(count, count > 0 ? amount(min) : null, count > 0 ? amount(max) : null,
+        count > 0 ? amount(sum / count) : null, bucketWidth, buckets, percentiles);
+  }
+
+  private static double percentile(Map<Long, Long> bucketCounts, double width, long count, int percentile) {
+    double rank = count * percentile / 100.0;
+    long seen = 0;
+    for (Map.Entry<Long, Long> bucket : bucketCounts.entrySet()) {
+      if (seen + bucket.getValue() >= rank) {
+        return (bucket.getKey() + (rank - seen) / bucket.getValue()) * width;
+      }
+      seen += bucket.getValue();
+    }
+    return Double.MAX_VALUE;
+  }
+
+  private static BigDecimal amount(double value) {
+    return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+  }
+
+  private static Map<String, Long> topCounts(RoaringBitmap base, Map<String, RoaringBitmap> postings, int limit,
+      Map<String, String> labels) {
+    Comparator<Map.Entry<String, Long>> byCount = Map.Entry.comparingByValue();
+    PriorityQueue<Map.Entry<String, Long>> top = new PriorityQueue<>(byCount);
+    for (Map.Entry<String, RoaringBitmap> entry : postings.entrySet()) {
+      long count = RoaringBitmap.andCardinality(base, entry.getValue());
+      if (count == 0) {
+        continue;
+      }
+      top.add(Map.entry(entry.getKey(), count));
+      if (top.size() > limit) {
+        top.poll();
+      }
+    }
+    List<Map.Entry<String, Long>> sorted = new ArrayList<>(top);
+    sorted.sort(byCount.reversed());
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (Map.Entry<String, Long> entry : sorted) {
+      counts.put(labels != null ? labels.get(entry.getKey()) : entry.getKey(), entry.getValue());
+    }
+    return counts;
+  }
+
+  static String normalizeLocation(String location) {
+    if (location == null || location.isBlank()) {
+      return null;
+    }
+    return location.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
+  private static final class Selection {
+    private RoaringBitmap byType;
+    private RoaringBitmap byLevel;
+    private RoaringBitmap byRemote;
+    private RoaringBitmap byLocation;
+    private RoaringBitmap bySalary;
+  }
+
+  /**
+   * Postings for one generation of the index. Document ids are assigned in creation order and never reused, so
+   * iterating a bitmap backwards yields the newest jobs first. Removed documents leave an empty slot behind until
+   * the segment is compacted.
+   */
+  private static final class Segment {
+    private final Map<Long, Integer> docIds = new HashMap<>();
+    private final List<JobFacetDocument> documents = new ArrayList<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<Job.EmploymentType, RoaringBitmap> employmentTypes = new EnumMap<>(Job.EmploymentType.class);
+    private final Map<String, RoaringBitmap> experienceLevels = new HashMap<>();
+    private final RoaringBitmap remote = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> locations = new HashMap<>();
+    private final Map<String, String> locationLabels = new HashMap<>();
+    private final NavigableMap<BigDecimal, RoaringBitmap> salaryLows = new TreeMap<>();
+    private final NavigableMap<BigDecimal, RoaringBitmap> salaryHighs = new TreeMap<>();
+    private int removed;
+
+    void put(JobFacetDocument document) {
+      Integer docId = docIds.get(document.getJobId());
+      if (docId == null) {
+        docId = documents.size();
+        documents.add(document);
+        docIds.put(document.getJobId(), docId);
+      } else {
+        unindex(docId);
+        documents.set(docId, document);
+      }
+
+      live.add(docId);
+      if (document.getEmploymentType() != null) {
+        employmentTypes.computeIfAbsent(document.getEmploymentType(), type -> new RoaringBitmap()).add(docId);
+      }
+      if (document.getExperienceLevel() != null) {
+        experienceLevels.computeIfAbsent(document.getExperienceLevel(), level -> new RoaringBitmap()).add(docId);
+      }
+      if (Boolean.TRUE.equals(document.getRemote())) {
+        remote.add(docId);
+      }
+      String location = normalizeLocation(document.getLocation());
+      if (location != null) {
+        locations.computeIfAbsent(location, key -> new RoaringBitmap()).add(docId);
+        locationLabels.putIfAbsent(location, document.getLocation().trim());
+      }
+      if (document.getSalaryLow() != null) {
+        salaryLows.computeIfAbsent(document.getSalaryLow(), salary -> new RoaringBitmap()).add(docId);
+        salaryHighs.computeIfAbsent(document.getSalaryHigh(), salary -> new RoaringBitmap()).add(docId);
+      }
+    }
+
+    void remove(Long jobId) {
+      Integer docId = docIds.remove(jobId);
+      if (docId != null) {
+        unindex(docId);
+        documents.set(docId, null);
+        removed++;
+        if (removed >= MIN_REMOVED_BEFORE_COMPACTION && removed > docIds.size()) {
+          compact();
+        }
+      }
+    }
+
+    /**
+     * Renumbers the live documents densely, keeping their order, and drops the slots of removed ones.
+     */
+    private void compact() {
+      List<JobFacetDocument> kept = documents.stream().filter(Objects::nonNull).toList();
+      docIds.clear();
+      documents.clear();
+      live.clear();
+      employmentTypes.clear();
+      experienceLevels.clear();
+      remote.clear();
+      locations.clear();
+      locationLabels.clear();
+      salaryLows.clear();
+      salaryHighs.clear();
+      removed = 0;
+      kept.forEach(this::put);
+    }
+
+    private void unindex(int docId) {
+      JobFacetDocument document = documents.get(docId);
+      live.remove(docId);
+      remote.remove(docId);
+      removePosting(employmentTypes, document.getEmploymentType(), docId);
+      removePosting(experienceLevels, document.getExperienceLevel(), docId);
+      String location = normalizeLocation(document.getLocation());
+      if (removePosting(locations, location, docId)) {
+        locationLabels.remove(location);
+      }
+      removePosting(salaryLows, document.getSalaryLow(), docId);
+      removePosting(salaryHighs, document.getSalaryHigh(), docId);
+    }
+
+    Selection select(JobFacetQuery query) {
+      Selection selection = new Selection();
+      if (query.getEmploymentType() != null) {
+        selection.byType = employmentTypes.getOrDefault(query.getEmploymentType(), new RoaringBitmap());
+      }
+      if (query.getExperienceLevel() != null) {
+        selection.byLevel = experienceLevels.getOrDefault(query.getExperienceLevel(), new RoaringBitmap());
+      }
+      if (query.getRemote() != null) {
+        selection.byRemote = query.getRemote() ? remote : RoaringBitmap.andNot(live, remote);
+      }
+      if (query.getLocation() != null) {
+        selection.byLocation = locations.getOrDefault(normalizeLocation(query.getLocation()), new RoaringBitmap());
+      }
+      if (query.getSalaryRange() != null) {
+        selection.bySalary = salaryOverlapping(query.getSalaryRange());
+      }
+      return selection;
+    }
+
+    /**
+     * Documents whose salary range overlaps {@code range}: low end at most {@code range.max} and high end at least
+     * {@code range.min}, each side answered from a sorted map of bitmaps.
+     */
+    private RoaringBitmap salaryOverlapping(SalaryRange range) {
+      Collection<RoaringBitmap> lowEnough = range.getMax() == null ? salaryLows.values()
+          : salaryLows.headMap(range.getMax(), true).values();
+      Collection<RoaringBitmap> highEnough = range.getMin() == null ? salaryHighs.values()
+          : salaryHighs.tailMap(range.getMin(), true).values();
+      return RoaringBitmap.and(FastAggregation.or(lowEnough.iterator()), FastAggregation.or(highEnough.iterator()));
+    }
+
+    /**
+     * @return true when the key has no documents left
+     */
+    private static <K> boolean removePosting(Map<K, RoaringBitmap> postings, K key, int docId) {
+      if (key == null) {
+        return false;
+      }
+      RoaringBitmap bitmap = postings.get(key);
+      if (bitmap == null) {
+        return false;
+      }
+      bitmap.remove(docId);
+      if (bitmap.isEmpty()) {
+        postings.remove(key);
+        return true;
+      }
+      return false;
+    }
+
+    RoaringBitmap intersectLive(RoaringBitmap... filters) {
+      RoaringBitmap result = live.clone();
+      for (RoaringBitmap filter : filters) {
+        if (filter != null) {
+          result.and(filter);
+        }
+      }
+      return result;
+    }
+
+    List<Long> page(RoaringBitmap matches, int offset, int limit) {
+      List<Long> jobIds = new ArrayList<>(limit);
+      IntIterator iterator = matches.getReverseIntIterator();
+      int skipped = 0;
+      while (iterator.hasNext() && jobIds.size() < limit) {
+        int docId = iterator.next();
+        if (skipped++ < offset) {
+          continue;
+        }
+        jobIds.add(documents.get(docId).getJobId());
+      }
+      return jobIds;
+    }
+  }
+}
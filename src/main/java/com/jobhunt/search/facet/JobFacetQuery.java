@@ -0,0 +1,22 @@
+package com.jobhunt.search.facet;
+
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.search.SalaryRange;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Facet selections. Values are exact facet keys as returned by {@link JobFacetIndex}; null means "any".
+ */
+@Value
+@Builder
+public class JobFacetQuery {
+  Job.EmploymentType employmentType;
+  String experienceLevel;
+  Boolean remote;
+  String location;
+  SalaryRange salaryRange;
+  int offset;
+  int limit;
+  int topLocations;
+}
@@ -0,0 +1,20 @@
+package com.jobhunt.search.facet;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matching job ids (newest first) for the requested page plus the count of every facet value. The counts of a
+ * dimension ignore the selection made in that same dimension, so the UI can show the alternatives.
+ */
+@Value
+public class JobFacetResult {
+  long total;
+  List<Long> jobIds;
+  Map<String, Long> employmentTypes;
+  Map<String, Long> experienceLevels;
+  Map<String, Long> remote;
+  Map<String, Long> locations;
+}
@@ -0,0 +1,29 @@
+package com.jobhunt.search.facet;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distribution of the salary midpoint of matching jobs in fixed-width buckets. Percentiles are interpolated
+ * within the buckets, so they are accurate to one bucket width.
+ */
+@Value
+public class SalaryHistogram {
+  long count;
+  BigDecimal min;
+  BigDecimal max;
+  BigDecimal average;
+  BigDecimal bucketWidth;
+  List<Bucket> buckets;
+  Map<String, BigDecimal> percentiles;
+
+  @Value
+  public static class Bucket {
+    BigDecimal from;
+    BigDecimal to;
+    long count;
+  }
+}
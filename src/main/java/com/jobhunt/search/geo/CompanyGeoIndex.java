@@ -0,0 +1,163 @@
+package com.jobhunt.search.geo;
+
+import com.jobhunt.event.CompanyChangedEvent;
+import com.jobhunt.exception.BadRequestException;
+import com.jobhunt.model.entity.Company;
+import com.jobhunt.repository.CompanyRepository;
+import com.jobhunt.search.GenerationalIndex;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory grid over the coordinates of active companies. The globe is cut into fixed cells of
+ * {@value #CELL_DEGREES} degrees; a radius query only visits the cells overlapping the circle's bounding box and
+ * refines the candidates with the exact haversine distance.
+ * <p>
+ * The grid is rebuilt from the database on startup and kept current from {@link CompanyChangedEvent}s.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompanyGeoIndex {
+
+  public static final double MAX_RADIUS_KM = 500;
+
+  private static final Logger log = LoggerFactory.getLogger(CompanyGeoIndex.class);
+  private static final double CELL_DEGREES = 0.1;
+  private static final int ROWS = (int) Math.round(180 / CELL_DEGREES);
+  private static final int COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+
+  private final CompanyRepository companyRepository;
+
+  private final GenerationalIndex<Grid> grids = new GenerationalIndex<>(new Grid());
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    Grid rebuilt = grids.rebuild(() -> {
+      Grid grid = new Grid();
+      companyRepository.findGeoLocations().forEach(grid::put);
+      return grid;
+    });
+    log.info("Company geo index rebuilt with {} located companies", rebuilt.locations.size());
+  }
+
+  @TransactionalEventListener
+  public void onCompanyChanged(CompanyChangedEvent event) {
+    index(event.getCompany());
+  }
+
+  public void index(Company company) {
+    CompanyLocation location = company.isActive() && company.getLatitude() != null && company.getLongitude() != null
+        ? new CompanyLocation(company.getId(), company.getLatitude(), company.getLongitude())
+        : null;
+    grids.update(grid -> {
+      if (location == null) {
+        grid.remove(company.getId());
+      } else {
+        grid.put(location);
+      }
+    });
+  }
+
+  /**
+   * Companies within {@code radiusKm} of {@code origin}, nearest first.
+   */
+  public List<GeoHit> within(GeoPoint origin, double radiusKm) {
+    if (!(radiusKm > 0 && radiusKm <= MAX_RADIUS_KM)) {
+      throw new BadRequestException("Radius must be greater than 0 and at most " + (int) MAX_RADIUS_KM + " km");
+    }
+    double angularRadius = radiusKm / GeoPoint.EARTH_RADIUS_KM;
+    double latDelta = Math.toDegrees(angularRadius);
+    double minLat = origin.getLatitude() - latDelta;
+    double maxLat = origin.getLatitude() + latDelta;
+
+    // Longitude half-width of the circle's bounding box; the whole parallel when the circle covers a pole
+    double lngDelta = 180;
+    if (minLat > -90 && maxLat < 90) {
+      double ratio = Math.sin(angularRadius) / Math.cos(Math.toRadians(origin.getLatitude()));
+      if (ratio < 1) {
+        lngDelta = Math.toDegrees(Math.asin(ratio));
+      }
+    }
+
+    int minRow = row(minLat);
+    int maxRow = row(maxLat);
+    int westColumn = (int) Math.floor((origin.getLongitude() - lngDelta + 180) / CELL_DEGREES);
+    int eastColumn = (int) Math.floor((origin.getLongitude() + lngDelta + 180) / CELL_DEGREES);
+    boolean wholeParallel = eastColumn - westColumn + 1 >= COLUMNS;
+    int minColumn = wholeParallel ? 0 : westColumn;
+    int maxColumn = wholeParallel ? COLUMNS - 1 : eastColumn;
+
+    List<GeoHit> hits = grids.read(grid -> {
+      List<GeoHit> found = new ArrayList<>();
+      Map<Integer, List<CompanyLocation>> cells = grid.cells;
+      for (int row = minRow; row <= maxRow; row++) {
+        for (int column = minColumn; column <= maxColumn; column++) {
+          List<CompanyLocation> cell = cells.get(cellKey(row, Math.floorMod(column, COLUMNS)));
+          if (cell == null) {
+            continue;
+          }
+          for (CompanyLocation location : cell) {
+            double distanceKm = origin.distanceKm(location.getLatitude(), location.getLongitude());
+            if (distanceKm <= radiusKm) {
+              found.add(new GeoHit(location.getCompanyId(), distanceKm));
+            }
+          }
+        }
+      }
+      return found;
+    });
+    hits.sort(Comparator.comparingDouble(GeoHit::getDistanceKm).thenComparing(GeoHit::getCompanyId));
+    return hits;
+  }
+
+  private static int row(double latitude) {
+    return Math.max(0, Math.min(ROWS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES)));
+  }
+
+  private static int column(double longitude) {
+    return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLUMNS);
+  }
+
+  private static int cellKey(int row, int column) {
+    return row * COLUMNS + column;
+  }
+
+  private static final class Grid {
+    private final Map<Integer, List<CompanyLocation>> cells = new HashMap<>();
+    private final Map<Long, CompanyLocation> locations = new HashMap<>();
+
+    void put(CompanyLocation location) {
+      remove(location.getCompanyId());
+      locations.put(location.getCompanyId(), location);
+      cells.computeIfAbsent(cellKeyOf(location), key -> new ArrayList<>()).add(location);
+    }
+
+    void remove(Long companyId) {
+      CompanyLocation previous = locations.remove(companyId);
+      if (previous == null) {
+        return;
+      }
+      int key = cellKeyOf(previous);
+      List<CompanyLocation> cell = cells.get(key);
+      cell.remove(previous);
+      if (cell.isEmpty()) {
+        cells.remove(key);
+      }
+    }
+
+    private static int cellKeyOf(CompanyLocation location) {
+      return cellKey(row(location.getLatitude()), column(location.getLongitude()));
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.jobhunt.search.geo;
+
+import lombok.Value;
+
+/**
+ * Coordinates of an active company, as loaded into {@link CompanyGeoIndex}.
+ */
+@Value
+public class CompanyLocation {
+  Long companyId;
+  Double latitude;
+  Double longitude;
+}
@@ -0,0 +1,42 @@
+package com.jobhunt.search.geo;
+
+import com.jobhunt.exception.BadRequestException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a {@code distance ASC, id ASC} ordered nearby-job listing. The distance is kept bit-exact so
+ * jobs of the company at the boundary are neither repeated nor skipped.
+ */
+@Value
+public class GeoCursor {
+  double distanceKm;
+  Long id;
+
+  public boolean isAfter(double otherDistanceKm, Long otherId) {
+    return otherDistanceKm > distanceKm || (otherDistanceKm == distanceKm && otherId > id);
+  }
+
+  public String encode() {
+    String raw = Long.toHexString(Double.doubleToLongBits(distanceKm)) + ":" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static GeoCursor decode(String cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+      if (parts.length != 2) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      double distanceKm = Double.longBitsToDouble(Long.parseUnsignedLong(parts[0], 16));
+      return new GeoCursor(distanceKm, Long.parseLong(parts[1]));
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.jobhunt.search.geo;
+
+import lombok.Value;
+
+@Value
+public class GeoHit {
+  Long companyId;
+  double distanceKm;
+}
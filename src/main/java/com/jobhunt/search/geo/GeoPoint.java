@@ -0,0 +1,34 @@
+package com.jobhunt.search.geo;
+
+import com.jobhunt.exception.BadRequestException;
+import lombok.Value;
+
+@Value
+public class GeoPoint {
+  static final double EARTH_RADIUS_KM = 6371.0088;
+
+  double latitude;
+  double longitude;
+
+  public static GeoPoint of(Double latitude, Double longitude) {
+    if (latitude == null || longitude == null) {
+      throw new BadRequestException("Latitude and longitude are both required");
+    }
+    if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+      throw new BadRequestException("Latitude must be within [-90, 90] and longitude within [-180, 180]");
+    }
+    return new GeoPoint(latitude, longitude);
+  }
+
+  /**
+   * Great-circle distance using the haversine formula.
+   */
+  public double distanceKm(double otherLatitude, double otherLongitude) {
+    double dLat = Math.toRadians(otherLatitude - latitude);
+    double dLng = Math.toRadians(otherLongitude - longitude);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(otherLatitude))
+        * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
@@ -0,0 +1,10 @@
+package com.jobhunt.search.geo;
+
+import com.jobhunt.model.entity.Job;
+import lombok.Value;
+
+@Value
+public class NearbyJob {
+  Job job;
+  double distanceKm;
+}
@@ -0,0 +1,86 @@
+package com.jobhunt.search.geo;
+
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.repository.JobRepositoryCustom.JobAtCompany;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Finds jobs posted by companies within a radius, nearest first. Companies come from {@link CompanyGeoIndex}
+ * already sorted by distance and are resolved to jobs a batch at a time. Each batch asks the database only for the
+ * ids of the jobs still missing from the page, ordered by the distance rank of their company and then by id. Once a
+ * batch fills the page, every later company is at least as far away, so the remaining ones are never queried. Only
+ * the jobs on the page are loaded, together with their companies.
+ */
+@Component
+@RequiredArgsConstructor
+public class NearbyJobSearch {
+
+  private static final int COMPANY_BATCH_SIZE = 500;
+
+  private final CompanyGeoIndex companyGeoIndex;
+  private final JobRepository jobRepository;
+
+  public List<NearbyJob> search(Specification<Job> filter, GeoPoint origin, double radiusKm, GeoCursor after,
+      int limit) {
+    List<GeoHit> hits = companyGeoIndex.within(origin, radiusKm);
+    int start = 0;
+    if (after != null) {
+      while (start < hits.size() && hits.get(start).getDistanceKm() < after.getDistanceKm()) {
+        start++;
+      }
+    }
+
+    List<JobAtCompany> page = new ArrayList<>();
+    Map<Long, Double> distanceByCompany = new HashMap<>();
+    while (start < hits.size() && page.size() < limit) {
+      int end = Math.min(start + COMPANY_BATCH_SIZE, hits.size());
+      // Companies at the same distance share a rank, so their jobs must be ordered by id within one query
+      while (end < hits.size() && hits.get(end).getDistanceKm() == hits.get(end - 1).getDistanceKm()) {
+        end++;
+      }
+
+      Map<Long, Integer> ranks = new HashMap<>();
+      List<Long> afterIdAt = new ArrayList<>();
+      int rank = 0;
+      for (int i = start; i < end; i++) {
+        GeoHit hit = hits.get(i);
+        if (i > start && hit.getDistanceKm() != hits.get(i - 1).getDistanceKm()) {
+          rank++;
+        }
+        ranks.put(hit.getCompanyId(), rank);
+        distanceByCompany.put(hit.getCompanyId(), hit.getDistanceKm());
+        if (after != null && hit.getDistanceKm() == after.getDistanceKm()) {
+          afterIdAt.add(hit.getCompanyId());
+        }
+      }
+      page.addAll(jobRepository.findByCompanyRank(filter, ranks, afterIdAt, after != null ? after.getId() : null,
+          limit - page.size()));
+      start = end;
+    }
+    if (page.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, Job> jobsById = jobRepository.findWithCompanyByIdIn(page.stream().map(JobAtCompany::jobId).toList())
+        .stream()
+        .collect(Collectors.toMap(Job::getId, Function.identity()));
+    return page.stream()
+        .map(entry -> {
+          Job job = jobsById.get(entry.jobId());
+          return job != null ? new NearbyJob(job, distanceByCompany.get(entry.companyId())) : null;
+        })
+        .filter(Objects::nonNull)
+        .toList();
+  }
+}
@@ -0,0 +1,319 @@
+package com.jobhunt.search.rank;
+
+import com.jobhunt.event.JobChangedEvent;
+import com.jobhunt.event.JobsImportedEvent;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.search.GenerationalIndex;
+import com.jobhunt.search.TextAnalyzer;
+import com.jobhunt.search.facet.JobFacetDocument;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index over the text of active jobs, ranked with BM25F: per-field term frequencies are length
+ * normalised, weighted by the field boost, summed and only then saturated, so a keyword in the title outweighs the
+ * same keyword repeated throughout the description.
+ * <p>
+ * Only the best {@code limit} documents are kept in a bounded heap while scoring, so the full match set is never
+ * sorted. The index is rebuilt from the database on startup and kept current from {@link JobChangedEvent}s and
+ * {@link JobsImportedEvent}s.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobRelevanceIndex {
+
+  private static final Logger log = LoggerFactory.getLogger(JobRelevanceIndex.class);
+  private static final float K1 = 1.2f;
+  private static final float B = 0.75f;
+  private static final int LOAD_BATCH_SIZE = 500;
+  // Removed documents stay in the postings until they make up a quarter of the index
+  private static final int MIN_DEAD_BEFORE_COMPACTION = 1_000;
+
+  private static final Comparator<ScoredJob> WORST_FIRST = Comparator.comparingDouble(ScoredJob::getScore)
+      .thenComparing(ScoredJob::getJobId, Comparator.reverseOrder());
+
+  /**
+   * Indexed fields with their boosts. Term frequencies of all fields are packed into one int per posting, so every
+   * field also owns a bit range; frequencies beyond it are capped.
+   */
+  private enum Field {
+    TITLE(3.0f, 0, 8),
+    REQUIREMENTS(1.5f, 8, 12),
+    DESCRIPTION(1.0f, 20, 12);
+
+    private final float boost;
+    private final int shift;
+    private final int mask;
+
+    Field(float boost, int shift, int bits) {
+      this.boost = boost;
+      this.shift = shift;
+      this.mask = (1 << bits) - 1;
+    }
+
+    private int pack(int frequency) {
+      return Math.min(frequency, mask) << shift;
+    }
+
+    private int unpack(int packed) {
+      return (packed >>> shift) & mask;
+    }
+
+    private static String textOf(Job job, Field field) {
+      return switch (field) {
+        case TITLE -> job.getTitle();
+        case REQUIREMENTS -> job.getRequirements();
+        case DESCRIPTION -> job.getDescription();
+      };
+    }
+  }
+
+  private static final Field[] FIELDS = Field.values();
+
+  private final JobRepository jobRepository;
+
+  private final GenerationalIndex<Segment> segments = new GenerationalIndex<>(new Segment());
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    Segment rebuilt = segments.rebuild(() -> {
+      Segment segment = new Segment();
+      long lastId = 0;
+      List<Job> batch;
+      do {
+        batch = jobRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+        batch.forEach(segment::put);
+        if (!batch.isEmpty()) {
+          lastId = batch.get(batch.size() - 1).getId();
+        }
+      } while (batch.size() == LOAD_BATCH_SIZE);
+      return segment;
+    });
+    log.info("Job relevance index rebuilt with {} active jobs and {} terms", rebuilt.liveCount,
+        rebuilt.postings.size());
+  }
+
+  @TransactionalEventListener
+  public void onJobChanged(JobChangedEvent event) {
+    index(event.getJob());
+  }
+
+  @TransactionalEventListener
+  public void onJobsImported(JobsImportedEvent event) {
+    segments.update(segment -> event.getJobs().forEach(job -> apply(segment, job)));
+  }
+
+  public void index(Job job) {
+    segments.update(segment -> apply(segment, job));
+  }
+
+  private static void apply(Segment segment, Job job) {
+    if (job.isActive()) {
+      segment.put(job);
+    } else {
+      segment.remove(job.getId());
+    }
+  }
+
+  /**
+   * The {@code limit} best matches for any of the words in {@code text} that pass {@code filter}, best first and
+   * starting right after {@code after}.
+   */
+  public List<ScoredJob> search(String text, Predicate<JobFacetDocument> filter, RelevanceCursor after, int limit) {
+    List<String> terms = TextAnalyzer.tokens(text).stream().distinct().toList();
+    if (terms.isEmpty()) {
+      return List.of();
+    }
+
+    return segments.read(current -> {
+      if (current.liveCount == 0) {
+        return List.of();
+      }
+      float[] averageLengths = new float[FIELDS.length];
+      for (Field field : FIELDS) {
+        float averageLength = (float) current.totalLengths[field.ordinal()] / current.liveCount;
+        averageLengths[field.ordinal()] = Math.max(1f, averageLength);
+      }
+
+      float[] scores = new float[current.docs.size()];
+      int[] touched = new int[64];
+      int touchedCount = 0;
+      for (String term : terms) {
+        Postings postings = current.postings.get(term);
+        if (postings == null) {
+          continue;
+        }
+        // Document frequency still counts removed documents until the next compaction; close enough for ranking
+        int documentFrequency = Math.min(postings.size, current.liveCount);
+        float idf = (float) Math.log(1 + (current.liveCount - documentFrequency + 0.5)
+            / (documentFrequency + 0.5));
+        for (int i = 0; i < postings.size; i++) {
+          int docId = postings.docIds[i];
+          Doc doc = current.docs.get(docId);
+          if (doc == null) {
+            continue;
+          }
+          float weightedFrequency = 0;
+          for (Field field : FIELDS) {
+            int frequency = field.unpack(postings.frequencies[i]);
+            if (frequency > 0) {
+              float lengthNorm = 1 - B + B * doc.lengths[field.ordinal()] / averageLengths[field.ordinal()];
+              weightedFrequency += field.boost * frequency / lengthNorm;
+            }
+          }
+          if (scores[docId] == 0) {
+            if (touchedCount == touched.length) {
+              touched = Arrays.copyOf(touched, touchedCount * 2);
+            }
+            touched[touchedCount++] = docId;
+          }
+          scores[docId] += idf * weightedFrequency / (K1 + weightedFrequency);
+        }
+      }
+
+      PriorityQueue<ScoredJob> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+      for (int i = 0; i < touchedCount; i++) {
+        Doc doc = current.docs.get(touched[i]);
+        float score = scores[touched[i]];
+        if ((after != null && !after.isAfter(score, doc.jobId)) || !filter.test(doc.attributes)) {
+          continue;
+        }
+        ScoredJob candidate = new ScoredJob(doc.jobId, score);
+        if (best.size() < limit) {
+          best.add(candidate);
+        } else if (WORST_FIRST.compare(candidate, best.peek()) > 0) {
+          best.poll();
+          best.add(candidate);
+        }
+      }
+      List<ScoredJob> results = new ArrayList<>(best);
+      results.sort(WORST_FIRST.reversed());
+      return results;
+    });
+  }
+
+  private static final class Doc {
+    private final Long jobId;
+    private final JobFacetDocument attributes;
+    private final int[] lengths;
+
+    private Doc(Long jobId, JobFacetDocument attributes, int[] lengths) {
+      this.jobId = jobId;
+      this.attributes = attributes;
+      this.lengths = lengths;
+    }
+  }
+
+  private static final class Postings {
+    private int[] docIds = new int[4];
+    private int[] frequencies = new int[4];
+    private int size;
+
+    private void add(int docId, int packedFrequencies) {
+      if (size == docIds.length) {
+        docIds = Arrays.copyOf(docIds, size * 2);
+        frequencies = Arrays.copyOf(frequencies, size * 2);
+      }
+      docIds[size] = docId;
+      frequencies[size] = packedFrequencies;
+      size++;
+    }
+
+    /**
+     * Rewrites doc ids through {@code remap}, dropping the ones mapped to -1, and returns the new size.
+     */
+    private int remap(int[] remap) {
+      int kept = 0;
+      for (int i = 0; i < size; i++) {
+        int docId = remap[docIds[i]];
+        if (docId >= 0) {
+          docIds[kept] = docId;
+          frequencies[kept] = frequencies[i];
+          kept++;
+        }
+      }
+      size = kept;
+      return kept;
+    }
+  }
+
+  private static final class Segment {
+    // Indexed by internal doc id; null once the job is removed
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<Long, Integer> docIds = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final long[] totalLengths = new long[FIELDS.length];
+    private int liveCount;
+    private int deadCount;
+
+    void put(Job job) {
+      remove(job.getId());
+      int docId = docs.size();
+      int[] lengths = new int[FIELDS.length];
+      Map<String, Integer> packedByTerm = new HashMap<>();
+      for (Field field : FIELDS) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> tokens = TextAnalyzer.tokens(Field.textOf(job, field));
+        tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        frequencies.forEach((term, frequency) -> packedByTerm.merge(term, field.pack(frequency), Integer::sum));
+        lengths[field.ordinal()] = tokens.size();
+        totalLengths[field.ordinal()] += tokens.size();
+      }
+      packedByTerm.forEach((term, packed) -> postings.computeIfAbsent(term, key -> new Postings()).add(docId, packed));
+      docs.add(new Doc(job.getId(), JobFacetDocument.of(job), lengths));
+      docIds.put(job.getId(), docId);
+      liveCount++;
+    }
+
+    void remove(Long jobId) {
+      Integer docId = docIds.remove(jobId);
+      if (docId == null) {
+        return;
+      }
+      Doc doc = docs.set(docId, null);
+      for (Field field : FIELDS) {
+        totalLengths[field.ordinal()] -= doc.lengths[field.ordinal()];
+      }
+      liveCount--;
+      deadCount++;
+      if (deadCount >= MIN_DEAD_BEFORE_COMPACTION && deadCount > liveCount / 4) {
+        compact();
+      }
+    }
+
+    private void compact() {
+      int[] remap = new int[docs.size()];
+      List<Doc> live = new ArrayList<>(liveCount);
+      for (int i = 0; i < docs.size(); i++) {
+        Doc doc = docs.get(i);
+        if (doc == null) {
+          remap[i] = -1;
+        } else {
+          remap[i] = live.size();
+          docIds.put(doc.jobId, live.size());
+          live.add(doc);
+        }
+      }
+      postings.values().removeIf(termPostings -> termPostings.remap(remap) == 0);
+      docs.clear();
+      docs.addAll(live);
+      deadCount = 0;
+    }
+  }
+}
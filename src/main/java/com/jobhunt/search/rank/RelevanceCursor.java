@@ -0,0 +1,42 @@
+package com.jobhunt.search.rank;
+
+import com.jobhunt.exception.BadRequestException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a {@code score DESC, id ASC} ordered relevance listing. The score is kept bit-exact; scores are
+ * recomputed on every page, so a page boundary only shifts if the index changed in between.
+ */
+@Value
+public class RelevanceCursor {
+  float score;
+  Long id;
+
+  public boolean isAfter(float otherScore, Long otherId) {
+    return otherScore < score || (otherScore == score && otherId > id);
+  }
+
+  public String encode() {
+    String raw = Integer.toHexString(Float.floatToIntBits(score)) + ":" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static RelevanceCursor decode(String cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+      if (parts.length != 2) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      float score = Float.intBitsToFloat(Integer.parseUnsignedInt(parts[0], 16));
+      return new RelevanceCursor(score, Long.parseLong(parts[1]));
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.jobhunt.search.rank;
+
+import lombok.Value;
+
+@Value
+public class ScoredJob {
+  Long jobId;
+  float score;
+}
@@ -0,0 +1,82 @@
+package com.jobhunt.search.recommend;
+
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.search.TextAnalyzer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns a job into a sparse, unit-length feature vector. Features are prefixed by their source so the same word in
+ * the title and in the requirements stays distinct:
+ * {@code t:} title words, {@code r:} requirement words, {@code type:}, {@code level:}, {@code loc:} and
+ * {@code remote}. Word weights are sublinear in their frequency.
+ */
+final class JobFeatures {
+
+  static final String TITLE = "t:";
+  static final String REQUIREMENT = "r:";
+  static final String EMPLOYMENT_TYPE = "type:";
+  static final String EXPERIENCE_LEVEL = "level:";
+  static final String LOCATION = "loc:";
+  static final String REMOTE = "remote";
+
+  private static final float TITLE_WEIGHT = 2.0f;
+  private static final float REQUIREMENT_WEIGHT = 1.0f;
+  private static final float LOCATION_WEIGHT = 1.5f;
+  private static final float ATTRIBUTE_WEIGHT = 1.0f;
+  private static final int MIN_WORD_LENGTH = 2;
+
+  private JobFeatures() {
+  }
+
+  static Map<String, Float> of(Job job) {
+    Map<String, Float> features = new HashMap<>();
+    addWords(features, TITLE, TextAnalyzer.tokens(job.getTitle()), TITLE_WEIGHT);
+    addWords(features, REQUIREMENT, TextAnalyzer.tokens(job.getRequirements()), REQUIREMENT_WEIGHT);
+    if (job.getEmploymentType() != null) {
+      features.put(EMPLOYMENT_TYPE + job.getEmploymentType().name(), ATTRIBUTE_WEIGHT);
+    }
+    String level = TextAnalyzer.normalize(job.getExperienceLevel());
+    if (!level.isEmpty()) {
+      features.put(EXPERIENCE_LEVEL + level, ATTRIBUTE_WEIGHT);
+    }
+    String location = TextAnalyzer.normalize(job.getLocation());
+    if (!location.isEmpty()) {
+      features.put(LOCATION + location, LOCATION_WEIGHT);
+    }
+    if (job.isRemote()) {
+      features.put(REMOTE, ATTRIBUTE_WEIGHT);
+    }
+
+    double norm = 0;
+    for (float weight : features.values()) {
+      norm += weight * weight;
+    }
+    if (norm > 0) {
+      float scale = (float) (1 / Math.sqrt(norm));
+      features.replaceAll((feature, weight) -> weight * scale);
+    }
+    return features;
+  }
+
+  /**
+   * Whether a feature is specific enough to select candidate jobs. Employment type, level and remote are shared by
+   * large parts of the index, so they only ever adjust the score of candidates found through other features.
+   */
+  static boolean isSelective(String feature) {
+    return feature.startsWith(TITLE) || feature.startsWith(REQUIREMENT) || feature.startsWith(LOCATION);
+  }
+
+  private static void addWords(Map<String, Float> features, String prefix, List<String> words, float weight) {
+    Map<String, Integer> frequencies = new HashMap<>();
+    for (String word : words) {
+      if (word.length() >= MIN_WORD_LENGTH) {
+        frequencies.merge(word, 1, Integer::sum);
+      }
+    }
+    frequencies.forEach((word, frequency) ->
+        features.put(prefix + word, weight * (1 + (float) Math.log(frequency))));
+  }
+}
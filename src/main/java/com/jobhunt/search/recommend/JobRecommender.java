@@ -0,0 +1,195 @@
+package com.jobhunt.search.recommend;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobhunt.event.JobInteractionEvent;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.ApplicationRepository;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.repository.SavedJobRepository;
+import com.jobhunt.repository.SoftDeleteFilter;
+import com.jobhunt.search.rank.ScoredJob;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed job recommendations per user, served from memory.
+ * <p>
+ * A user's profile is the sum of the feature vectors of the jobs they recently applied to (weighted double) and
+ * saved; their recommendations are the {@link #RECOMMENDATIONS_PER_USER} active jobs nearest to it that they have not
+ * interacted with yet. A list is computed on the first request, recomputed in a background pool after every new
+ * interaction, and all cached lists are refreshed periodically so new jobs show up. An interaction that arrives while
+ * the user's refresh is queued or running is folded into it or, if the refresh already started, triggers another
+ * one. Jobs that close in between are filtered out when serving.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobRecommender {
+
+  public static final int RECOMMENDATIONS_PER_USER = 50;
+
+  private static final Logger log = LoggerFactory.getLogger(JobRecommender.class);
+  private static final int MAX_INTERACTIONS = 50;
+  private static final float APPLIED_WEIGHT = 2.0f;
+  private static final float SAVED_WEIGHT = 1.0f;
+
+  private final JobVectorIndex jobVectorIndex;
+  private final JobRepository jobRepository;
+  private final ApplicationRepository applicationRepository;
+  private final SavedJobRepository savedJobRepository;
+  private final SoftDeleteFilter softDeleteFilter;
+
+  @Value("${app.recommendations.maximum-users:100000}")
+  private long maximumUsers;
+
+  @Value("${app.recommendations.idle-expiry:P1D}")
+  private Duration idleExpiry;
+
+  @Value("${app.recommendations.pool-size:2}")
+  private int poolSize;
+
+  private Cache<Long, List<Long>> recommendations;
+  private ThreadPoolTaskExecutor refreshPool;
+  // Users with a refresh queued or running, so a burst of interactions only queues one
+  private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+  // Users whose list is older than their latest interaction; cleared when a refresh starts reading
+  private final Set<Long> stale = ConcurrentHashMap.newKeySet();
+
+  @PostConstruct
+  void start() {
+    recommendations = Caffeine.newBuilder()
+        .maximumSize(maximumUsers)
+        .expireAfterAccess(idleExpiry)
+        .build();
+    refreshPool = new ThreadPoolTaskExecutor();
+    refreshPool.setCorePoolSize(poolSize);
+    refreshPool.setMaxPoolSize(poolSize);
+    refreshPool.setQueueCapacity(10_000);
+    refreshPool.setThreadNamePrefix("recommend-");
+    refreshPool.initialize();
+  }
+
+  @PreDestroy
+  void stop() {
+    refreshPool.shutdown();
+  }
+
+  /**
+   * Ids of up to {@code limit} recommended active jobs for the user, best first.
+   */
+  public List<Long> recommend(Long userId, int limit) {
+    List<Long> jobIds = recommendations.getIfPresent(userId);
+    if (jobIds == null) {
+      jobIds = compute(userId);
+      // Lists computed before the index is loaded would be empty, so they are not kept
+      if (jobVectorIndex.isReady()) {
+        recommendations.put(userId, jobIds);
+      }
+    }
+    return jobIds.stream()
+        .filter(jobVectorIndex::contains)
+        .limit(limit)
+        .toList();
+  }
+
+  @TransactionalEventListener
+  public void onJobInteraction(JobInteractionEvent event) {
+    // Users without a list get one computed on their next request anyway
+    if (recommendations.getIfPresent(event.getUserId()) != null) {
+      scheduleRefresh(event.getUserId());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.recommendations.refresh-interval:PT30M}",
+      initialDelayString = "${app.recommendations.refresh-interval:PT30M}")
+  public void refreshAll() {
+    List<Long> userIds = new ArrayList<>(recommendations.asMap().keySet());
+    userIds.forEach(this::scheduleRefresh);
+    log.debug("Queued recommendation refresh for {} users", userIds.size());
+  }
+
+  private void scheduleRefresh(Long userId) {
+    stale.add(userId);
+    if (!refreshing.add(userId)) {
+      return;
+    }
+    try {
+      refreshPool.execute(() -> {
+        try {
+          stale.remove(userId);
+          List<Long> jobIds = compute(userId);
+          // Skip users evicted while queued instead of bringing them back
+          recommendations.asMap().computeIfPresent(userId, (id, previous) -> jobIds);
+        } catch (RuntimeException e) {
+          log.warn("Failed to refresh recommendations for user {}", userId, e);
+        } finally {
+          refreshing.remove(userId);
+          // Interactions that arrived after this refresh started reading are not in its list yet
+          if (stale.contains(userId)) {
+            scheduleRefresh(userId);
+          }
+        }
+      });
+    } catch (TaskRejectedException e) {
+      refreshing.remove(userId);
+      stale.remove(userId);
+      log.debug("Recommendation refresh queue full, user {} keeps the previous list", userId);
+    }
+  }
+
+  private List<Long> compute(Long userId) {
+    PageRequest recent = PageRequest.of(0, MAX_INTERACTIONS);
+    List<Long> applied = applicationRepository.findRecentJobIds(userId, recent);
+    List<Long> saved = savedJobRepository.findRecentJobIds(userId, recent);
+    if (applied.isEmpty() && saved.isEmpty()) {
+      return List.of();
+    }
+
+    Set<Long> interacted = new HashSet<>(applied);
+    interacted.addAll(saved);
+    Map<Long, Map<String, Float>> vectors = new HashMap<>(jobVectorIndex.vectors(interacted));
+    // Closed jobs are no longer indexed but still say what the user is looking for
+    List<Long> missing = interacted.stream().filter(jobId -> !vectors.containsKey(jobId)).toList();
+    if (!missing.isEmpty()) {
+      for (Job job : softDeleteFilter.includingInactive(() -> jobRepository.findAllById(missing))) {
+        vectors.put(job.getId(), JobFeatures.of(job));
+      }
+    }
+
+    Map<String, Float> profile = new HashMap<>();
+    addToProfile(profile, applied, vectors, APPLIED_WEIGHT);
+    addToProfile(profile, saved, vectors, SAVED_WEIGHT);
+    return jobVectorIndex.nearest(profile, interacted, RECOMMENDATIONS_PER_USER).stream()
+        .map(ScoredJob::getJobId)
+        .toList();
+  }
+
+  private static void addToProfile(Map<String, Float> profile, List<Long> jobIds,
+      Map<Long, Map<String, Float>> vectors, float weight) {
+    for (Long jobId : jobIds) {
+      Map<String, Float> vector = vectors.get(jobId);
+      if (vector != null) {
+        vector.forEach((feature, value) -> profile.merge(feature, value * weight, Float::sum));
+      }
+    }
+  }
+}
@@ -0,0 +1,275 @@
+package com.jobhunt.search.recommend;
+
+import com.jobhunt.event.JobChangedEvent;
+import com.jobhunt.event.JobsImportedEvent;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.search.GenerationalIndex;
+import com.jobhunt.search.rank.ScoredJob;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Feature vectors of all active jobs (see {@link JobFeatures}) with an inverted index from feature to jobs, used to
+ * find the jobs closest to a user profile.
+ * <p>
+ * Candidates are the jobs sharing one of the profile's most important selective features, taken in order of
+ * importance until {@link #MAX_CANDIDATES} is reached; only those are scored, by the idf-weighted dot product with
+ * the profile. Rebuilt from the database on startup and kept current from {@link JobChangedEvent}s and
+ * {@link JobsImportedEvent}s.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobVectorIndex {
+
+  private static final Logger log = LoggerFactory.getLogger(JobVectorIndex.class);
+  private static final int LOAD_BATCH_SIZE = 500;
+  private static final int MAX_PROFILE_FEATURES = 48;
+  private static final int MAX_CANDIDATES = 5_000;
+
+  private static final Comparator<ScoredJob> WORST_FIRST = Comparator.comparingDouble(ScoredJob::getScore)
+      .thenComparing(ScoredJob::getJobId, Comparator.reverseOrder());
+
+  private final JobRepository jobRepository;
+
+  private final GenerationalIndex<Segment> segments = new GenerationalIndex<>(new Segment());
+  private volatile boolean ready;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    Segment rebuilt = segments.rebuild(() -> {
+      Segment segment = new Segment();
+      long lastId = 0;
+      List<Job> batch;
+      do {
+        batch = jobRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+        batch.forEach(segment::put);
+        if (!batch.isEmpty()) {
+          lastId = batch.get(batch.size() - 1).getId();
+        }
+      } while (batch.size() == LOAD_BATCH_SIZE);
+      return segment;
+    });
+    ready = true;
+    log.info("Job vector index rebuilt with {} active jobs and {} features", rebuilt.docIds.size(),
+        rebuilt.featureIds.size());
+  }
+
+  @TransactionalEventListener
+  public void onJobChanged(JobChangedEvent event) {
+    index(event.getJob());
+  }
+
+  @TransactionalEventListener
+  public void onJobsImported(JobsImportedEvent event) {
+    segments.update(segment -> event.getJobs().forEach(job -> apply(segment, job)));
+  }
+
+  public void index(Job job) {
+    segments.update(segment -> apply(segment, job));
+  }
+
+  private static void apply(Segment segment, Job job) {
+    if (job.isActive()) {
+      segment.put(job);
+    } else {
+      segment.remove(job.getId());
+    }
+  }
+
+  /**
+   * Whether the first rebuild has completed; before that every lookup comes back empty.
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  public boolean contains(Long jobId) {
+    return segments.read(segment -> segment.docIds.containsKey(jobId));
+  }
+
+  /**
+   * Feature vectors of the given jobs that are indexed; inactive jobs are left out.
+   */
+  Map<Long, Map<String, Float>> vectors(Collection<Long> jobIds) {
+    return segments.read(segment -> {
+      Map<Long, Map<String, Float>> vectors = new HashMap<>();
+      for (Long jobId : jobIds) {
+        Integer docId = segment.docIds.get(jobId);
+        if (docId != null) {
+          vectors.put(jobId, segment.vectors.get(docId).toMap(segment.featureNames));
+        }
+      }
+      return vectors;
+    });
+  }
+
+  /**
+   * The {@code limit} jobs closest to {@code profile}, best first, leaving out {@code exclude}.
+   */
+  List<ScoredJob> nearest(Map<String, Float> profile, Set<Long> exclude, int limit) {
+    return segments.read(current -> {
+      int liveCount = current.docIds.size();
+      if (liveCount == 0) {
+        return List.of();
+      }
+
+      // Profile weights in feature id space, scaled by how rare the feature is
+      Map<Integer, Float> weights = new HashMap<>();
+      List<Integer> selective = new ArrayList<>();
+      profile.forEach((feature, weight) -> {
+        Integer featureId = current.featureIds.get(feature);
+        if (featureId == null) {
+          return;
+        }
+        RoaringBitmap postings = current.postings.get(featureId);
+        if (postings == null) {
+          return;
+        }
+        float idf = (float) Math.log(1 + (double) liveCount / postings.getCardinality());
+        weights.put(featureId, weight * idf);
+        if (JobFeatures.isSelective(feature)) {
+          selective.add(featureId);
+        }
+      });
+      selective.sort(Comparator.comparing(weights::get, Comparator.reverseOrder()));
+
+      RoaringBitmap candidates = new RoaringBitmap();
+      for (Integer featureId : selective.subList(0, Math.min(MAX_PROFILE_FEATURES, selective.size()))) {
+        candidates.or(current.postings.get(featureId));
+        if (candidates.getCardinality() >= MAX_CANDIDATES) {
+          break;
+        }
+      }
+
+      PriorityQueue<ScoredJob> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+      candidates.forEach((int docId) -> {
+        Long jobId = current.jobIds.get(docId);
+        if (exclude.contains(jobId)) {
+          return;
+        }
+        ScoredJob candidate = new ScoredJob(jobId, current.vectors.get(docId).dot(weights));
+        if (best.size() < limit) {
+          best.add(candidate);
+        } else if (WORST_FIRST.compare(candidate, best.peek()) > 0) {
+          best.poll();
+          best.add(candidate);
+        }
+      });
+      List<ScoredJob> results = new ArrayList<>(best);
+      results.sort(WORST_FIRST.reversed());
+      return results;
+    });
+  }
+
+  /**
+   * Sparse vector with feature ids in ascending order.
+   */
+  private static final class SparseVector {
+    private final int[] featureIds;
+    private final float[] weights;
+
+    private SparseVector(int[] featureIds, float[] weights) {
+      this.featureIds = featureIds;
+      this.weights = weights;
+    }
+
+    private float dot(Map<Integer, Float> other) {
+      float sum = 0;
+      for (int i = 0; i < featureIds.length; i++) {
+        Float weight = other.get(featureIds[i]);
+        if (weight != null) {
+          sum += weight * weights[i];
+        }
+      }
+      return sum;
+    }
+
+    private Map<String, Float> toMap(List<String> featureNames) {
+      Map<String, Float> map = new HashMap<>(featureIds.length * 2);
+      for (int i = 0; i < featureIds.length; i++) {
+        map.put(featureNames.get(featureIds[i]), weights[i]);
+      }
+      return map;
+    }
+  }
+
+  private static final class Segment {
+    // Feature dictionary; ids are never reused, so a feature that disappears only costs its name
+    private final Map<String, Integer> featureIds = new HashMap<>();
+    private final List<String> featureNames = new ArrayList<>();
+    private final Map<Integer, RoaringBitmap> postings = new HashMap<>();
+    // Indexed by internal doc id; null once the job is removed. Doc ids of removed jobs are reused.
+    private final List<Long> jobIds = new ArrayList<>();
+    private final List<SparseVector> vectors = new ArrayList<>();
+    private final List<Integer> freeDocIds = new ArrayList<>();
+    private final Map<Long, Integer> docIds = new HashMap<>();
+
+    void put(Job job) {
+      remove(job.getId());
+      Map<String, Float> features = JobFeatures.of(job);
+      int[] ids = new int[features.size()];
+      int i = 0;
+      for (String feature : features.keySet()) {
+        ids[i++] = featureIds.computeIfAbsent(feature, key -> {
+          featureNames.add(key);
+          return featureNames.size() - 1;
+        });
+      }
+      Arrays.sort(ids);
+      float[] weights = new float[ids.length];
+      for (int j = 0; j < ids.length; j++) {
+        weights[j] = features.get(featureNames.get(ids[j]));
+      }
+
+      int docId;
+      if (freeDocIds.isEmpty()) {
+        docId = jobIds.size();
+        jobIds.add(job.getId());
+        vectors.add(new SparseVector(ids, weights));
+      } else {
+        docId = freeDocIds.remove(freeDocIds.size() - 1);
+        jobIds.set(docId, job.getId());
+        vectors.set(docId, new SparseVector(ids, weights));
+      }
+      docIds.put(job.getId(), docId);
+      for (int featureId : ids) {
+        postings.computeIfAbsent(featureId, key -> new RoaringBitmap()).add(docId);
+      }
+    }
+
+    void remove(Long jobId) {
+      Integer docId = docIds.remove(jobId);
+      if (docId == null) {
+        return;
+      }
+      for (int featureId : vectors.get(docId).featureIds) {
+        RoaringBitmap featurePostings = postings.get(featureId);
+        featurePostings.remove(docId);
+        if (featurePostings.isEmpty()) {
+          postings.remove(featureId);
+        }
+      }
+      jobIds.set(docId, null);
+      vectors.set(docId, null);
+      freeDocIds.add(docId);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.jobhunt.search.service;
+
+import com.jobhunt.exception.BadRequestException;
+import com.jobhunt.model.entity.ServiceJob;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset position in an urgency-first service job listing: {@code is_urgent DESC, required_completion_date ASC NULLS
+ * LAST, id ASC}. Clients only ever see the encoded, opaque form.
+ */
+@Value
+public class ServiceJobCursor {
+  boolean urgent;
+  LocalDateTime requiredCompletionDate;
+  Long id;
+
+  public static ServiceJobCursor of(ServiceJob serviceJob) {
+    return new ServiceJobCursor(serviceJob.isUrgent(), serviceJob.getRequiredCompletionDate(), serviceJob.getId());
+  }
+
+  public String encode() {
+    String raw = (urgent ? "u" : "n") + ":" + (requiredCompletionDate != null ? requiredCompletionDate : "") + ":" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static ServiceJobCursor decode(String cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      // The ISO date itself contains colons, so split off the first and last part only
+      int first = raw.indexOf(':');
+      int last = raw.lastIndexOf(':');
+      if (first < 0 || last == first) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      String urgency = raw.substring(0, first);
+      String date = raw.substring(first + 1, last);
+      if (!urgency.equals("u") && !urgency.equals("n")) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      return new ServiceJobCursor(urgency.equals("u"), date.isEmpty() ? null : LocalDateTime.parse(date),
+          Long.parseLong(raw.substring(last + 1)));
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+}
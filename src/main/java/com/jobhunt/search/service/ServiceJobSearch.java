@@ -0,0 +1,90 @@
+package com.jobhunt.search.service;
+
+import com.jobhunt.model.entity.ServiceJob;
+import com.jobhunt.repository.ServiceJobRepository;
+import com.jobhunt.repository.SoftDeleteFilter;
+import com.jobhunt.specification.ServiceJobFilter;
+import com.jobhunt.specification.ServiceJobSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lists service jobs urgent first, then by nearest required completion date with undated jobs last, then by id.
+ * <p>
+ * A single {@code ORDER BY} over that key cannot be served by an index because of the {@code NULLS LAST} and the
+ * mixed directions, so the listing is split into four segments (urgent dated, urgent undated, other dated, other
+ * undated). Each segment is read in index order with a plain keyset range, and segments are only queried while the
+ * page is not yet full, so no query sorts more than the rows it returns.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceJobSearch {
+
+  private static final Sort BY_DATE = Sort.by(Sort.Order.asc("requiredCompletionDate"), Sort.Order.asc("id"));
+  private static final Sort BY_ID = Sort.by(Sort.Order.asc("id"));
+
+  private enum Segment {
+    URGENT_DATED(true, true),
+    URGENT_UNDATED(true, false),
+    DATED(false, true),
+    UNDATED(false, false);
+
+    private final boolean urgent;
+    private final boolean dated;
+
+    Segment(boolean urgent, boolean dated) {
+      this.urgent = urgent;
+      this.dated = dated;
+    }
+
+    private static Segment of(ServiceJobCursor cursor) {
+      for (Segment segment : values()) {
+        if (segment.urgent == cursor.isUrgent() && segment.dated == (cursor.getRequiredCompletionDate() != null)) {
+          return segment;
+        }
+      }
+      throw new IllegalStateException();
+    }
+  }
+
+  private final ServiceJobRepository serviceJobRepository;
+  private final SoftDeleteFilter softDeleteFilter;
+
+  /**
+   * Up to {@code limit} jobs matching {@code filter}, starting right after {@code after}.
+   */
+  public List<ServiceJob> search(ServiceJobFilter filter, ServiceJobCursor after, int limit) {
+    return filter.isActiveOnly()
+        ? softDeleteFilter.forCurrentUser(() -> searchSegments(filter, after, limit))
+        : softDeleteFilter.includingInactive(() -> searchSegments(filter, after, limit));
+  }
+
+  private List<ServiceJob> searchSegments(ServiceJobFilter filter, ServiceJobCursor after, int limit) {
+    Specification<ServiceJob> matching = ServiceJobSpecifications.matching(filter);
+    List<ServiceJob> results = new ArrayList<>(limit);
+    Segment[] segments = Segment.values();
+    for (int i = after != null ? Segment.of(after).ordinal() : 0; i < segments.length && results.size() < limit; i++) {
+      Segment segment = segments[i];
+      if (filter.getUrgent() != null && filter.getUrgent() != segment.urgent) {
+        continue;
+      }
+      ServiceJobCursor position = after != null && Segment.of(after) == segment ? after : null;
+      Specification<ServiceJob> spec = matching.and(ServiceJobSpecifications.isUrgent(segment.urgent))
+          .and(segment.dated
+              ? ServiceJobSpecifications.datedAfter(position != null ? position.getRequiredCompletionDate() : null,
+                  position != null ? position.getId() : null)
+              : ServiceJobSpecifications.undatedAfter(position != null ? position.getId() : null));
+      int remaining = limit - results.size();
+      results.addAll(serviceJobRepository.findBy(spec, query -> query
+          .sortBy(segment.dated ? BY_DATE : BY_ID)
+          .limit(remaining)
+          .all()));
+    }
+    return results;
+  }
+}
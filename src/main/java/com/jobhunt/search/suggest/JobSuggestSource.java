@@ -0,0 +1,11 @@
+package com.jobhunt.search.suggest;
+
+import lombok.Value;
+
+@Value
+public class JobSuggestSource {
+  Long id;
+  String title;
+  String location;
+  Long companyId;
+}
@@ -0,0 +1,173 @@
+package com.jobhunt.search.suggest;
+
+import com.jobhunt.event.CompanyChangedEvent;
+import com.jobhunt.event.JobChangedEvent;
+import com.jobhunt.event.JobsImportedEvent;
+import com.jobhunt.model.entity.Company;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.model.response.SuggestResponse;
+import com.jobhunt.repository.CompanyRepository;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.search.GenerationalIndex;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Typeahead over job titles, job locations and company names. Titles and locations are weighted by how many active
+ * jobs use them, companies by one plus their number of active jobs.
+ * <p>
+ * The vocabulary is rebuilt from the database on startup and kept current from {@link JobChangedEvent}s,
+ * {@link JobsImportedEvent}s and {@link CompanyChangedEvent}s.
+ */
+@Component
+@RequiredArgsConstructor
+public class SuggestIndex {
+
+  public static final int MAX_SUGGESTIONS = 10;
+
+  private static final Logger log = LoggerFactory.getLogger(SuggestIndex.class);
+
+  private final JobRepository jobRepository;
+  private final CompanyRepository companyRepository;
+
+  private final GenerationalIndex<Vocabulary> vocabularies = new GenerationalIndex<>(new Vocabulary());
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    Vocabulary rebuilt = vocabularies.rebuild(() -> {
+      Vocabulary vocabulary = new Vocabulary();
+      vocabulary.beginBulkLoad();
+      try {
+        companyRepository.findSuggestSources()
+            .forEach(company -> vocabulary.putCompany(company.getId(), company.getName()));
+        jobRepository.findSuggestSources().forEach(job -> vocabulary.putJob(job.getId(), job.getTitle(),
+            job.getLocation(), job.getCompanyId()));
+      } finally {
+        vocabulary.finishBulkLoad();
+      }
+      return vocabulary;
+    });
+    log.info("Suggest index rebuilt with {} titles, {} locations and {} companies", rebuilt.titles.size(),
+        rebuilt.locations.size(), rebuilt.companies.size());
+  }
+
+  @TransactionalEventListener
+  public void onJobChanged(JobChangedEvent event) {
+    accept(event);
+  }
+
+  @TransactionalEventListener
+  public void onJobsImported(JobsImportedEvent event) {
+    vocabularies.update(vocabulary -> event.getJobs().forEach(job -> applyJob(vocabulary, job)));
+  }
+
+  @TransactionalEventListener
+  public void onCompanyChanged(CompanyChangedEvent event) {
+    accept(event);
+  }
+
+  private void accept(Object event) {
+    vocabularies.update(vocabulary -> apply(vocabulary, event));
+  }
+
+  private static void apply(Vocabulary target, Object event) {
+    if (event instanceof JobChangedEvent jobChanged) {
+      applyJob(target, jobChanged.getJob());
+    } else if (event instanceof CompanyChangedEvent companyChanged) {
+      Company company = companyChanged.getCompany();
+      if (company.isActive()) {
+        target.putCompany(company.getId(), company.getName());
+      } else {
+        target.removeCompany(company.getId());
+      }
+    }
+  }
+
+  private static void applyJob(Vocabulary target, Job job) {
+    if (job.isActive()) {
+      target.putJob(job.getId(), job.getTitle(), job.getLocation(), job.getCompany().getId());
+    } else {
+      target.removeJob(job.getId());
+    }
+  }
+
+  public SuggestResponse suggest(String prefix, int limit) {
+    int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+    return vocabularies.read(vocabulary -> {
+      SuggestResponse response = new SuggestResponse();
+      response.setTitles(vocabulary.titles.suggest(prefix, size));
+      response.setLocations(vocabulary.locations.suggest(prefix, size));
+      response.setCompanies(vocabulary.companies.suggest(prefix, size));
+      return response;
+    });
+  }
+
+  private static final class Vocabulary {
+    private final SuggestTrie titles = new SuggestTrie(MAX_SUGGESTIONS);
+    private final SuggestTrie locations = new SuggestTrie(MAX_SUGGESTIONS);
+    private final SuggestTrie companies = new SuggestTrie(MAX_SUGGESTIONS);
+
+    private final Map<Long, JobSuggestSource> jobs = new HashMap<>();
+    private final Map<Long, String> companyNames = new HashMap<>();
+    private final Map<Long, Integer> jobCounts = new HashMap<>();
+
+    void beginBulkLoad() {
+      titles.beginBulkLoad();
+      locations.beginBulkLoad();
+      companies.beginBulkLoad();
+    }
+
+    void finishBulkLoad() {
+      titles.finishBulkLoad();
+      locations.finishBulkLoad();
+      companies.finishBulkLoad();
+    }
+
+    void putJob(Long jobId, String title, String location, Long companyId) {
+      removeJob(jobId);
+      jobs.put(jobId, new JobSuggestSource(jobId, title, location, companyId));
+      titles.adjust(title, 1);
+      locations.adjust(location, 1);
+      jobCounts.merge(companyId, 1, Integer::sum);
+      String companyName = companyNames.get(companyId);
+      if (companyName != null) {
+        companies.adjust(companyName, 1);
+      }
+    }
+
+    void removeJob(Long jobId) {
+      JobSuggestSource previous = jobs.remove(jobId);
+      if (previous == null) {
+        return;
+      }
+      titles.adjust(previous.getTitle(), -1);
+      locations.adjust(previous.getLocation(), -1);
+      jobCounts.computeIfPresent(previous.getCompanyId(), (companyId, count) -> count > 1 ? count - 1 : null);
+      String companyName = companyNames.get(previous.getCompanyId());
+      if (companyName != null) {
+        companies.adjust(companyName, -1);
+      }
+    }
+
+    void putCompany(Long companyId, String name) {
+      removeCompany(companyId);
+      companyNames.put(companyId, name);
+      companies.adjust(name, 1 + jobCounts.getOrDefault(companyId, 0));
+    }
+
+    void removeCompany(Long companyId) {
+      String previous = companyNames.remove(companyId);
+      if (previous != null) {
+        companies.adjust(previous, -(1 + jobCounts.getOrDefault(companyId, 0)));
+      }
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package com.jobhunt.search.suggest;
+
+import com.jobhunt.search.TextAnalyzer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Weighted prefix trie. Every term is inserted once per word start, so "senior java developer" is also found by
+ * "java" and "dev", and every node caches the heaviest terms below it. A lookup is a walk down the prefix plus a copy
+ * of that cached list.
+ * <p>
+ * The trie is cut off at {@link #MAX_DEPTH} characters to bound memory; nodes at that depth keep all their postings,
+ * and longer prefixes are answered by filtering them. Not thread-safe.
+ */
+final class SuggestTrie {
+
+  static final int MAX_DEPTH = 24;
+  private static final int MAX_WORD_STARTS = 6;
+
+  private static final Comparator<Term> HEAVIEST_FIRST = Comparator.comparingInt((Term term) -> term.weight)
+      .reversed()
+      .thenComparing(term -> term.key);
+
+  private final int topK;
+  private final Node root = new Node(null, '\0');
+  private final Map<String, Term> terms = new HashMap<>();
+  private boolean bulkLoading;
+
+  SuggestTrie(int topK) {
+    this.topK = topK;
+  }
+
+  /**
+   * Adds {@code delta} to the weight of the term for {@code text}, inserting it on first use and dropping it once its
+   * weight is no longer positive. The latest spelling added is the one suggested.
+   */
+  void adjust(String text, int delta) {
+    String key = TextAnalyzer.normalize(text);
+    if (key.isEmpty() || delta == 0) {
+      return;
+    }
+    Term term = terms.get(key);
+    if (term == null) {
+      if (delta > 0) {
+        insert(new Term(key, text.trim(), delta));
+      }
+      return;
+    }
+
+    term.weight += delta;
+    if (delta > 0) {
+      term.text = text.trim();
+    }
+    if (term.weight <= 0) {
+      remove(term);
+    } else if (!bulkLoading) {
+      for (String suffix : wordSuffixes(key)) {
+        Node node = descend(suffix, false);
+        if (node != null) {
+          refreshUpwards(node);
+        }
+      }
+    }
+  }
+
+  /**
+   * Stops maintaining the cached top terms until {@link #finishBulkLoad()}, which computes them all in one
+   * bottom-up pass. Used when loading the whole vocabulary at once.
+   */
+  void beginBulkLoad() {
+    bulkLoading = true;
+  }
+
+  void finishBulkLoad() {
+    bulkLoading = false;
+    refreshSubtree(root);
+  }
+
+  List<Suggestion> suggest(String prefix, int limit) {
+    String key = TextAnalyzer.normalize(prefix);
+    if (key.isEmpty()) {
+      return List.of();
+    }
+    Node node = root;
+    for (int i = 0; i < Math.min(key.length(), MAX_DEPTH) && node != null; i++) {
+      node = node.child(key.charAt(i));
+    }
+    if (node == null) {
+      return List.of();
+    }
+
+    List<Term> matches;
+    if (key.length() <= MAX_DEPTH) {
+      matches = node.top;
+    } else {
+      Set<Term> candidates = new LinkedHashSet<>();
+      for (Posting posting : node.postings) {
+        if (posting.suffix.startsWith(key)) {
+          candidates.add(posting.term);
+        }
+      }
+      matches = new ArrayList<>(candidates);
+      matches.sort(HEAVIEST_FIRST);
+    }
+    return matches.stream()
+        .limit(limit)
+        .map(term -> new Suggestion(term.text, term.weight))
+        .toList();
+  }
+
+  int size() {
+    return terms.size();
+  }
+
+  private static List<String> wordSuffixes(String key) {
+    List<String> suffixes = new ArrayList<>();
+    for (int i = 0; i < key.length() && suffixes.size() < MAX_WORD_STARTS; i++) {
+      if (i == 0 || key.charAt(i - 1) == ' ') {
+        suffixes.add(key.substring(i));
+      }
+    }
+    return suffixes;
+  }
+
+  private void insert(Term term) {
+    terms.put(term.key, term);
+    for (String suffix : wordSuffixes(term.key)) {
+      Node node = descend(suffix, true);
+      node.postings.add(new Posting(term, suffix));
+      if (!bulkLoading) {
+        refreshUpwards(node);
+      }
+    }
+  }
+
+  private void remove(Term term) {
+    terms.remove(term.key);
+    for (String suffix : wordSuffixes(term.key)) {
+      // Two long suffixes can share a truncated path, in which case the first pass already pruned it
+      Node node = descend(suffix, false);
+      if (node == null) {
+        continue;
+      }
+      node.postings.removeIf(posting -> posting.term == term);
+      node = prune(node);
+      if (!bulkLoading) {
+        refreshUpwards(node);
+      }
+    }
+  }
+
+  private Node descend(String suffix, boolean create) {
+    Node node = root;
+    for (int i = 0; i < Math.min(suffix.length(), MAX_DEPTH); i++) {
+      Node child = node.child(suffix.charAt(i));
+      if (child == null) {
+        if (!create) {
+          return null;
+        }
+        child = node.addChild(suffix.charAt(i));
+      }
+      node = child;
+    }
+    return node;
+  }
+
+  /**
+   * Unlinks empty nodes from the bottom of a path and returns the deepest node left on it.
+   */
+  private static Node prune(Node node) {
+    while (node.parent != null && node.postings.isEmpty() && node.childCount == 0) {
+      node.parent.removeChild(node.label);
+      node = node.parent;
+    }
+    return node;
+  }
+
+  private void refreshSubtree(Node node) {
+    for (int i = 0; i < node.childCount; i++) {
+      refreshSubtree(node.children[i]);
+    }
+    node.top = heaviest(node);
+  }
+
+  private void refreshUpwards(Node node) {
+    for (Node current = node; current != null; current = current.parent) {
+      current.top = heaviest(current);
+    }
+  }
+
+  private List<Term> heaviest(Node node) {
+    Set<Term> candidates = new LinkedHashSet<>();
+    for (Posting posting : node.postings) {
+      candidates.add(posting.term);
+    }
+    for (int i = 0; i < node.childCount; i++) {
+      candidates.addAll(node.children[i].top);
+    }
+    if (candidates.isEmpty()) {
+      return List.of();
+    }
+    List<Term> sorted = new ArrayList<>(candidates);
+    sorted.sort(HEAVIEST_FIRST);
+    return List.copyOf(sorted.subList(0, Math.min(topK, sorted.size())));
+  }
+
+  private static final class Term {
+    private final String key;
+    private String text;
+    private int weight;
+
+    private Term(String key, String text, int weight) {
+      this.key = key;
+      this.text = text;
+      this.weight = weight;
+    }
+  }
+
+  private record Posting(Term term, String suffix) {
+  }
+
+  private static final class Node {
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node parent;
+    private final char label;
+    // Sorted by label; tries are sparse, so a binary search beats a map per node in both time and memory
+    private char[] labels = NO_LABELS;
+    private Node[] children = NO_CHILDREN;
+    private int childCount;
+    private final List<Posting> postings = new ArrayList<>(1);
+    private List<Term> top = Collections.emptyList();
+
+    private Node(Node parent, char label) {
+      this.parent = parent;
+      this.label = label;
+    }
+
+    private Node child(char c) {
+      int index = Arrays.binarySearch(labels, 0, childCount, c);
+      return index >= 0 ? children[index] : null;
+    }
+
+    private Node addChild(char c) {
+      int index = -Arrays.binarySearch(labels, 0, childCount, c) - 1;
+      if (childCount == labels.length) {
+        int capacity = Math.max(2, childCount * 2);
+        labels = Arrays.copyOf(labels, capacity);
+        children = Arrays.copyOf(children, capacity);
+      }
+      System.arraycopy(labels, index, labels, index + 1, childCount - index);
+      System.arraycopy(children, index, children, index + 1, childCount - index);
+      Node child = new Node(this, c);
+      labels[index] = c;
+      children[index] = child;
+      childCount++;
+      return child;
+    }
+
+    private void removeChild(char c) {
+      int index = Arrays.binarySearch(labels, 0, childCount, c);
+      if (index < 0) {
+        return;
+      }
+      System.arraycopy(labels, index + 1, labels, index, childCount - index - 1);
+      System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+      childCount--;
+      children[childCount] = null;
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.jobhunt.search.suggest;
+
+import lombok.Value;
+
+@Value
+public class Suggestion {
+  String text;
+  int weight;
+}
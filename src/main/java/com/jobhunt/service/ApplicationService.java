@@ -3,12 +3,20 @@ package com.jobhunt.service;
 import com.jobhunt.model.entity.Application;
 import com.jobhunt.model.request.ApplicationRequest;
 import com.jobhunt.model.request.ApplicationUpdateRequest;
+import com.jobhunt.model.request.BulkStatusUpdateRequest;
+import com.jobhunt.model.response.BulkStatusUpdateResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
+
 public interface ApplicationService {
-  Application apply(ApplicationRequest request, MultipartFile cv);
+  /**
+   * Applies the current user to the job with the uploaded CV. A retry carrying the {@code idempotencyKey} of the
+   * request that applied gets the same application back; any other second application is rejected.
+   */
+  Application apply(ApplicationRequest request, MultipartFile cv, String idempotencyKey);
 
   Application getApplication(Long id);
 
@@ -16,8 +24,23 @@ public interface ApplicationService {
 
   Page<Application> getJobApplications(Long jobId, Pageable pageable);
 
+  /**
+   * Archived applications to the job created on or after {@code from}; a null {@code from} reads back
+   * {@code app.applications.archive.lookback} from today.
+   */
+  Page<Application> getArchivedJobApplications(Long jobId, LocalDate from, Pageable pageable);
+
+  /**
+   * Moves the application to {@code status} if {@link Application.ApplicationStatus#canMoveTo} allows it.
+   */
   Application updateStatus(Long id, Application.ApplicationStatus status);
 
+  /**
+   * Moves applications to the current employer's job to {@code request.status} in set-based updates, checking each
+   * against {@link Application.ApplicationStatus#canMoveTo}, and reports what happened to every application.
+   */
+  BulkStatusUpdateResponse updateStatuses(Long jobId, BulkStatusUpdateRequest request);
+
   void withdrawApplication(Long id);
 
   Application updateApplication(Long id, ApplicationUpdateRequest request, MultipartFile cv);
@@ -4,6 +4,8 @@ import com.jobhunt.model.request.CompanyRequest;
 import com.jobhunt.model.response.CompanyResponse;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 public interface CompanyService {
   CompanyResponse createCompany(CompanyRequest request);
 
@@ -15,5 +17,7 @@ public interface CompanyService {
 
   Page<CompanyResponse> getAllCompanies(int page, int size);
 
+  List<CompanyResponse> getNearbyCompanies(Double latitude, Double longitude, double radiusKm, int size);
+
   CompanyResponse getCurrentUserCompany();
 }
\ No newline at end of file
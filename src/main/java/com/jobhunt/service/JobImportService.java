@@ -0,0 +1,13 @@
+package com.jobhunt.service;
+
+import com.jobhunt.model.response.JobImportResponse;
+
+import java.io.InputStream;
+
+public interface JobImportService {
+  /**
+   * Creates a job for the current employer's company from every line of {@code ndjson} holding a valid
+   * {@code JobRequest}; invalid rows are reported and skipped.
+   */
+  JobImportResponse importJobs(InputStream ndjson);
+}
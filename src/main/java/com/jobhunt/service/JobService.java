@@ -1,9 +1,17 @@
 package com.jobhunt.service;
 
 import com.jobhunt.model.request.JobRequest;
+import com.jobhunt.model.request.JobSearchRequest;
+import com.jobhunt.model.response.JobFacetResponse;
 import com.jobhunt.model.response.JobResponse;
+import com.jobhunt.model.response.SuggestResponse;
+import com.jobhunt.payload.CursorPage;
+import com.jobhunt.search.cache.SearchCacheStats;
+import com.jobhunt.search.facet.SalaryHistogram;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 public interface JobService {
@@ -17,17 +25,45 @@ public interface JobService {
 
   List<JobResponse> getCompanyJobs(Long companyId);
 
-  List<JobResponse> searchJobs(String keyword, String location, String employmentType, String experienceLevel,
-      Boolean isRemote);
+  List<JobResponse> searchJobs(JobSearchRequest request);
+
+  CursorPage<JobResponse> searchJobsPage(JobSearchRequest request);
 
   Page<JobResponse> getAllJobs(int page, int size, String keyword, String location, String jobType,
       String experienceLevel, String salaryRange);
 
-  JobResponse applyJob(Long id);
+  Slice<JobResponse> getAllJobsSlice(int page, int size, String keyword, String location, String jobType,
+      String experienceLevel, String salaryRange);
+
+  JobFacetResponse getJobFacets(String employmentType, String experienceLevel, Boolean isRemote, String location,
+      String salaryRange, int page, int size, int topLocations);
+
+  SalaryHistogram getSalaryHistogram(String employmentType, String experienceLevel, Boolean isRemote,
+      String location, String salaryRange, BigDecimal bucketWidth);
+
+  SuggestResponse suggest(String prefix, int limit);
+
+  /**
+   * Active jobs recommended to the current user from the jobs they applied to and saved, best first.
+   */
+  List<JobResponse> getRecommendedJobs(int size);
+
+  SearchCacheStats getSearchCacheStats();
+
+  void clearSearchCache();
+
+  /**
+   * Applies the current user to the job. A retry carrying the {@code idempotencyKey} of the request that applied
+   * succeeds again; any other second application is rejected.
+   */
+  JobResponse applyJob(Long id, String idempotencyKey);
 
   Page<JobResponse> getAppliedJobs(int page, int size);
   
-  JobResponse saveJob(Long id);
+  /**
+   * Saves the job for the current user; retries are handled like {@link #applyJob}.
+   */
+  JobResponse saveJob(Long id, String idempotencyKey);
 
   void unsaveJob(Long id);
 
@@ -0,0 +1,17 @@
+package com.jobhunt.service;
+
+import com.jobhunt.model.request.ReviewRequest;
+import com.jobhunt.model.response.ReviewResponse;
+import org.springframework.data.domain.Page;
+
+public interface ReviewService {
+  ReviewResponse createReview(ReviewRequest request);
+
+  ReviewResponse updateReview(Long id, ReviewRequest request);
+
+  void deleteReview(Long id);
+
+  Page<ReviewResponse> getCompanyReviews(Long companyId, int page, int size);
+
+  Page<ReviewResponse> getUserReviews(Long userId, int page, int size);
+}
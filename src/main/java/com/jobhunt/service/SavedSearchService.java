@@ -0,0 +1,14 @@
+package com.jobhunt.service;
+
+import com.jobhunt.model.request.SavedSearchRequest;
+import com.jobhunt.model.response.SavedSearchResponse;
+
+import java.util.List;
+
+public interface SavedSearchService {
+  SavedSearchResponse createSavedSearch(SavedSearchRequest request);
+
+  List<SavedSearchResponse> getMySavedSearches();
+
+  void deleteSavedSearch(Long id);
+}
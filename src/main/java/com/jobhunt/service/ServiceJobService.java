@@ -2,7 +2,9 @@ package com.jobhunt.service;
 
 import com.jobhunt.model.entity.ServiceJob;
 import com.jobhunt.model.request.ServiceJobRequest;
+import com.jobhunt.model.request.ServiceJobSearchRequest;
 import com.jobhunt.model.response.ServiceJobResponse;
+import com.jobhunt.payload.CursorPage;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -34,4 +36,13 @@ public interface ServiceJobService {
 
   List<ServiceJobResponse> searchServiceJobs(String location, BigDecimal minBudget, BigDecimal maxBudget,
       ServiceJob.ServiceType serviceType);
+
+  /**
+   * One page of active service jobs matching the request, urgent and soonest due first.
+   */
+  CursorPage<ServiceJobResponse> searchServiceJobsPage(ServiceJobSearchRequest request);
+
+  CursorPage<ServiceJobResponse> getServiceJobsByUserPage(Long userId, ServiceJobSearchRequest request);
+
+  CursorPage<ServiceJobResponse> getServiceJobsAssignedToUserPage(Long userId, ServiceJobSearchRequest request);
 }
\ No newline at end of file
@@ -14,6 +14,9 @@ public interface UserService {
     Page<UserResponse> searchUsers(String name, String email, String predicateType,
             int pageNumber, int pageSize, String sortBy, String sortDir);
 
+    Page<UserResponse> fuzzySearchUsers(String name, String email, String predicateType, int pageNumber,
+            int pageSize);
+
     UserResponse updateUser(Long userID, UserRequest userRequest);
 
     UserResponse deleteUser(Long userID);
@@ -1,5 +1,8 @@
 package com.jobhunt.service.impl;
 
+import com.jobhunt.cache.EntityCache;
+import com.jobhunt.event.ApplicationStatusChangedEvent;
+import com.jobhunt.event.JobInteractionEvent;
 import com.jobhunt.exception.BadRequestException;
 import com.jobhunt.exception.ResourceNotFoundException;
 import com.jobhunt.model.entity.Application;
@@ -7,55 +10,83 @@ import com.jobhunt.model.entity.Job;
 import com.jobhunt.model.entity.User;
 import com.jobhunt.model.request.ApplicationRequest;
 import com.jobhunt.model.request.ApplicationUpdateRequest;
+import com.jobhunt.model.request.BulkStatusUpdateRequest;
+import com.jobhunt.model.response.BulkStatusUpdateResponse;
+import com.jobhunt.model.response.BulkStatusUpdateResponse.Outcome;
+import com.jobhunt.payload.IdempotencyKey;
 import com.jobhunt.repository.ApplicationRepository;
+import com.jobhunt.repository.ApplicationRepository.StatusTransition;
 import com.jobhunt.repository.JobRepository;
+import com.jobhunt.repository.SoftDeleteFilter;
 import com.jobhunt.repository.UserRepository;
 import com.jobhunt.service.ApplicationService;
 import com.jobhunt.service.AuthService;
 import com.jobhunt.service.FileStorageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class ApplicationServiceImpl implements ApplicationService {
 
+  private static final int BULK_BATCH_SIZE = 1_000;
+
   private final AuthService authService;
   private final ApplicationRepository applicationRepository;
   private final JobRepository jobRepository;
   private final UserRepository userRepository;
   private final FileStorageService fileStorageService;
+  private final EntityCache entityCache;
+  private final SoftDeleteFilter softDeleteFilter;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${app.applications.archive.lookback:P365D}")
+  private Duration archiveLookback;
 
   @Override
   @Transactional
-  public Application apply(ApplicationRequest request, MultipartFile cv) {
+  public Application apply(ApplicationRequest request, MultipartFile cv, String idempotencyKey) {
+    String key = IdempotencyKey.of(idempotencyKey);
     User user = userRepository.findByEmail(authService.getCurrentUser().getEmail())
         .orElseThrow(() -> new BadRequestException("User not found"));
 
-    Job job = jobRepository.findById(request.getJobId())
+    Job job = softDeleteFilter.visible(jobRepository.findById(request.getJobId()))
         .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
-    // Check if user has already applied
-    if (applicationRepository.existsByUserAndJob(user, job)) {
-      throw new BadRequestException("You have already applied for this job");
-    }
-
     // Upload CV to S3
     String cvUrl = fileStorageService.uploadFile(cv, "cv");
 
-    Application application = new Application();
-    application.setUser(user);
-    application.setJob(job);
-    application.setCvUrl(cvUrl);
-    application.setCoverLetter(request.getCoverLetter());
-    application.setExpectedSalary(request.getExpectedSalary());
-    application.setStatus(Application.ApplicationStatus.PENDING);
+    Optional<Application> inserted = applicationRepository.insertIfAbsent(user.getId(), job.getId(), cvUrl,
+        request.getCoverLetter(), request.getExpectedSalary(), key);
+    if (inserted.isEmpty()) {
+      fileStorageService.deleteFile(cvUrl);
+      // A retry of the request that created the application gets that application back
+      return Optional.ofNullable(key)
+          .flatMap(retried -> applicationRepository.findByIdempotencyKey(user.getId(), job.getId(), retried))
+          .orElseThrow(() -> new BadRequestException("You have already applied for this job"));
+    }
 
-    return applicationRepository.save(application);
+    job.setApplicationCount(job.getApplicationCount() + 1);
+    entityCache.evict(Job.class, job.getId());
+    eventPublisher.publishEvent(new JobInteractionEvent(user.getId(), job.getId()));
+    return inserted.get();
   }
 
   @Override
@@ -78,12 +109,105 @@ public class ApplicationServiceImpl implements ApplicationService {
     return applicationRepository.findByJob(job, pageable);
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public Page<Application> getArchivedJobApplications(Long jobId, LocalDate from, Pageable pageable) {
+    // Closed jobs keep their archived applications
+    if (!softDeleteFilter.includingInactive(() -> jobRepository.existsById(jobId))) {
+      throw new ResourceNotFoundException("Job not found");
+    }
+    LocalDateTime createdFrom = from != null
+        ? from.atStartOfDay()
+        : LocalDate.now().atStartOfDay().minus(archiveLookback);
+    // The archive query has a fixed order; a client sort would be appended to it
+    Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    return applicationRepository.findArchivedByJob(jobId, createdFrom, page);
+  }
+
   @Override
   @Transactional
   public Application updateStatus(Long id, Application.ApplicationStatus status) {
     Application application = getApplication(id);
+    if (application.getStatus() == status) {
+      return application;
+    }
+    if (!application.getStatus().canMoveTo(status)) {
+      throw new BadRequestException("Application cannot be moved from " + application.getStatus() + " to " + status);
+    }
     application.setStatus(status);
-    return applicationRepository.save(application);
+    Application savedApplication = applicationRepository.save(application);
+    eventPublisher.publishEvent(new ApplicationStatusChangedEvent(application.getJob().getId(), status, List.of(id)));
+    return savedApplication;
+  }
+
+  @Override
+  @Transactional
+  public BulkStatusUpdateResponse updateStatuses(Long jobId, BulkStatusUpdateRequest request) {
+    boolean byIds = request.getApplicationIds() != null && !request.getApplicationIds().isEmpty();
+    if (byIds == (request.getCurrentStatus() != null)) {
+      throw new BadRequestException("Either applicationIds or currentStatus is required");
+    }
+    Application.ApplicationStatus target = request.getStatus();
+    List<String> from = Application.ApplicationStatus.previousOf(target).stream().map(Enum::name).toList();
+    if (from.isEmpty()) {
+      throw new BadRequestException("Applications cannot be moved to " + target);
+    }
+
+    Job job = jobRepository.findById(jobId)
+        .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+    User currentUser = userRepository.findByEmail(authService.getCurrentUser().getEmail())
+        .orElseThrow(() -> new BadRequestException("User not found"));
+    if (!job.getCompany().getUser().getId().equals(currentUser.getId())) {
+      throw new BadRequestException("You can only update applications to your own jobs");
+    }
+
+    BulkStatusUpdateResponse response = new BulkStatusUpdateResponse();
+    response.setStatus(target);
+    if (byIds) {
+      response.getResults().addAll(transition(jobId, request.getApplicationIds(), from, target));
+    } else {
+      // Walked by id, so applications that cannot be moved are not picked up again
+      long lastId = 0;
+      List<Long> batch;
+      do {
+        batch = applicationRepository.findIdsByJobAndStatus(jobId, request.getCurrentStatus(), lastId,
+            PageRequest.of(0, BULK_BATCH_SIZE));
+        if (!batch.isEmpty()) {
+          response.getResults().addAll(transition(jobId, batch, from, target));
+          lastId = batch.get(batch.size() - 1);
+        }
+      } while (batch.size() == BULK_BATCH_SIZE);
+    }
+
+    List<Long> moved = response.getResults().stream()
+        .filter(result -> result.getOutcome() == Outcome.UPDATED)
+        .map(BulkStatusUpdateResponse.Result::getApplicationId)
+        .toList();
+    response.setUpdated(moved.size());
+    if (!moved.isEmpty()) {
+      eventPublisher.publishEvent(new ApplicationStatusChangedEvent(jobId, target, moved));
+    }
+    return response;
+  }
+
+  /**
+   * Moves the applications in one statement and tells for each of {@code ids}, in ascending order, what happened.
+   */
+  private List<BulkStatusUpdateResponse.Result> transition(Long jobId, Collection<Long> ids, List<String> from,
+      Application.ApplicationStatus target) {
+    Map<Long, StatusTransition> found = applicationRepository
+        .transitionStatus(jobId, ids, from, target.name(), LocalDateTime.now()).stream()
+        .collect(Collectors.toMap(StatusTransition::getApplicationId, Function.identity()));
+    return ids.stream().sorted().map(id -> {
+      StatusTransition transition = found.get(id);
+      if (transition == null) {
+        return new BulkStatusUpdateResponse.Result(id, Outcome.NOT_FOUND, null);
+      }
+      Application.ApplicationStatus previous = Application.ApplicationStatus.valueOf(transition.getPreviousStatus());
+      Outcome outcome = transition.isUpdated() ? Outcome.UPDATED
+          : previous == target ? Outcome.UNCHANGED : Outcome.INVALID_TRANSITION;
+      return new BulkStatusUpdateResponse.Result(id, outcome, previous);
+    }).toList();
   }
 
   @Override
@@ -105,6 +229,8 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
 
     applicationRepository.delete(application);
+    jobRepository.adjustApplicationCount(application.getJob().getId(), -1);
+    entityCache.evict(Job.class, application.getJob().getId());
   }
 
   @Override
@@ -41,6 +41,7 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.net.HttpURLConnection;
 import java.nio.charset.StandardCharsets;
@@ -265,7 +266,7 @@ public class AuthServiceImpl implements AuthService {
       String authHeader = request.getHeader("Authorization");
       String refreshToken = null;
 
-      if (authHeader != null && authHeader.toLowerCase().startsWith("bearer ")) {
+      if (authHeader != null && authHeader.toLowerCase(Locale.ROOT).startsWith("bearer ")) {
         log.debug("Found refresh token in Authorization header");
         refreshToken = authHeader.substring(7);
       } else {
@@ -1,5 +1,6 @@
 package com.jobhunt.service.impl;
 
+import com.jobhunt.event.CompanyChangedEvent;
 import com.jobhunt.exception.BadRequestException;
 import com.jobhunt.exception.ResourceNotFoundException;
 import com.jobhunt.mapper.CompanyMapper;
@@ -8,9 +9,14 @@ import com.jobhunt.model.request.CompanyRequest;
 import com.jobhunt.model.response.CompanyResponse;
 import com.jobhunt.model.response.UserResponse;
 import com.jobhunt.repository.CompanyRepository;
+import com.jobhunt.repository.SoftDeleteFilter;
 import com.jobhunt.repository.UserRepository;
+import com.jobhunt.search.geo.CompanyGeoIndex;
+import com.jobhunt.search.geo.GeoHit;
+import com.jobhunt.search.geo.GeoPoint;
 import com.jobhunt.service.CompanyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +24,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class CompanyServiceImpl implements CompanyService {
@@ -25,6 +36,9 @@ public class CompanyServiceImpl implements CompanyService {
   private final CompanyRepository companyRepository;
   private final UserRepository userRepository;
   private final CompanyMapper companyMapper;
+  private final CompanyGeoIndex companyGeoIndex;
+  private final SoftDeleteFilter softDeleteFilter;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -37,7 +51,9 @@ public class CompanyServiceImpl implements CompanyService {
     Company company = companyMapper.toEntity(request);
     company.setUser(user);
 
-    return companyMapper.toResponse(companyRepository.save(company));
+    Company savedCompany = companyRepository.save(company);
+    eventPublisher.publishEvent(new CompanyChangedEvent(savedCompany));
+    return companyMapper.toResponse(savedCompany);
   }
 
   @Override
@@ -56,7 +72,9 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     companyMapper.updateCompanyFromDto(request, company);
-    return companyMapper.toResponse(companyRepository.save(company));
+    Company savedCompany = companyRepository.save(company);
+    eventPublisher.publishEvent(new CompanyChangedEvent(savedCompany));
+    return companyMapper.toResponse(savedCompany);
   }
 
   @Override
@@ -75,12 +93,12 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     company.setActive(false);
-    companyRepository.save(company);
+    eventPublisher.publishEvent(new CompanyChangedEvent(companyRepository.save(company)));
   }
 
   @Override
   public CompanyResponse getCompany(Long id) {
-    return companyRepository.findById(id)
+    return softDeleteFilter.visible(companyRepository.findById(id))
         .map(companyMapper::toResponse)
         .orElseThrow(() -> new ResourceNotFoundException("Company not found"));
   }
@@ -88,10 +106,31 @@ public class CompanyServiceImpl implements CompanyService {
   @Transactional(readOnly = true)
   public Page<CompanyResponse> getAllCompanies(int page, int size) {
     Pageable pageable = PageRequest.of(page, size);
-    return companyRepository.findAll(pageable)
+    return softDeleteFilter.forCurrentUser(() -> companyRepository.findAllViews(pageable))
         .map(companyMapper::toResponse);
   }
 
+  @Override
+  public List<CompanyResponse> getNearbyCompanies(Double latitude, Double longitude, double radiusKm, int size) {
+    if (size < 1 || size > 100) {
+      throw new BadRequestException("Size must be between 1 and 100");
+    }
+    List<GeoHit> hits = companyGeoIndex.within(GeoPoint.of(latitude, longitude), radiusKm);
+    hits = hits.subList(0, Math.min(size, hits.size()));
+
+    Map<Long, Company> companiesById = companyRepository.findAllById(hits.stream().map(GeoHit::getCompanyId).toList())
+        .stream()
+        .collect(Collectors.toMap(Company::getId, Function.identity()));
+    return hits.stream()
+        .filter(hit -> companiesById.containsKey(hit.getCompanyId()))
+        .map(hit -> {
+          CompanyResponse response = companyMapper.toResponse(companiesById.get(hit.getCompanyId()));
+          response.setDistanceKm(Math.round(hit.getDistanceKm() * 100) / 100.0);
+          return response;
+        })
+        .toList();
+  }
+
   @Override
   public CompanyResponse getCurrentUserCompany() {
     String currentUserId = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -99,7 +138,7 @@ public class CompanyServiceImpl implements CompanyService {
     var user = userRepository.findByKeycloakId(currentUserId)
         .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-    return companyRepository.findByUserIdAndActiveTrue(user.getId())
+    return companyRepository.findByUserId(user.getId())
         .map(companyMapper::toResponse)
         .orElseThrow(() -> new ResourceNotFoundException("Company not found for current user"));
   }
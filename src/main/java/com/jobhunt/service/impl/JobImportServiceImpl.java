@@ -0,0 +1,195 @@
+package com.jobhunt.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobhunt.event.JobsImportedEvent;
+import com.jobhunt.exception.ResourceNotFoundException;
+import com.jobhunt.mapper.JobMapper;
+import com.jobhunt.model.entity.Company;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.model.entity.User;
+import com.jobhunt.model.request.JobRequest;
+import com.jobhunt.model.response.JobImportResponse;
+import com.jobhunt.payload.FieldViolation;
+import com.jobhunt.repository.CompanyRepository;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.repository.UserRepository;
+import com.jobhunt.service.JobImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streams an NDJSON upload of job postings into the database. Rows are parsed and validated one at a time and saved
+ * in chunks, each chunk in its own transaction with its inserts JDBC-batched, so memory stays flat however large the
+ * file is and a bad chunk only loses itself. A chunk the database rejects is retried row by row to tell which rows
+ * are at fault.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobImportServiceImpl implements JobImportService {
+
+  private static final Logger log = LoggerFactory.getLogger(JobImportServiceImpl.class);
+  private static final int MAX_REPORTED_ERRORS = 1_000;
+
+  private final UserRepository userRepository;
+  private final CompanyRepository companyRepository;
+  private final JobRepository jobRepository;
+  private final JobMapper jobMapper;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Value("${app.jobs.import.chunk-size:500}")
+  private int chunkSize;
+
+  @Value("${app.jobs.import.max-rows:100000}")
+  private int maxRows;
+
+  @Override
+  public JobImportResponse importJobs(InputStream ndjson) {
+    String currentUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+    User user = userRepository.findByKeycloakId(currentUserId)
+        .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    Company company = companyRepository.findByUserId(user.getId())
+        .orElseThrow(() -> new ResourceNotFoundException("Company not found for current user"));
+
+    JobImportResponse result = new JobImportResponse();
+    List<Row> chunk = new ArrayList<>(chunkSize);
+    long start = System.nanoTime();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+      long lineNumber = 0;
+      long rows = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        if (++rows > maxRows) {
+          reject(result, lineNumber, "An import may contain at most " + maxRows + " jobs, the rest was not read",
+              List.of());
+          break;
+        }
+        Row row = parse(lineNumber, line, result);
+        if (row != null) {
+          chunk.add(row);
+          if (chunk.size() == chunkSize) {
+            save(chunk, company, result);
+            chunk.clear();
+          }
+        }
+      }
+    } catch (IOException e) {
+      // Chunks saved so far stay saved
+      throw new UncheckedIOException("Failed to read the job import", e);
+    }
+    if (!chunk.isEmpty()) {
+      save(chunk, company, result);
+    }
+    log.info("Imported {} jobs for company {} in {} ms, {} rows failed", result.getImported(), company.getId(),
+        (System.nanoTime() - start) / 1_000_000, result.getFailed());
+    return result;
+  }
+
+  private Row parse(long lineNumber, String line, JobImportResponse result) {
+    JobRequest request;
+    try {
+      request = objectMapper.readValue(line, JobRequest.class);
+    } catch (JsonProcessingException e) {
+      reject(result, lineNumber, "Malformed JSON: " + e.getOriginalMessage(), List.of());
+      return null;
+    }
+    Set<ConstraintViolation<JobRequest>> violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      List<FieldViolation> fieldViolations = violations.stream()
+          .map(violation -> new FieldViolation(violation.getPropertyPath().toString(), violation.getMessage()))
+          .sorted(Comparator.comparing(FieldViolation::getField))
+          .toList();
+      reject(result, lineNumber, "Invalid job", fieldViolations);
+      return null;
+    }
+    return new Row(lineNumber, request);
+  }
+
+  private void save(List<Row> chunk, Company company, JobImportResponse result) {
+    try {
+      insert(chunk, company);
+      result.setImported(result.getImported() + chunk.size());
+    } catch (DataAccessException | TransactionException e) {
+      if (chunk.size() == 1) {
+        log.debug("Job import row {} rejected", chunk.get(0).line(), e);
+        reject(result, chunk.get(0).line(), "Rejected by the database", List.of());
+        return;
+      }
+      log.debug("Job import chunk rejected, retrying its {} rows one by one", chunk.size(), e);
+      for (Row row : chunk) {
+        save(List.of(row), company, result);
+      }
+    }
+  }
+
+  private void insert(List<Row> rows, Company company) {
+    transactionTemplate.executeWithoutResult(status -> {
+      Session session = entityManager.unwrap(Session.class);
+      CacheMode cacheMode = session.getCacheMode();
+      // Imported jobs are not read back soon enough to be worth pushing into the second-level cache
+      session.setCacheMode(CacheMode.IGNORE);
+      try {
+        List<Job> jobs = rows.stream()
+            .map(row -> {
+              Job job = jobMapper.toEntity(row.request());
+              job.setCompany(company);
+              return job;
+            })
+            .toList();
+        eventPublisher.publishEvent(new JobsImportedEvent(jobRepository.saveAllAndFlush(jobs)));
+      } finally {
+        // Detach the chunk even when its flush failed, so a session shared with the caller neither grows with the
+        // file nor retries the rejected inserts on its next flush
+        session.clear();
+        session.setCacheMode(cacheMode);
+      }
+    });
+  }
+
+  private static void reject(JobImportResponse result, long line, String message, List<FieldViolation> violations) {
+    result.setFailed(result.getFailed() + 1);
+    if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+      result.getErrors().add(new JobImportResponse.RowError(line, message, violations));
+    } else {
+      result.setErrorsTruncated(true);
+    }
+  }
+
+  private record Row(long line, JobRequest request) {
+  }
+}
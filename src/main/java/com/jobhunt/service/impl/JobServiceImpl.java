@@ -1,42 +1,96 @@
 package com.jobhunt.service.impl;
 
+import com.jobhunt.cache.EntityCache;
+import com.jobhunt.event.JobChangedEvent;
+import com.jobhunt.event.JobInteractionEvent;
+import com.jobhunt.event.JobSnapshot;
 import com.jobhunt.exception.BadRequestException;
 import com.jobhunt.exception.ResourceNotFoundException;
 import com.jobhunt.mapper.JobMapper;
-import com.jobhunt.model.entity.Application;
-import com.jobhunt.model.entity.Application.ApplicationStatus;
 import com.jobhunt.model.entity.Company;
 import com.jobhunt.model.entity.Job;
-import com.jobhunt.model.entity.SavedJob;
 import com.jobhunt.model.entity.User;
 import com.jobhunt.model.request.JobRequest;
+import com.jobhunt.model.request.JobSearchRequest;
+import com.jobhunt.model.response.JobFacetResponse;
 import com.jobhunt.model.response.JobResponse;
+import com.jobhunt.model.response.SuggestResponse;
+import com.jobhunt.payload.CursorPage;
+import com.jobhunt.payload.IdempotencyKey;
+import com.jobhunt.readmodel.JobReadModel;
 import com.jobhunt.repository.ApplicationRepository;
 import com.jobhunt.repository.CompanyRepository;
 import com.jobhunt.repository.JobRepository;
 import com.jobhunt.repository.UserRepository;
 import com.jobhunt.repository.SavedJobRepository;
+import com.jobhunt.repository.SoftDeleteFilter;
+import com.jobhunt.search.JobCursor;
+import com.jobhunt.search.JobSearchIndex;
+import com.jobhunt.search.JobSearchQuery;
+import com.jobhunt.search.SalaryRange;
+import com.jobhunt.search.cache.JobSearchCache;
+import com.jobhunt.search.cache.SearchCacheStats;
+import com.jobhunt.search.facet.JobFacetIndex;
+import com.jobhunt.search.facet.JobFacetQuery;
+import com.jobhunt.search.facet.JobFacetResult;
+import com.jobhunt.search.facet.SalaryHistogram;
+import com.jobhunt.search.geo.GeoCursor;
+import com.jobhunt.search.geo.GeoPoint;
+import com.jobhunt.search.geo.NearbyJob;
+import com.jobhunt.search.geo.NearbyJobSearch;
+import com.jobhunt.search.rank.JobRelevanceIndex;
+import com.jobhunt.search.rank.RelevanceCursor;
+import com.jobhunt.search.rank.ScoredJob;
+import com.jobhunt.search.recommend.JobRecommender;
+import com.jobhunt.search.suggest.SuggestIndex;
 import com.jobhunt.service.JobService;
+import com.jobhunt.specification.JobFilter;
+import com.jobhunt.specification.JobSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class JobServiceImpl implements JobService {
 
+  private static final int DEFAULT_PAGE_SIZE = 20;
+  private static final int MAX_FACET_PAGE_SIZE = 100;
+  private static final int MAX_TOP_LOCATIONS = 100;
+  private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
   private final JobRepository jobRepository;
   private final UserRepository userRepository;
   private final CompanyRepository companyRepository;
   private final ApplicationRepository applicationRepository;
   private final JobMapper jobMapper;
+  private final JobReadModel jobReadModel;
   private final SavedJobRepository savedJobRepository;
+  private final JobSearchIndex jobSearchIndex;
+  private final JobFacetIndex jobFacetIndex;
+  private final NearbyJobSearch nearbyJobSearch;
+  private final SuggestIndex suggestIndex;
+  private final JobRelevanceIndex jobRelevanceIndex;
+  private final JobSearchCache jobSearchCache;
+  private final JobRecommender jobRecommender;
+  private final EntityCache entityCache;
+  private final SoftDeleteFilter softDeleteFilter;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -46,13 +100,15 @@ public class JobServiceImpl implements JobService {
     var user = userRepository.findByKeycloakId(currentUserId)
         .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-    Company company = companyRepository.findByUserIdAndActiveTrue(user.getId())
+    Company company = companyRepository.findByUserId(user.getId())
         .orElseThrow(() -> new ResourceNotFoundException("Company not found for current user"));
 
     Job job = jobMapper.toEntity(request);
     job.setCompany(company);
 
-    return jobMapper.toResponse(jobRepository.save(job));
+    Job savedJob = jobRepository.save(job);
+    eventPublisher.publishEvent(new JobChangedEvent(savedJob, null));
+    return jobMapper.toResponse(savedJob);
   }
 
   @Override
@@ -70,8 +126,16 @@ public class JobServiceImpl implements JobService {
       throw new BadRequestException("You don't have permission to update this job");
     }
 
+    JobSnapshot before = JobSnapshot.of(job);
     jobMapper.updateJobFromDto(request, job);
-    return jobMapper.toResponse(jobRepository.save(job));
+    // Null fields keep their stored value, so a lone new bound is checked against the stored other one
+    if (job.getSalaryMin() != null && job.getSalaryMax() != null
+        && job.getSalaryMin().compareTo(job.getSalaryMax()) > 0) {
+      throw new BadRequestException("Maximum salary must not be less than minimum salary");
+    }
+    Job savedJob = jobRepository.save(job);
+    eventPublisher.publishEvent(new JobChangedEvent(savedJob, before));
+    return jobMapper.toResponse(savedJob);
   }
 
   @Override
@@ -89,13 +153,14 @@ public class JobServiceImpl implements JobService {
       throw new BadRequestException("You don't have permission to delete this job");
     }
 
+    JobSnapshot before = JobSnapshot.of(job);
     job.setActive(false);
-    jobRepository.save(job);
+    eventPublisher.publishEvent(new JobChangedEvent(jobRepository.save(job), before));
   }
 
   @Override
   public JobResponse getJob(Long id) {
-    return jobRepository.findById(id)
+    return softDeleteFilter.visible(jobRepository.findById(id))
         .map(jobMapper::toResponse)
         .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
   }
@@ -103,30 +168,158 @@ public class JobServiceImpl implements JobService {
   @Override
   public Page<JobResponse> getAllJobs(int page, int size, String keyword, String location, String jobType,
       String experienceLevel, String salaryRange) {
-    Pageable pageable = PageRequest.of(page, size);
-    return jobRepository.findAll(pageable).map(jobMapper::toResponse);
+    Specification<Job> spec = JobSpecifications.matching(
+        toJobFilter(keyword, location, jobType, experienceLevel, salaryRange));
+    PageRequest pageRequest = PageRequest.of(page, size, NEWEST_FIRST);
+    return softDeleteFilter.forCurrentUser(() -> jobRepository.findAll(spec, pageRequest)).map(jobMapper::toResponse);
+  }
+
+  @Override
+  public Slice<JobResponse> getAllJobsSlice(int page, int size, String keyword, String location, String jobType,
+      String experienceLevel, String salaryRange) {
+    Specification<Job> spec = JobSpecifications.matching(
+        toJobFilter(keyword, location, jobType, experienceLevel, salaryRange));
+    PageRequest pageRequest = PageRequest.of(page, size, NEWEST_FIRST);
+    return softDeleteFilter.forCurrentUser(() -> jobRepository.findSlice(spec, pageRequest)).map(jobMapper::toResponse);
+  }
+
+  private JobFilter toJobFilter(String keyword, String location, String jobType, String experienceLevel,
+      String salaryRange) {
+    return JobFilter.builder()
+        .keyword(keyword)
+        .location(location)
+        .employmentType(parseEmploymentType(jobType))
+        .experienceLevel(experienceLevel)
+        .salaryRange(SalaryRange.parse(salaryRange))
+        .build();
+  }
+
+  private Job.EmploymentType parseEmploymentType(String jobType) {
+    if (jobType == null || jobType.isBlank()) {
+      return null;
+    }
+    try {
+      return Job.EmploymentType.valueOf(jobType.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("Invalid job type: " + jobType);
+    }
+  }
+
+  @Override
+  public JobFacetResponse getJobFacets(String employmentType, String experienceLevel, Boolean isRemote,
+      String location, String salaryRange, int page, int size, int topLocations) {
+    if (page < 0) {
+      throw new BadRequestException("Page must not be negative");
+    }
+    if (size < 1 || size > MAX_FACET_PAGE_SIZE) {
+      throw new BadRequestException("Size must be between 1 and " + MAX_FACET_PAGE_SIZE);
+    }
+    if (topLocations < 0 || topLocations > MAX_TOP_LOCATIONS) {
+      throw new BadRequestException("Top locations must be between 0 and " + MAX_TOP_LOCATIONS);
+    }
+    if ((long) page * size > Integer.MAX_VALUE) {
+      throw new BadRequestException("Page is out of range");
+    }
+    JobFacetQuery query = JobFacetQuery.builder()
+        .employmentType(parseEmploymentType(employmentType))
+        .experienceLevel(experienceLevel)
+        .remote(isRemote)
+        .location(location)
+        .salaryRange(SalaryRange.parse(salaryRange))
+        .offset(page * size)
+        .limit(size)
+        .topLocations(topLocations)
+        .build();
+    JobFacetResult result = jobFacetIndex.search(query);
+
+    JobFacetResponse response = new JobFacetResponse();
+    response.setTotal(result.getTotal());
+    response.setResults(findJobsInOrder(result.getJobIds()));
+    response.setEmploymentTypes(result.getEmploymentTypes());
+    response.setExperienceLevels(result.getExperienceLevels());
+    response.setRemote(result.getRemote());
+    response.setLocations(result.getLocations());
+    return response;
+  }
+
+  @Override
+  public SalaryHistogram getSalaryHistogram(String employmentType, String experienceLevel, Boolean isRemote,
+      String location, String salaryRange, BigDecimal bucketWidth) {
+    if (bucketWidth.signum() <= 0) {
+      throw new BadRequestException("Bucket width must be positive");
+    }
+    JobFacetQuery query = JobFacetQuery.builder()
+        .employmentType(parseEmploymentType(employmentType))
+        .experienceLevel(experienceLevel)
+        .remote(isRemote)
+        .location(location)
+        .salaryRange(SalaryRange.parse(salaryRange))
+        .build();
+    return jobFacetIndex.salaryHistogram(query, bucketWidth);
+  }
+
+  @Override
+  public SuggestResponse suggest(String prefix, int limit) {
+    return suggestIndex.suggest(prefix, limit);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<JobResponse> getRecommendedJobs(int size) {
+    if (size < 1 || size > JobRecommender.RECOMMENDATIONS_PER_USER) {
+      throw new BadRequestException("Size must be between 1 and " + JobRecommender.RECOMMENDATIONS_PER_USER);
+    }
+    String currentUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+    User user = userRepository.findByKeycloakId(currentUserId)
+        .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+    return findJobsInOrder(jobRecommender.recommend(user.getId(), size));
+  }
+
+  @Override
+  public SearchCacheStats getSearchCacheStats() {
+    return jobSearchCache.stats();
+  }
+
+  @Override
+  public void clearSearchCache() {
+    jobSearchCache.clear();
+  }
+
+  private List<JobResponse> findJobsInOrder(List<Long> jobIds) {
+    Map<Long, Job> jobsById = jobRepository.findAllById(jobIds).stream()
+        .collect(Collectors.toMap(Job::getId, Function.identity()));
+    return jobIds.stream()
+        .map(jobsById::get)
+        .filter(Objects::nonNull)
+        .map(jobMapper::toResponse)
+        .toList();
   }
 
   @Override
   @Transactional
-  public JobResponse applyJob(Long id) {
+  public JobResponse applyJob(Long id, String idempotencyKey) {
+    String key = IdempotencyKey.of(idempotencyKey);
     String currentUserId = SecurityContextHolder.getContext().getAuthentication().getName();
 
     User user = userRepository.findByKeycloakId(currentUserId)
         .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-    Job job = jobRepository.findById(id)
+    Job job = softDeleteFilter.visible(jobRepository.findById(id))
         .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
-    if (applicationRepository.existsByUserAndJob(user, job)) {
-      throw new BadRequestException("You have already applied for this job");
+    // Quick apply sends no CV or cover letter
+    if (applicationRepository.insertIfAbsent(user.getId(), job.getId(), null, "", null, key).isEmpty()) {
+      // A retry of the request that applied succeeds again without counting as a new interaction
+      if (key == null || applicationRepository.findByIdempotencyKey(user.getId(), job.getId(), key).isEmpty()) {
+        throw new BadRequestException("You have already applied for this job");
+      }
+      return jobMapper.toResponse(job);
     }
-
-    Application application = new Application();
-    application.setUser(user);
-    application.setJob(job);
-    application.setStatus(ApplicationStatus.PENDING);
-    applicationRepository.save(application);
+    job.setApplicationCount(job.getApplicationCount() + 1);
+    entityCache.evict(Job.class, job.getId());
+    eventPublisher.publishEvent(new JobInteractionEvent(user.getId(), job.getId()));
 
     return jobMapper.toResponse(job);
   }
@@ -138,47 +331,134 @@ public class JobServiceImpl implements JobService {
     User user = userRepository.findByKeycloakId(currentUserId)
         .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-    Pageable pageable = PageRequest.of(page, size);
-    return jobRepository.findByApplicationsUser(user, pageable)
-        .map(jobMapper::toResponse);
+    return jobReadModel.appliedJobs(user.getId(), PageRequest.of(page, size));
   }
 
   @Override
   public List<JobResponse> getCompanyJobs(Long companyId) {
-    return jobRepository.findByCompanyIdAndActiveTrue(companyId)
-        .stream()
-        .map(jobMapper::toResponse)
-        .toList();
+    return jobReadModel.companyJobs(companyId);
   }
 
   @Override
-  public List<JobResponse> searchJobs(String keyword, String location, String employmentType,
-      String experienceLevel, Boolean isRemote) {
-    return jobRepository.searchJobs(keyword, location, employmentType, experienceLevel, isRemote)
-        .stream()
+  public List<JobResponse> searchJobs(JobSearchRequest request) {
+    return findJobs(toSearchQuery(request).build());
+  }
+
+  @Override
+  public CursorPage<JobResponse> searchJobsPage(JobSearchRequest request) {
+    int size = request.getSize() != null ? request.getSize() : DEFAULT_PAGE_SIZE;
+    if (request.isNearby()) {
+      return searchNearbyJobsPage(request, size);
+    }
+    if (request.isRelevanceSorted()) {
+      return searchRelevantJobsPage(request, size);
+    }
+    if (request.isFuzzyMatch()) {
+      // Fuzzy search returns the best matches only and has no next page to continue from
+      if (request.getCursor() != null) {
+        throw new BadRequestException("A fuzzy search cannot be continued with a cursor");
+      }
+      return new CursorPage<>(findJobs(toSearchQuery(request).limit(size).build()), size, null);
+    }
+    JobSearchQuery query = toSearchQuery(request)
+        .cursor(JobCursor.decode(request.getCursor()))
+        .limit(size + 1)
+        .build();
+
+    List<JobResponse> jobs = findJobs(query);
+    String nextCursor = null;
+    if (jobs.size() > size) {
+      jobs = jobs.subList(0, size);
+      JobResponse last = jobs.get(size - 1);
+      nextCursor = new JobCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+    return new CursorPage<>(jobs, size, nextCursor);
+  }
+
+  private List<JobResponse> findJobs(JobSearchQuery query) {
+    return jobSearchCache.get(query, normalized -> jobSearchIndex.search(normalized).stream()
         .map(jobMapper::toResponse)
-        .toList();
+        .toList());
+  }
+
+  private CursorPage<JobResponse> searchNearbyJobsPage(JobSearchRequest request, int size) {
+    if (request.getRadiusKm() == null) {
+      throw new BadRequestException("Radius is required for a nearby search");
+    }
+    JobFilter filter = JobFilter.builder()
+        .keyword(request.getKeyword())
+        .location(request.getLocation())
+        .employmentType(parseEmploymentType(request.getEmploymentType()))
+        .experienceLevel(request.getExperienceLevel())
+        .remote(request.getIsRemote())
+        .salaryRange(SalaryRange.of(request.getSalaryMin(), request.getSalaryMax()))
+        .build();
+    GeoPoint origin = GeoPoint.of(request.getLatitude(), request.getLongitude());
+
+    List<NearbyJob> jobs = nearbyJobSearch.search(JobSpecifications.matching(filter), origin,
+        request.getRadiusKm(), GeoCursor.decode(request.getCursor()), size + 1);
+    String nextCursor = null;
+    if (jobs.size() > size) {
+      jobs = jobs.subList(0, size);
+      NearbyJob last = jobs.get(size - 1);
+      nextCursor = new GeoCursor(last.getDistanceKm(), last.getJob().getId()).encode();
+    }
+    return new CursorPage<>(jobs.stream().map(this::toNearbyResponse).toList(), size, nextCursor);
+  }
+
+  private CursorPage<JobResponse> searchRelevantJobsPage(JobSearchRequest request, int size) {
+    if (request.getKeyword() == null || request.getKeyword().isBlank()) {
+      throw new BadRequestException("A keyword is required to sort by relevance");
+    }
+    JobSearchQuery filter = toSearchQuery(request).build();
+    List<ScoredJob> scoredJobs = jobRelevanceIndex.search(request.getKeyword(), filter::matches,
+        RelevanceCursor.decode(request.getCursor()), size + 1);
+    String nextCursor = null;
+    if (scoredJobs.size() > size) {
+      scoredJobs = scoredJobs.subList(0, size);
+      ScoredJob last = scoredJobs.get(size - 1);
+      nextCursor = new RelevanceCursor(last.getScore(), last.getJobId()).encode();
+    }
+    List<JobResponse> content = findJobsInOrder(scoredJobs.stream().map(ScoredJob::getJobId).toList());
+    return new CursorPage<>(content, size, nextCursor);
+  }
+
+  private JobResponse toNearbyResponse(NearbyJob nearbyJob) {
+    JobResponse response = jobMapper.toResponse(nearbyJob.getJob());
+    response.setDistanceKm(Math.round(nearbyJob.getDistanceKm() * 100) / 100.0);
+    return response;
+  }
+
+  private JobSearchQuery.JobSearchQueryBuilder toSearchQuery(JobSearchRequest request) {
+    return JobSearchQuery.builder()
+        .keyword(request.getKeyword())
+        .location(request.getLocation())
+        .employmentType(request.getEmploymentType())
+        .experienceLevel(request.getExperienceLevel())
+        .remote(request.getIsRemote())
+        .salaryRange(SalaryRange.of(request.getSalaryMin(), request.getSalaryMax()))
+        .fuzzy(request.isFuzzyMatch());
   }
 
   @Override
   @Transactional
-  public JobResponse saveJob(Long id) {
+  public JobResponse saveJob(Long id, String idempotencyKey) {
+    String key = IdempotencyKey.of(idempotencyKey);
     String currentUserId = SecurityContextHolder.getContext().getAuthentication().getName();
 
     User user = userRepository.findByKeycloakId(currentUserId)
         .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-    Job job = jobRepository.findById(id)
+    Job job = softDeleteFilter.visible(jobRepository.findById(id))
         .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
-    if (savedJobRepository.existsByUserAndJob(user, job)) {
-      throw new BadRequestException("You have already saved this job");
+    if (savedJobRepository.insertIfAbsent(user.getId(), job.getId(), key).isEmpty()) {
+      if (key == null || !savedJobRepository.existsByIdempotencyKey(user.getId(), job.getId(), key)) {
+        throw new BadRequestException("You have already saved this job");
+      }
+      return jobMapper.toResponse(job);
     }
-
-    SavedJob savedJob = new SavedJob();
-    savedJob.setUser(user);
-    savedJob.setJob(job);
-    savedJobRepository.save(savedJob);
+    eventPublisher.publishEvent(new JobInteractionEvent(user.getId(), job.getId()));
 
     return jobMapper.toResponse(job);
   }
@@ -195,6 +475,7 @@ public class JobServiceImpl implements JobService {
         .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
     savedJobRepository.deleteByUserAndJob(user, job);
+    eventPublisher.publishEvent(new JobInteractionEvent(user.getId(), job.getId()));
   }
 
   @Override
@@ -204,8 +485,6 @@ public class JobServiceImpl implements JobService {
     User user = userRepository.findByKeycloakId(currentUserId)
         .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-    Pageable pageable = PageRequest.of(page, size);
-    return savedJobRepository.findByUser(user, pageable)
-        .map(savedJob -> jobMapper.toResponse(savedJob.getJob()));
+    return jobReadModel.savedJobs(user.getId(), PageRequest.of(page, size));
   }
 }
\ No newline at end of file
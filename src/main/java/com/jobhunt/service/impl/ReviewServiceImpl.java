@@ -0,0 +1,156 @@
+package com.jobhunt.service.impl;
+
+import com.jobhunt.cache.EntityCache;
+import com.jobhunt.event.CompanyChangedEvent;
+import com.jobhunt.exception.BadRequestException;
+import com.jobhunt.exception.ResourceNotFoundException;
+import com.jobhunt.mapper.ReviewMapper;
+import com.jobhunt.model.entity.Company;
+import com.jobhunt.model.entity.Review;
+import com.jobhunt.model.entity.User;
+import com.jobhunt.model.request.ReviewRequest;
+import com.jobhunt.model.response.ReviewResponse;
+import com.jobhunt.repository.CompanyRepository;
+import com.jobhunt.repository.ReviewRepository;
+import com.jobhunt.repository.UserRepository;
+import com.jobhunt.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reviews of companies and service providers. Every change moves the reviewed party's rating totals by the
+ * difference it makes, in the same transaction, so averages are read from the company or user row.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReviewServiceImpl implements ReviewService {
+
+  private final ReviewRepository reviewRepository;
+  private final CompanyRepository companyRepository;
+  private final UserRepository userRepository;
+  private final ReviewMapper reviewMapper;
+  private final EntityCache entityCache;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  @Transactional
+  public ReviewResponse createReview(ReviewRequest request) {
+    User reviewer = getCurrentUser();
+    if ((request.getCompanyId() == null) == (request.getReviewedUserId() == null)) {
+      throw new BadRequestException("A review is either for a company or for a user");
+    }
+
+    Review review = new Review();
+    review.setReviewer(reviewer);
+    if (request.getCompanyId() != null) {
+      Company company = companyRepository.findById(request.getCompanyId())
+          .filter(Company::isActive)
+          .orElseThrow(() -> new ResourceNotFoundException("Company not found"));
+      if (company.getUser().getId().equals(reviewer.getId())) {
+        throw new BadRequestException("You cannot review your own company");
+      }
+      if (reviewRepository.existsByReviewerIdAndCompanyId(reviewer.getId(), company.getId())) {
+        throw new BadRequestException("You have already reviewed this company");
+      }
+      review.setCompany(company);
+      review.setReviewType(Review.ReviewType.COMPANY);
+    } else {
+      User reviewedUser = userRepository.findById(request.getReviewedUserId())
+          .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+      if (reviewedUser.getId().equals(reviewer.getId())) {
+        throw new BadRequestException("You cannot review yourself");
+      }
+      if (reviewRepository.existsByReviewerIdAndReviewedUserId(reviewer.getId(), reviewedUser.getId())) {
+        throw new BadRequestException("You have already reviewed this user");
+      }
+      review.setReviewedUser(reviewedUser);
+      review.setReviewType(Review.ReviewType.SERVICE_PROVIDER);
+    }
+    review.setRating(request.getRating());
+    review.setComment(request.getComment());
+
+    Review saved = reviewRepository.save(review);
+    adjustRating(saved, request.getRating(), 1);
+    return reviewMapper.toResponse(saved);
+  }
+
+  @Override
+  @Transactional
+  public ReviewResponse updateReview(Long id, ReviewRequest request) {
+    Review review = getOwnReview(id);
+    int ratingDelta = request.getRating() - review.getRating();
+    review.setRating(request.getRating());
+    review.setComment(request.getComment());
+
+    Review saved = reviewRepository.save(review);
+    if (ratingDelta != 0) {
+      adjustRating(saved, ratingDelta, 0);
+    }
+    return reviewMapper.toResponse(saved);
+  }
+
+  @Override
+  @Transactional
+  public void deleteReview(Long id) {
+    Review review = getOwnReview(id);
+    reviewRepository.delete(review);
+    adjustRating(review, -review.getRating(), -1);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<ReviewResponse> getCompanyReviews(Long companyId, int page, int size) {
+    return reviewRepository.findByCompanyIdOrderByCreatedAtDesc(companyId, PageRequest.of(page, size))
+        .map(reviewMapper::toResponse);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<ReviewResponse> getUserReviews(Long userId, int page, int size) {
+    return reviewRepository.findByReviewedUserIdOrderByCreatedAtDesc(userId, PageRequest.of(page, size))
+        .map(reviewMapper::toResponse);
+  }
+
+  /**
+   * Moves the reviewed party's totals atomically in the database, and on the loaded entity so responses built later
+   * in this transaction agree.
+   */
+  private void adjustRating(Review review, int sumDelta, int countDelta) {
+    Company company = review.getCompany();
+    if (company != null) {
+      companyRepository.adjustRating(company.getId(), sumDelta, countDelta);
+      company.setRatingSum(company.getRatingSum() + sumDelta);
+      company.setRatingCount(company.getRatingCount() + countDelta);
+      entityCache.evict(Company.class, company.getId());
+      // Cached job search results embed the company with its rating
+      eventPublisher.publishEvent(new CompanyChangedEvent(company));
+    }
+    User reviewedUser = review.getReviewedUser();
+    if (reviewedUser != null) {
+      userRepository.adjustRating(reviewedUser.getId(), sumDelta, countDelta);
+      reviewedUser.setRatingSum(reviewedUser.getRatingSum() + sumDelta);
+      reviewedUser.setRatingCount(reviewedUser.getRatingCount() + countDelta);
+      entityCache.evict(User.class, reviewedUser.getId());
+    }
+  }
+
+  private Review getOwnReview(Long id) {
+    Review review = reviewRepository.findById(id)
+        .orElseThrow(() -> new ResourceNotFoundException("Review not found"));
+    if (!review.getReviewer().getId().equals(getCurrentUser().getId())) {
+      throw new BadRequestException("You can only change your own reviews");
+    }
+    return review;
+  }
+
+  private User getCurrentUser() {
+    String currentUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+    return userRepository.findByKeycloakId(currentUserId)
+        .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+  }
+}
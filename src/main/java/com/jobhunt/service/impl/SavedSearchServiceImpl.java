@@ -0,0 +1,100 @@
+package com.jobhunt.service.impl;
+
+import com.jobhunt.event.SavedSearchChangedEvent;
+import com.jobhunt.exception.BadRequestException;
+import com.jobhunt.exception.ResourceNotFoundException;
+import com.jobhunt.mapper.SavedSearchMapper;
+import com.jobhunt.model.entity.SavedSearch;
+import com.jobhunt.model.entity.User;
+import com.jobhunt.model.request.SavedSearchRequest;
+import com.jobhunt.model.response.SavedSearchResponse;
+import com.jobhunt.repository.SavedSearchRepository;
+import com.jobhunt.repository.UserRepository;
+import com.jobhunt.search.SalaryRange;
+import com.jobhunt.service.SavedSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SavedSearchServiceImpl implements SavedSearchService {
+
+  private static final int MAX_SAVED_SEARCHES_PER_USER = 20;
+
+  private final SavedSearchRepository savedSearchRepository;
+  private final UserRepository userRepository;
+  private final SavedSearchMapper savedSearchMapper;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  @Transactional
+  public SavedSearchResponse createSavedSearch(SavedSearchRequest request) {
+    User user = getCurrentUser();
+
+    if (isBlank(request.getKeyword()) && isBlank(request.getLocation()) && request.getEmploymentType() == null
+        && isBlank(request.getExperienceLevel()) && request.getIsRemote() == null && request.getSalaryMin() == null
+        && request.getSalaryMax() == null) {
+      throw new BadRequestException("A saved search needs at least one filter");
+    }
+    // Validates the bounds the same way the search does
+    SalaryRange.of(request.getSalaryMin(), request.getSalaryMax());
+    if (savedSearchRepository.countByUserIdAndActiveTrue(user.getId()) >= MAX_SAVED_SEARCHES_PER_USER) {
+      throw new BadRequestException("You can have at most " + MAX_SAVED_SEARCHES_PER_USER + " saved searches");
+    }
+
+    SavedSearch savedSearch = savedSearchMapper.toEntity(request);
+    savedSearch.setKeyword(trimToNull(request.getKeyword()));
+    savedSearch.setLocation(trimToNull(request.getLocation()));
+    savedSearch.setExperienceLevel(trimToNull(request.getExperienceLevel()));
+    savedSearch.setUser(user);
+
+    SavedSearch saved = savedSearchRepository.save(savedSearch);
+    eventPublisher.publishEvent(new SavedSearchChangedEvent(saved));
+    return savedSearchMapper.toResponse(saved);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<SavedSearchResponse> getMySavedSearches() {
+    User user = getCurrentUser();
+    return savedSearchRepository.findByUserIdAndActiveTrueOrderByCreatedAtDesc(user.getId()).stream()
+        .map(savedSearchMapper::toResponse)
+        .toList();
+  }
+
+  @Override
+  @Transactional
+  public void deleteSavedSearch(Long id) {
+    User user = getCurrentUser();
+
+    SavedSearch savedSearch = savedSearchRepository.findByIdAndActiveTrue(id)
+        .orElseThrow(() -> new ResourceNotFoundException("Saved search not found"));
+
+    if (!savedSearch.getUser().getId().equals(user.getId())) {
+      throw new BadRequestException("You don't have permission to delete this saved search");
+    }
+
+    savedSearch.setActive(false);
+    SavedSearch saved = savedSearchRepository.save(savedSearch);
+    eventPublisher.publishEvent(new SavedSearchChangedEvent(saved));
+  }
+
+  private User getCurrentUser() {
+    String currentUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+    return userRepository.findByKeycloakId(currentUserId)
+        .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  private static String trimToNull(String value) {
+    return isBlank(value) ? null : value.trim();
+  }
+}
@@ -1,14 +1,21 @@
 package com.jobhunt.service.impl;
 
+import com.jobhunt.exception.BadRequestException;
 import com.jobhunt.exception.ResourceNotFoundException;
 import com.jobhunt.mapper.ServiceJobMapper;
 import com.jobhunt.model.entity.ServiceJob;
 import com.jobhunt.model.entity.User;
 import com.jobhunt.model.request.ServiceJobRequest;
+import com.jobhunt.model.request.ServiceJobSearchRequest;
 import com.jobhunt.model.response.ServiceJobResponse;
+import com.jobhunt.payload.CursorPage;
 import com.jobhunt.repository.ServiceJobRepository;
+import com.jobhunt.repository.SoftDeleteFilter;
 import com.jobhunt.repository.UserRepository;
+import com.jobhunt.search.service.ServiceJobCursor;
+import com.jobhunt.search.service.ServiceJobSearch;
 import com.jobhunt.service.ServiceJobService;
+import com.jobhunt.specification.ServiceJobFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,9 +28,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ServiceJobServiceImpl implements ServiceJobService {
 
+  private static final int DEFAULT_PAGE_SIZE = 20;
+
   private final ServiceJobRepository serviceJobRepository;
   private final UserRepository userRepository;
   private final ServiceJobMapper serviceJobMapper;
+  private final ServiceJobSearch serviceJobSearch;
+  private final SoftDeleteFilter softDeleteFilter;
 
   @Override
   @Transactional
@@ -40,14 +51,14 @@ public class ServiceJobServiceImpl implements ServiceJobService {
 
   @Override
   public ServiceJobResponse getServiceJobById(Long id) {
-    ServiceJob serviceJob = serviceJobRepository.findById(id)
+    ServiceJob serviceJob = softDeleteFilter.visible(serviceJobRepository.findById(id))
         .orElseThrow(() -> new ResourceNotFoundException("Service job not found with id: " + id));
     return serviceJobMapper.toResponse(serviceJob);
   }
 
   @Override
   public List<ServiceJobResponse> getAllServiceJobs() {
-    return serviceJobRepository.findByActiveTrue().stream()
+    return softDeleteFilter.forCurrentUser(serviceJobRepository::findAll).stream()
         .map(serviceJobMapper::toResponse)
         .collect(Collectors.toList());
   }
@@ -57,28 +68,29 @@ public class ServiceJobServiceImpl implements ServiceJobService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
-    return serviceJobRepository.findByPostedByUser(user).stream()
+    // The poster's own listings include the ones they deleted
+    return softDeleteFilter.includingInactive(() -> serviceJobRepository.findByPostedByUser(user)).stream()
         .map(serviceJobMapper::toResponse)
         .collect(Collectors.toList());
   }
 
   @Override
   public List<ServiceJobResponse> getServiceJobsByType(ServiceJob.ServiceType serviceType) {
-    return serviceJobRepository.findByServiceType(serviceType).stream()
+    return softDeleteFilter.forCurrentUser(() -> serviceJobRepository.findByServiceType(serviceType)).stream()
         .map(serviceJobMapper::toResponse)
         .collect(Collectors.toList());
   }
 
   @Override
   public List<ServiceJobResponse> getServiceJobsByStatus(ServiceJob.JobStatus status) {
-    return serviceJobRepository.findByStatus(status).stream()
+    return softDeleteFilter.forCurrentUser(() -> serviceJobRepository.findByStatus(status)).stream()
         .map(serviceJobMapper::toResponse)
         .collect(Collectors.toList());
   }
 
   @Override
   public List<ServiceJobResponse> getUrgentServiceJobs() {
-    return serviceJobRepository.findByIsUrgent(true).stream()
+    return softDeleteFilter.forCurrentUser(() -> serviceJobRepository.findByIsUrgent(true)).stream()
         .map(serviceJobMapper::toResponse)
         .collect(Collectors.toList());
   }
@@ -88,7 +100,7 @@ public class ServiceJobServiceImpl implements ServiceJobService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
-    return serviceJobRepository.findByAssignedToUser(user).stream()
+    return softDeleteFilter.includingInactive(() -> serviceJobRepository.findByAssignedToUser(user)).stream()
         .map(serviceJobMapper::toResponse)
         .collect(Collectors.toList());
   }
@@ -146,8 +158,63 @@ public class ServiceJobServiceImpl implements ServiceJobService {
   @Override
   public List<ServiceJobResponse> searchServiceJobs(String location, BigDecimal minBudget, BigDecimal maxBudget,
       ServiceJob.ServiceType serviceType) {
-    return serviceJobRepository.searchServiceJobs(location, minBudget, maxBudget, serviceType).stream()
+    return softDeleteFilter.forCurrentUser(
+            () -> serviceJobRepository.searchServiceJobs(location, minBudget, maxBudget, serviceType)).stream()
         .map(serviceJobMapper::toResponse)
         .collect(Collectors.toList());
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<ServiceJobResponse> searchServiceJobsPage(ServiceJobSearchRequest request) {
+    return findPage(toFilter(request).activeOnly(true).build(), request);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<ServiceJobResponse> getServiceJobsByUserPage(Long userId, ServiceJobSearchRequest request) {
+    if (!userRepository.existsById(userId)) {
+      throw new ResourceNotFoundException("User not found with id: " + userId);
+    }
+    return findPage(toFilter(request).postedByUserId(userId).build(), request);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<ServiceJobResponse> getServiceJobsAssignedToUserPage(Long userId,
+      ServiceJobSearchRequest request) {
+    if (!userRepository.existsById(userId)) {
+      throw new ResourceNotFoundException("User not found with id: " + userId);
+    }
+    return findPage(toFilter(request).assignedToUserId(userId).build(), request);
+  }
+
+  private CursorPage<ServiceJobResponse> findPage(ServiceJobFilter filter, ServiceJobSearchRequest request) {
+    int size = request.getSize() != null ? request.getSize() : DEFAULT_PAGE_SIZE;
+    List<ServiceJob> serviceJobs = serviceJobSearch.search(filter, ServiceJobCursor.decode(request.getCursor()),
+        size + 1);
+    String nextCursor = null;
+    if (serviceJobs.size() > size) {
+      serviceJobs = serviceJobs.subList(0, size);
+      nextCursor = ServiceJobCursor.of(serviceJobs.get(size - 1)).encode();
+    }
+    return new CursorPage<>(serviceJobs.stream().map(serviceJobMapper::toResponse).toList(), size, nextCursor);
+  }
+
+  private ServiceJobFilter.ServiceJobFilterBuilder toFilter(ServiceJobSearchRequest request) {
+    if (request.getMinBudget() != null && request.getMaxBudget() != null
+        && request.getMinBudget().compareTo(request.getMaxBudget()) > 0) {
+      throw new BadRequestException("Minimum budget must not exceed maximum budget");
+    }
+    String location = request.getLocation() != null && !request.getLocation().isBlank()
+        ? request.getLocation().trim()
+        : null;
+    return ServiceJobFilter.builder()
+        .location(location)
+        .minBudget(request.getMinBudget())
+        .maxBudget(request.getMaxBudget())
+        .serviceType(request.getServiceType())
+        .status(request.getStatus())
+        .urgent(request.getUrgent());
+  }
 }
\ No newline at end of file
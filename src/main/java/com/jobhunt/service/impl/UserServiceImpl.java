@@ -1,13 +1,16 @@
 package com.jobhunt.service.impl;
 
+import com.jobhunt.exception.BadRequestException;
 import com.jobhunt.mapper.UserMapper;
 import com.jobhunt.model.entity.User;
 import com.jobhunt.model.request.UpdateAvatarRequest;
 import com.jobhunt.model.request.UserRequest;
 import com.jobhunt.model.response.UserResponse;
 import com.jobhunt.repository.UserRepository;
+import com.jobhunt.search.TrigramSimilarity;
 import com.jobhunt.service.UserService;
 import com.jobhunt.specification.GenericSpecification;
+import com.jobhunt.specification.SearchOperation;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -24,6 +27,7 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final TrigramSimilarity trigramSimilarity;
 
     @Transactional(readOnly = true)
     public UserResponse getUserById(Long userID) {
@@ -36,7 +40,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public Page<UserResponse> getAllUsers(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return userRepository.findAll(pageable)
+        return userRepository.findAllViews(pageable)
                 .map(userMapper::toResponse);
     }
 
@@ -45,10 +49,10 @@ public class UserServiceImpl implements UserService {
             int pageNumber, int pageSize, String sortBy, String sortDir) {
         GenericSpecification<User> builder = new GenericSpecification<>();
         if (name != null) {
-            builder.with("lastname", "=", name, predicateType);
+            builder.with("lastName", SearchOperation.MATCH, name, predicateType);
         }
         if (email != null) {
-            builder.with("email", "=", email, predicateType);
+            builder.with("email", SearchOperation.MATCH, email, predicateType);
         }
 
         Pageable pageable;
@@ -64,6 +68,21 @@ public class UserServiceImpl implements UserService {
                 .map(userMapper::toResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UserResponse> fuzzySearchUsers(String name, String email, String predicateType, int pageNumber,
+            int pageSize) {
+        if (name == null && email == null) {
+            throw new BadRequestException("Name or email is required for a fuzzy search");
+        }
+        trigramSimilarity.applyWordSimilarityThreshold();
+        Pageable pageable = PageRequest.of(pageNumber, pageSize);
+        Page<User> users = "OR".equalsIgnoreCase(predicateType)
+                ? userRepository.fuzzySearchAny(name, email, pageable)
+                : userRepository.fuzzySearchAll(name, email, pageable);
+        return users.map(userMapper::toResponse);
+    }
+
     @Transactional
     public UserResponse updateUser(Long userID, UserRequest userRequest) {
         var user = userRepository.findById(userID)
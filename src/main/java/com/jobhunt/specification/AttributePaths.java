@@ -0,0 +1,79 @@
+package com.jobhunt.specification;
+
+import com.jobhunt.exception.BadRequestException;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validates dotted attribute paths such as {@code "postedByUser.id"} against the JPA metamodel and caches the result
+ * per entity. Only paths through singular attributes to a basic value are accepted; anything else is a client error
+ * rather than an exception from deep inside Hibernate.
+ */
+final class AttributePaths {
+
+    private static final Map<Class<?>, Map<String, AttributePath>> CACHE = new ConcurrentHashMap<>();
+
+    private AttributePaths() {
+    }
+
+    static AttributePath resolve(ManagedType<?> entity, String key) {
+        Map<String, AttributePath> paths = CACHE.computeIfAbsent(entity.getJavaType(),
+                type -> new ConcurrentHashMap<>());
+        AttributePath path = paths.get(key);
+        if (path == null) {
+            // Only valid paths are cached, so arbitrary client keys cannot grow the cache
+            path = validate(entity, key);
+            paths.put(key, path);
+        }
+        return path;
+    }
+
+    private static AttributePath validate(ManagedType<?> entity, String key) {
+        String[] segments = key.split("\\.");
+        ManagedType<?> current = entity;
+        Class<?> javaType = null;
+        for (String segment : segments) {
+            if (current == null) {
+                throw unknown(key);
+            }
+            Attribute<?, ?> attribute = current.getAttributes().stream()
+                    .filter(candidate -> candidate.getName().equals(segment))
+                    .findFirst()
+                    .orElseThrow(() -> unknown(key));
+            if (!(attribute instanceof SingularAttribute<?, ?> singular)) {
+                throw new BadRequestException("Cannot search on collection attribute: " + key);
+            }
+            Type<?> type = singular.getType();
+            current = type instanceof ManagedType<?> managed ? managed : null;
+            javaType = singular.getJavaType();
+        }
+        if (current != null) {
+            throw new BadRequestException("Search attribute must be a value, not an association: " + key);
+        }
+        return new AttributePath(segments, javaType);
+    }
+
+    private static BadRequestException unknown(String key) {
+        return new BadRequestException("Unknown search attribute: " + key);
+    }
+
+    record AttributePath(String[] segments, Class<?> javaType) {
+
+        <Y> Path<Y> of(From<?, ?> root) {
+            Path<?> path = root;
+            for (String segment : segments) {
+                path = path.get(segment);
+            }
+            @SuppressWarnings("unchecked")
+            Path<Y> typed = (Path<Y>) path;
+            return typed;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.jobhunt.specification;
 
+import com.jobhunt.exception.BadRequestException;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
@@ -8,7 +12,17 @@ import org.springframework.data.jpa.domain.Specification;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Builds a {@link Specification} from a list of {@link SearchCriteria}, usable with any repository that extends
+ * {@code JpaSpecificationExecutor}.
+ * <p>
+ * Attribute paths are validated against the metamodel once per entity and key (see {@link AttributePaths}), and
+ * values are coerced to the attribute type once per specification, so comparisons are typed and index-friendly.
+ * Every value is bound as a parameter: with {@code hibernate.criteria.plan_cache_enabled} all searches of the same
+ * {@link SearchCriteria#shape() shape} share one compiled query plan.
+ */
 public class GenericSpecification<T> {
+
     private final List<SearchCriteria> params;
 
     public GenericSpecification() {
@@ -17,7 +31,14 @@ public class GenericSpecification<T> {
 
     // Add criteria to the specification
     public GenericSpecification<T> with(String key, String operation, Object value, String predicateType) {
-        if (key != null && operation != null && value != null) {
+        if (key != null && operation != null) {
+            with(key, SearchOperation.of(operation), value, predicateType);
+        }
+        return this;
+    }
+
+    public GenericSpecification<T> with(String key, SearchOperation operation, Object value, String predicateType) {
+        if (key != null && operation != null && (value != null || !operation.takesValue())) {
             params.add(new SearchCriteria(key, operation, value, predicateType));
         }
         return this;
@@ -30,7 +51,8 @@ public class GenericSpecification<T> {
         }
 
         List<Specification<T>> specs = params.stream()
-                .map(this::getSpecification)
+                .map(CompiledCriteria<T>::new)
+                .map(compiled -> (Specification<T>) compiled)
                 .toList();
 
         Specification<T> result = specs.get(0);
@@ -47,29 +69,80 @@ public class GenericSpecification<T> {
         return result;
     }
 
-    private Specification<T> getSpecification(SearchCriteria criteria) {
-        return (root, query, builder) -> genericCriteria(criteria, root, builder);
-    }
+    /**
+     * One criterion with its path and coerced value resolved on first use, so a specification that is run twice,
+     * such as by a paged {@code findAll} for both its count and its content query, only resolves them once.
+     */
+    private static final class CompiledCriteria<T> implements Specification<T> {
+        private final SearchCriteria criteria;
+        private AttributePaths.AttributePath path;
+        private Object value;
+
+        private CompiledCriteria(SearchCriteria criteria) {
+            this.criteria = criteria;
+        }
 
-    private Predicate genericCriteria(SearchCriteria criteria, Root<?> root, CriteriaBuilder builder) {
-        String operation = criteria.getOperation();
-        String key = criteria.getKey();
-        Object value = criteria.getValue();
-
-        switch (operation) {
-            case ">":
-                return builder.greaterThanOrEqualTo(root.get(key), value.toString());
-            case "<":
-                return builder.lessThanOrEqualTo(root.get(key), value.toString());
-            case "=":
-                if (root.get(key).getJavaType() == String.class) {
-                    return builder.like(root.get(key), "%" + value + "%");
-                } else {
-                    return builder.equal(root.get(key), value);
+        @Override
+        public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+            if (path == null) {
+                AttributePaths.AttributePath resolved = AttributePaths.resolve(root.getModel(), criteria.getKey());
+                value = coerce(resolved);
+                path = resolved;
+            }
+            return toPredicate(path.of(root), builder);
+        }
+
+        private Object coerce(AttributePaths.AttributePath resolved) {
+            SearchOperation operation = criteria.getOperation();
+            Object raw = criteria.getValue();
+            String key = criteria.getKey();
+            return switch (operation) {
+                case IS_NULL, IS_NOT_NULL -> null;
+                case IN -> ValueCoercion.coerceAll(raw, resolved.javaType(), key);
+                case BETWEEN -> {
+                    List<Object> bounds = ValueCoercion.coerceAll(raw, resolved.javaType(), key);
+                    if (bounds.size() != 2) {
+                        throw new BadRequestException("BETWEEN needs exactly two values for " + key);
+                    }
+                    yield bounds;
+                }
+                case MATCH, PREFIX -> resolved.javaType() == String.class
+                        ? raw.toString()
+                        : ValueCoercion.coerce(raw, resolved.javaType(), key);
+                default -> ValueCoercion.coerce(raw, resolved.javaType(), key);
+            };
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Predicate toPredicate(Path<?> attribute, CriteriaBuilder builder) {
+            Expression<Comparable> comparable = (Expression<Comparable>) attribute;
+            boolean text = attribute.getJavaType() == String.class;
+            return switch (criteria.getOperation()) {
+                case MATCH -> text
+                        ? builder.like((Expression<String>) attribute, "%" + LikePatterns.escape((String) value) + "%",
+                                LikePatterns.ESCAPE)
+                        : builder.equal(attribute, value);
+                case PREFIX -> {
+                    if (!text) {
+                        throw new BadRequestException("Prefix search needs a text attribute: " + criteria.getKey());
+                    }
+                    yield builder.like((Expression<String>) attribute, LikePatterns.escape((String) value) + "%",
+                            LikePatterns.ESCAPE);
                 }
-            default:
-                throw new UnsupportedOperationException("Operation " + operation + " is not supported");
+                case EQUAL -> builder.equal(attribute, value);
+                case NOT_EQUAL -> builder.notEqual(attribute, value);
+                case GREATER_THAN -> builder.greaterThan(comparable, (Comparable) value);
+                case GREATER_THAN_OR_EQUAL -> builder.greaterThanOrEqualTo(comparable, (Comparable) value);
+                case LESS_THAN -> builder.lessThan(comparable, (Comparable) value);
+                case LESS_THAN_OR_EQUAL -> builder.lessThanOrEqualTo(comparable, (Comparable) value);
+                case IN -> attribute.in((List<?>) value);
+                case BETWEEN -> {
+                    List<?> bounds = (List<?>) value;
+                    yield builder.between(comparable, (Comparable) bounds.get(0), (Comparable) bounds.get(1));
+                }
+                case IS_NULL -> builder.isNull(attribute);
+                case IS_NOT_NULL -> builder.isNotNull(attribute);
+            };
         }
     }
 }
-
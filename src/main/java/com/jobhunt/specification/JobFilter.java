@@ -0,0 +1,20 @@
+package com.jobhunt.specification;
+
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.search.SalaryRange;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Typed filters for job listings. A null field does not restrict the result.
+ */
+@Value
+@Builder
+public class JobFilter {
+    String keyword;
+    String location;
+    Job.EmploymentType employmentType;
+    String experienceLevel;
+    Boolean remote;
+    SalaryRange salaryRange;
+}
@@ -0,0 +1,91 @@
+package com.jobhunt.specification;
+
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.search.FullTextQueries;
+import com.jobhunt.search.JobSearchFunctionContributor;
+import com.jobhunt.search.SalaryRange;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Composable {@link Specification}s for {@link Job}. {@link #matching(JobFilter)} only adds a predicate for the
+ * filters that are set, so unused filters never reach the generated SQL.
+ */
+public final class JobSpecifications {
+
+    private JobSpecifications() {
+    }
+
+    public static Specification<Job> matching(JobFilter filter) {
+        Specification<Job> spec = Specification.where(null);
+        if (filter.getKeyword() != null) {
+            spec = spec.and(keywordMatches(filter.getKeyword()));
+        }
+        if (filter.getLocation() != null) {
+            spec = spec.and(locationContains(filter.getLocation()));
+        }
+        if (filter.getEmploymentType() != null) {
+            spec = spec.and(hasEmploymentType(filter.getEmploymentType()));
+        }
+        if (filter.getExperienceLevel() != null) {
+            spec = spec.and(hasExperienceLevel(filter.getExperienceLevel()));
+        }
+        if (filter.getRemote() != null) {
+            spec = spec.and(isRemote(filter.getRemote()));
+        }
+        if (filter.getSalaryRange() != null) {
+            spec = spec.and(salaryOverlaps(filter.getSalaryRange()));
+        }
+        return spec;
+    }
+
+    /**
+     * Prefix match on every word of the keyword through the full-text index.
+     */
+    public static Specification<Job> keywordMatches(String keyword) {
+        String tsQuery = FullTextQueries.toPrefixTsQuery(keyword);
+        if (tsQuery == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.isTrue(builder.function(JobSearchFunctionContributor.JOB_FTS_MATCH,
+                Boolean.class, root.get("id"), builder.literal(tsQuery)));
+    }
+
+    public static Specification<Job> locationContains(String location) {
+        return (root, query, builder) -> builder.like(builder.lower(root.get("location")),
+                LikePatterns.containsIgnoringCase(location), LikePatterns.ESCAPE);
+    }
+
+    public static Specification<Job> hasEmploymentType(Job.EmploymentType employmentType) {
+        return (root, query, builder) -> builder.equal(root.get("employmentType"), employmentType);
+    }
+
+    public static Specification<Job> hasExperienceLevel(String experienceLevel) {
+        return (root, query, builder) -> builder.equal(root.get("experienceLevel"), experienceLevel);
+    }
+
+    public static Specification<Job> isRemote(boolean remote) {
+        return (root, query, builder) -> builder.equal(root.get("isRemote"), remote);
+    }
+
+    public static Specification<Job> atCompanies(Collection<Long> companyIds) {
+        return (root, query, builder) -> root.get("company").get("id").in(companyIds);
+    }
+
+    /**
+     * Jobs whose salary range overlaps the given one, through the GiST index on the salary range.
+     */
+    public static Specification<Job> salaryOverlaps(SalaryRange salaryRange) {
+        return (root, query, builder) -> builder.isTrue(builder.function(
+                JobSearchFunctionContributor.JOB_SALARY_OVERLAPS, Boolean.class, root.get("id"),
+                boundOrNull(builder, salaryRange.getMin()), boundOrNull(builder, salaryRange.getMax())));
+    }
+
+    private static Expression<BigDecimal> boundOrNull(CriteriaBuilder builder, BigDecimal bound) {
+        return bound != null ? builder.literal(bound) : builder.nullLiteral(BigDecimal.class);
+    }
+}
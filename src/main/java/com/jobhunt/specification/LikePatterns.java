@@ -0,0 +1,26 @@
+package com.jobhunt.specification;
+
+import java.util.Locale;
+
+/**
+ * LIKE patterns built from user input. The input's own {@code %}, {@code _} and escape characters are escaped, so
+ * they match literally; patterns must be used with {@link #ESCAPE} as the escape character.
+ */
+final class LikePatterns {
+
+    static final char ESCAPE = '\\';
+
+    private LikePatterns() {
+    }
+
+    static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Pattern for a case-insensitive substring match against a lower-cased column.
+     */
+    static String containsIgnoringCase(String value) {
+        return "%" + escape(value.toLowerCase(Locale.ROOT)) + "%";
+    }
+}
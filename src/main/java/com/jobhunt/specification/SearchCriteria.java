@@ -7,11 +7,18 @@ import lombok.RequiredArgsConstructor;
 @Getter
 public class SearchCriteria {
     private final String key;
-    private final String operation;
+    private final SearchOperation operation;
     private final Object value;
     private final String predicateType;
 
     public boolean isOrPredicate() {
         return "OR".equalsIgnoreCase(predicateType);
     }
+
+    /**
+     * Everything but the value: criteria of the same shape produce the same query and share its compiled plan.
+     */
+    public String shape() {
+        return key + ' ' + operation.getSymbol() + ' ' + (isOrPredicate() ? "OR" : "AND");
+    }
 }
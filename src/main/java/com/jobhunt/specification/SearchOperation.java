@@ -0,0 +1,65 @@
+package com.jobhunt.specification;
+
+import com.jobhunt.exception.BadRequestException;
+
+import java.util.Arrays;
+
+/**
+ * Operations understood by {@link GenericSpecification}. Values are coerced to the attribute type before they reach
+ * the query, so comparisons are numeric or chronological where the column is, and can use its index.
+ */
+public enum SearchOperation {
+    /**
+     * Substring match for string attributes, equality for everything else.
+     */
+    MATCH("="),
+    EQUAL("=="),
+    NOT_EQUAL("!="),
+    GREATER_THAN(">>"),
+    GREATER_THAN_OR_EQUAL(">"),
+    LESS_THAN("<<"),
+    LESS_THAN_OR_EQUAL("<"),
+    /**
+     * Starts-with match on a string attribute; unlike {@link #MATCH} it can use a btree index.
+     */
+    PREFIX("^"),
+    /**
+     * Value is a collection, array or comma-separated string.
+     */
+    IN("in"),
+    /**
+     * Inclusive; value is a two-element collection or array, or a {@code "low,high"} string.
+     */
+    BETWEEN("between"),
+    IS_NULL("null"),
+    IS_NOT_NULL("notnull");
+
+    private final String symbol;
+
+    SearchOperation(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Whether the operation compares against a value at all.
+     */
+    public boolean takesValue() {
+        return this != IS_NULL && this != IS_NOT_NULL;
+    }
+
+    /**
+     * Resolves a symbol such as {@code ">"} or an operation name such as {@code "between"}. The single-character
+     * {@code ">"} and {@code "<"} are inclusive, as they always have been.
+     */
+    public static SearchOperation of(String operation) {
+        return Arrays.stream(values())
+                .filter(candidate -> candidate.symbol.equalsIgnoreCase(operation)
+                        || candidate.name().equalsIgnoreCase(operation))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unsupported search operation: " + operation));
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobhunt.specification;
+
+import com.jobhunt.model.entity.ServiceJob;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Typed filters for service job listings. A null field does not restrict the result. Soft-deleted jobs are left out
+ * by the soft-delete filter unless {@code activeOnly} is false, in which case the filter is lifted for the search.
+ */
+@Value
+@Builder
+public class ServiceJobFilter {
+    boolean activeOnly;
+    String location;
+    BigDecimal minBudget;
+    BigDecimal maxBudget;
+    ServiceJob.ServiceType serviceType;
+    ServiceJob.JobStatus status;
+    Boolean urgent;
+    Long postedByUserId;
+    Long assignedToUserId;
+}
@@ -0,0 +1,110 @@
+package com.jobhunt.specification;
+
+import com.jobhunt.model.entity.ServiceJob;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Composable {@link Specification}s for {@link ServiceJob}. {@link #matching(ServiceJobFilter)} only adds a predicate
+ * for the filters that are set, so unused filters never reach the generated SQL.
+ */
+public final class ServiceJobSpecifications {
+
+    private ServiceJobSpecifications() {
+    }
+
+    public static Specification<ServiceJob> matching(ServiceJobFilter filter) {
+        Specification<ServiceJob> spec = Specification.where(null);
+        if (filter.getLocation() != null) {
+            spec = spec.and(locationContains(filter.getLocation()));
+        }
+        if (filter.getMinBudget() != null) {
+            spec = spec.and(budgetAtLeast(filter.getMinBudget()));
+        }
+        if (filter.getMaxBudget() != null) {
+            spec = spec.and(budgetAtMost(filter.getMaxBudget()));
+        }
+        if (filter.getServiceType() != null) {
+            spec = spec.and(hasServiceType(filter.getServiceType()));
+        }
+        if (filter.getStatus() != null) {
+            spec = spec.and(hasStatus(filter.getStatus()));
+        }
+        if (filter.getUrgent() != null) {
+            spec = spec.and(isUrgent(filter.getUrgent()));
+        }
+        if (filter.getPostedByUserId() != null) {
+            spec = spec.and(postedBy(filter.getPostedByUserId()));
+        }
+        if (filter.getAssignedToUserId() != null) {
+            spec = spec.and(assignedTo(filter.getAssignedToUserId()));
+        }
+        return spec;
+    }
+
+    /**
+     * Case-insensitive substring match, through the trigram index on {@code lower(location)}.
+     */
+    public static Specification<ServiceJob> locationContains(String location) {
+        return (root, query, builder) -> builder.like(builder.lower(root.get("location")),
+                LikePatterns.containsIgnoringCase(location), LikePatterns.ESCAPE);
+    }
+
+    public static Specification<ServiceJob> budgetAtLeast(BigDecimal minBudget) {
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("estimatedBudget"), minBudget);
+    }
+
+    public static Specification<ServiceJob> budgetAtMost(BigDecimal maxBudget) {
+        return (root, query, builder) -> builder.lessThanOrEqualTo(root.get("estimatedBudget"), maxBudget);
+    }
+
+    public static Specification<ServiceJob> hasServiceType(ServiceJob.ServiceType serviceType) {
+        return (root, query, builder) -> builder.equal(root.get("serviceType"), serviceType);
+    }
+
+    public static Specification<ServiceJob> hasStatus(ServiceJob.JobStatus status) {
+        return (root, query, builder) -> builder.equal(root.get("status"), status);
+    }
+
+    public static Specification<ServiceJob> isUrgent(boolean urgent) {
+        return (root, query, builder) -> builder.equal(root.get("isUrgent"), urgent);
+    }
+
+    public static Specification<ServiceJob> postedBy(Long userId) {
+        return (root, query, builder) -> builder.equal(root.get("postedByUser").get("id"), userId);
+    }
+
+    public static Specification<ServiceJob> assignedTo(Long userId) {
+        return (root, query, builder) -> builder.equal(root.get("assignedToUser").get("id"), userId);
+    }
+
+    /**
+     * Jobs with a required completion date, after {@code (date, id)} in {@code date ASC, id ASC} order when a
+     * position is given. The date bound is kept as a separate range so it can drive the index scan.
+     */
+    public static Specification<ServiceJob> datedAfter(LocalDateTime date, Long id) {
+        return (root, query, builder) -> {
+            if (date == null) {
+                return builder.isNotNull(root.get("requiredCompletionDate"));
+            }
+            return builder.and(
+                    builder.greaterThanOrEqualTo(root.get("requiredCompletionDate"), date),
+                    builder.or(
+                            builder.greaterThan(root.get("requiredCompletionDate"), date),
+                            builder.greaterThan(root.get("id"), id)));
+        };
+    }
+
+    /**
+     * Jobs without a required completion date, after {@code id} when one is given.
+     */
+    public static Specification<ServiceJob> undatedAfter(Long id) {
+        return (root, query, builder) -> id == null
+                ? builder.isNull(root.get("requiredCompletionDate"))
+                : builder.and(builder.isNull(root.get("requiredCompletionDate")),
+                        builder.greaterThan(root.get("id"), id));
+    }
+}
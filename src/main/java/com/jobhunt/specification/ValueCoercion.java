@@ -0,0 +1,119 @@
+package com.jobhunt.specification;
+
+import com.jobhunt.exception.BadRequestException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Converts search values, which mostly arrive as strings, to the Java type of the attribute they are compared with.
+ */
+final class ValueCoercion {
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(
+            boolean.class, Boolean.class,
+            int.class, Integer.class,
+            long.class, Long.class,
+            double.class, Double.class,
+            float.class, Float.class,
+            short.class, Short.class);
+
+    private ValueCoercion() {
+    }
+
+    static Object coerce(Object value, Class<?> type, String key) {
+        Class<?> target = WRAPPERS.getOrDefault(type, type);
+        if (value == null || target.isInstance(value)) {
+            return value;
+        }
+        String text = value.toString().trim();
+        try {
+            if (target == String.class) {
+                return text;
+            }
+            if (target == Long.class) {
+                return Long.valueOf(text);
+            }
+            if (target == Integer.class) {
+                return Integer.valueOf(text);
+            }
+            if (target == Short.class) {
+                return Short.valueOf(text);
+            }
+            if (target == Double.class) {
+                return Double.valueOf(text);
+            }
+            if (target == Float.class) {
+                return Float.valueOf(text);
+            }
+            if (target == BigDecimal.class) {
+                return new BigDecimal(text);
+            }
+            if (target == BigInteger.class) {
+                return new BigInteger(text);
+            }
+            if (target == Boolean.class) {
+                if (!text.equalsIgnoreCase("true") && !text.equalsIgnoreCase("false")) {
+                    throw new IllegalArgumentException();
+                }
+                return Boolean.valueOf(text);
+            }
+            if (target == Instant.class) {
+                return text.length() == 10 ? LocalDate.parse(text).atStartOfDay().toInstant(ZoneOffset.UTC)
+                        : OffsetDateTime.parse(text).toInstant();
+            }
+            if (target == LocalDateTime.class) {
+                return text.length() == 10 ? LocalDate.parse(text).atStartOfDay() : LocalDateTime.parse(text);
+            }
+            if (target == LocalDate.class) {
+                return LocalDate.parse(text);
+            }
+            if (target == UUID.class) {
+                return UUID.fromString(text);
+            }
+            if (target.isEnum()) {
+                return enumValue(target, text);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid value for " + key + ": " + value);
+        }
+        throw new BadRequestException("Cannot search on " + key);
+    }
+
+    /**
+     * Splits a collection, array or comma-separated string into individually coerced values.
+     */
+    static List<Object> coerceAll(Object value, Class<?> type, String key) {
+        Collection<?> values;
+        if (value instanceof Collection<?> collection) {
+            values = collection;
+        } else if (value instanceof Object[] array) {
+            values = Arrays.asList(array);
+        } else {
+            values = Arrays.asList(value.toString().split(","));
+        }
+        List<Object> coerced = new ArrayList<>(values.size());
+        for (Object element : values) {
+            coerced.add(coerce(element, type, key));
+        }
+        return coerced;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue(Class<?> type, String text) {
+        return Enum.valueOf((Class<? extends Enum>) type, text.toUpperCase(Locale.ROOT));
+    }
+}
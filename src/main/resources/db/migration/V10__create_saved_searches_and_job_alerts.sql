@@ -0,0 +1,30 @@
+-- Saved searches and the alerts queued for them. Matching happens in memory; the tables only persist the searches and
+-- the not yet delivered matches.
+CREATE TABLE IF NOT EXISTS saved_searches (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    name VARCHAR(255) NOT NULL,
+    keyword VARCHAR(255),
+    location VARCHAR(255),
+    employment_type VARCHAR(50),
+    experience_level VARCHAR(255),
+    is_remote BOOLEAN,
+    salary_min NUMERIC(19, 2),
+    salary_max NUMERIC(19, 2),
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_saved_searches_user_id ON saved_searches(user_id);
+
+CREATE TABLE IF NOT EXISTS job_alerts (
+    id BIGSERIAL PRIMARY KEY,
+    saved_search_id BIGINT NOT NULL REFERENCES saved_searches(id) ON DELETE CASCADE,
+    job_id BIGINT NOT NULL REFERENCES jobs(id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP,
+    UNIQUE (saved_search_id, job_id)
+);
+
+-- The dispatcher only ever reads the undelivered queue
+CREATE INDEX IF NOT EXISTS idx_job_alerts_pending ON job_alerts(id) WHERE sent_at IS NULL;
@@ -0,0 +1,26 @@
+-- Service job listings are ordered urgent first, then by nearest required completion date (undated last), then id.
+-- The listing is walked one (is_urgent, dated or not) segment at a time, so every page is a range scan on one of
+-- these indexes and the full result set is never sorted.
+CREATE INDEX IF NOT EXISTS idx_service_jobs_active_urgency ON service_jobs (is_urgent, required_completion_date, id)
+    WHERE active = true;
+
+CREATE INDEX IF NOT EXISTS idx_service_jobs_active_type_urgency
+    ON service_jobs (service_type, is_urgent, required_completion_date, id) WHERE active = true;
+
+CREATE INDEX IF NOT EXISTS idx_service_jobs_active_status_urgency
+    ON service_jobs (job_status, is_urgent, required_completion_date, id) WHERE active = true;
+
+CREATE INDEX IF NOT EXISTS idx_service_jobs_posted_by_urgency
+    ON service_jobs (posted_by_user_id, is_urgent, required_completion_date, id);
+
+CREATE INDEX IF NOT EXISTS idx_service_jobs_assigned_to_urgency
+    ON service_jobs (assigned_to_user_id, is_urgent, required_completion_date, id)
+    WHERE assigned_to_user_id IS NOT NULL;
+
+-- Budget range filters
+CREATE INDEX IF NOT EXISTS idx_service_jobs_active_budget ON service_jobs (estimated_budget)
+    WHERE active = true AND estimated_budget IS NOT NULL;
+
+-- Substring location filters; pg_trgm is installed by V9
+CREATE INDEX IF NOT EXISTS idx_service_jobs_active_location_trgm ON service_jobs USING GIN (lower(location) gin_trgm_ops)
+    WHERE active = true;
@@ -0,0 +1,12 @@
+-- Number of application rows per job, maintained by the application flows in the same transaction and
+-- reconciled periodically, so listings never have to load or count the applications themselves.
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS application_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE service_jobs ADD COLUMN IF NOT EXISTS application_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE jobs j SET application_count = c.total
+FROM (SELECT job_id, COUNT(*) AS total FROM applications GROUP BY job_id) c
+WHERE c.job_id = j.id;
+
+UPDATE service_jobs sj SET application_count = c.total
+FROM (SELECT service_job_id, COUNT(*) AS total FROM service_job_applications GROUP BY service_job_id) c
+WHERE c.service_job_id = sj.id;
@@ -0,0 +1,20 @@
+-- Running rating totals of companies and reviewed users, moved by every review create, update and delete, so
+-- profiles show the average rating without loading the reviews.
+ALTER TABLE companies ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE companies ADD COLUMN IF NOT EXISTS rating_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS rating_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE companies c SET rating_sum = r.total, rating_count = r.reviews
+FROM (SELECT company_id, SUM(rating) AS total, COUNT(*) AS reviews FROM reviews
+      WHERE company_id IS NOT NULL GROUP BY company_id) r
+WHERE r.company_id = c.id;
+
+UPDATE users u SET rating_sum = r.total, rating_count = r.reviews
+FROM (SELECT reviewed_user_id, SUM(rating) AS total, COUNT(*) AS reviews FROM reviews
+      WHERE reviewed_user_id IS NOT NULL GROUP BY reviewed_user_id) r
+WHERE r.reviewed_user_id = u.id;
+
+CREATE INDEX IF NOT EXISTS idx_reviews_company ON reviews (company_id, created_at DESC) WHERE company_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_reviews_reviewed_user ON reviews (reviewed_user_id, created_at DESC)
+    WHERE reviewed_user_id IS NOT NULL;
@@ -0,0 +1,10 @@
+-- Job ids come from a sequence stepping by 50, so Hibernate's pooled optimizer hands out 50 ids per round trip
+-- and inserts can be batched (IDENTITY ids force one round trip per row). Plain inserts keep working through the
+-- column default; each nextval is the top of a block Hibernate never hands out, so the two cannot collide.
+CREATE SEQUENCE IF NOT EXISTS jobs_seq INCREMENT BY 50;
+SELECT setval('jobs_seq', GREATEST((SELECT MAX(id) FROM jobs), 1));
+
+ALTER TABLE jobs ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE jobs ALTER COLUMN id SET DEFAULT nextval('jobs_seq');
+ALTER SEQUENCE jobs_seq OWNED BY jobs.id;
+DROP SEQUENCE IF EXISTS jobs_id_seq;
@@ -0,0 +1,69 @@
+-- Indexes for the per-request repository lookups, each shaped after the query it serves: equality columns first,
+-- then the sort columns, partial on active = true where the query only ever reads active rows, and INCLUDE columns
+-- where that lets the query be answered from the index alone. QueryPlanTest fails on any of these queries falling
+-- back to a sequential scan.
+
+-- findByKeycloakId runs on every authenticated request
+CREATE UNIQUE INDEX IF NOT EXISTS idx_users_keycloak_id ON users (keycloak_id);
+
+-- findByUserIdAndActiveTrue: the employer's own company
+CREATE INDEX IF NOT EXISTS idx_companies_active_user_id ON companies (user_id) WHERE active = true;
+
+-- findViewsByCompanyId: a company's open jobs, newest first
+CREATE INDEX IF NOT EXISTS idx_jobs_active_company_created_at ON jobs (company_id, created_at DESC)
+    WHERE active = true;
+
+-- searchJobs matches the keyword with LIKE '%...%' in all three texts and the location as a substring; the title
+-- trigram index comes from V9
+CREATE INDEX IF NOT EXISTS idx_jobs_description_trgm ON jobs USING GIN (lower(description) gin_trgm_ops)
+    WHERE active = true;
+CREATE INDEX IF NOT EXISTS idx_jobs_requirements_trgm ON jobs USING GIN (lower(requirements) gin_trgm_ops)
+    WHERE active = true;
+CREATE INDEX IF NOT EXISTS idx_jobs_location_trgm ON jobs USING GIN (lower(location) gin_trgm_ops)
+    WHERE active = true;
+
+-- existsByUserAndJob: one application per user and job. Duplicates could only come from concurrent submissions;
+-- the earliest is kept and the later ones are moved, untouched, to applications_duplicates so they can be reviewed
+-- or restored. The counters are corrected by the nightly reconciliation.
+CREATE TABLE IF NOT EXISTS applications_duplicates (
+    LIKE applications,
+    moved_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+WITH moved AS (
+    DELETE FROM applications a
+    USING applications earlier
+    WHERE a.user_id = earlier.user_id AND a.job_id = earlier.job_id AND a.id > earlier.id
+    RETURNING a.*)
+INSERT INTO applications_duplicates (id, user_id, job_id, cv_url, cover_letter, expected_salary, application_status,
+                                     employer_notes, created_at, updated_at)
+SELECT id, user_id, job_id, cv_url, cover_letter, expected_salary, application_status,
+       employer_notes, created_at, updated_at
+FROM moved;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_applications_user_job ON applications (user_id, job_id);
+
+-- findAppliedViews and findRecentJobIds: the user's applications, most recent first
+CREATE INDEX IF NOT EXISTS idx_applications_user_created_at ON applications (user_id, created_at DESC, id DESC)
+    INCLUDE (job_id);
+
+-- findByJob: applications to one job, and the reconciliation's per-job counts
+CREATE INDEX IF NOT EXISTS idx_applications_job_id ON applications (job_id);
+
+-- findSavedViews and findRecentJobIds; existsByUserAndJob is served by the (user_id, job_id) unique constraint
+CREATE INDEX IF NOT EXISTS idx_saved_jobs_user_created_at ON saved_jobs (user_id, created_at DESC, id DESC)
+    INCLUDE (job_id);
+
+-- findByUserIdAndActiveTrueOrderByCreatedAtDesc and countByUserIdAndActiveTrue
+CREATE INDEX IF NOT EXISTS idx_saved_searches_active_user_created_at ON saved_searches (user_id, created_at DESC)
+    WHERE active = true;
+
+-- existsByReviewerIdAndCompanyId and existsByReviewerIdAndReviewedUserId guard against duplicate reviews
+CREATE INDEX IF NOT EXISTS idx_reviews_reviewer_company ON reviews (reviewer_id, company_id)
+    WHERE company_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_reviews_reviewer_reviewed_user ON reviews (reviewer_id, reviewed_user_id)
+    WHERE reviewed_user_id IS NOT NULL;
+
+-- Service job applications per listing and per applicant
+CREATE INDEX IF NOT EXISTS idx_service_job_applications_service_job_id ON service_job_applications (service_job_id);
+CREATE INDEX IF NOT EXISTS idx_service_job_applications_user_id ON service_job_applications (user_id);
@@ -0,0 +1,75 @@
+-- Rejected and withdrawn applications that have been closed for a while are moved out of the live tables by
+-- ApplicationArchiver, so employer listings and vacuum only deal with applications that are still in play.
+-- The archives are range partitioned by year of created_at; reads bounded by created_at only touch the partitions
+-- of the years they cover, and old years can be detached or dropped as a whole.
+CREATE TABLE IF NOT EXISTS applications_archive (
+    id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    cv_url VARCHAR(255),
+    cover_letter TEXT NOT NULL,
+    expected_salary DOUBLE PRECISION,
+    application_status VARCHAR(50) NOT NULL,
+    employer_notes TEXT,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_applications_archive_job_created_at
+    ON applications_archive (job_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_applications_archive_user_created_at
+    ON applications_archive (user_id, created_at DESC, id DESC);
+
+CREATE TABLE IF NOT EXISTS service_job_applications_archive (
+    id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    service_job_id BIGINT NOT NULL,
+    proposed_price NUMERIC(38, 2),
+    proposal TEXT NOT NULL,
+    estimated_completion_time TIMESTAMP,
+    application_status VARCHAR(50) NOT NULL,
+    owner_notes TEXT,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_service_job_applications_archive_job_created_at
+    ON service_job_applications_archive (service_job_id, created_at DESC, id DESC);
+
+-- Creates the missing yearly partitions <parent>_<year> covering from_ts to to_ts and returns how many it created.
+-- There is no default partition, so the archiver calls this before every move and rows never land in a catch-all
+-- that would block creating the partition of their year later.
+CREATE OR REPLACE FUNCTION ensure_yearly_partitions(parent TEXT, from_ts TIMESTAMP, to_ts TIMESTAMP)
+RETURNS INTEGER AS $$
+DECLARE
+    year_start TIMESTAMP := date_trunc('year', from_ts);
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE year_start IS NOT NULL AND year_start <= to_ts LOOP
+        partition_name := parent || '_' || to_char(year_start, 'YYYY');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                partition_name, parent, year_start, year_start + INTERVAL '1 year');
+            created := created + 1;
+        END IF;
+        year_start := year_start + INTERVAL '1 year';
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Employer listings page through the live applications of one job, newest first
+CREATE INDEX IF NOT EXISTS idx_applications_job_created_at ON applications (job_id, created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_applications_job_id;
+
+-- The archiver looks for closed applications by how long ago they were closed
+CREATE INDEX IF NOT EXISTS idx_applications_closed ON applications ((coalesce(updated_at, created_at)))
+    WHERE application_status IN ('REJECTED', 'WITHDRAWN');
+CREATE INDEX IF NOT EXISTS idx_service_job_applications_closed
+    ON service_job_applications ((coalesce(updated_at, created_at)))
+    WHERE application_status IN ('REJECTED', 'WITHDRAWN');
@@ -0,0 +1,8 @@
+-- Jobs and companies are soft-deleted and every query not run on behalf of an administrator reads the active rows
+-- only. The walks below page through them by id, so their indexes cover just those rows.
+
+-- findByIdGreaterThanOrderByIdAsc: the search and recommendation indexes load all active jobs on startup
+CREATE INDEX IF NOT EXISTS idx_jobs_active_id ON jobs (id) WHERE active = true;
+
+-- findAllViews: the company directory, ordered by id
+CREATE INDEX IF NOT EXISTS idx_companies_active_id ON companies (id) WHERE active = true;
@@ -0,0 +1,5 @@
+-- Apply and save requests may carry an Idempotency-Key header. The key is stored on the row the request created, so
+-- a retry that loses the (user_id, job_id) conflict finds its own row and succeeds again instead of being rejected as
+-- a duplicate. The lookup goes through the unique indexes on (user_id, job_id).
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(64);
+ALTER TABLE saved_jobs ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(64);
@@ -0,0 +1,19 @@
+-- Archiving no longer lowers application_count: a job's counter covers every application it received, live or
+-- archived, and ApplicationRepository.insertIfAbsent refuses a second application from a user whose first one was
+-- archived. This index serves that check; like the other archive indexes it is created on every yearly partition.
+CREATE INDEX IF NOT EXISTS idx_applications_archive_user_job ON applications_archive (user_id, job_id);
+
+-- Counters lowered by earlier archive runs are brought back to the live plus archived total
+UPDATE jobs j SET application_count = c.total
+FROM (SELECT job_id, COUNT(*) AS total
+      FROM (SELECT job_id FROM applications UNION ALL SELECT job_id FROM applications_archive) a
+      GROUP BY job_id) c
+WHERE c.job_id = j.id AND j.application_count <> c.total;
+
+UPDATE service_jobs sj SET application_count = c.total
+FROM (SELECT service_job_id, COUNT(*) AS total
+      FROM (SELECT service_job_id FROM service_job_applications
+            UNION ALL
+            SELECT service_job_id FROM service_job_applications_archive) a
+      GROUP BY service_job_id) c
+WHERE c.service_job_id = sj.id AND sj.application_count <> c.total;
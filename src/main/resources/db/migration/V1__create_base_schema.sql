@@ -0,0 +1,126 @@
+-- Base schema as it stood before the versioned migrations below, so an empty database can be built from scratch.
+-- Databases that already hold these tables are baselined instead (spring.flyway.baseline-version) and skip this.
+CREATE TABLE IF NOT EXISTS users (
+    id BIGSERIAL PRIMARY KEY,
+    username VARCHAR(255) UNIQUE,
+    email VARCHAR(255) UNIQUE,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255),
+    profile_picture_url VARCHAR(255),
+    keycloak_id VARCHAR(255),
+    refresh_token VARCHAR(255),
+    role VARCHAR(50) NOT NULL,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS companies (
+    id BIGSERIAL PRIMARY KEY,
+    logo_url VARCHAR(255),
+    cover_url VARCHAR(255),
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255),
+    website_url VARCHAR(255),
+    establishment_year INTEGER,
+    team_size VARCHAR(255),
+    industry_type VARCHAR(255) NOT NULL,
+    about TEXT,
+    facebook_url VARCHAR(255),
+    twitter_url VARCHAR(255),
+    linkedin_url VARCHAR(255),
+    google_plus_url VARCHAR(255),
+    country VARCHAR(255),
+    city VARCHAR(255),
+    address VARCHAR(255),
+    latitude DOUBLE PRECISION,
+    longitude DOUBLE PRECISION,
+    tax_id VARCHAR(255) NOT NULL UNIQUE,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS jobs (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT NOT NULL,
+    requirements TEXT NOT NULL,
+    salary_min NUMERIC(38, 2),
+    salary_max NUMERIC(38, 2),
+    employment_type VARCHAR(50) NOT NULL,
+    experience_level VARCHAR(255),
+    location VARCHAR(255) NOT NULL,
+    is_remote BOOLEAN NOT NULL DEFAULT FALSE,
+    application_deadline TIMESTAMP,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    company_id BIGINT NOT NULL REFERENCES companies(id),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS applications (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    job_id BIGINT NOT NULL REFERENCES jobs(id),
+    cv_url VARCHAR(255),
+    cover_letter TEXT NOT NULL,
+    expected_salary DOUBLE PRECISION,
+    application_status VARCHAR(50) NOT NULL,
+    employer_notes TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS saved_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    job_id BIGINT NOT NULL REFERENCES jobs(id),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (user_id, job_id)
+);
+
+CREATE TABLE IF NOT EXISTS reviews (
+    id BIGSERIAL PRIMARY KEY,
+    reviewer_id BIGINT NOT NULL REFERENCES users(id),
+    reviewed_user_id BIGINT REFERENCES users(id),
+    company_id BIGINT REFERENCES companies(id),
+    rating INTEGER NOT NULL,
+    comment TEXT NOT NULL,
+    review_type VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS service_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT NOT NULL,
+    service_type VARCHAR(50) NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    estimated_budget NUMERIC(38, 2),
+    required_completion_date TIMESTAMP,
+    is_urgent BOOLEAN NOT NULL DEFAULT FALSE,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    posted_by_user_id BIGINT NOT NULL REFERENCES users(id),
+    assigned_to_user_id BIGINT REFERENCES users(id),
+    job_status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS service_job_applications (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    service_job_id BIGINT NOT NULL REFERENCES service_jobs(id),
+    proposed_price NUMERIC(38, 2),
+    proposal TEXT NOT NULL,
+    estimated_completion_time TIMESTAMP,
+    application_status VARCHAR(50) NOT NULL,
+    owner_notes TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP
+);
@@ -0,0 +1,12 @@
+-- Full-text search column for job search.
+-- Title outranks requirements, which outrank description. The 'simple' configuration is used because postings
+-- are written in several languages and must not be stemmed as English.
+ALTER TABLE jobs
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(requirements, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (search_vector);
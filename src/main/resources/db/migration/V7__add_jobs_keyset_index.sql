@@ -0,0 +1,2 @@
+-- Keyset pagination for the public job search walks active jobs newest first
+CREATE INDEX IF NOT EXISTS idx_jobs_active_created_at_id ON jobs (created_at DESC, id DESC) WHERE active = true;
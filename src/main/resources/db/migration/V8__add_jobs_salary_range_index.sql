@@ -0,0 +1,5 @@
+-- Salary range-overlap filtering on active jobs. A job with only one bound set is treated as that single value;
+-- jobs without any salary are left out of the index because they never match a salary filter.
+CREATE INDEX IF NOT EXISTS idx_jobs_active_salary_range ON jobs
+    USING GIST (numrange(coalesce(salary_min, salary_max), coalesce(salary_max, salary_min), '[]'))
+    WHERE active = true AND (salary_min IS NOT NULL OR salary_max IS NOT NULL);
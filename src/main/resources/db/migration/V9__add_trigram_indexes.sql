@@ -0,0 +1,10 @@
+-- Typo-tolerant matching. Queries use the word_similarity operator (<%) against exactly these expressions so the
+-- GIN indexes are picked up; the threshold is set per transaction via pg_trgm.word_similarity_threshold.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_title_trgm ON jobs USING GIN (lower(title) gin_trgm_ops) WHERE active = true;
+
+CREATE INDEX IF NOT EXISTS idx_users_full_name_trgm ON users
+    USING GIN (lower(first_name || ' ' || last_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING GIN (lower(email) gin_trgm_ops);
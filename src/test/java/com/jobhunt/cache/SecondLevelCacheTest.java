@@ -0,0 +1,190 @@
+package com.jobhunt.cache;
+
+import com.jobhunt.model.entity.Company;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.model.entity.User;
+import com.jobhunt.repository.CompanyRepository;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that cached companies, jobs and users, and the cached lookups by owner and Keycloak id, follow changes of
+ * the soft-delete flag and of the counters moved outside the entities.
+ * Runs in the integration profile ({@code mvn -Pintegration verify}), or alone with
+ * {@code mvn test -Dtest=SecondLevelCacheTest -Dintegration=true}.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "integration", matches = "true")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityCache entityCache;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Statistics statistics;
+    private String keycloakId;
+    private Long userId;
+    private Long companyId;
+    private Long jobId;
+
+    @BeforeAll
+    void seed() {
+        String marker = "cache-" + System.nanoTime();
+        keycloakId = marker;
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, first_name, last_name, keycloak_id, role, is_active, created_at)
+                VALUES (?, ?, 'Cache', 'Test', ?, 'EMPLOYER', true, now()) RETURNING id
+                """, Long.class, marker, marker + "@example.com", keycloakId);
+        companyId = jdbcTemplate.queryForObject("""
+                INSERT INTO companies (name, email, industry_type, tax_id, user_id, active, created_at)
+                VALUES ('Cache Co', ?, 'IT', ?, ?, true, now()) RETURNING id
+                """, Long.class, marker + "@example.com", marker, userId);
+        jobId = jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (title, description, requirements, employment_type, location, is_remote, active,
+                                  company_id, created_at)
+                VALUES ('Cached job', 'Seeded', 'Seeded', 'FULL_TIME', 'Hanoi', false, true, ?, now()) RETURNING id
+                """, Long.class, companyId);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        entityCache.clear();
+        if (userId != null) {
+            jdbcTemplate.update("DELETE FROM jobs WHERE id = ?", jobId);
+            jdbcTemplate.update("DELETE FROM companies WHERE id = ?", companyId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+    }
+
+    @BeforeEach
+    void reset() {
+        entityCache.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void companyIsReadFromCacheAndFollowsSoftDelete() {
+        assertThat(read(() -> companyRepository.findById(companyId).orElseThrow()).isActive()).isTrue();
+        assertThat(read(() -> companyRepository.findById(companyId).orElseThrow()).isActive()).isTrue();
+        assertThat(regionHits(Company.class)).isEqualTo(1);
+
+        setCompanyActive(false);
+        assertThat(read(() -> companyRepository.findById(companyId).orElseThrow()).isActive()).isFalse();
+        assertThat(read(() -> companyRepository.findByUserId(userId))).isEmpty();
+
+        setCompanyActive(true);
+        assertThat(read(() -> companyRepository.findById(companyId).orElseThrow()).isActive()).isTrue();
+        assertThat(read(() -> companyRepository.findByUserId(userId))).isPresent();
+    }
+
+    @Test
+    void ownerLookupIsServedFromQueryCache() {
+        assertThat(read(() -> companyRepository.findByUserId(userId))).isPresent();
+        assertThat(read(() -> companyRepository.findByUserId(userId))).isPresent();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void jobFollowsSoftDeleteAndCounterChanges() {
+        assertThat(read(() -> jobRepository.findById(jobId).orElseThrow()).isActive()).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Job job = jobRepository.findById(jobId).orElseThrow();
+            job.setActive(false);
+            jobRepository.save(job);
+        });
+        assertThat(read(() -> jobRepository.findById(jobId).orElseThrow()).isActive()).isFalse();
+        assertThat(regionHits(Job.class)).isPositive();
+
+        int before = read(() -> jobRepository.findById(jobId).orElseThrow()).getApplicationCount();
+        transactionTemplate.executeWithoutResult(status -> {
+            jobRepository.adjustApplicationCount(jobId, 1);
+            entityCache.evict(Job.class, jobId);
+        });
+        assertThat(read(() -> jobRepository.findById(jobId).orElseThrow()).getApplicationCount()).isEqualTo(before + 1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jobRepository.adjustApplicationCount(jobId, -1);
+            Job job = jobRepository.findById(jobId).orElseThrow();
+            job.setActive(true);
+            jobRepository.save(job);
+            entityCache.evict(Job.class, jobId);
+        });
+        Job job = read(() -> jobRepository.findById(jobId).orElseThrow());
+        assertThat(job.isActive()).isTrue();
+        assertThat(job.getApplicationCount()).isEqualTo(before);
+    }
+
+    @Test
+    void userLookupByKeycloakIdFollowsSoftDelete() {
+        assertThat(read(() -> userRepository.findByKeycloakId(keycloakId).orElseThrow()).isActive()).isTrue();
+        assertThat(read(() -> userRepository.findByKeycloakId(keycloakId).orElseThrow()).isActive()).isTrue();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        setUserActive(false);
+        assertThat(read(() -> userRepository.findByKeycloakId(keycloakId).orElseThrow()).isActive()).isFalse();
+
+        setUserActive(true);
+        assertThat(read(() -> userRepository.findByKeycloakId(keycloakId).orElseThrow()).isActive()).isTrue();
+    }
+
+    private <T> T read(Supplier<T> query) {
+        return transactionTemplate.execute(status -> query.get());
+    }
+
+    private long regionHits(Class<?> entityClass) {
+        return statistics.getDomainDataRegionStatistics(entityClass.getName()).getHitCount();
+    }
+
+    private void setCompanyActive(boolean active) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Company company = companyRepository.findById(companyId).orElseThrow();
+            company.setActive(active);
+            companyRepository.save(company);
+        });
+    }
+
+    private void setUserActive(boolean active) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            user.setActive(active);
+            userRepository.save(user);
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package com.jobhunt.datasource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks which database read-only and read-write transactions end up on, using two embedded databases that each
+ * know their own role in place of a Postgres primary and replica.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadWriteRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeAll
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        routing = new ReadWriteRoutingDataSource(primary, replica, new ReadYourWritesTracker(Duration.ofMinutes(1)));
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterAll
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertThat(readOnlyRole()).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() {
+        assertThat(writeRole()).isEqualTo("primary");
+    }
+
+    @Test
+    void statementsOutsideTransactionsUseThePrimary() {
+        assertThat(role()).isEqualTo("primary");
+    }
+
+    @Test
+    void usersReadTheirOwnWritesFromThePrimary() {
+        signIn("writer");
+        assertThat(readOnlyRole()).isEqualTo("replica");
+
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET touched = touched + 1"));
+        assertThat(readOnlyRole()).isEqualTo("primary");
+
+        signIn("someone-else");
+        assertThat(readOnlyRole()).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinTheUser() {
+        signIn("rolled-back");
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET touched = touched + 1");
+            status.setRollbackOnly();
+        });
+        assertThat(readOnlyRole()).isEqualTo("replica");
+    }
+
+    @Test
+    void routedConnectionsAreCountedPerPool() {
+        long before = routedTo(DataSourceRole.REPLICA);
+        readOnlyTransaction.execute(status -> role());
+        assertThat(routedTo(DataSourceRole.REPLICA)).isEqualTo(before + 1);
+    }
+
+    private long routedTo(DataSourceRole role) {
+        return routing.stats().stream()
+                .filter(stats -> stats.getRole() == role)
+                .findFirst()
+                .orElseThrow()
+                .getRoutedConnections();
+    }
+
+    private String role() {
+        return jdbcTemplate.queryForObject("SELECT role FROM node", String.class);
+    }
+
+    // Typed results, as a generic execute(...) argument makes assertThat ambiguous
+    private String readOnlyRole() {
+        return readOnlyTransaction.execute(status -> role());
+    }
+
+    private String writeRole() {
+        return writeTransaction.execute(status -> role());
+    }
+
+    private static void signIn(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null, "ROLE_USER"));
+    }
+
+    private static EmbeddedDatabase database(String role) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(role)
+                .build();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE node (role VARCHAR(16), touched INT)");
+        jdbc.update("INSERT INTO node VALUES (?, 0)", role);
+        return database;
+    }
+}
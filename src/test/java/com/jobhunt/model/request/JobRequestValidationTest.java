@@ -0,0 +1,63 @@
+package com.jobhunt.model.request;
+
+import com.jobhunt.model.entity.Job;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobRequestValidationTest {
+
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void salaryRangeMayBeOpenOrASingleValue() {
+        assertThat(validator.validate(request("1000", "2000"))).isEmpty();
+        assertThat(validator.validate(request("1000", "1000"))).isEmpty();
+        assertThat(validator.validate(request("1000", null))).isEmpty();
+        assertThat(validator.validate(request(null, "2000"))).isEmpty();
+    }
+
+    @Test
+    void invertedSalaryRangeIsReportedOnTheMaximum() {
+        Set<ConstraintViolation<JobRequest>> violations = validator.validate(request("2000", "1000.5"));
+
+        assertThat(violations).extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("salaryMax");
+        assertThat(violations).extracting(ConstraintViolation::getMessage)
+                .containsExactly("Maximum salary must not be less than minimum salary");
+    }
+
+    private static JobRequest request(String salaryMin, String salaryMax) {
+        JobRequest request = new JobRequest();
+        request.setTitle("Java Developer");
+        request.setDescription("Build services");
+        request.setRequirements("Java");
+        request.setEmploymentType(Job.EmploymentType.FULL_TIME);
+        request.setExperienceLevel("Senior");
+        request.setLocation("Hanoi");
+        request.setSalaryMin(salaryMin == null ? null : new BigDecimal(salaryMin));
+        request.setSalaryMax(salaryMax == null ? null : new BigDecimal(salaryMax));
+        return request;
+    }
+}
@@ -0,0 +1,128 @@
+package com.jobhunt.repository;
+
+import com.jobhunt.model.entity.Application.ApplicationStatus;
+import com.jobhunt.repository.ApplicationRepository.StatusTransition;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the set-based status update only moves the applications the state machine allows, reports every
+ * application of the job with its previous status, and leaves out ids of other jobs' applications.
+ * Runs in the integration profile ({@code mvn -Pintegration verify}), or alone with
+ * {@code mvn test -Dtest=ApplicationStatusTransitionTest -Dintegration=true}.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "integration", matches = "true")
+class ApplicationStatusTransitionTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private String marker;
+    private Long companyId;
+    private Long jobId;
+    private Long otherJobId;
+
+    @BeforeAll
+    void seed() {
+        marker = "transition-" + System.nanoTime();
+        Long employerId = seedUser(marker, "EMPLOYER");
+        companyId = jdbcTemplate.queryForObject("""
+                INSERT INTO companies (name, email, industry_type, tax_id, user_id, active, created_at)
+                VALUES ('Transition Co', ?, 'IT', ?, ?, true, now()) RETURNING id
+                """, Long.class, marker + "@example.com", marker, employerId);
+        jobId = seedJob();
+        otherJobId = seedJob();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        if (companyId != null) {
+            jdbcTemplate.update("DELETE FROM applications WHERE job_id IN (SELECT id FROM jobs WHERE company_id = ?)",
+                    companyId);
+            jdbcTemplate.update("DELETE FROM jobs WHERE company_id = ?", companyId);
+            jdbcTemplate.update("DELETE FROM companies WHERE id = ?", companyId);
+        }
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE ?", marker + "%");
+    }
+
+    @Test
+    void movesOnlyAllowedApplicationsOfTheJob() {
+        Long pending = seedApplication(jobId, "a", ApplicationStatus.PENDING);
+        Long reviewing = seedApplication(jobId, "b", ApplicationStatus.REVIEWING);
+        Long shortlisted = seedApplication(jobId, "c", ApplicationStatus.SHORTLISTED);
+        Long rejected = seedApplication(jobId, "d", ApplicationStatus.REJECTED);
+        Long otherJob = seedApplication(otherJobId, "e", ApplicationStatus.PENDING);
+        List<String> from = ApplicationStatus.previousOf(ApplicationStatus.SHORTLISTED).stream()
+                .map(Enum::name)
+                .toList();
+
+        Map<Long, StatusTransition> transitions = transactionTemplate.execute(status -> applicationRepository
+                .transitionStatus(jobId, List.of(pending, reviewing, shortlisted, rejected, otherJob), from,
+                        ApplicationStatus.SHORTLISTED.name(), LocalDateTime.now())
+                .stream()
+                .collect(Collectors.toMap(StatusTransition::getApplicationId, Function.identity())));
+
+        assertThat(transitions).containsOnlyKeys(pending, reviewing, shortlisted, rejected);
+        assertThat(transitions.get(pending).isUpdated()).isTrue();
+        assertThat(transitions.get(pending).getPreviousStatus()).isEqualTo("PENDING");
+        assertThat(transitions.get(reviewing).isUpdated()).isTrue();
+        assertThat(transitions.get(shortlisted).isUpdated()).isFalse();
+        assertThat(transitions.get(rejected).isUpdated()).isFalse();
+        assertThat(statusOf(pending)).isEqualTo("SHORTLISTED");
+        assertThat(statusOf(reviewing)).isEqualTo("SHORTLISTED");
+        assertThat(statusOf(rejected)).isEqualTo("REJECTED");
+        assertThat(statusOf(otherJob)).isEqualTo("PENDING");
+    }
+
+    private Long seedUser(String username, String role) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, first_name, last_name, role, is_active, created_at)
+                VALUES (?, ?, 'Status', 'Transition', ?, true, now()) RETURNING id
+                """, Long.class, username, username + "@example.com", role);
+    }
+
+    private Long seedJob() {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (title, description, requirements, employment_type, location, is_remote, active,
+                                  company_id, created_at)
+                VALUES ('Transition job', 'Seeded', 'Seeded', 'FULL_TIME', 'Hanoi', false, true, ?, now())
+                RETURNING id
+                """, Long.class, companyId);
+    }
+
+    private Long seedApplication(Long jobId, String applicant, ApplicationStatus status) {
+        Long userId = seedUser(marker + "-" + applicant, "CANDIDATE");
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO applications (user_id, job_id, cover_letter, application_status, created_at)
+                VALUES (?, ?, 'Seeded', ?, now()) RETURNING id
+                """, Long.class, userId, jobId, status.name());
+    }
+
+    private String statusOf(Long applicationId) {
+        return jdbcTemplate.queryForObject("SELECT application_status FROM applications WHERE id = ?", String.class,
+                applicationId);
+    }
+}
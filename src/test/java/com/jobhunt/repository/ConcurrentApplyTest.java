@@ -0,0 +1,172 @@
+package com.jobhunt.repository;
+
+import com.jobhunt.model.entity.Application;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires apply and save requests at a hot job from many threads at once and checks that the unique constraints let
+ * exactly one row per user and job in, without errors, and that the job's application counter matches.
+ * Runs in the integration profile ({@code mvn -Pintegration verify}), or alone with
+ * {@code mvn test -Dtest=ConcurrentApplyTest -Dintegration=true}.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "integration", matches = "true")
+class ConcurrentApplyTest {
+
+    private static final int THREADS = 32;
+    private static final int APPLICANTS = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private SavedJobRepository savedJobRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long employerId;
+    private Long companyId;
+
+    @BeforeAll
+    void seed() {
+        String marker = "concurrent-" + System.nanoTime();
+        employerId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, first_name, last_name, role, is_active, created_at)
+                VALUES (?, ?, 'Hot', 'Job', 'EMPLOYER', true, now()) RETURNING id
+                """, Long.class, marker, marker + "@example.com");
+        companyId = jdbcTemplate.queryForObject("""
+                INSERT INTO companies (name, email, industry_type, tax_id, user_id, active, created_at)
+                VALUES ('Hot Co', ?, 'IT', ?, ?, true, now()) RETURNING id
+                """, Long.class, marker + "@example.com", marker, employerId);
+        for (int i = 0; i < APPLICANTS; i++) {
+            userIds.add(jdbcTemplate.queryForObject("""
+                    INSERT INTO users (username, email, first_name, last_name, role, is_active, created_at)
+                    VALUES (?, ?, 'Hot', 'Applicant', 'CANDIDATE', true, now()) RETURNING id
+                    """, Long.class, marker + "-" + i, marker + "-" + i + "@example.com"));
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        if (companyId != null) {
+            jdbcTemplate.update("DELETE FROM applications WHERE job_id IN (SELECT id FROM jobs WHERE company_id = ?)",
+                    companyId);
+            jdbcTemplate.update("DELETE FROM saved_jobs WHERE job_id IN (SELECT id FROM jobs WHERE company_id = ?)",
+                    companyId);
+            jdbcTemplate.update("DELETE FROM jobs WHERE company_id = ?", companyId);
+            jdbcTemplate.update("DELETE FROM companies WHERE id = ?", companyId);
+        }
+        userIds.forEach(userId -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId));
+        if (employerId != null) {
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", employerId);
+        }
+    }
+
+    @Test
+    void repeatedApplicationsInsertOnce() throws Exception {
+        Long jobId = seedJob();
+        Long userId = userIds.get(0);
+
+        List<Boolean> inserted = runConcurrently(THREADS, attempt -> () -> transactionTemplate.execute(status ->
+                applicationRepository.insertIfAbsent(userId, jobId, null, "", null, "retry").isPresent()));
+
+        assertThat(inserted).containsOnlyOnce(true);
+        assertThat(countRows("applications", jobId)).isEqualTo(1);
+        assertThat(applicationCount(jobId)).isEqualTo(1);
+        Optional<Application> retried = transactionTemplate.execute(status ->
+                applicationRepository.findByIdempotencyKey(userId, jobId, "retry"));
+        assertThat(retried).isPresent();
+    }
+
+    @Test
+    void applicantsOfHotJobAreAllCounted() throws Exception {
+        Long jobId = seedJob();
+
+        List<Boolean> inserted = runConcurrently(APPLICANTS, attempt -> () -> transactionTemplate.execute(status ->
+                applicationRepository.insertIfAbsent(userIds.get(attempt), jobId, null, "", null, null).isPresent()));
+
+        assertThat(inserted).containsOnly(true);
+        assertThat(countRows("applications", jobId)).isEqualTo(APPLICANTS);
+        assertThat(applicationCount(jobId)).isEqualTo(APPLICANTS);
+    }
+
+    @Test
+    void repeatedSavesInsertOnce() throws Exception {
+        Long jobId = seedJob();
+        Long userId = userIds.get(0);
+
+        List<Boolean> inserted = runConcurrently(THREADS, attempt -> () -> transactionTemplate.execute(status ->
+                savedJobRepository.insertIfAbsent(userId, jobId, null).isPresent()));
+
+        assertThat(inserted).containsOnlyOnce(true);
+        assertThat(countRows("saved_jobs", jobId)).isEqualTo(1);
+    }
+
+    private Long seedJob() {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (title, description, requirements, employment_type, location, is_remote, active,
+                                  company_id, created_at)
+                VALUES ('Hot job', 'Seeded', 'Seeded', 'FULL_TIME', 'Hanoi', false, true, ?, now()) RETURNING id
+                """, Long.class, companyId);
+    }
+
+    /**
+     * Runs {@code attempts} tasks from {@link #THREADS} threads, released together, and returns their results.
+     */
+    private <T> List<T> runConcurrently(int attempts, IntFunction<Callable<T>> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                Callable<T> attempt = task.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return attempt.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int countRows(String table, Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE job_id = ?", Integer.class, jobId);
+    }
+
+    private int applicationCount(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT application_count FROM jobs WHERE id = ?", Integer.class, jobId);
+    }
+}
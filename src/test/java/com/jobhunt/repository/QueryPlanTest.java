@@ -0,0 +1,238 @@
+package com.jobhunt.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Captures the EXPLAIN plan of the SQL behind each hot repository query against a seeded database and fails on any
+ * sequential scan. Sequential scans are disabled for the session, so the planner only falls back to one when no
+ * index can serve the query at all, however small the seeded tables are.
+ * <p>
+ * The statements mirror what Hibernate generates for the repository methods named in each case; native queries reuse
+ * the repository's own SQL.
+ * Runs in the integration profile ({@code mvn -Pintegration verify}), or alone with
+ * {@code mvn test -Dtest=QueryPlanTest -Dintegration=true}.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "integration", matches = "true")
+class QueryPlanTest {
+
+    private static final String JOB_COLUMNS = "j.id, j.title, j.location, j.company_id, j.created_at";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String keycloakId;
+    private Long userId;
+    private Long companyId;
+    private Long jobId;
+
+    @BeforeAll
+    void seed() {
+        keycloakId = "plan-" + System.nanoTime();
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, first_name, last_name, keycloak_id, role, is_active, created_at)
+                VALUES (?, ?, 'Query', 'Plan', ?, 'EMPLOYER', true, now()) RETURNING id
+                """, Long.class, keycloakId, keycloakId + "@example.com", keycloakId);
+        companyId = jdbcTemplate.queryForObject("""
+                INSERT INTO companies (name, email, industry_type, tax_id, user_id, active, created_at)
+                VALUES ('Plan Co', ?, 'IT', ?, ?, true, now()) RETURNING id
+                """, Long.class, keycloakId + "@example.com", keycloakId, userId);
+        jobId = jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (title, description, requirements, employment_type, location, is_remote, active,
+                                  company_id, created_at)
+                VALUES ('Backend engineer', 'Seeded', 'Java', 'FULL_TIME', 'Hanoi', false, true, ?, now())
+                RETURNING id
+                """, Long.class, companyId);
+        jdbcTemplate.update("""
+                INSERT INTO applications (user_id, job_id, cover_letter, application_status, created_at)
+                VALUES (?, ?, 'Seeded', 'PENDING', now())
+                """, userId, jobId);
+        jdbcTemplate.update("INSERT INTO saved_jobs (user_id, job_id, created_at) VALUES (?, ?, now())", userId, jobId);
+        jdbcTemplate.update("""
+                INSERT INTO saved_searches (user_id, name, keyword, active, created_at)
+                VALUES (?, 'Seeded', 'engineer', true, now())
+                """, userId);
+        jdbcTemplate.update("""
+                INSERT INTO reviews (reviewer_id, company_id, rating, comment, review_type, created_at)
+                VALUES (?, ?, 5, 'Seeded', 'COMPANY', now())
+                """, userId, companyId);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        if (userId != null) {
+            jdbcTemplate.update("DELETE FROM reviews WHERE reviewer_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM saved_searches WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM saved_jobs WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM applications WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM jobs WHERE company_id = ?", companyId);
+            jdbcTemplate.update("DELETE FROM companies WHERE id = ?", companyId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+    }
+
+    Stream<Arguments> queries() {
+        return Stream.of(
+                Arguments.of("UserRepository.findByKeycloakId",
+                        "SELECT u.* FROM users u WHERE u.keycloak_id = :keycloakId",
+                        Map.of("keycloakId", keycloakId)),
+                Arguments.of("CompanyRepository.findByUserId",
+                        "SELECT c.* FROM companies c WHERE c.user_id = :userId AND c.active = true",
+                        Map.of("userId", userId)),
+                Arguments.of("JobRepository.findViewsByCompanyId",
+                        "SELECT " + JOB_COLUMNS + """
+                                 FROM jobs j WHERE j.company_id = :companyId AND j.active = true
+                                ORDER BY j.created_at DESC
+                                """,
+                        Map.of("companyId", companyId)),
+                Arguments.of("JobRepository.findByIdGreaterThanOrderByIdAsc",
+                        "SELECT j.* FROM jobs j WHERE j.id > :lastId AND j.active = true ORDER BY j.id LIMIT 500",
+                        Map.of("lastId", 0L)),
+                Arguments.of("CompanyRepository.findAllViews",
+                        "SELECT c.id, c.name FROM companies c WHERE c.active = true ORDER BY c.id LIMIT 20",
+                        Map.of()),
+                Arguments.of("JobRepository.searchJobs without filters",
+                        "SELECT " + JOB_COLUMNS + " FROM jobs j WHERE j.active = true",
+                        Map.of()),
+                Arguments.of("JobRepository.searchJobs by keyword",
+                        "SELECT " + JOB_COLUMNS + """
+                                 FROM jobs j WHERE j.active = true
+                                AND (lower(j.title) LIKE lower(concat('%', CAST(:keyword AS text), '%'))
+                                    OR lower(j.description) LIKE lower(concat('%', CAST(:keyword AS text), '%'))
+                                    OR lower(j.requirements) LIKE lower(concat('%', CAST(:keyword AS text), '%')))
+                                """,
+                        Map.of("keyword", "engineer")),
+                Arguments.of("JobRepository.searchJobs by location",
+                        "SELECT " + JOB_COLUMNS + """
+                                 FROM jobs j WHERE j.active = true
+                                AND lower(j.location) LIKE lower(concat('%', CAST(:location AS text), '%'))
+                                """,
+                        Map.of("location", "hanoi")),
+                Arguments.of("JobRepository.fullTextSearchJobsFirstPage",
+                        "SELECT j.* FROM jobs j " + JobRepository.FULL_TEXT_FILTER
+                                + " ORDER BY j.created_at DESC, j.id DESC LIMIT 20",
+                        fullTextParameters("engineer")),
+                Arguments.of("ApplicationRepository.findByIdempotencyKey",
+                        """
+                                SELECT a.* FROM applications a
+                                WHERE a.user_id = :userId AND a.job_id = :jobId AND a.idempotency_key = :key
+                                """,
+                        Map.of("userId", userId, "jobId", jobId, "key", "retry")),
+                Arguments.of("ApplicationRepository.findByJob",
+                        "SELECT a.* FROM applications a WHERE a.job_id = :jobId LIMIT 20",
+                        Map.of("jobId", jobId)),
+                Arguments.of("ApplicationRepository.findIdsByJobAndStatus",
+                        """
+                                SELECT a.id FROM applications a
+                                WHERE a.job_id = :jobId AND a.application_status = 'PENDING' AND a.id > 0
+                                ORDER BY a.id LIMIT 1000
+                                """,
+                        Map.of("jobId", jobId)),
+                Arguments.of("ApplicationRepository.findArchivedByJob",
+                        "SELECT a.* FROM applications_archive a WHERE a.job_id = :jobId AND a.created_at >= :from"
+                                + " ORDER BY a.created_at DESC, a.id DESC LIMIT 20",
+                        Map.of("jobId", jobId, "from", LocalDateTime.now().minusYears(1))),
+                Arguments.of("ApplicationRepository.findRecentJobIds",
+                        "SELECT a.job_id FROM applications a WHERE a.user_id = :userId ORDER BY a.created_at DESC"
+                                + " LIMIT 50",
+                        Map.of("userId", userId)),
+                Arguments.of("JobRepository.findAppliedViews",
+                        "SELECT " + JOB_COLUMNS + """
+                                 FROM applications a JOIN jobs j ON j.id = a.job_id
+                                WHERE a.user_id = :userId ORDER BY a.created_at DESC, a.id DESC LIMIT 20
+                                """,
+                        Map.of("userId", userId)),
+                Arguments.of("SavedJobRepository.existsByIdempotencyKey",
+                        """
+                                SELECT s.id FROM saved_jobs s
+                                WHERE s.user_id = :userId AND s.job_id = :jobId AND s.idempotency_key = :key
+                                """,
+                        Map.of("userId", userId, "jobId", jobId, "key", "retry")),
+                Arguments.of("JobRepository.findSavedViews",
+                        "SELECT " + JOB_COLUMNS + """
+                                 FROM saved_jobs s JOIN jobs j ON j.id = s.job_id
+                                WHERE s.user_id = :userId ORDER BY s.created_at DESC, s.id DESC LIMIT 20
+                                """,
+                        Map.of("userId", userId)),
+                Arguments.of("SavedSearchRepository.findByUserIdAndActiveTrueOrderByCreatedAtDesc",
+                        "SELECT s.* FROM saved_searches s WHERE s.user_id = :userId AND s.active = true"
+                                + " ORDER BY s.created_at DESC",
+                        Map.of("userId", userId)),
+                Arguments.of("ReviewRepository.findByCompanyIdOrderByCreatedAtDesc",
+                        "SELECT r.* FROM reviews r WHERE r.company_id = :companyId ORDER BY r.created_at DESC LIMIT 20",
+                        Map.of("companyId", companyId)),
+                Arguments.of("ReviewRepository.existsByReviewerIdAndCompanyId",
+                        "SELECT r.id FROM reviews r WHERE r.reviewer_id = :userId AND r.company_id = :companyId"
+                                + " LIMIT 1",
+                        Map.of("userId", userId, "companyId", companyId)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void queryUsesIndexes(String repositoryQuery, String sql, Map<String, Object> parameters) throws Exception {
+        String plan = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return namedJdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql,
+                    new MapSqlParameterSource(parameters), String.class);
+        });
+        JsonNode root = objectMapper.readTree(plan).get(0).get("Plan");
+
+        List<String> sequentialScans = new ArrayList<>();
+        collectSequentialScans(root, sequentialScans);
+        assertThat(sequentialScans)
+                .as("%s scans sequentially; plan:%n%s", repositoryQuery, root.toPrettyString())
+                .isEmpty();
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> relations) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            relations.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, relations);
+        }
+    }
+
+    private static Map<String, Object> fullTextParameters(String tsQuery) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("tsQuery", tsQuery);
+        for (String filter : List.of("location", "employmentType", "experienceLevel", "isRemote", "salaryMin",
+                "salaryMax")) {
+            parameters.put(filter, null);
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobhunt.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GenerationalIndexTest {
+
+    private final GenerationalIndex<List<String>> index = new GenerationalIndex<>(new ArrayList<>(List.of("old")));
+
+    @Test
+    void rebuildPublishesTheLoadedGeneration() {
+        List<String> rebuilt = index.rebuild(() -> new ArrayList<>(List.of("new")));
+
+        assertThat(rebuilt).containsExactly("new");
+        assertThat(values()).containsExactly("new");
+    }
+
+    @Test
+    void changesMadeWhileLoadingAreReplayedInOrder() {
+        index.rebuild(() -> {
+            index.update(values -> values.add("first"));
+            index.update(values -> values.remove("first"));
+            index.update(values -> values.add("second"));
+            assertThat(values()).containsExactly("old", "second");
+            return new ArrayList<>(List.of("loaded"));
+        });
+
+        assertThat(values()).containsExactly("loaded", "second");
+    }
+
+    @Test
+    void changesAfterARebuildAreNotReplayedByTheNextOne() {
+        index.rebuild(ArrayList::new);
+        index.update(values -> values.add("after"));
+
+        index.rebuild(ArrayList::new);
+
+        assertThat(values()).isEmpty();
+    }
+
+    @Test
+    void failedRebuildKeepsTheCurrentGeneration() {
+        assertThatThrownBy(() -> index.rebuild(() -> {
+            index.update(values -> values.add("during"));
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(values()).containsExactly("old", "during");
+
+        index.update(values -> values.add("after"));
+        index.rebuild(ArrayList::new);
+
+        assertThat(values()).isEmpty();
+    }
+
+    private List<String> values() {
+        return index.read(List::copyOf);
+    }
+}
@@ -0,0 +1,84 @@
+package com.jobhunt.search;
+
+import com.jobhunt.event.JobSnapshot;
+import com.jobhunt.model.entity.Job;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobQueryMatcherTest {
+
+    private final JobQueryMatcher prefix = new JobQueryMatcher(snapshot(true));
+    private final JobQueryMatcher substring =
+            new JobQueryMatcher(snapshot(true), JobQueryMatcher.KeywordMode.SUBSTRING);
+
+    @Test
+    void wordPrefixKeywordNeedsEveryWordToStartAJobWord() {
+        assertThat(prefix.matches(keyword("java dev"))).isTrue();
+        assertThat(prefix.matches(keyword("SPRING"))).isTrue();
+        assertThat(prefix.matches(keyword("Hà Nội"))).isTrue();
+        assertThat(prefix.matches(keyword("java python"))).isFalse();
+        assertThat(prefix.matches(keyword("va dev"))).isFalse();
+    }
+
+    @Test
+    void wordPrefixSkipsFuzzyKeywords() {
+        assertThat(prefix.matches(keyword("jvaa").toBuilder().fuzzy(true).build())).isTrue();
+    }
+
+    @Test
+    void substringKeywordMustOccurWhole() {
+        assertThat(substring.matches(keyword("va dev"))).isTrue();
+        assertThat(substring.matches(keyword("JAVA DEVELOPER"))).isTrue();
+        assertThat(substring.matches(keyword("spring boot"))).isTrue();
+        assertThat(substring.matches(keyword("developer java"))).isFalse();
+        assertThat(substring.matches(keyword("jvaa").toBuilder().fuzzy(true).build())).isFalse();
+    }
+
+    @Test
+    void substringKeywordWithLikeWildcardsAlwaysMatches() {
+        assertThat(substring.matches(keyword("j%r"))).isTrue();
+        assertThat(substring.matches(keyword("nothing_like_it"))).isTrue();
+    }
+
+    @Test
+    void otherFiltersBehaveAsInSql() {
+        assertThat(prefix.matches(JobSearchQuery.builder().location("hanoi").build())).isTrue();
+        assertThat(prefix.matches(JobSearchQuery.builder().location("saigon").build())).isFalse();
+        assertThat(prefix.matches(JobSearchQuery.builder().employmentType("FULL_TIME").build())).isTrue();
+        assertThat(prefix.matches(JobSearchQuery.builder().employmentType("CONTRACT").build())).isFalse();
+        assertThat(prefix.matches(JobSearchQuery.builder().remote(false).build())).isFalse();
+        assertThat(prefix.matches(JobSearchQuery.builder()
+                .salaryRange(SalaryRange.of(new BigDecimal("2500"), null)).build())).isTrue();
+        assertThat(prefix.matches(JobSearchQuery.builder()
+                .salaryRange(SalaryRange.of(new BigDecimal("3500"), null)).build())).isFalse();
+    }
+
+    @Test
+    void inactiveJobMatchesNothing() {
+        JobQueryMatcher inactive = new JobQueryMatcher(snapshot(false));
+
+        assertThat(inactive.matches(JobSearchQuery.builder().build())).isFalse();
+    }
+
+    private static JobSearchQuery keyword(String keyword) {
+        return JobSearchQuery.builder().keyword(keyword).build();
+    }
+
+    private static JobSnapshot snapshot(boolean active) {
+        Job job = new Job();
+        job.setId(1L);
+        job.setActive(active);
+        job.setTitle("Java Developer");
+        job.setRequirements("Spring Boot, SQL");
+        job.setDescription("Office in Hà Nội");
+        job.setEmploymentType(Job.EmploymentType.FULL_TIME);
+        job.setLocation("Hanoi");
+        job.setRemote(true);
+        job.setSalaryMin(new BigDecimal("2000"));
+        job.setSalaryMax(new BigDecimal("3000"));
+        return JobSnapshot.of(job);
+    }
+}
@@ -0,0 +1,109 @@
+package com.jobhunt.search;
+
+import com.jobhunt.repository.JobRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the LIKE scan with the tsvector index on a seeded dataset.
+ * Run with {@code mvn test -Dtest=JobSearchBenchmarkTest -Dbenchmark=true [-Dbenchmark.jobs=200000]}.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JobSearchBenchmarkTest {
+
+    private static final String[] WORDS = {"java", "spring", "developer", "accountant", "designer", "sales",
+            "marketing", "kotlin", "react", "backend", "frontend", "manager", "analyst", "engineer", "support",
+            "warehouse", "driver", "teacher", "nurse", "consultant"};
+
+    private static final int RUNS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private Long userId;
+
+    @BeforeAll
+    void seed() {
+        int jobs = Integer.getInteger("benchmark.jobs", 50_000);
+        String marker = "bench-" + System.nanoTime();
+
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, first_name, last_name, role, is_active, created_at)
+                VALUES (?, ?, 'Bench', 'Mark', 'EMPLOYER', true, now()) RETURNING id
+                """, Long.class, marker, marker + "@example.com");
+        Long companyId = jdbcTemplate.queryForObject("""
+                INSERT INTO companies (name, email, industry_type, tax_id, user_id, active, created_at)
+                VALUES ('Bench Co', ?, 'IT', ?, ?, true, now()) RETURNING id
+                """, Long.class, marker + "@example.com", marker, userId);
+
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(jobs);
+        for (int i = 0; i < jobs; i++) {
+            rows.add(new Object[]{words(random, 3), words(random, 120), words(random, 40), companyId});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO jobs (title, description, requirements, employment_type, location, is_remote, active,
+                                  company_id, created_at)
+                VALUES (?, ?, ?, 'FULL_TIME', 'Hanoi', false, true, ?, now())
+                """, rows);
+        jdbcTemplate.execute("ANALYZE jobs");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        if (userId != null) {
+            jdbcTemplate.update("DELETE FROM jobs WHERE company_id IN (SELECT id FROM companies WHERE user_id = ?)",
+                    userId);
+            jdbcTemplate.update("DELETE FROM companies WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+    }
+
+    @Test
+    void fullTextSearchIsFasterThanLikeScan() {
+        String keyword = "accountant";
+
+        long likeNanos = time(() -> jobRepository.searchJobs(keyword, null, null, null, null, null, null).size());
+        long fullTextNanos = time(() -> jobRepository.fullTextSearchJobs(
+                FullTextQueries.toPrefixTsQuery(keyword), null, null, null, null, null, null).size());
+
+        System.out.printf("LIKE scan: %.2f ms/query, full-text: %.2f ms/query%n",
+                likeNanos / 1_000_000.0, fullTextNanos / 1_000_000.0);
+        assertThat(fullTextNanos).isLessThan(likeNanos);
+    }
+
+    private static long time(Supplier<Integer> search) {
+        search.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            search.get();
+        }
+        return (System.nanoTime() - start) / RUNS;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.toString().trim();
+    }
+}
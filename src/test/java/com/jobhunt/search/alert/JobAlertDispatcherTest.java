@@ -0,0 +1,126 @@
+package com.jobhunt.search.alert;
+
+import com.jobhunt.model.entity.Company;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.model.entity.JobAlert;
+import com.jobhunt.model.entity.SavedSearch;
+import com.jobhunt.model.entity.User;
+import com.jobhunt.repository.JobAlertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobAlertDispatcherTest {
+
+    private JobAlertRepository jobAlertRepository;
+    private JavaMailSender sender;
+    private ObjectProvider<JavaMailSender> mailSender;
+    private TransactionTemplate transactionTemplate;
+    private JobAlertDispatcher dispatcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jobAlertRepository = mock(JobAlertRepository.class);
+        sender = mock(JavaMailSender.class);
+        mailSender = mock(ObjectProvider.class);
+        when(mailSender.getIfAvailable()).thenReturn(sender);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        dispatcher = new JobAlertDispatcher(jobAlertRepository, mailSender, transactionTemplate);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 2);
+        ReflectionTestUtils.setField(dispatcher, "from", "alerts@jobhunt.test");
+    }
+
+    @Test
+    void everyBatchIsClaimedAndMarkedInItsOwnTransaction() {
+        User user = user(1, "a@jobhunt.test");
+        when(jobAlertRepository.claimPendingAfter(0L, 2)).thenReturn(List.of(10L, 11L));
+        when(jobAlertRepository.claimPendingAfter(11L, 2)).thenReturn(List.of(12L));
+        when(jobAlertRepository.findWithDetailsByIdIn(List.of(10L, 11L)))
+                .thenReturn(List.of(alert(10, user), alert(11, user)));
+        when(jobAlertRepository.findWithDetailsByIdIn(List.of(12L))).thenReturn(List.of(alert(12, user)));
+
+        dispatcher.dispatch();
+
+        // The dead alert cleanup and one per batch
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(jobAlertRepository).deletePendingOfInactiveJobs();
+        verify(jobAlertRepository).markSent(eq(List.of(10L, 11L)), any(Instant.class));
+        verify(jobAlertRepository).markSent(eq(List.of(12L)), any(Instant.class));
+        verify(sender, times(2)).send(any(SimpleMailMessage.class));
+    }
+
+    @Test
+    void alertsOfAFailedMailStayPending() {
+        User failing = user(1, "down@jobhunt.test");
+        User working = user(2, "up@jobhunt.test");
+        when(jobAlertRepository.claimPendingAfter(0L, 2)).thenReturn(List.of(10L, 11L));
+        when(jobAlertRepository.claimPendingAfter(11L, 2)).thenReturn(List.of());
+        when(jobAlertRepository.findWithDetailsByIdIn(List.of(10L, 11L)))
+                .thenReturn(List.of(alert(10, failing), alert(11, working)));
+        doThrow(new MailSendException("mailbox unavailable")).when(sender)
+                .send(argThat((SimpleMailMessage message) -> message.getTo()[0].equals("down@jobhunt.test")));
+
+        dispatcher.dispatch();
+
+        verify(jobAlertRepository).markSent(eq(List.of(11L)), any(Instant.class));
+    }
+
+    @Test
+    void withoutAMailSenderNothingIsClaimed() {
+        when(mailSender.getIfAvailable()).thenReturn(null);
+
+        dispatcher.dispatch();
+
+        verify(jobAlertRepository, never()).claimPendingAfter(anyLong(), anyInt());
+        verify(jobAlertRepository, never()).deletePendingOfInactiveJobs();
+    }
+
+    private static User user(long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+
+    private static JobAlert alert(long id, User user) {
+        SavedSearch search = new SavedSearch();
+        search.setId(id);
+        search.setName("Search " + id);
+        search.setUser(user);
+        Company company = new Company();
+        company.setName("Acme");
+        Job job = new Job();
+        job.setTitle("Java Developer");
+        job.setCompany(company);
+        JobAlert alert = new JobAlert();
+        alert.setId(id);
+        alert.setSavedSearch(search);
+        alert.setJob(job);
+        return alert;
+    }
+}
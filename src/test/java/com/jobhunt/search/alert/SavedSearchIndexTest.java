@@ -0,0 +1,147 @@
+package com.jobhunt.search.alert;
+
+import com.jobhunt.event.JobSnapshot;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.model.entity.SavedSearch;
+import com.jobhunt.repository.SavedSearchRepository;
+import com.jobhunt.search.JobQueryMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SavedSearchIndexTest {
+
+    private SavedSearchRepository savedSearchRepository;
+    private SavedSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        savedSearchRepository = mock(SavedSearchRepository.class);
+        index = new SavedSearchIndex(savedSearchRepository);
+    }
+
+    @Test
+    void keywordSearchesAreFoundThroughTheirLongestWord() {
+        index.index(search(1, s -> s.setKeyword("java developer")));
+        index.index(search(2, s -> s.setKeyword("dev")));
+        index.index(search(3, s -> s.setKeyword("python developer")));
+
+        assertThat(index.match(matcher(job("Senior Developer (Java)")))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.match(matcher(job("Java Engineer")))).isEmpty();
+    }
+
+    @Test
+    void searchIsReportedOnceWhenSeveralWordsShareItsAnchor() {
+        index.index(search(1, s -> s.setKeyword("dev")));
+
+        assertThat(index.match(matcher(job("Developer DevOps Devs")))).containsExactly(1L);
+    }
+
+    @Test
+    void locationSearchesMatchAnySubstringIgnoringCase() {
+        index.index(search(1, s -> s.setLocation("Noi")));
+        index.index(search(2, s -> s.setLocation("Hue")));
+
+        assertThat(index.match(matcher(job("Tester")))).containsExactly(1L);
+    }
+
+    @Test
+    void attributeAnchorsAndUnanchoredSearches() {
+        index.index(search(1, s -> s.setEmploymentType(Job.EmploymentType.FULL_TIME)));
+        index.index(search(2, s -> s.setEmploymentType(Job.EmploymentType.CONTRACT)));
+        index.index(search(3, s -> s.setExperienceLevel("Senior")));
+        index.index(search(4, s -> s.setRemote(false)));
+        index.index(search(5, s -> s.setRemote(true)));
+        index.index(search(6, s -> s.setSalaryMin(new BigDecimal("1500"))));
+        index.index(search(7, s -> s.setSalaryMin(new BigDecimal("5000"))));
+
+        assertThat(index.match(matcher(job("Tester")))).containsExactlyInAnyOrder(1L, 3L, 4L, 6L);
+    }
+
+    @Test
+    void candidatesAreCheckedAgainstEveryFilter() {
+        index.index(search(1, s -> {
+            s.setKeyword("developer");
+            s.setLocation("hue");
+        }));
+
+        assertThat(index.match(matcher(job("Developer")))).isEmpty();
+    }
+
+    @Test
+    void updatedSearchMovesToItsNewAnchor() {
+        index.index(search(1, s -> s.setKeyword("python")));
+        index.index(search(1, s -> s.setLocation("noi")));
+
+        assertThat(index.match(matcher(job("Tester")))).containsExactly(1L);
+        assertThat(index.match(matcher(job("Python Developer")))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void inactiveSearchIsRemoved() {
+        index.index(search(1, s -> s.setKeyword("developer")));
+        index.index(search(1, s -> {
+            s.setKeyword("developer");
+            s.setActive(false);
+        }));
+
+        assertThat(index.match(matcher(job("Developer")))).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void inactiveJobMatchesNothing() {
+        index.index(search(1, s -> s.setSalaryMin(new BigDecimal("1000"))));
+        Job job = job("Developer");
+        job.setActive(false);
+
+        assertThat(index.match(matcher(job))).isEmpty();
+    }
+
+    @Test
+    void rebuildLoadsActiveSearches() {
+        when(savedSearchRepository.findActiveAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(search(1, s -> s.setKeyword("developer"))));
+        index.index(search(2, s -> s.setKeyword("developer")));
+
+        index.rebuild();
+
+        assertThat(index.match(matcher(job("Developer")))).containsExactly(1L);
+    }
+
+    private static JobQueryMatcher matcher(Job job) {
+        return new JobQueryMatcher(JobSnapshot.of(job));
+    }
+
+    private static Job job(String title) {
+        Job job = new Job();
+        job.setId(100L);
+        job.setTitle(title);
+        job.setRequirements("");
+        job.setDescription("");
+        job.setEmploymentType(Job.EmploymentType.FULL_TIME);
+        job.setExperienceLevel("Senior");
+        job.setLocation("Ha Noi");
+        job.setSalaryMin(new BigDecimal("1000"));
+        job.setSalaryMax(new BigDecimal("2000"));
+        return job;
+    }
+
+    private static SavedSearch search(long id, Consumer<SavedSearch> filters) {
+        SavedSearch search = new SavedSearch();
+        search.setId(id);
+        filters.accept(search);
+        return search;
+    }
+}
@@ -0,0 +1,172 @@
+package com.jobhunt.search.cache;
+
+import com.jobhunt.event.CompanyChangedEvent;
+import com.jobhunt.event.JobChangedEvent;
+import com.jobhunt.event.JobSnapshot;
+import com.jobhunt.event.JobsImportedEvent;
+import com.jobhunt.model.entity.Company;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.model.response.CompanyResponse;
+import com.jobhunt.model.response.JobResponse;
+import com.jobhunt.search.JobSearchIndex;
+import com.jobhunt.search.JobSearchQuery;
+import com.jobhunt.search.LikeJobSearchIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchCacheTest {
+
+    private static final JobSearchIndex FULL_TEXT = query -> List.of();
+
+    private final AtomicInteger searches = new AtomicInteger();
+
+    @Test
+    void equivalentQueriesShareOneEntry() {
+        JobSearchCache cache = cache(FULL_TEXT);
+
+        cache.get(keyword("  Java   Dev "), this::search);
+        cache.get(keyword("java dev"), this::search);
+
+        assertThat(searches).hasValue(1);
+        assertThat(cache.stats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void jobChangeEvictsOnlyTheQueriesItMatches() {
+        JobSearchCache cache = cache(FULL_TEXT);
+        cache.get(keyword("java"), this::search);
+        cache.get(keyword("python"), this::search);
+
+        cache.onJobChanged(new JobChangedEvent(job(1, "Java Developer"), null));
+
+        assertThat(cachedAgain(cache, keyword("java"))).isFalse();
+        assertThat(cachedAgain(cache, keyword("python"))).isTrue();
+        assertThat(cache.stats().getInvalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void importedChunkEvictsWhatAnyOfItsJobsMatches() {
+        JobSearchCache cache = cache(FULL_TEXT);
+        cache.get(keyword("java"), this::search);
+        cache.get(keyword("kotlin"), this::search);
+        cache.get(keyword("python"), this::search);
+
+        cache.onJobsImported(new JobsImportedEvent(List.of(job(1, "Java Developer"), job(2, "Kotlin Developer"))));
+
+        assertThat(cachedAgain(cache, keyword("java"))).isFalse();
+        assertThat(cachedAgain(cache, keyword("kotlin"))).isFalse();
+        assertThat(cachedAgain(cache, keyword("python"))).isTrue();
+        assertThat(cache.stats().getInvalidationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void jobLeavingAQueryEvictsIt() {
+        JobSearchCache cache = cache(FULL_TEXT);
+        cache.get(keyword("java"), this::search);
+        JobSnapshot before = JobSnapshot.of(job(1, "Java Developer"));
+
+        cache.onJobChanged(new JobChangedEvent(job(1, "Kotlin Developer"), before));
+
+        assertThat(cachedAgain(cache, keyword("java"))).isFalse();
+    }
+
+    @Test
+    void changesToInactiveJobsEvictNothing() {
+        JobSearchCache cache = cache(FULL_TEXT);
+        cache.get(keyword("java"), this::search);
+        Job job = job(1, "Java Developer");
+        job.setActive(false);
+
+        cache.onJobChanged(new JobChangedEvent(job, JobSnapshot.of(job)));
+
+        assertThat(cachedAgain(cache, keyword("java"))).isTrue();
+    }
+
+    @Test
+    void substringQueriesAreEvictedUnderTheLikeBackend() {
+        JobSearchCache fullText = cache(FULL_TEXT);
+        JobSearchCache like = cache(new LikeJobSearchIndex(null));
+        fullText.get(keyword("va dev"), this::search);
+        like.get(keyword("va dev"), this::search);
+
+        JobChangedEvent event = new JobChangedEvent(job(1, "Java Developer"), null);
+        fullText.onJobChanged(event);
+        like.onJobChanged(event);
+
+        assertThat(cachedAgain(fullText, keyword("va dev"))).isTrue();
+        assertThat(cachedAgain(like, keyword("va dev"))).isFalse();
+    }
+
+    @Test
+    void loadOvertakenByAnInvalidationIsNotKept() {
+        JobSearchCache cache = cache(FULL_TEXT);
+
+        // The job commits and is invalidated after the search read the database but before its entry exists
+        cache.get(keyword("java"), query -> {
+            searches.incrementAndGet();
+            cache.onJobChanged(new JobChangedEvent(job(1, "Java Developer"), null));
+            return List.of();
+        });
+
+        assertThat(cachedAgain(cache, keyword("java"))).isFalse();
+        assertThat(cachedAgain(cache, keyword("java"))).isTrue();
+    }
+
+    @Test
+    void companyChangeEvictsEntriesShowingItsJobs() {
+        JobSearchCache cache = cache(FULL_TEXT);
+        cache.get(keyword("java"), query -> List.of(response(1, "7")));
+        cache.get(keyword("python"), query -> List.of(response(2, "8")));
+        Company company = new Company();
+        company.setId(7L);
+
+        cache.onCompanyChanged(new CompanyChangedEvent(company));
+
+        assertThat(cachedAgain(cache, keyword("java"))).isFalse();
+        assertThat(cachedAgain(cache, keyword("python"))).isTrue();
+    }
+
+    private JobSearchCache cache(JobSearchIndex index) {
+        return new JobSearchCache(index, 1_000, Duration.ofMinutes(5));
+    }
+
+    private List<JobResponse> search(JobSearchQuery query) {
+        searches.incrementAndGet();
+        return List.of();
+    }
+
+    private boolean cachedAgain(JobSearchCache cache, JobSearchQuery query) {
+        int before = searches.get();
+        cache.get(query, this::search);
+        return searches.get() == before;
+    }
+
+    private static JobSearchQuery keyword(String keyword) {
+        return JobSearchQuery.builder().keyword(keyword).build();
+    }
+
+    private static Job job(long id, String title) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setRequirements("");
+        job.setDescription("");
+        job.setEmploymentType(Job.EmploymentType.FULL_TIME);
+        job.setLocation("Hanoi");
+        return job;
+    }
+
+    private static JobResponse response(long id, String companyId) {
+        CompanyResponse company = new CompanyResponse();
+        company.setId(companyId);
+        JobResponse response = new JobResponse();
+        response.setId(id);
+        response.setCompany(company);
+        return response;
+    }
+}
@@ -0,0 +1,207 @@
+package com.jobhunt.search.facet;
+
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.search.SalaryRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobFacetIndexTest {
+
+    private JobRepository jobRepository;
+    private JobFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        index = new JobFacetIndex(jobRepository);
+    }
+
+    @Test
+    void pagesMatchesNewestFirst() {
+        LongStream.rangeClosed(1, 5).forEach(id -> index.index(job(id, Job.EmploymentType.FULL_TIME, "Hanoi")));
+
+        JobFacetResult firstPage = index.search(query().offset(0).limit(2).build());
+        JobFacetResult lastPage = index.search(query().offset(4).limit(2).build());
+
+        assertThat(firstPage.getTotal()).isEqualTo(5);
+        assertThat(firstPage.getJobIds()).containsExactly(5L, 4L);
+        assertThat(lastPage.getJobIds()).containsExactly(1L);
+    }
+
+    @Test
+    void countsOfADimensionIgnoreItsOwnSelection() {
+        index.index(job(1, Job.EmploymentType.FULL_TIME, "Hanoi"));
+        index.index(job(2, Job.EmploymentType.FULL_TIME, "Da Nang"));
+        index.index(job(3, Job.EmploymentType.CONTRACT, "Hanoi"));
+
+        JobFacetResult result = index.search(query()
+                .employmentType(Job.EmploymentType.FULL_TIME)
+                .location("hanoi")
+                .build());
+
+        assertThat(result.getJobIds()).containsExactly(1L);
+        assertThat(result.getEmploymentTypes()).contains(entry("FULL_TIME", 1L), entry("CONTRACT", 1L),
+                entry("PART_TIME", 0L));
+        assertThat(result.getLocations()).containsOnly(entry("Hanoi", 1L), entry("Da Nang", 1L));
+    }
+
+    @Test
+    void locationsAreMatchedIgnoringCaseAndSpacing() {
+        index.index(job(1, Job.EmploymentType.FULL_TIME, "Ho  Chi Minh"));
+
+        JobFacetResult result = index.search(query().location(" ho chi   MINH ").build());
+
+        assertThat(result.getJobIds()).containsExactly(1L);
+    }
+
+    @Test
+    void topLocationsKeepsTheMostFrequent() {
+        index.index(job(1, Job.EmploymentType.FULL_TIME, "Hanoi"));
+        index.index(job(2, Job.EmploymentType.FULL_TIME, "Hanoi"));
+        index.index(job(3, Job.EmploymentType.FULL_TIME, "Hue"));
+
+        JobFacetResult result = index.search(query().topLocations(1).build());
+
+        assertThat(result.getLocations()).containsExactly(entry("Hanoi", 2L));
+    }
+
+    @Test
+    void updateMovesTheJobBetweenFacetValuesAndKeepsItsPosition() {
+        index.index(job(1, Job.EmploymentType.FULL_TIME, "Hanoi"));
+        index.index(job(2, Job.EmploymentType.FULL_TIME, "Hanoi"));
+        index.index(job(1, Job.EmploymentType.PART_TIME, "Hue"));
+
+        JobFacetResult result = index.search(query().build());
+
+        assertThat(result.getJobIds()).containsExactly(2L, 1L);
+        assertThat(result.getEmploymentTypes()).contains(entry("FULL_TIME", 1L), entry("PART_TIME", 1L));
+        assertThat(result.getLocations()).containsOnly(entry("Hanoi", 1L), entry("Hue", 1L));
+    }
+
+    @Test
+    void inactiveJobIsRemoved() {
+        index.index(job(1, Job.EmploymentType.FULL_TIME, "Hanoi"));
+        Job closed = job(2, Job.EmploymentType.FULL_TIME, "Hue");
+        index.index(closed);
+        closed.setActive(false);
+        index.index(closed);
+
+        JobFacetResult result = index.search(query().build());
+
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(result.getLocations()).containsOnly(entry("Hanoi", 1L));
+        assertThat(result.getRemote()).containsEntry("false", 1L);
+    }
+
+    @Test
+    void salaryRangeMatchesOverlappingJobs() {
+        index.index(salaried(1, 1000, 2000));
+        index.index(salaried(2, 2500, 4000));
+        index.index(salaried(3, null, 1500));
+        index.index(job(4, Job.EmploymentType.FULL_TIME, "Hanoi"));
+
+        JobFacetResult result = index.search(query().salaryRange(SalaryRange.of(amount(1800), amount(3000))).build());
+
+        assertThat(result.getJobIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void salaryHistogramBucketsMidpoints() {
+        index.index(salaried(1, 1000, 2000));
+        index.index(salaried(2, 1200, 1400));
+        index.index(salaried(3, 3000, 3000));
+        index.index(job(4, Job.EmploymentType.FULL_TIME, "Hanoi"));
+
+        SalaryHistogram histogram = index.salaryHistogram(query().build(), amount(1000));
+
+        assertThat(histogram.getCount()).isEqualTo(3);
+        assertThat(histogram.getMin()).isEqualByComparingTo("1300");
+        assertThat(histogram.getMax()).isEqualByComparingTo("3000");
+        assertThat(histogram.getBuckets()).extracting(SalaryHistogram.Bucket::getCount).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void salaryHistogramOfNoMatchesIsEmpty() {
+        SalaryHistogram histogram = index.salaryHistogram(query().build(), amount(1000));
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getMin()).isNull();
+        assertThat(histogram.getBuckets()).isEmpty();
+        assertThat(histogram.getPercentiles()).isEmpty();
+    }
+
+    @Test
+    void compactionKeepsLiveJobsInOrder() {
+        LongStream.rangeClosed(1, 3000).forEach(id -> index.index(job(id, Job.EmploymentType.FULL_TIME, "Hanoi")));
+        LongStream.rangeClosed(1, 2990).forEach(id -> {
+            Job removed = job(id, Job.EmploymentType.FULL_TIME, "Hanoi");
+            removed.setActive(false);
+            index.index(removed);
+        });
+        index.index(job(3001, Job.EmploymentType.CONTRACT, "Hue"));
+
+        JobFacetResult result = index.search(query().offset(0).limit(3).build());
+
+        assertThat(result.getTotal()).isEqualTo(11);
+        assertThat(result.getJobIds()).containsExactly(3001L, 3000L, 2999L);
+        assertThat(result.getLocations()).containsExactly(entry("Hanoi", 10L), entry("Hue", 1L));
+    }
+
+    @Test
+    void rebuildLoadsDocumentsFromTheRepository() {
+        when(jobRepository.findFacetDocuments()).thenReturn(List.of(
+                JobFacetDocument.of(job(1, Job.EmploymentType.FULL_TIME, "Hanoi")),
+                JobFacetDocument.of(job(2, Job.EmploymentType.CONTRACT, "Hue"))));
+        index.index(job(99, Job.EmploymentType.FULL_TIME, "Hanoi"));
+
+        index.rebuild();
+
+        assertThat(index.search(query().build()).getJobIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void changesMadeDuringARebuildSurviveIt() {
+        when(jobRepository.findFacetDocuments()).thenAnswer(invocation -> {
+            index.index(job(3, Job.EmploymentType.FULL_TIME, "Hanoi"));
+            return List.of(JobFacetDocument.of(job(1, Job.EmploymentType.FULL_TIME, "Hanoi")));
+        });
+
+        index.rebuild();
+
+        assertThat(index.search(query().build()).getJobIds()).containsExactly(3L, 1L);
+    }
+
+    private static JobFacetQuery.JobFacetQueryBuilder query() {
+        return JobFacetQuery.builder().offset(0).limit(10).topLocations(10);
+    }
+
+    private static Job job(long id, Job.EmploymentType employmentType, String location) {
+        Job job = new Job();
+        job.setId(id);
+        job.setEmploymentType(employmentType);
+        job.setExperienceLevel("Junior");
+        job.setLocation(location);
+        return job;
+    }
+
+    private static Job salaried(long id, Integer salaryMin, Integer salaryMax) {
+        Job job = job(id, Job.EmploymentType.FULL_TIME, "Hanoi");
+        job.setSalaryMin(salaryMin != null ? amount(salaryMin) : null);
+        job.setSalaryMax(salaryMax != null ? amount(salaryMax) : null);
+        return job;
+    }
+
+    private static BigDecimal amount(int value) {
+        return BigDecimal.valueOf(value);
+    }
+}
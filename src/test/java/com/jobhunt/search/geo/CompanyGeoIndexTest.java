@@ -0,0 +1,138 @@
+package com.jobhunt.search.geo;
+
+import com.jobhunt.exception.BadRequestException;
+import com.jobhunt.model.entity.Company;
+import com.jobhunt.repository.CompanyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompanyGeoIndexTest {
+
+    private static final GeoPoint HANOI = new GeoPoint(21.0285, 105.8542);
+
+    private CompanyRepository companyRepository;
+    private CompanyGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        companyRepository = mock(CompanyRepository.class);
+        index = new CompanyGeoIndex(companyRepository);
+    }
+
+    @Test
+    void haversineDistances() {
+        GeoPoint origin = new GeoPoint(0, 0);
+
+        assertThat(origin.distanceKm(0, 0)).isZero();
+        assertThat(origin.distanceKm(1, 0)).isCloseTo(111.195, within(0.001));
+        assertThat(origin.distanceKm(0, 180)).isCloseTo(Math.PI * GeoPoint.EARTH_RADIUS_KM, within(0.001));
+    }
+
+    @Test
+    void returnsCompaniesWithinTheRadiusNearestFirst() {
+        index.index(company(1, 21.2, 106.0));
+        index.index(company(2, 21.0, 105.8));
+        index.index(company(3, 21.0285, 105.8542));
+
+        List<GeoHit> hits = index.within(HANOI, 10);
+
+        assertThat(hits).extracting(GeoHit::getCompanyId).containsExactly(3L, 2L);
+        assertThat(hits.get(0).getDistanceKm()).isZero();
+        assertThat(hits.get(1).getDistanceKm()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void cornerOfTheSearchedCellsIsOutsideTheCircle() {
+        // Inside the bounding box of a 10 km circle but about 12 km away
+        index.index(company(1, HANOI.getLatitude() + 0.08, HANOI.getLongitude() + 0.08));
+
+        assertThat(index.within(HANOI, 10)).isEmpty();
+        assertThat(index.within(HANOI, 13)).extracting(GeoHit::getCompanyId).containsExactly(1L);
+    }
+
+    @Test
+    void equalDistancesAreOrderedById() {
+        index.index(company(2, 21.5, 105));
+        index.index(company(1, 20.5, 105));
+
+        List<GeoHit> hits = index.within(new GeoPoint(21, 105), 60);
+
+        assertThat(hits).extracting(GeoHit::getCompanyId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void searchCrossesTheAntimeridian() {
+        index.index(company(1, 0, -179.99));
+
+        List<GeoHit> hits = index.within(new GeoPoint(0, 179.99), 5);
+
+        assertThat(hits).extracting(GeoHit::getCompanyId).containsExactly(1L);
+        assertThat(hits.get(0).getDistanceKm()).isCloseTo(2.224, within(0.001));
+    }
+
+    @Test
+    void searchCoversThePole() {
+        index.index(company(1, 89.99, 180));
+
+        assertThat(index.within(new GeoPoint(89.99, 0), 5)).extracting(GeoHit::getCompanyId).containsExactly(1L);
+    }
+
+    @Test
+    void movedCompanyIsFoundAtItsNewLocationOnly() {
+        index.index(company(1, 21.0285, 105.8542));
+        index.index(company(1, 10.8231, 106.6297));
+
+        assertThat(index.within(HANOI, 10)).isEmpty();
+        assertThat(index.within(new GeoPoint(10.8231, 106.6297), 10)).extracting(GeoHit::getCompanyId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void inactiveOrUnlocatedCompanyIsRemoved() {
+        Company closed = company(1, 21.0285, 105.8542);
+        Company unlocated = company(2, 21.0285, 105.8542);
+        index.index(closed);
+        index.index(unlocated);
+
+        closed.setActive(false);
+        index.index(closed);
+        unlocated.setLatitude(null);
+        index.index(unlocated);
+
+        assertThat(index.within(HANOI, 10)).isEmpty();
+    }
+
+    @Test
+    void rejectsRadiusOutOfRange() {
+        assertThatThrownBy(() -> index.within(HANOI, 0)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> index.within(HANOI, CompanyGeoIndex.MAX_RADIUS_KM + 1))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> index.within(HANOI, Double.NaN)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rebuildLoadsLocationsFromTheRepository() {
+        when(companyRepository.findGeoLocations()).thenReturn(List.of(new CompanyLocation(7L, 21.0, 105.8)));
+        index.index(company(1, 21.0285, 105.8542));
+
+        index.rebuild();
+
+        assertThat(index.within(HANOI, 10)).extracting(GeoHit::getCompanyId).containsExactly(7L);
+    }
+
+    private static Company company(long id, double latitude, double longitude) {
+        Company company = new Company();
+        company.setId(id);
+        company.setLatitude(latitude);
+        company.setLongitude(longitude);
+        return company;
+    }
+}
@@ -0,0 +1,43 @@
+package com.jobhunt.search.geo;
+
+import com.jobhunt.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeoCursorTest {
+
+    @Test
+    void roundTripKeepsTheDistanceBitExact() {
+        GeoCursor cursor = new GeoCursor(0.1 + 0.2, 42L);
+
+        GeoCursor decoded = GeoCursor.decode(cursor.encode());
+
+        assertThat(Double.doubleToLongBits(decoded.getDistanceKm())).isEqualTo(Double.doubleToLongBits(0.1 + 0.2));
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void continuesAfterTheBoundaryJob() {
+        GeoCursor cursor = new GeoCursor(2.5, 10L);
+
+        assertThat(cursor.isAfter(2.5, 10L)).isFalse();
+        assertThat(cursor.isAfter(2.5, 9L)).isFalse();
+        assertThat(cursor.isAfter(2.5, 11L)).isTrue();
+        assertThat(cursor.isAfter(2.4, 99L)).isFalse();
+        assertThat(cursor.isAfter(2.6, 1L)).isTrue();
+    }
+
+    @Test
+    void missingCursorStartsFromTheBeginning() {
+        assertThat(GeoCursor.decode(null)).isNull();
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> GeoCursor.decode("not base64!")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> GeoCursor.decode("MTIz")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> GeoCursor.decode("eHl6OmFiYw")).isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package com.jobhunt.search.geo;
+
+import com.jobhunt.model.entity.Company;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.repository.JobRepositoryCustom.JobAtCompany;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NearbyJobSearchTest {
+
+    private static final GeoPoint ORIGIN = new GeoPoint(21.0285, 105.8542);
+    private static final Specification<Job> ANY = Specification.where(null);
+
+    private CompanyGeoIndex companyGeoIndex;
+    private JobRepository jobRepository;
+    private NearbyJobSearch search;
+
+    @BeforeEach
+    void setUp() {
+        companyGeoIndex = mock(CompanyGeoIndex.class);
+        jobRepository = mock(JobRepository.class);
+        search = new NearbyJobSearch(companyGeoIndex, jobRepository);
+        when(jobRepository.findWithCompanyByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> job(id, id / 100)).toList();
+        });
+    }
+
+    @Test
+    void pageIsLoadedInTheOrderTheDatabaseRankedIt() {
+        when(companyGeoIndex.within(ORIGIN, 10)).thenReturn(List.of(new GeoHit(1L, 0.5), new GeoHit(2L, 1.5)));
+        when(jobRepository.findByCompanyRank(eq(ANY), eq(Map.of(1L, 0, 2L, 1)), eq(List.of()), eq(null), eq(3)))
+                .thenReturn(List.of(new JobAtCompany(105L, 1L), new JobAtCompany(201L, 2L)));
+
+        List<NearbyJob> jobs = search.search(ANY, ORIGIN, 10, null, 3);
+
+        assertThat(jobs).extracting(nearbyJob -> nearbyJob.getJob().getId()).containsExactly(105L, 201L);
+        assertThat(jobs).extracting(NearbyJob::getDistanceKm).containsExactly(0.5, 1.5);
+    }
+
+    @Test
+    void companiesAtTheSameDistanceShareARankAndABatch() {
+        List<GeoHit> hits = new ArrayList<>();
+        for (long companyId = 1; companyId <= 502; companyId++) {
+            // Companies 499 to 501 are equally far, straddling the batch boundary
+            double distanceKm = companyId >= 499 && companyId <= 501 ? 5.0 : companyId / 100.0;
+            hits.add(new GeoHit(companyId, distanceKm));
+        }
+        when(companyGeoIndex.within(ORIGIN, 10)).thenReturn(hits);
+        when(jobRepository.findByCompanyRank(any(), anyMap(), anyCollection(), any(), anyInt())).thenReturn(List.of());
+
+        search.search(ANY, ORIGIN, 10, null, 20);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, Integer>> ranks = ArgumentCaptor.forClass(Map.class);
+        verify(jobRepository, times(2)).findByCompanyRank(any(), ranks.capture(), anyCollection(), any(), anyInt());
+        Map<Long, Integer> first = ranks.getAllValues().get(0);
+        assertThat(first).hasSize(501);
+        assertThat(first.get(499L)).isEqualTo(first.get(501L)).isEqualTo(498);
+        assertThat(ranks.getAllValues().get(1)).containsOnlyKeys(502L);
+    }
+
+    @Test
+    void laterBatchesOnlyFillWhatIsMissingAndStopOnceThePageIsFull() {
+        List<GeoHit> hits = new ArrayList<>();
+        for (long companyId = 1; companyId <= 1_200; companyId++) {
+            hits.add(new GeoHit(companyId, companyId / 100.0));
+        }
+        when(companyGeoIndex.within(ORIGIN, 10)).thenReturn(hits);
+        when(jobRepository.findByCompanyRank(any(), anyMap(), anyCollection(), any(), eq(3)))
+                .thenReturn(List.of(new JobAtCompany(100L, 1L)));
+        when(jobRepository.findByCompanyRank(any(), anyMap(), anyCollection(), any(), eq(2)))
+                .thenReturn(List.of(new JobAtCompany(50_100L, 501L), new JobAtCompany(50_200L, 502L)));
+
+        List<NearbyJob> jobs = search.search(ANY, ORIGIN, 10, null, 3);
+
+        assertThat(jobs).extracting(nearbyJob -> nearbyJob.getJob().getId()).containsExactly(100L, 50_100L, 50_200L);
+        verify(jobRepository, never()).findByCompanyRank(any(), anyMap(), anyCollection(), any(), eq(1));
+    }
+
+    @Test
+    void cursorSkipsNearerCompaniesAndContinuesWithinItsDistance() {
+        when(companyGeoIndex.within(ORIGIN, 10)).thenReturn(List.of(
+                new GeoHit(1L, 0.5), new GeoHit(2L, 1.5), new GeoHit(3L, 1.5), new GeoHit(4L, 2.5)));
+        when(jobRepository.findByCompanyRank(any(), anyMap(), anyCollection(), any(), anyInt())).thenReturn(List.of());
+
+        search.search(ANY, ORIGIN, 10, new GeoCursor(1.5, 250L), 5);
+
+        verify(jobRepository).findByCompanyRank(ANY, Map.of(2L, 0, 3L, 0, 4L, 1), List.of(2L, 3L), 250L, 5);
+        verify(jobRepository, never()).findWithCompanyByIdIn(anyCollection());
+    }
+
+    private static Job job(long id, long companyId) {
+        Company company = new Company();
+        company.setId(companyId);
+        Job job = new Job();
+        job.setId(id);
+        job.setCompany(company);
+        return job;
+    }
+}
@@ -0,0 +1,176 @@
+package com.jobhunt.search.rank;
+
+import com.jobhunt.exception.BadRequestException;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobRelevanceIndexTest {
+
+    private JobRepository jobRepository;
+    private JobRelevanceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        index = new JobRelevanceIndex(jobRepository);
+    }
+
+    @Test
+    void titleMatchesOutrankDescriptionMatches() {
+        index.index(job(1, "Backend Engineer", "Build services", "We use Kotlin and Java"));
+        index.index(job(2, "Java Engineer", "Build services", "We use Kotlin"));
+        index.index(job(3, "Frontend Engineer", "Build pages", "We use TypeScript"));
+
+        assertThat(jobIds(index.search("java", document -> true, null, 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void rareTermsWeighMoreThanCommonOnes() {
+        index.index(job(1, "Java Engineer", "", ""));
+        index.index(job(2, "Java Engineer", "", ""));
+        index.index(job(3, "Rust Engineer", "", ""));
+
+        List<ScoredJob> results = index.search("java rust", document -> true, null, 10);
+
+        assertThat(jobIds(results)).containsExactly(3L, 1L, 2L);
+        assertThat(results.get(0).getScore()).isGreaterThan(results.get(1).getScore());
+        assertThat(results.get(1).getScore()).isEqualTo(results.get(2).getScore());
+    }
+
+    @Test
+    void everyMatchedTermAddsToTheScore() {
+        index.index(job(1, "Java Engineer", "", ""));
+        index.index(job(2, "Java Spring Engineer", "", ""));
+        index.index(job(3, "Python Engineer", "", ""));
+
+        assertThat(jobIds(index.search("java spring", document -> true, null, 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void queryIsAnalyzedLikeTheDocuments() {
+        index.index(job(1, "Kỹ sư Java", "", ""));
+
+        assertThat(jobIds(index.search("KY SU", document -> true, null, 10))).containsExactly(1L);
+        assertThat(index.search("  ", document -> true, null, 10)).isEmpty();
+        assertThat(index.search("unknown", document -> true, null, 10)).isEmpty();
+    }
+
+    @Test
+    void filterIsAppliedBeforeTheLimit() {
+        index.index(job(1, "Java Engineer", "", ""));
+        Job remote = job(2, "Java Engineer", "", "");
+        remote.setRemote(true);
+        index.index(remote);
+
+        assertThat(jobIds(index.search("java", document -> document.getRemote(), null, 1))).containsExactly(2L);
+    }
+
+    @Test
+    void cursorContinuesWhereThePreviousPageEnded() {
+        index.index(job(1, "Java Engineer", "", ""));
+        index.index(job(2, "Java Engineer", "Java", ""));
+        index.index(job(3, "Java Engineer", "", ""));
+        index.index(job(4, "Engineer", "Java", "Java and more Java"));
+        index.index(job(5, "Java Engineer", "", ""));
+        List<ScoredJob> all = index.search("java", document -> true, null, 10);
+
+        List<ScoredJob> paged = new ArrayList<>();
+        RelevanceCursor cursor = null;
+        List<ScoredJob> page;
+        do {
+            page = index.search("java", document -> true, cursor, 2);
+            paged.addAll(page);
+            if (!page.isEmpty()) {
+                ScoredJob last = page.get(page.size() - 1);
+                cursor = RelevanceCursor.decode(new RelevanceCursor(last.getScore(), last.getJobId()).encode());
+            }
+        } while (!page.isEmpty());
+
+        assertThat(all).hasSize(5);
+        assertThat(jobIds(paged)).containsExactlyElementsOf(jobIds(all));
+        assertThat(jobIds(all)).containsSubsequence(1L, 3L, 5L);
+    }
+
+    @Test
+    void updatedJobIsFoundByItsNewTextOnly() {
+        index.index(job(1, "Java Engineer", "", ""));
+        index.index(job(1, "Go Engineer", "", ""));
+
+        assertThat(index.search("java", document -> true, null, 10)).isEmpty();
+        assertThat(jobIds(index.search("go", document -> true, null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void inactiveJobIsRemoved() {
+        Job job = job(1, "Java Engineer", "", "");
+        index.index(job);
+        index.index(job(2, "Java Engineer", "", ""));
+        job.setActive(false);
+        index.index(job);
+
+        assertThat(jobIds(index.search("java", document -> true, null, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void compactionKeepsTheRemainingJobs() {
+        LongStream.rangeClosed(1, 1500).forEach(id -> index.index(job(id, "Java Engineer", "", "")));
+        LongStream.rangeClosed(1, 1200).forEach(id -> {
+            Job removed = job(id, "Java Engineer", "", "");
+            removed.setActive(false);
+            index.index(removed);
+        });
+        index.index(job(1501, "Java Engineer", "", ""));
+
+        List<ScoredJob> results = index.search("java", document -> true, null, 1000);
+
+        assertThat(jobIds(results)).containsExactlyElementsOf(LongStream.rangeClosed(1201, 1501).boxed().toList());
+    }
+
+    @Test
+    void rebuildLoadsJobsInBatches() {
+        when(jobRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(job(1, "Java Engineer", "", "")))
+                .thenReturn(List.of());
+        index.index(job(99, "Java Engineer", "", ""));
+
+        index.rebuild();
+
+        assertThat(jobIds(index.search("java", document -> true, null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void cursorRejectsMalformedInput() {
+        assertThat(RelevanceCursor.decode(null)).isNull();
+        assertThatThrownBy(() -> RelevanceCursor.decode("MTIz")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> RelevanceCursor.decode("not base64!")).isInstanceOf(BadRequestException.class);
+    }
+
+    private static List<Long> jobIds(List<ScoredJob> results) {
+        return results.stream().map(ScoredJob::getJobId).toList();
+    }
+
+    private static Job job(long id, String title, String requirements, String description) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setRequirements(requirements);
+        job.setDescription(description);
+        job.setEmploymentType(Job.EmploymentType.FULL_TIME);
+        job.setLocation("Hanoi");
+        return job;
+    }
+}
@@ -0,0 +1,165 @@
+package com.jobhunt.search.recommend;
+
+import com.jobhunt.event.JobInteractionEvent;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.ApplicationRepository;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.repository.SavedJobRepository;
+import com.jobhunt.repository.SoftDeleteFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobRecommenderTest {
+
+    private static final Long USER_ID = 7L;
+
+    private JobRepository jobRepository;
+    private ApplicationRepository applicationRepository;
+    private JobVectorIndex jobVectorIndex;
+    private JobRecommender recommender;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        applicationRepository = mock(ApplicationRepository.class);
+        SoftDeleteFilter softDeleteFilter = mock(SoftDeleteFilter.class);
+        when(softDeleteFilter.includingInactive(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+        when(jobRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                job(1, "Java Developer", "Hanoi"),
+                job(2, "Java Engineer", "Hanoi"),
+                job(3, "Python Developer", "Hue"),
+                job(4, "Accountant", "Hue")));
+        jobVectorIndex = new JobVectorIndex(jobRepository);
+
+        recommender = new JobRecommender(jobVectorIndex, jobRepository, applicationRepository,
+                mock(SavedJobRepository.class), softDeleteFilter);
+        ReflectionTestUtils.setField(recommender, "maximumUsers", 100L);
+        ReflectionTestUtils.setField(recommender, "idleExpiry", Duration.ofHours(1));
+        ReflectionTestUtils.setField(recommender, "poolSize", 1);
+        recommender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recommender.stop();
+    }
+
+    @Test
+    void recommendsNearbyJobsTheUserHasNotInteractedWith() {
+        jobVectorIndex.rebuild();
+        appliedTo(1L);
+
+        assertThat(recommender.recommend(USER_ID, 10)).containsExactly(2L, 3L);
+        assertThat(recommender.recommend(USER_ID, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void closedJobsStillShapeTheProfile() {
+        jobVectorIndex.rebuild();
+        appliedTo(5L);
+        when(jobRepository.findAllById(List.of(5L))).thenReturn(List.of(job(5, "Java Architect", "Hanoi")));
+
+        assertThat(recommender.recommend(USER_ID, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void listIsCachedAndClosedJobsAreFilteredWhenServing() {
+        jobVectorIndex.rebuild();
+        appliedTo(1L);
+        recommender.recommend(USER_ID, 10);
+
+        Job closed = job(2, "Java Engineer", "Hanoi");
+        closed.setActive(false);
+        jobVectorIndex.index(closed);
+
+        assertThat(recommender.recommend(USER_ID, 10)).containsExactly(3L);
+        verify(applicationRepository, times(1)).findRecentJobIds(eq(USER_ID), any(Pageable.class));
+    }
+
+    @Test
+    void listsAreNotKeptBeforeTheIndexIsReady() {
+        appliedTo(1L);
+
+        assertThat(recommender.recommend(USER_ID, 10)).isEmpty();
+        assertThat(recommender.recommend(USER_ID, 10)).isEmpty();
+        verify(applicationRepository, times(2)).findRecentJobIds(eq(USER_ID), any(Pageable.class));
+    }
+
+    @Test
+    void interactionsOfUsersWithoutAListQueueNothing() {
+        recommender.onJobInteraction(new JobInteractionEvent(USER_ID, 1L));
+
+        verify(applicationRepository, after(200).never()).findRecentJobIds(eq(USER_ID), any(Pageable.class));
+    }
+
+    @Test
+    void interactionDuringARefreshQueuesAnotherOne() throws InterruptedException {
+        jobVectorIndex.rebuild();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(applicationRepository.findRecentJobIds(eq(USER_ID), any(Pageable.class)))
+                .thenReturn(List.of(1L))
+                .thenAnswer(invocation -> {
+                    reading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of(1L);
+                })
+                .thenReturn(List.of(3L, 1L));
+        recommender.recommend(USER_ID, 10);
+
+        recommender.onJobInteraction(new JobInteractionEvent(USER_ID, 1L));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+        // Applies to job 3 after the running refresh has read the user's applications
+        recommender.onJobInteraction(new JobInteractionEvent(USER_ID, 3L));
+        release.countDown();
+
+        verify(applicationRepository, timeout(5_000).times(3)).findRecentJobIds(eq(USER_ID), any(Pageable.class));
+        awaitRefreshes();
+        assertThat(recommender.recommend(USER_ID, 10)).doesNotContain(3L).contains(2L, 4L);
+    }
+
+    private void appliedTo(Long jobId) {
+        when(applicationRepository.findRecentJobIds(eq(USER_ID), any(Pageable.class))).thenReturn(List.of(jobId));
+    }
+
+    private void awaitRefreshes() throws InterruptedException {
+        ThreadPoolTaskExecutor refreshPool = (ThreadPoolTaskExecutor) ReflectionTestUtils.getField(recommender,
+                "refreshPool");
+        ThreadPoolExecutor executor = refreshPool.getThreadPoolExecutor();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static Job job(long id, String title, String location) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setRequirements("");
+        job.setEmploymentType(Job.EmploymentType.FULL_TIME);
+        job.setLocation(location);
+        return job;
+    }
+}
@@ -0,0 +1,104 @@
+package com.jobhunt.search.recommend;
+
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.JobRepository;
+import com.jobhunt.search.rank.ScoredJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobVectorIndexTest {
+
+    private JobRepository jobRepository;
+    private JobVectorIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        index = new JobVectorIndex(jobRepository);
+    }
+
+    @Test
+    void nearestRanksJobsByTheFeaturesTheyShare() {
+        index.index(job(1, "Java Developer", "Hanoi"));
+        index.index(job(2, "Java Engineer", "Hanoi"));
+        index.index(job(3, "Python Developer", "Hue"));
+        index.index(job(4, "Accountant", "Hue"));
+
+        Map<String, Float> profile = index.vectors(List.of(1L)).get(1L);
+
+        assertThat(jobIds(index.nearest(profile, Set.of(1L), 10))).containsExactly(2L, 3L);
+        assertThat(jobIds(index.nearest(profile, Set.of(), 1))).containsExactly(1L);
+    }
+
+    @Test
+    void vectorsAreUnitLength() {
+        index.index(job(1, "Java Java Developer", "Hanoi"));
+
+        double norm = index.vectors(List.of(1L)).get(1L).values().stream()
+                .mapToDouble(weight -> weight * weight)
+                .sum();
+
+        assertThat(norm).isCloseTo(1.0, within(1e-5));
+    }
+
+    @Test
+    void inactiveJobIsRemovedAndItsSlotReused() {
+        Job job = job(1, "Java Developer", "Hanoi");
+        index.index(job);
+        job.setActive(false);
+        index.index(job);
+        index.index(job(2, "Java Engineer", "Hanoi"));
+
+        assertThat(index.contains(1L)).isFalse();
+        assertThat(index.vectors(List.of(1L, 2L))).containsOnlyKeys(2L);
+        assertThat(jobIds(index.nearest(index.vectors(List.of(2L)).get(2L), Set.of(), 10))).containsExactly(2L);
+    }
+
+    @Test
+    void onlySelectiveFeaturesFindCandidates() {
+        index.index(job(1, "Java Developer", "Hanoi"));
+        index.index(job(2, "Accountant", "Hue"));
+
+        assertThat(index.nearest(Map.of(JobFeatures.EMPLOYMENT_TYPE + "FULL_TIME", 1.0f), Set.of(), 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildLoadsJobsInBatchesAndMarksTheIndexReady() {
+        when(jobRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(job(1, "Java Developer", "Hanoi")));
+        index.index(job(99, "Java Developer", "Hanoi"));
+        assertThat(index.isReady()).isFalse();
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.contains(1L)).isTrue();
+        assertThat(index.contains(99L)).isFalse();
+    }
+
+    private static List<Long> jobIds(List<ScoredJob> results) {
+        return results.stream().map(ScoredJob::getJobId).toList();
+    }
+
+    private static Job job(long id, String title, String location) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setRequirements("");
+        job.setEmploymentType(Job.EmploymentType.FULL_TIME);
+        job.setLocation(location);
+        return job;
+    }
+}
@@ -0,0 +1,67 @@
+package com.jobhunt.search.service;
+
+import com.jobhunt.exception.BadRequestException;
+import com.jobhunt.model.entity.ServiceJob;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServiceJobCursorTest {
+
+    @Test
+    void datesContainingColonsSurviveARoundTrip() {
+        ServiceJobCursor cursor = new ServiceJobCursor(true, LocalDateTime.of(2024, 5, 1, 10, 15, 30), 42L);
+
+        assertThat(ServiceJobCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void fractionalSecondsSurviveARoundTrip() {
+        ServiceJobCursor cursor = new ServiceJobCursor(false, LocalDateTime.of(2024, 5, 1, 0, 0, 0, 123_456_789), 7L);
+
+        assertThat(ServiceJobCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void anEmptyDateSegmentMeansUndated() {
+        ServiceJobCursor cursor = new ServiceJobCursor(true, null, 9L);
+
+        assertThat(ServiceJobCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(ServiceJobCursor.decode(encode("n::9"))).isEqualTo(new ServiceJobCursor(false, null, 9L));
+    }
+
+    @Test
+    void isTakenFromTheSortKeyOfAJob() {
+        ServiceJob job = new ServiceJob();
+        job.setId(3L);
+        job.setUrgent(true);
+        job.setRequiredCompletionDate(LocalDateTime.of(2024, 6, 1, 8, 0));
+
+        assertThat(ServiceJobCursor.of(job)).isEqualTo(new ServiceJobCursor(true, job.getRequiredCompletionDate(), 3L));
+    }
+
+    @Test
+    void noCursorDecodesToNull() {
+        assertThat(ServiceJobCursor.decode(null)).isNull();
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        for (String cursor : new String[] {"not base64!", encode("u"), encode("u:5"), encode("x::5"),
+                encode("u:yesterday:5"), encode("n:2024-05-01T10:00:abc"), encode("u::")}) {
+            assertThatThrownBy(() -> ServiceJobCursor.decode(cursor))
+                    .as(cursor)
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage("Invalid cursor");
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,265 @@
+package com.jobhunt.search.service;
+
+import com.jobhunt.model.entity.ServiceJob;
+import com.jobhunt.repository.ServiceJobRepository;
+import com.jobhunt.repository.SoftDeleteFilter;
+import com.jobhunt.specification.ServiceJobFilter;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the search over jobs held in memory: the repository evaluates each segment's specification against them
+ * through a minimal criteria builder, then applies the requested sort and limit as the database would.
+ */
+class ServiceJobSearchTest {
+
+    private static final LocalDateTime MAY_1 = LocalDateTime.of(2024, 5, 1, 9, 30);
+    private static final LocalDateTime MAY_2 = LocalDateTime.of(2024, 5, 2, 9, 30);
+    private static final LocalDateTime MAY_3 = LocalDateTime.of(2024, 5, 3, 9, 30);
+
+    private final List<ServiceJob> jobs = new ArrayList<>();
+    private int queries;
+    private ServiceJobSearch search;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ServiceJobRepository repository = mock(ServiceJobRepository.class);
+        when(repository.findBy(any(Specification.class), any())).thenAnswer(inv -> {
+            queries++;
+            Specification<ServiceJob> spec = inv.getArgument(0);
+            Function<FluentQuery.FetchableFluentQuery<ServiceJob>, List<ServiceJob>> query = inv.getArgument(1);
+            return query.apply(fluentQuery(spec));
+        });
+        SoftDeleteFilter softDeleteFilter = mock(SoftDeleteFilter.class);
+        when(softDeleteFilter.forCurrentUser(any())).thenAnswer(inv -> inv.<Supplier<?>>getArgument(0).get());
+        search = new ServiceJobSearch(repository, softDeleteFilter);
+    }
+
+    @Test
+    void urgentJobsComeFirstThenNearestDueWithUndatedLast() {
+        seed();
+
+        assertThat(ids(search.search(allActive(), null, 100))).containsExactly(
+                // Urgent and dated, by date then id
+                15L, 12L, 16L,
+                // Urgent and undated, by id
+                11L, 19L,
+                // Not urgent and dated: a date before every urgent one still comes after them
+                17L, 13L, 20L,
+                // Neither
+                14L, 18L);
+    }
+
+    @Test
+    void pagingCrossesEverySegmentBoundaryWithoutDuplicatesOrGaps() {
+        seed();
+        List<Long> expected = ids(search.search(allActive(), null, 100));
+
+        for (int size = 1; size <= expected.size() + 1; size++) {
+            List<Long> paged = new ArrayList<>();
+            ServiceJobCursor after = null;
+            List<ServiceJob> page;
+            do {
+                page = search.search(allActive(), after, size);
+                paged.addAll(ids(page));
+                if (!page.isEmpty()) {
+                    // Continue from what a client would send back
+                    after = ServiceJobCursor.decode(ServiceJobCursor.of(page.get(page.size() - 1)).encode());
+                }
+            } while (page.size() == size);
+
+            assertThat(paged).as("pages of %d", size).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void laterSegmentsAreOnlyQueriedWhileThePageIsNotFull() {
+        seed();
+
+        search.search(allActive(), null, 2);
+        assertThat(queries).isEqualTo(1);
+
+        // The rest of the cursor's segment is empty and the next one fills the page
+        queries = 0;
+        search.search(allActive(), new ServiceJobCursor(true, MAY_3, 16L), 2);
+        assertThat(queries).isEqualTo(2);
+    }
+
+    @Test
+    void urgencyFilterSkipsTheOtherSegments() {
+        seed();
+
+        assertThat(ids(search.search(ServiceJobFilter.builder().activeOnly(true).urgent(false).build(), null, 100)))
+                .containsExactly(17L, 13L, 20L, 14L, 18L);
+        assertThat(ids(search.search(ServiceJobFilter.builder().activeOnly(true).urgent(true).build(), null, 100)))
+                .containsExactly(15L, 12L, 16L, 11L, 19L);
+    }
+
+    private void seed() {
+        add(11, true, null);
+        add(12, true, MAY_2);
+        add(13, false, MAY_1);
+        add(14, false, null);
+        add(15, true, MAY_2.minusSeconds(1));
+        add(16, true, MAY_3);
+        add(17, false, MAY_1.minusDays(1));
+        add(18, false, null);
+        add(19, true, null);
+        add(20, false, MAY_2);
+        // The repository must not depend on insertion order
+        Collections.shuffle(jobs, new Random(42));
+    }
+
+    private void add(long id, boolean urgent, LocalDateTime requiredCompletionDate) {
+        ServiceJob job = new ServiceJob();
+        job.setId(id);
+        job.setUrgent(urgent);
+        job.setRequiredCompletionDate(requiredCompletionDate);
+        jobs.add(job);
+    }
+
+    private static ServiceJobFilter allActive() {
+        return ServiceJobFilter.builder().activeOnly(true).build();
+    }
+
+    private static List<Long> ids(List<ServiceJob> page) {
+        return page.stream().map(ServiceJob::getId).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private FluentQuery.FetchableFluentQuery<ServiceJob> fluentQuery(Specification<ServiceJob> spec) {
+        Sort[] sort = {Sort.unsorted()};
+        int[] limit = {Integer.MAX_VALUE};
+        FluentQuery.FetchableFluentQuery<ServiceJob> query = mock(FluentQuery.FetchableFluentQuery.class, RETURNS_SELF);
+        doAnswer(inv -> {
+            sort[0] = inv.getArgument(0);
+            return query;
+        }).when(query).sortBy(any());
+        doAnswer(inv -> {
+            limit[0] = inv.getArgument(0);
+            return query;
+        }).when(query).limit(anyInt());
+        doAnswer(inv -> select(spec, sort[0], limit[0])).when(query).all();
+        return query;
+    }
+
+    private List<ServiceJob> select(Specification<ServiceJob> spec, Sort sort, int limit) {
+        Root<ServiceJob> root = expression(Root.class, job -> job);
+        CriteriaBuilder builder = (CriteriaBuilder) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {CriteriaBuilder.class}, (proxy, method, args) -> build(method, args));
+        Predicate predicate = spec.toPredicate(root, mock(CriteriaQuery.class), builder);
+        Comparator<ServiceJob> order = (a, b) -> 0;
+        for (Sort.Order property : sort) {
+            order = order.thenComparing(job -> (Comparable<Object>) field(job, property.getProperty()));
+        }
+        return jobs.stream()
+                .filter(job -> predicate == null || (Boolean) eval(predicate, job))
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * The subset of {@link CriteriaBuilder} the service job specifications use, as predicates over a job.
+     */
+    private static Object build(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equal" -> predicate(job -> Objects.equals(eval(args[0], job), eval(args[1], job)));
+            case "isNull" -> predicate(job -> eval(args[0], job) == null);
+            case "isNotNull" -> predicate(job -> eval(args[0], job) != null);
+            case "greaterThan" -> compare(args, order -> order > 0);
+            case "greaterThanOrEqualTo" -> compare(args, order -> order >= 0);
+            case "lessThan" -> compare(args, order -> order < 0);
+            case "lessThanOrEqualTo" -> compare(args, order -> order <= 0);
+            case "and" -> predicate(job -> operands(args).allMatch(operand -> (Boolean) eval(operand, job)));
+            case "or" -> predicate(job -> operands(args).anyMatch(operand -> (Boolean) eval(operand, job)));
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    /**
+     * A comparison with null is never true, as in SQL.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate compare(Object[] args, IntPredicate holds) {
+        return predicate(job -> {
+            Comparable left = (Comparable) eval(args[0], job);
+            Object right = eval(args[1], job);
+            return left != null && right != null && holds.test(left.compareTo(right));
+        });
+    }
+
+    private static Stream<Object> operands(Object[] args) {
+        return args.length == 1 && args[0] instanceof Object[] array ? Arrays.stream(array) : Arrays.stream(args);
+    }
+
+    private static Predicate predicate(Function<ServiceJob, Boolean> test) {
+        return expression(Predicate.class, test::apply);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E expression(Class<?> type, Function<ServiceJob, Object> value) {
+        return (E) Proxy.newProxyInstance(ServiceJobSearchTest.class.getClassLoader(), new Class<?>[] {type},
+                new Expression(value));
+    }
+
+    private static Object eval(Object operand, ServiceJob job) {
+        return Proxy.isProxyClass(operand.getClass()) && Proxy.getInvocationHandler(operand) instanceof Expression e
+                ? e.value().apply(job)
+                : operand;
+    }
+
+    private static Object field(Object target, String name) {
+        return target == null ? null : ReflectionTestUtils.getField(target, name);
+    }
+
+    /**
+     * A path or predicate whose value is computed from the job being tested; {@code get} navigates to an attribute.
+     */
+    private record Expression(Function<ServiceJob, Object> value) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "get" -> expression(Root.class, job -> field(value.apply(job), (String) args[0]));
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "Expression";
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.jobhunt.search.suggest;
+
+import com.jobhunt.event.CompanyChangedEvent;
+import com.jobhunt.event.JobChangedEvent;
+import com.jobhunt.model.entity.Company;
+import com.jobhunt.model.entity.Job;
+import com.jobhunt.repository.CompanyRepository;
+import com.jobhunt.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SuggestIndexTest {
+
+    private JobRepository jobRepository;
+    private CompanyRepository companyRepository;
+    private SuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        companyRepository = mock(CompanyRepository.class);
+        index = new SuggestIndex(jobRepository, companyRepository);
+    }
+
+    @Test
+    void companiesAreWeightedByTheirActiveJobs() {
+        Company acme = company(1, "Acme Corp");
+        Company acorn = company(2, "Acorn Labs");
+        index.onCompanyChanged(new CompanyChangedEvent(acme));
+        index.onCompanyChanged(new CompanyChangedEvent(acorn));
+        index.onJobChanged(new JobChangedEvent(job(10, "Java Developer", "Hanoi", acorn), null));
+        index.onJobChanged(new JobChangedEvent(job(11, "Tester", "Hanoi", acorn), null));
+
+        assertThat(index.suggest("ac", 10).getCompanies()).extracting(Suggestion::getText, Suggestion::getWeight)
+                .containsExactly(tuple("Acorn Labs", 3), tuple("Acme Corp", 1));
+    }
+
+    @Test
+    void jobsPostedBeforeTheirCompanyCountOnceItArrives() {
+        Company acme = company(1, "Acme Corp");
+        index.onJobChanged(new JobChangedEvent(job(10, "Java Developer", "Hanoi", acme), null));
+        index.onCompanyChanged(new CompanyChangedEvent(acme));
+
+        assertThat(index.suggest("acme", 10).getCompanies()).extracting(Suggestion::getWeight).containsExactly(2);
+    }
+
+    @Test
+    void editedJobMovesItsTitleAndLocation() {
+        Company acme = company(1, "Acme Corp");
+        index.onJobChanged(new JobChangedEvent(job(10, "Java Developer", "Hanoi", acme), null));
+        index.onJobChanged(new JobChangedEvent(job(10, "Kotlin Developer", "Hue", acme), null));
+
+        assertThat(index.suggest("dev", 10).getTitles()).extracting(Suggestion::getText)
+                .containsExactly("Kotlin Developer");
+        assertThat(index.suggest("h", 10).getLocations()).extracting(Suggestion::getText).containsExactly("Hue");
+    }
+
+    @Test
+    void inactiveJobsAndCompaniesAreDropped() {
+        Company acme = company(1, "Acme Corp");
+        Job job = job(10, "Java Developer", "Hanoi", acme);
+        index.onCompanyChanged(new CompanyChangedEvent(acme));
+        index.onJobChanged(new JobChangedEvent(job, null));
+
+        job.setActive(false);
+        index.onJobChanged(new JobChangedEvent(job, null));
+        assertThat(index.suggest("java", 10).getTitles()).isEmpty();
+        assertThat(index.suggest("acme", 10).getCompanies()).extracting(Suggestion::getWeight).containsExactly(1);
+
+        acme.setActive(false);
+        index.onCompanyChanged(new CompanyChangedEvent(acme));
+        assertThat(index.suggest("acme", 10).getCompanies()).isEmpty();
+    }
+
+    @Test
+    void limitIsCapped() {
+        for (long id = 1; id <= SuggestIndex.MAX_SUGGESTIONS + 5; id++) {
+            index.onJobChanged(new JobChangedEvent(job(id, "Developer " + id, "Hanoi", company(1, "Acme")), null));
+        }
+
+        assertThat(index.suggest("dev", 100).getTitles()).hasSize(SuggestIndex.MAX_SUGGESTIONS);
+        assertThat(index.suggest("dev", 0).getTitles()).hasSize(1);
+    }
+
+    @Test
+    void rebuildLoadsTheVocabularyAndKeepsChangesMadeMeanwhile() {
+        Company acme = company(1, "Acme Corp");
+        when(companyRepository.findSuggestSources()).thenReturn(List.of(new CompanySuggestSource(1L, "Acme Corp")));
+        when(jobRepository.findSuggestSources()).thenAnswer(invocation -> {
+            index.onJobChanged(new JobChangedEvent(job(11, "Tester", "Hue", acme), null));
+            return List.of(new JobSuggestSource(10L, "Java Developer", "Hanoi", 1L));
+        });
+
+        index.rebuild();
+
+        assertThat(index.suggest("t", 10).getTitles()).extracting(Suggestion::getText).containsExactly("Tester");
+        assertThat(index.suggest("acme", 10).getCompanies()).extracting(Suggestion::getWeight).containsExactly(3);
+    }
+
+    private static Company company(long id, String name) {
+        Company company = new Company();
+        company.setId(id);
+        company.setName(name);
+        return company;
+    }
+
+    private static Job job(long id, String title, String location, Company company) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setLocation(location);
+        job.setCompany(company);
+        return job;
+    }
+}
@@ -0,0 +1,131 @@
+package com.jobhunt.search.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SuggestTrieTest {
+
+    private final SuggestTrie trie = new SuggestTrie(10);
+
+    @Test
+    void ranksByWeightThenAlphabetically() {
+        trie.adjust("Java Developer", 3);
+        trie.adjust("Java Architect", 1);
+        trie.adjust("JavaScript Engineer", 2);
+        trie.adjust("Java Tester", 1);
+
+        assertThat(trie.suggest("jav", 10)).extracting(Suggestion::getText, Suggestion::getWeight).containsExactly(
+                tuple("Java Developer", 3),
+                tuple("JavaScript Engineer", 2),
+                tuple("Java Architect", 1),
+                tuple("Java Tester", 1));
+    }
+
+    @Test
+    void matchesEveryWordStart() {
+        trie.adjust("Senior Java Developer", 1);
+
+        assertThat(trie.suggest("dev", 10)).extracting(Suggestion::getText).containsExactly("Senior Java Developer");
+        assertThat(trie.suggest("java d", 10)).extracting(Suggestion::getText).containsExactly("Senior Java Developer");
+        assertThat(trie.suggest("eloper", 10)).isEmpty();
+    }
+
+    @Test
+    void foldsCaseAccentsAndPunctuation() {
+        trie.adjust("Hà Nội", 1);
+
+        assertThat(trie.suggest("HA  NO", 10)).extracting(Suggestion::getText).containsExactly("Hà Nội");
+        assertThat(trie.suggest("ha-noi", 10)).extracting(Suggestion::getText).containsExactly("Hà Nội");
+    }
+
+    @Test
+    void blankPrefixSuggestsNothing() {
+        trie.adjust("Java Developer", 1);
+
+        assertThat(trie.suggest("", 10)).isEmpty();
+        assertThat(trie.suggest(" - ", 10)).isEmpty();
+        assertThat(trie.suggest("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    void keepsOnlyTheHeaviestTerms() {
+        SuggestTrie small = new SuggestTrie(2);
+        small.adjust("Data Analyst", 1);
+        small.adjust("Data Engineer", 5);
+        small.adjust("Data Scientist", 3);
+
+        assertThat(small.suggest("data", 10)).extracting(Suggestion::getText)
+                .containsExactly("Data Engineer", "Data Scientist");
+        assertThat(small.suggest("data", 1)).extracting(Suggestion::getText).containsExactly("Data Engineer");
+    }
+
+    @Test
+    void weightChangesReorderSuggestions() {
+        trie.adjust("Data Analyst", 1);
+        trie.adjust("Data Engineer", 2);
+        trie.adjust("Data Analyst", 5);
+
+        assertThat(trie.suggest("data", 10)).extracting(Suggestion::getText, Suggestion::getWeight).containsExactly(
+                tuple("Data Analyst", 6),
+                tuple("Data Engineer", 2));
+    }
+
+    @Test
+    void suggestsTheLatestSpelling() {
+        trie.adjust("java developer", 1);
+        trie.adjust("Java Developer", 1);
+        trie.adjust("JAVA DEVELOPER", -1);
+
+        assertThat(trie.suggest("java", 10)).extracting(Suggestion::getText, Suggestion::getWeight)
+                .containsExactly(tuple("Java Developer", 1));
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    void termIsDroppedOnceItsWeightIsGone() {
+        trie.adjust("Java Developer", 2);
+        trie.adjust("Java Architect", 1);
+        trie.adjust("Java Developer", -2);
+        trie.adjust("Unknown Title", -1);
+
+        assertThat(trie.suggest("java", 10)).extracting(Suggestion::getText).containsExactly("Java Architect");
+        assertThat(trie.suggest("dev", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    void prefixesLongerThanTheTrieDepthAreFiltered() {
+        String localization = "internationalization and localization engineer";
+        String globalization = "internationalization and globalization engineer";
+        trie.adjust(localization, 1);
+        trie.adjust(globalization, 2);
+        String longPrefix = "internationalization and l";
+        assertThat(longPrefix.length()).isGreaterThan(SuggestTrie.MAX_DEPTH);
+
+        assertThat(trie.suggest(longPrefix, 10)).extracting(Suggestion::getText).containsExactly(localization);
+        assertThat(trie.suggest("internationalization", 10)).extracting(Suggestion::getText)
+                .containsExactly(globalization, localization);
+
+        trie.adjust(localization, -1);
+        assertThat(trie.suggest(longPrefix, 10)).isEmpty();
+        assertThat(trie.suggest("internationalization", 10)).extracting(Suggestion::getText)
+                .containsExactly(globalization);
+    }
+
+    @Test
+    void bulkLoadComputesRankingsAtTheEnd() {
+        trie.beginBulkLoad();
+        trie.adjust("Data Analyst", 1);
+        trie.adjust("Data Engineer", 2);
+        trie.adjust("Data Engineer", 2);
+        trie.adjust("Data Analyst", -1);
+        trie.adjust("Data Scientist", 3);
+        trie.finishBulkLoad();
+
+        assertThat(trie.suggest("d", 10)).extracting(Suggestion::getText, Suggestion::getWeight).containsExactly(
+                tuple("Data Engineer", 4),
+                tuple("Data Scientist", 3));
+    }
+}
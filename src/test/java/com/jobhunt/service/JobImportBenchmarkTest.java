@@ -0,0 +1,94 @@
+package com.jobhunt.service;
+
+import com.jobhunt.model.response.JobImportResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Times the NDJSON job import with a few invalid rows mixed in.
+ * Run with {@code mvn test -Dtest=JobImportBenchmarkTest -Dbenchmark=true [-Dbenchmark.jobs=50000]}.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JobImportBenchmarkTest {
+
+    private static final int INVALID_EVERY = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    private String keycloakId;
+    private Long userId;
+
+    @BeforeAll
+    void seed() {
+        keycloakId = "import-" + System.nanoTime();
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, first_name, last_name, keycloak_id, role, is_active, created_at)
+                VALUES (?, ?, 'Bulk', 'Import', ?, 'EMPLOYER', true, now()) RETURNING id
+                """, Long.class, keycloakId, keycloakId + "@example.com", keycloakId);
+        jdbcTemplate.update("""
+                INSERT INTO companies (name, email, industry_type, tax_id, user_id, active, created_at)
+                VALUES ('Import Co', ?, 'IT', ?, ?, true, now())
+                """, keycloakId + "@example.com", keycloakId, userId);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        if (userId != null) {
+            jdbcTemplate.update("DELETE FROM jobs WHERE company_id IN (SELECT id FROM companies WHERE user_id = ?)",
+                    userId);
+            jdbcTemplate.update("DELETE FROM companies WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+    }
+
+    @Test
+    void importsValidRowsAndReportsInvalidOnes() {
+        int jobs = Integer.getInteger("benchmark.jobs", 50_000);
+        StringBuilder ndjson = new StringBuilder();
+        int invalid = 0;
+        for (int i = 1; i <= jobs; i++) {
+            if (i % INVALID_EVERY == 0) {
+                ndjson.append("{\"title\":\"\",\"employmentType\":\"FULL_TIME\"}\n");
+                invalid++;
+            } else {
+                ndjson.append("""
+                        {"title":"Imported job %d","description":"Seeded by the import benchmark",\
+                        "requirements":"None","employmentType":"FULL_TIME","experienceLevel":"JUNIOR",\
+                        "location":"Hanoi","salaryMin":1000,"salaryMax":2000}
+                        """.formatted(i));
+            }
+        }
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(keycloakId, null));
+
+        long start = System.nanoTime();
+        JobImportResponse result = jobImportService.importJobs(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("Imported %d jobs in %d ms (%.0f jobs/s)%n", result.getImported(), millis,
+                result.getImported() * 1000.0 / Math.max(1, millis));
+        assertThat(result.getImported()).isEqualTo(jobs - invalid);
+        assertThat(result.getFailed()).isEqualTo(invalid);
+        assertThat(result.getErrors()).allSatisfy(error -> assertThat(error.getLine() % INVALID_EVERY).isZero());
+    }
+}
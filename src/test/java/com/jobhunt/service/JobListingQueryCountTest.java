@@ -0,0 +1,115 @@
+package com.jobhunt.service;
+
+import com.jobhunt.model.response.JobResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that listing jobs issues the same number of statements however many jobs, and applications per job, are
+ * listed, now that the application count is read from the job row.
+ * Runs in the integration profile ({@code mvn -Pintegration verify}), or alone with
+ * {@code mvn test -Dtest=JobListingQueryCountTest -Dintegration=true}.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "integration", matches = "true")
+class JobListingQueryCountTest {
+
+    private static final int APPLICANTS = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long smallCompanyId;
+    private Long largeCompanyId;
+
+    @BeforeAll
+    void seed() {
+        String marker = "count-" + System.nanoTime();
+        for (int i = 0; i < APPLICANTS; i++) {
+            userIds.add(jdbcTemplate.queryForObject("""
+                    INSERT INTO users (username, email, first_name, last_name, role, is_active, created_at)
+                    VALUES (?, ?, 'Query', 'Count', 'CANDIDATE', true, now()) RETURNING id
+                    """, Long.class, marker + i, marker + i + "@example.com"));
+        }
+        smallCompanyId = seedCompany(marker + "-small", 5);
+        largeCompanyId = seedCompany(marker + "-large", 20);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        for (Long companyId : List.of(smallCompanyId, largeCompanyId)) {
+            if (companyId != null) {
+                jdbcTemplate.update(
+                        "DELETE FROM applications WHERE job_id IN (SELECT id FROM jobs WHERE company_id = ?)", companyId);
+                jdbcTemplate.update("DELETE FROM jobs WHERE company_id = ?", companyId);
+                jdbcTemplate.update("DELETE FROM companies WHERE id = ?", companyId);
+            }
+        }
+        userIds.forEach(userId -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId));
+    }
+
+    @Test
+    void companyJobListingIssuesConstantNumberOfStatements() {
+        long small = statementsFor(smallCompanyId, 5);
+        long large = statementsFor(largeCompanyId, 20);
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    private long statementsFor(Long companyId, int expectedJobs) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<JobResponse> jobs = transactionTemplate.execute(status -> jobService.getCompanyJobs(companyId));
+        assertThat(jobs).hasSize(expectedJobs)
+                .allSatisfy(job -> assertThat(job.getNumberOfApplications()).isEqualTo(APPLICANTS));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long seedCompany(String marker, int jobs) {
+        Long companyId = jdbcTemplate.queryForObject("""
+                INSERT INTO companies (name, email, industry_type, tax_id, user_id, active, created_at)
+                VALUES ('Count Co', ?, 'IT', ?, ?, true, now()) RETURNING id
+                """, Long.class, marker + "@example.com", marker, userIds.get(0));
+        for (int i = 0; i < jobs; i++) {
+            Long jobId = jdbcTemplate.queryForObject("""
+                    INSERT INTO jobs (title, description, requirements, employment_type, location, is_remote, active,
+                                      application_count, company_id, created_at)
+                    VALUES ('Query count', 'Seeded', 'Seeded', 'FULL_TIME', 'Hanoi', false, true, ?, ?, now())
+                    RETURNING id
+                    """, Long.class, APPLICANTS, companyId);
+            for (Long userId : userIds) {
+                jdbcTemplate.update("""
+                        INSERT INTO applications (user_id, job_id, cover_letter, application_status, created_at)
+                        VALUES (?, ?, 'Seeded', 'PENDING', now())
+                        """, userId, jobId);
+            }
+        }
+        return companyId;
+    }
+}
@@ -0,0 +1,67 @@
+package com.jobhunt.specification;
+
+import com.jobhunt.exception.BadRequestException;
+import jakarta.persistence.metamodel.EntityType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AttributePathsTest {
+
+    private final EntityType<TestMetamodel.Listing> listing = TestMetamodel.listing();
+
+    @Test
+    void resolvesBasicAttributesWithTheirJavaType() {
+        AttributePaths.AttributePath path = AttributePaths.resolve(listing, "budget");
+
+        assertThat(path.segments()).containsExactly("budget");
+        assertThat(path.javaType()).isEqualTo(BigDecimal.class);
+    }
+
+    @Test
+    void resolvesPathsThroughSingularAssociationsToAValue() {
+        AttributePaths.AttributePath path = AttributePaths.resolve(listing, "postedBy.id");
+
+        assertThat(path.segments()).containsExactly("postedBy", "id");
+        assertThat(path.javaType()).isEqualTo(Long.class);
+    }
+
+    @Test
+    void validPathsAreResolvedOnce() {
+        assertThat(AttributePaths.resolve(listing, "title")).isSameAs(AttributePaths.resolve(listing, "title"));
+    }
+
+    @Test
+    void rejectsUnknownAttributes() {
+        assertThatThrownBy(() -> AttributePaths.resolve(listing, "salary"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Unknown search attribute: salary");
+        assertThatThrownBy(() -> AttributePaths.resolve(listing, "postedBy.email"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Unknown search attribute: postedBy.email");
+    }
+
+    @Test
+    void rejectsPathsNestedBelowAValue() {
+        assertThatThrownBy(() -> AttributePaths.resolve(listing, "title.length"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Unknown search attribute: title.length");
+    }
+
+    @Test
+    void rejectsPathsEndingAtAnAssociation() {
+        assertThatThrownBy(() -> AttributePaths.resolve(listing, "postedBy"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Search attribute must be a value, not an association: postedBy");
+    }
+
+    @Test
+    void rejectsCollectionAttributes() {
+        assertThatThrownBy(() -> AttributePaths.resolve(listing, "applications.id"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Cannot search on collection attribute: applications.id");
+    }
+}
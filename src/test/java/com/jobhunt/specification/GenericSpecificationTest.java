@@ -0,0 +1,162 @@
+package com.jobhunt.specification;
+
+import com.jobhunt.exception.BadRequestException;
+import com.jobhunt.model.entity.ServiceJob;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class GenericSpecificationTest {
+
+    private Root<TestMetamodel.Listing> root;
+    private CriteriaQuery<?> query;
+    private CriteriaBuilder builder;
+    private Path<String> title;
+    private Path<BigDecimal> budget;
+    private Path<ServiceJob.JobStatus> status;
+    private Path<LocalDateTime> dueAt;
+    private Path<Long> posterId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        root = mock(Root.class);
+        query = mock(CriteriaQuery.class);
+        builder = mock(CriteriaBuilder.class);
+        doReturn(TestMetamodel.listing()).when(root).getModel();
+        title = path(root, "title", String.class);
+        budget = path(root, "budget", BigDecimal.class);
+        status = path(root, "status", ServiceJob.JobStatus.class);
+        dueAt = path(root, "dueAt", LocalDateTime.class);
+        posterId = path(path(root, "postedBy", TestMetamodel.Poster.class), "id", Long.class);
+    }
+
+    @Test
+    void matchOnTextIsAnEscapedSubstringSearch() {
+        predicate("title", "=", "50%_off");
+
+        verify(builder).like(title, "%50\\%\\_off%", '\\');
+    }
+
+    @Test
+    void matchOnOtherTypesIsEqualityOnTheCoercedValue() {
+        predicate("status", "=", "open");
+        predicate("postedBy.id", "=", "7");
+
+        verify(builder).equal(status, ServiceJob.JobStatus.OPEN);
+        verify(builder).equal(posterId, 7L);
+    }
+
+    @Test
+    void singleCharacterComparisonsAreInclusive() {
+        predicate("budget", ">", "100");
+        predicate("budget", "<", "500");
+
+        verify(builder).greaterThanOrEqualTo(budget, new BigDecimal("100"));
+        verify(builder).lessThanOrEqualTo(budget, new BigDecimal("500"));
+    }
+
+    @Test
+    void doubledComparisonsAreExclusive() {
+        predicate("dueAt", ">>", "2024-05-01");
+        predicate("dueAt", "<<", "2024-06-01T12:00:00");
+
+        verify(builder).greaterThan(dueAt, LocalDateTime.of(2024, 5, 1, 0, 0));
+        verify(builder).lessThan(dueAt, LocalDateTime.of(2024, 6, 1, 12, 0));
+    }
+
+    @Test
+    void betweenTakesExactlyTwoCoercedBounds() {
+        predicate("budget", "between", "100,500");
+
+        verify(builder).between(budget, new BigDecimal("100"), new BigDecimal("500"));
+        assertBadRequest(() -> predicate("budget", "between", "100"), "BETWEEN needs exactly two values for budget");
+        assertBadRequest(() -> predicate("budget", "between", List.of(1, 2, 3)),
+                "BETWEEN needs exactly two values for budget");
+    }
+
+    @Test
+    void inCoercesEveryValue() {
+        predicate("status", "in", "open, assigned");
+        predicate("postedBy.id", "in", List.of("1", 2));
+
+        verify(status).in(List.of(ServiceJob.JobStatus.OPEN, ServiceJob.JobStatus.ASSIGNED));
+        verify(posterId).in(List.of(1L, 2L));
+    }
+
+    @Test
+    void nullChecksNeedNoValue() {
+        predicate("dueAt", "null", null);
+
+        verify(builder).isNull(dueAt);
+    }
+
+    @Test
+    void criteriaWithoutAValueAreDropped() {
+        new GenericSpecification<TestMetamodel.Listing>()
+                .with("budget", ">", null, "AND")
+                .build()
+                .toPredicate(root, query, builder);
+
+        verify(builder).conjunction();
+        verifyNoInteractions(root);
+    }
+
+    @Test
+    void pathAndValueAreResolvedOncePerSpecification() {
+        Specification<TestMetamodel.Listing> spec = new GenericSpecification<TestMetamodel.Listing>()
+                .with("budget", ">", "100", "AND")
+                .build();
+
+        spec.toPredicate(root, query, builder);
+        spec.toPredicate(root, query, builder);
+
+        verify(root, times(1)).getModel();
+        verify(builder, times(2)).greaterThanOrEqualTo(budget, new BigDecimal("100"));
+    }
+
+    @Test
+    void badInputIsAClientError() {
+        assertBadRequest(() -> predicate("salary", "=", "1"), "Unknown search attribute: salary");
+        assertBadRequest(() -> predicate("title.length", "=", "1"), "Unknown search attribute: title.length");
+        assertBadRequest(() -> predicate("budget", ">", "cheap"), "Invalid value for budget: cheap");
+        assertBadRequest(() -> predicate("budget", "^", "1"), "Prefix search needs a text attribute: budget");
+        assertBadRequest(() -> predicate("budget", "~", "1"), "Unsupported search operation: ~");
+    }
+
+    private void predicate(String key, String operation, Object value) {
+        new GenericSpecification<TestMetamodel.Listing>()
+                .with(key, operation, value, "AND")
+                .build()
+                .toPredicate(root, query, builder);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Y> Path<Y> path(Path<?> parent, String name, Class<Y> javaType) {
+        Path<Y> path = mock(Path.class);
+        doReturn(javaType).when(path).getJavaType();
+        doReturn(path).when(parent).get(name);
+        return path;
+    }
+
+    private static void assertBadRequest(Runnable action, String message) {
+        assertThatThrownBy(action::run)
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(message);
+    }
+}
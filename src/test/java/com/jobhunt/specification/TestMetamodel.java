@@ -0,0 +1,77 @@
+package com.jobhunt.specification;
+
+import com.jobhunt.model.entity.ServiceJob;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.BasicType;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * A small mocked JPA metamodel, so paths and values can be resolved without a persistence unit. Its entity classes
+ * are private to the tests and do not share {@link AttributePaths}' cache with the real entities.
+ */
+final class TestMetamodel {
+
+    static final class Listing {
+    }
+
+    static final class Poster {
+    }
+
+    private TestMetamodel() {
+    }
+
+    static EntityType<Poster> poster() {
+        return entity(Poster.class, basic("id", Long.class), basic("name", String.class));
+    }
+
+    static EntityType<Listing> listing() {
+        return entity(Listing.class,
+                basic("id", Long.class),
+                basic("title", String.class),
+                basic("budget", BigDecimal.class),
+                basic("status", ServiceJob.JobStatus.class),
+                basic("urgent", boolean.class),
+                basic("dueAt", LocalDateTime.class),
+                association("postedBy", poster()),
+                plural("applications"));
+    }
+
+    private static <X> EntityType<X> entity(Class<X> javaType, Attribute<?, ?>... attributes) {
+        @SuppressWarnings("unchecked")
+        EntityType<X> entity = mock(EntityType.class);
+        doReturn(javaType).when(entity).getJavaType();
+        doReturn(Set.of(attributes)).when(entity).getAttributes();
+        return entity;
+    }
+
+    private static Attribute<?, ?> basic(String name, Class<?> javaType) {
+        SingularAttribute<?, ?> attribute = mock(SingularAttribute.class);
+        doReturn(name).when(attribute).getName();
+        doReturn(javaType).when(attribute).getJavaType();
+        doReturn(mock(BasicType.class)).when(attribute).getType();
+        return attribute;
+    }
+
+    private static Attribute<?, ?> association(String name, EntityType<?> target) {
+        SingularAttribute<?, ?> attribute = mock(SingularAttribute.class);
+        doReturn(name).when(attribute).getName();
+        doReturn(target.getJavaType()).when(attribute).getJavaType();
+        doReturn(target).when(attribute).getType();
+        return attribute;
+    }
+
+    private static Attribute<?, ?> plural(String name) {
+        PluralAttribute<?, ?, ?> attribute = mock(PluralAttribute.class);
+        doReturn(name).when(attribute).getName();
+        return attribute;
+    }
+}
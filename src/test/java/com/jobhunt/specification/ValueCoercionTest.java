@@ -0,0 +1,93 @@
+package com.jobhunt.specification;
+
+import com.jobhunt.exception.BadRequestException;
+import com.jobhunt.model.entity.ServiceJob;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValueCoercionTest {
+
+    @Test
+    void coercesNumbers() {
+        assertThat(ValueCoercion.coerce("42", long.class, "id")).isEqualTo(42L);
+        assertThat(ValueCoercion.coerce(" 7 ", Integer.class, "count")).isEqualTo(7);
+        assertThat(ValueCoercion.coerce("1500.50", BigDecimal.class, "budget")).isEqualTo(new BigDecimal("1500.50"));
+        assertThat(ValueCoercion.coerce(12, Long.class, "id")).isEqualTo(12L);
+    }
+
+    @Test
+    void valuesOfTheTargetTypeAreKept() {
+        BigDecimal budget = new BigDecimal("10");
+
+        assertThat(ValueCoercion.coerce(budget, BigDecimal.class, "budget")).isSameAs(budget);
+        assertThat(ValueCoercion.coerce(null, Long.class, "id")).isNull();
+    }
+
+    @Test
+    void coercesBooleansStrictly() {
+        assertThat(ValueCoercion.coerce("TRUE", boolean.class, "urgent")).isEqualTo(true);
+        assertThat(ValueCoercion.coerce("false", Boolean.class, "urgent")).isEqualTo(false);
+        assertBadRequest(() -> ValueCoercion.coerce("yes", boolean.class, "urgent"), "Invalid value for urgent: yes");
+    }
+
+    @Test
+    void coercesEnumsIgnoringCase() {
+        assertThat(ValueCoercion.coerce("in_progress", ServiceJob.JobStatus.class, "status"))
+                .isEqualTo(ServiceJob.JobStatus.IN_PROGRESS);
+        assertBadRequest(() -> ValueCoercion.coerce("paused", ServiceJob.JobStatus.class, "status"),
+                "Invalid value for status: paused");
+    }
+
+    @Test
+    void coercesDatesAndDateTimes() {
+        assertThat(ValueCoercion.coerce("2024-05-01", LocalDateTime.class, "dueAt"))
+                .isEqualTo(LocalDateTime.of(2024, 5, 1, 0, 0));
+        assertThat(ValueCoercion.coerce("2024-05-01T10:15:30", LocalDateTime.class, "dueAt"))
+                .isEqualTo(LocalDateTime.of(2024, 5, 1, 10, 15, 30));
+        assertThat(ValueCoercion.coerce("2024-05-01", LocalDate.class, "day")).isEqualTo(LocalDate.of(2024, 5, 1));
+        assertThat(ValueCoercion.coerce("2024-05-01T10:15:30+07:00", Instant.class, "at"))
+                .isEqualTo(Instant.parse("2024-05-01T03:15:30Z"));
+        assertThat(ValueCoercion.coerce("2024-05-01", Instant.class, "at"))
+                .isEqualTo(Instant.parse("2024-05-01T00:00:00Z"));
+    }
+
+    @Test
+    void badValuesAreClientErrors() {
+        assertBadRequest(() -> ValueCoercion.coerce("abc", Long.class, "id"), "Invalid value for id: abc");
+        assertBadRequest(() -> ValueCoercion.coerce("1.5", Integer.class, "count"), "Invalid value for count: 1.5");
+        assertBadRequest(() -> ValueCoercion.coerce("cheap", BigDecimal.class, "budget"),
+                "Invalid value for budget: cheap");
+        assertBadRequest(() -> ValueCoercion.coerce("2024-13-01", LocalDateTime.class, "dueAt"),
+                "Invalid value for dueAt: 2024-13-01");
+        assertBadRequest(() -> ValueCoercion.coerce("yesterday", LocalDate.class, "day"),
+                "Invalid value for day: yesterday");
+    }
+
+    @Test
+    void unsupportedTypesAreClientErrors() {
+        assertBadRequest(() -> ValueCoercion.coerce("x", Object[].class, "tags"), "Cannot search on tags");
+    }
+
+    @Test
+    void coercesEveryValueOfAList() {
+        assertThat(ValueCoercion.coerceAll("1, 2,3", Long.class, "id")).containsExactly(1L, 2L, 3L);
+        assertThat(ValueCoercion.coerceAll(List.of("4", 5), Long.class, "id")).containsExactly(4L, 5L);
+        assertThat(ValueCoercion.coerceAll(new Object[] {"open", "cancelled"}, ServiceJob.JobStatus.class, "status"))
+                .containsExactly(ServiceJob.JobStatus.OPEN, ServiceJob.JobStatus.CANCELLED);
+        assertBadRequest(() -> ValueCoercion.coerceAll("1,two", Long.class, "id"), "Invalid value for id: two");
+    }
+
+    private static void assertBadRequest(Runnable coercion, String message) {
+        assertThatThrownBy(coercion::run)
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(message);
+    }
+}